@@ -0,0 +1,359 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.elk.alg.common.utils.SVGImage;
+import org.eclipse.elk.core.math.KVector;
+
+import com.google.common.collect.Sets;
+
+/**
+ * This class creates a Delaunay triangulation for the given points that is represented by a set of edges, just like
+ * {@link BowyerWatsonTriangulation}, but in O(n log n) time. It implements the divide and conquer algorithm of Guibas,
+ * Leonidas and Stolfi, Jorge (1985) "Primitives for the manipulation of general subdivisions and the computation of
+ * Voronoi diagrams": the points are sorted by their coordinates, the left and the right half are triangulated
+ * recursively, and the two triangulations are merged by zipping them together from their lower common tangent
+ * upwards. The subdivision is stored in the quad-edge structure of that paper, kept in flat integer arrays.
+ * <p>
+ * Unlike the finite super-triangle of the Bowyer Watson algorithm, the result always contains every convex hull edge.
+ * </p>
+ * <p> precondition: All vertices have to be distinct. Of equal vertices, only one is triangulated.</p>
+ * <p> postcondition: The returned edges form a connected graph that includes all input points without duplicate
+ * edges. If all points are collinear, the edges connect them in their order along the line.</p>
+ */
+public final class DivideAndConquerTriangulation {
+
+    /** x-coordinates of the points, sorted by x- and then by y-coordinate. */
+    private final double[] xs;
+    /** y-coordinates of the points, in the same order. */
+    private final double[] ys;
+
+    // A quad-edge consists of four directed edges e = 4q + r: r = 0 and r = 2 are the edge and its reverse between
+    // two points, r = 1 and r = 3 the dual edges between the faces to its right and left.
+    /** the next edge counterclockwise around the origin of each directed edge. */
+    private int[] onext;
+    /** the origin point of each primal directed edge. */
+    private int[] origin;
+    /** the number of quad-edges created so far, including deleted ones. */
+    private int quadEdges = 0;
+    /** deleted quad-edges, which are reused before new ones are created. */
+    private int[] free;
+    /** the number of deleted quad-edges. */
+    private int freeCount = 0;
+
+    /**
+     * Creates the data structures for the given sorted points.
+     */
+    private DivideAndConquerTriangulation(final double[] xs, final double[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+        // a triangulation of n points has at most 3n - 6 edges
+        int capacity = Math.max(3 * xs.length, 4);
+        onext = new int[4 * capacity];
+        origin = new int[4 * capacity];
+        free = new int[capacity];
+    }
+
+    /**
+     * Triangulates a list of points.
+     *
+     * @param vertices the input points
+     * @param debugOutputFile file name for debug SVG. Debug output will be deactivated if this is null.
+     * @return the edges of the triangulation
+     */
+    public static Set<TEdge> triangulate(final List<KVector> vertices, final String debugOutputFile) {
+        int n = vertices.size();
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> vertices.get(i).x)
+                .thenComparingDouble(i -> vertices.get(i).y));
+        // equal points would break the triangulation, only the first of them is kept
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            KVector v = vertices.get(order[i]);
+            if (distinct == 0 || !v.equals(vertices.get(order[distinct - 1]))) {
+                order[distinct++] = order[i];
+            }
+        }
+        double[] xs = new double[distinct];
+        double[] ys = new double[distinct];
+        for (int i = 0; i < distinct; i++) {
+            xs[i] = vertices.get(order[i]).x;
+            ys[i] = vertices.get(order[i]).y;
+        }
+
+        Set<TEdge> tEdges = Sets.newHashSet();
+        if (distinct > 1) {
+            DivideAndConquerTriangulation triangulation = new DivideAndConquerTriangulation(xs, ys);
+            triangulation.triangulate(0, distinct);
+            for (int q = 0; q < triangulation.quadEdges; q++) {
+                int e = 4 * q;
+                // deleted quad-edges are marked by a negative origin
+                if (triangulation.origin[e] >= 0) {
+                    tEdges.add(new TEdge(vertices.get(order[triangulation.origin[e]]),
+                            vertices.get(order[triangulation.dest(e)])));
+                }
+            }
+        }
+
+        if (debugOutputFile != null) {
+            SVGImage svg = new SVGImage(debugOutputFile);
+            // CHECKSTYLEOFF MagicNumber
+            vertices.forEach(v ->
+                    svg.addCircle(v.x, v.y, 18, "stroke=\"black\" stroke-width=\"1\" fill=\"lightgray\""));
+            tEdges.forEach(tEdge ->
+                    svg.addLine(tEdge.u.x, tEdge.u.y, tEdge.v.x, tEdge.v.y, "stroke=\"black\" stroke-width=\"4\""));
+            // CHECKSTYLEON MagicNumber
+            svg.isave();
+        }
+
+        return tEdges;
+    }
+
+    /**
+     * Triangulates a list of points.
+     *
+     * @param vertices the input points
+     * @return the edges of the triangulation
+     */
+    public static Set<TEdge> triangulate(final List<KVector> vertices) {
+        return triangulate(vertices, null);
+    }
+
+    /**
+     * Triangulates the sorted points in the given range, which contains at least two points.
+     *
+     * @param from the first point of the range
+     * @param to the point after the last one of the range
+     * @return the counterclockwise convex hull edge leaving the leftmost point and the clockwise convex hull edge
+     *         leaving the rightmost point
+     */
+    private int[] triangulate(final int from, final int to) {
+        int size = to - from;
+        if (size == 2) {
+            int a = makeEdge(from, from + 1);
+            return new int[] { a, sym(a) };
+        } else if (size == 3) {
+            int a = makeEdge(from, from + 1);
+            int b = makeEdge(from + 1, from + 2);
+            splice(sym(a), b);
+            double orientation = orientation(from, from + 1, from + 2);
+            if (orientation > 0) {
+                connect(b, a);
+                return new int[] { a, sym(b) };
+            } else if (orientation < 0) {
+                int c = connect(b, a);
+                return new int[] { sym(c), c };
+            }
+            // collinear points are connected along their line
+            return new int[] { a, sym(b) };
+        }
+
+        int middle = from + size / 2;
+        int[] left = triangulate(from, middle);
+        int[] right = triangulate(middle, to);
+        int leftOuter = left[0];
+        int leftInner = left[1];
+        int rightInner = right[0];
+        int rightOuter = right[1];
+
+        // find the lower common tangent of both halves
+        while (true) {
+            if (leftOf(origin[rightInner], leftInner)) {
+                leftInner = lnext(leftInner);
+            } else if (rightOf(origin[leftInner], rightInner)) {
+                rightInner = rprev(rightInner);
+            } else {
+                break;
+            }
+        }
+
+        int base = connect(sym(rightInner), leftInner);
+        if (origin[leftInner] == origin[leftOuter]) {
+            leftOuter = sym(base);
+        }
+        if (origin[rightInner] == origin[rightOuter]) {
+            rightOuter = base;
+        }
+
+        // merge both halves upwards, each new edge connecting the current base edge to a candidate of either half
+        while (true) {
+            int leftCandidate = onext[sym(base)];
+            if (isAbove(leftCandidate, base)) {
+                while (inCircle(dest(base), origin[base], dest(leftCandidate), dest(onext[leftCandidate]))) {
+                    int next = onext[leftCandidate];
+                    deleteEdge(leftCandidate);
+                    leftCandidate = next;
+                }
+            }
+            int rightCandidate = oprev(base);
+            if (isAbove(rightCandidate, base)) {
+                while (inCircle(dest(base), origin[base], dest(rightCandidate), dest(oprev(rightCandidate)))) {
+                    int next = oprev(rightCandidate);
+                    deleteEdge(rightCandidate);
+                    rightCandidate = next;
+                }
+            }
+
+            boolean leftValid = isAbove(leftCandidate, base);
+            boolean rightValid = isAbove(rightCandidate, base);
+            if (!leftValid && !rightValid) {
+                // the upper common tangent is reached
+                break;
+            }
+            if (!leftValid || rightValid && inCircle(dest(leftCandidate), origin[leftCandidate],
+                    origin[rightCandidate], dest(rightCandidate))) {
+                base = connect(rightCandidate, sym(base));
+            } else {
+                base = connect(sym(base), sym(leftCandidate));
+            }
+        }
+
+        return new int[] { leftOuter, rightOuter };
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Quad-Edge Operations
+
+    private static int rot(final int e) {
+        return (e & ~3) | ((e + 1) & 3);
+    }
+
+    private static int sym(final int e) {
+        return (e & ~3) | ((e + 2) & 3);
+    }
+
+    private static int rotInv(final int e) {
+        return (e & ~3) | ((e + 3) & 3); // SUPPRESS CHECKSTYLE MagicNumber
+    }
+
+    private int oprev(final int e) {
+        return rot(onext[rot(e)]);
+    }
+
+    private int lnext(final int e) {
+        return rot(onext[rotInv(e)]);
+    }
+
+    private int rprev(final int e) {
+        return onext[sym(e)];
+    }
+
+    private int dest(final int e) {
+        return origin[sym(e)];
+    }
+
+    /**
+     * Creates an isolated edge between the given points.
+     */
+    private int makeEdge(final int from, final int to) {
+        int q;
+        if (freeCount > 0) {
+            q = free[--freeCount];
+        } else {
+            q = quadEdges++;
+            if (4 * q == onext.length) {
+                onext = Arrays.copyOf(onext, 2 * onext.length);
+                origin = Arrays.copyOf(origin, 2 * origin.length);
+                free = Arrays.copyOf(free, 2 * free.length);
+            }
+        }
+        int e = 4 * q;
+        onext[e] = e;
+        onext[e + 1] = e + 3; // SUPPRESS CHECKSTYLE MagicNumber
+        onext[e + 2] = e + 2;
+        onext[e + 3] = e + 1; // SUPPRESS CHECKSTYLE MagicNumber
+        origin[e] = from;
+        origin[e + 2] = to;
+        return e;
+    }
+
+    /**
+     * Joins the rings of edges around the origins of both edges if they are distinct, or splits them otherwise, and
+     * does the same for the dual rings around their left faces.
+     */
+    private void splice(final int a, final int b) {
+        int alpha = rot(onext[a]);
+        int beta = rot(onext[b]);
+        int t = onext[a];
+        onext[a] = onext[b];
+        onext[b] = t;
+        t = onext[alpha];
+        onext[alpha] = onext[beta];
+        onext[beta] = t;
+    }
+
+    /**
+     * Creates an edge from the destination of {@code a} to the origin of {@code b} such that all three edges share the
+     * same left face.
+     */
+    private int connect(final int a, final int b) {
+        int e = makeEdge(dest(a), origin[b]);
+        splice(e, lnext(a));
+        splice(sym(e), b);
+        return e;
+    }
+
+    private void deleteEdge(final int e) {
+        splice(e, oprev(e));
+        splice(sym(e), oprev(sym(e)));
+        origin[e & ~3] = -1;
+        free[freeCount++] = e >> 2;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Geometric Predicates
+
+    /**
+     * Twice the signed area of the triangle of the given points, positive if they are ordered counterclockwise.
+     */
+    private double orientation(final int a, final int b, final int c) {
+        return (xs[b] - xs[a]) * (ys[c] - ys[a]) - (ys[b] - ys[a]) * (xs[c] - xs[a]);
+    }
+
+    private boolean leftOf(final int p, final int e) {
+        return orientation(p, origin[e], dest(e)) > 0;
+    }
+
+    private boolean rightOf(final int p, final int e) {
+        return orientation(p, dest(e), origin[e]) > 0;
+    }
+
+    /**
+     * Whether the destination of the candidate edge lies to the right of, i.e. above, the base edge.
+     */
+    private boolean isAbove(final int candidate, final int base) {
+        return rightOf(dest(candidate), base);
+    }
+
+    /**
+     * Whether {@code d} lies inside the circumcircle of the counterclockwise triangle {@code a}, {@code b}, {@code c}.
+     */
+    private boolean inCircle(final int a, final int b, final int c, final int d) {
+        double adx = xs[a] - xs[d];
+        double ady = ys[a] - ys[d];
+        double bdx = xs[b] - xs[d];
+        double bdy = ys[b] - ys[d];
+        double cdx = xs[c] - xs[d];
+        double cdy = ys[c] - ys[d];
+        double ad = adx * adx + ady * ady;
+        double bd = bdx * bdx + bdy * bdy;
+        double cd = cdx * cdx + cdy * cdy;
+        return adx * (bdy * cd - bd * cdy) - ady * (bdx * cd - bd * cdx) + ad * (bdx * cdy - bdy * cdx) > 0;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common;
+
+import java.util.Set;
+
+import org.eclipse.elk.core.math.KVector;
+
+/**
+ * Minimum spanning tree calculation with Kruskal's algorithm, which adds edges in the order of their cost unless
+ * they close a cycle, tracked with a union-find structure. Edges are taken from a heap that is built in linear time,
+ * so the algorithm can stop as soon as the tree is complete. The tree is rooted at the given root afterwards, its
+ * children ordered as {@link PrimMinST} and {@link NaiveMinST} would add them, so all three return equal trees.
+ * <p>precondition: The edge list E represents a connected graph (V,E) where V={w|(u,w) \in E or (w,v) \in E}
+ * and root \in V.</p>
+ * <p>postcondition: The returned tree structure connects all vertices in V once.</p>
+ */
+public final class KruskalMinST {
+
+    /** Hidden constructor. */
+    private KruskalMinST() { };
+
+    /**
+     * Creates a minimum spanning tree for a graph using the given cost function.
+     * @param tEdges the edges of the graph
+     * @param root the root node to start the spanning tree
+     * @param costFunction a function returning a cost value for a {@link TEdge}
+     * @return the spanning tree
+     */
+    public static Tree<KVector> createSpanningTree(final Set<TEdge> tEdges, final KVector root,
+            final ICostFunction costFunction) {
+        SpanningTreeGraph graph = new SpanningTreeGraph(tEdges, costFunction);
+        int n = graph.vertexCount();
+
+        // union-find with path halving and union by size
+        int[] parent = new int[n];
+        int[] size = new int[n];
+        for (int v = 0; v < n; v++) {
+            parent[v] = v;
+            size[v] = 1;
+        }
+
+        boolean[] treeEdge = new boolean[graph.edgeCount()];
+        int components = n;
+        graph.heapifyAllEdges();
+        while (components > 1 && graph.hasEdges()) {
+            int e = graph.pop();
+            int u = find(parent, graph.source(e));
+            int v = find(parent, graph.target(e));
+            if (u != v) {
+                if (size[u] < size[v]) {
+                    int tmp = u;
+                    u = v;
+                    v = tmp;
+                }
+                parent[v] = u;
+                size[u] += size[v];
+                treeEdge[e] = true;
+                components--;
+            }
+        }
+
+        // Prim's algorithm restricted to the tree edges yields the order in which it would add them to the tree
+        return graph.prim(root, treeEdge);
+    }
+
+    private static int find(final int[] parent, final int vertex) {
+        int v = vertex;
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+}
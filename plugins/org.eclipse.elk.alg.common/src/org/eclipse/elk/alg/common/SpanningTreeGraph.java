@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.elk.core.math.KVector;
+
+import com.google.common.collect.Maps;
+
+/**
+ * The graph a spanning tree is computed for, stored in primitive arrays: vertices and edges are numbered, each edge
+ * has a source, a target, and a weight, and the edges incident to each vertex are stored in compressed sparse row
+ * format. Edges are ordered by their weight and, if their weights are equal, by their index, which is the order in
+ * which the given set of edges is iterated. {@link NaiveMinST} breaks ties the same way, thus all spanning tree
+ * implementations return equal trees.
+ */
+final class SpanningTreeGraph {
+
+    /** the vertices, indexed by their number. */
+    private final KVector[] vertices;
+    /** the number of each vertex. */
+    private final Map<KVector, Integer> vertexIndex;
+    /** source vertex of each edge. */
+    private final int[] source;
+    /** target vertex of each edge. */
+    private final int[] target;
+    /** weight of each edge. */
+    private final double[] weight;
+    /** the incident edges of vertex v are {@code incidentEdges[incidentStart[v]..incidentStart[v + 1] - 1]}. */
+    private final int[] incidentStart;
+    private final int[] incidentEdges;
+
+    /** binary min-heap of edges. */
+    private final int[] heap;
+    private int heapSize = 0;
+
+    /**
+     * Creates the graph for the given edges.
+     *
+     * @param tEdges the edges.
+     * @param costFunction the function computing the weight of each edge.
+     */
+    SpanningTreeGraph(final Set<TEdge> tEdges, final ICostFunction costFunction) {
+        int m = tEdges.size();
+        source = new int[m];
+        target = new int[m];
+        weight = new double[m];
+        vertexIndex = Maps.newHashMapWithExpectedSize(m);
+
+        int e = 0;
+        for (TEdge tEdge : tEdges) {
+            source[e] = vertexIndex.computeIfAbsent(tEdge.u, v -> vertexIndex.size());
+            target[e] = vertexIndex.computeIfAbsent(tEdge.v, v -> vertexIndex.size());
+            weight[e] = costFunction.cost(tEdge);
+            e++;
+        }
+
+        int n = vertexIndex.size();
+        vertices = new KVector[n];
+        vertexIndex.forEach((v, i) -> vertices[i] = v);
+
+        // counting sort of the edges by their incident vertices
+        incidentStart = new int[n + 1];
+        for (e = 0; e < m; e++) {
+            incidentStart[source[e] + 1]++;
+            incidentStart[target[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            incidentStart[v + 1] += incidentStart[v];
+        }
+        incidentEdges = new int[2 * m];
+        int[] fill = new int[n];
+        for (e = 0; e < m; e++) {
+            incidentEdges[incidentStart[source[e]] + fill[source[e]]++] = e;
+            incidentEdges[incidentStart[target[e]] + fill[target[e]]++] = e;
+        }
+
+        heap = new int[m];
+    }
+
+    /**
+     * Returns the number of vertices.
+     */
+    int vertexCount() {
+        return vertices.length;
+    }
+
+    /**
+     * Returns the number of edges.
+     */
+    int edgeCount() {
+        return weight.length;
+    }
+
+    /**
+     * Returns the source vertex of the given edge.
+     */
+    int source(final int e) {
+        return source[e];
+    }
+
+    /**
+     * Returns the target vertex of the given edge.
+     */
+    int target(final int e) {
+        return target[e];
+    }
+
+    /**
+     * Computes a minimum spanning tree with Prim's algorithm, which adds the cheapest edge connecting the tree to a
+     * new vertex in each step. The children of each tree node are ordered by the step they were added in.
+     *
+     * @param root the root of the tree.
+     * @param allowed the edges that may be used, or {@code null} to allow all edges.
+     * @return the spanning tree of the component of the root.
+     */
+    Tree<KVector> prim(final KVector root, final boolean[] allowed) {
+        Tree<KVector> rootTree = new Tree<KVector>(root);
+        Integer rootIndex = vertexIndex.get(root);
+        if (rootIndex == null) {
+            return rootTree;
+        }
+
+        @SuppressWarnings("unchecked")
+        Tree<KVector>[] trees = new Tree[vertices.length];
+        trees[rootIndex] = rootTree;
+        heapSize = 0;
+        pushIncidentEdges(rootIndex, allowed, trees);
+
+        while (heapSize > 0) {
+            int e = pop();
+            int parent;
+            int child;
+            if (trees[source[e]] != null && trees[target[e]] == null) {
+                parent = source[e];
+                child = target[e];
+            } else if (trees[target[e]] != null && trees[source[e]] == null) {
+                parent = target[e];
+                child = source[e];
+            } else {
+                // the edge closes a cycle
+                continue;
+            }
+
+            trees[child] = new Tree<KVector>(vertices[child]);
+            trees[parent].children.add(trees[child]);
+            pushIncidentEdges(child, allowed, trees);
+        }
+
+        return rootTree;
+    }
+
+    private void pushIncidentEdges(final int v, final boolean[] allowed, final Tree<KVector>[] trees) {
+        for (int i = incidentStart[v]; i < incidentStart[v + 1]; i++) {
+            int e = incidentEdges[i];
+            int other = source[e] == v ? target[e] : source[e];
+            if (trees[other] == null && (allowed == null || allowed[e])) {
+                push(e);
+            }
+        }
+    }
+
+    /**
+     * Fills the heap with all edges in linear time.
+     */
+    void heapifyAllEdges() {
+        heapSize = heap.length;
+        for (int e = 0; e < heapSize; e++) {
+            heap[e] = e;
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Returns whether the heap contains any edges.
+     */
+    boolean hasEdges() {
+        return heapSize > 0;
+    }
+
+    /**
+     * Removes the cheapest edge from the heap.
+     */
+    int pop() {
+        int min = heap[0];
+        heap[0] = heap[--heapSize];
+        siftDown(0);
+        return min;
+    }
+
+    private void push(final int e) {
+        int i = heapSize++;
+        heap[i] = e;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!less(heap[i], heap[parent])) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(final int index) {
+        int i = index;
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < heapSize && less(heap[left], heap[smallest])) {
+                smallest = left;
+            }
+            if (right < heapSize && less(heap[right], heap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == i) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private boolean less(final int e1, final int e2) {
+        int result = Double.compare(weight[e1], weight[e2]);
+        return result < 0 || result == 0 && e1 < e2;
+    }
+
+    private void swap(final int i, final int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+}
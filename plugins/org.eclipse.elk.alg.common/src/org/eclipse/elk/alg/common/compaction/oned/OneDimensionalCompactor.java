@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -36,6 +36,12 @@ public final class OneDimensionalCompactor {
     /** Constraint calculation by pair-wise comparison of CNodes. */
     public static final IConstraintCalculationAlgorithm QUADRATIC_CONSTRAINTS =
             new QuadraticConstraintCalculation();
+    /**
+     * Calculation of the constraints of {@link #QUADRATIC_CONSTRAINTS} using a sweep line, which is only correct if the
+     * spacings handler reports the same spacing for all pairs of nodes.
+     */
+    public static final IConstraintCalculationAlgorithm SWEEP_LINE_CONSTRAINTS =
+            new SweepLineConstraintCalculation();
     /** Currently used instance of the constraint calculation algorithm. */
     private IConstraintCalculationAlgorithm constraintAlgorithm = SCANLINE_CONSTRAINTS;
 
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.compaction.oned;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Calculates the constraints of {@link QuadraticConstraintCalculation} in O(n log n) time, leaving out the ones that
+ * are implied transitively by others. A line sweeps over the nodes in the order in which the quadratic calculation
+ * constrains them, that is, by their x coordinate and by their width if their x coordinates are equal. It maintains
+ * the nodes visible from the sweep line: the y axis is divided into segments, each of which records the node that
+ * was swept last among the ones covering it. A node is constrained by the nodes visible along its extent and becomes
+ * visible itself along its extent afterwards. Thus, a node A is constrained by a node B only if there is no other node
+ * between A and B that hides A from B, in which case A is constrained by that node and that node by B.
+ *
+ * <p>Each node covers its vertical extent plus the vertical spacing the spacings handler reports for the node with
+ * itself, which equals the constraints of the quadratic calculation for spacings handlers that report the same
+ * spacing for all pairs of nodes, such as the {@link ISpacingsHandler#DEFAULT_SPACING_HANDLER default} one. Nodes of
+ * the same {@link CGroup} do not constrain each other, and neither do nodes with equal x coordinates and
+ * widths.</p>
+ */
+public class SweepLineConstraintCalculation implements IConstraintCalculationAlgorithm {
+
+    @Override
+    public void calculateConstraints(final OneDimensionalCompactor compactor) {
+        // resetting constraints
+        for (CNode cNode : compactor.cGraph.cNodes) {
+            cNode.constraints.clear();
+        }
+
+        List<CNode> nodes = Lists.newArrayList(compactor.cGraph.cNodes);
+        nodes.sort(Comparator.<CNode>comparingDouble(n -> n.hitbox.x).thenComparingDouble(n -> n.hitbox.width));
+
+        Skyline skyline = new Skyline();
+        int i = 0;
+        while (i < nodes.size()) {
+            // nodes at the same position with equal widths are swept at once since they don't constrain each other
+            int j = i + 1;
+            while (j < nodes.size() && nodes.get(j).hitbox.x == nodes.get(i).hitbox.x
+                    && nodes.get(j).hitbox.width == nodes.get(i).hitbox.width) {
+                j++;
+            }
+
+            for (CNode node : nodes.subList(i, j)) {
+                double high = node.hitbox.y + node.hitbox.height + spacing(compactor, node);
+                skyline.constrain(node, node.hitbox.y, high);
+            }
+            for (CNode node : nodes.subList(i, j)) {
+                double high = node.hitbox.y + node.hitbox.height + spacing(compactor, node);
+                skyline.cover(node, node.hitbox.y, high, i);
+            }
+            i = j;
+        }
+    }
+
+    private static double spacing(final OneDimensionalCompactor compactor, final CNode node) {
+        // when compacting horizontally, the vertical spacing must be considered when computing constraints
+        if (compactor.direction.isHorizontal()) {
+            return compactor.spacingsHandler.getVerticalSpacing(node, node);
+        } else {
+            return compactor.spacingsHandler.getHorizontalSpacing(node, node);
+        }
+    }
+
+    /**
+     * The nodes visible from the sweep line, stored as segments of the y axis. Each segment starts at its key and
+     * ends at the next key. Adjacent segments with equal nodes are merged, such that each node swept adds at most
+     * two segments and the number of segments visited by each node is amortized constant.
+     */
+    private static final class Skyline {
+
+        /** the segments by their start, the first one starting at negative infinity. */
+        private final NavigableMap<Double, Segment> segments = new TreeMap<>();
+
+        Skyline() {
+            double start = Double.NEGATIVE_INFINITY;
+            segments.put(start, new Segment(start, Collections.emptyList(), -1));
+        }
+
+        /**
+         * Constrains the given node by the nodes visible along the given extent. Overlaps are determined with the
+         * tolerance of {@link CompareFuzzy}, just like {@link QuadraticConstraintCalculation} does.
+         */
+        void constrain(final CNode node, final double low, final double high) {
+            double queryLow = low + CompareFuzzy.TOLERANCE;
+            double queryHigh = high - CompareFuzzy.TOLERANCE;
+
+            for (Segment segment : segments.tailMap(segments.floorKey(queryLow), true).values()) {
+                if (segment.start >= queryHigh) {
+                    break;
+                }
+                for (CNode visible : segment.nodes) {
+                    boolean sameGroup = visible.cGroup != null && visible.cGroup == node.cGroup;
+                    // the same node may be visible in several segments
+                    boolean added = !visible.constraints.isEmpty()
+                            && visible.constraints.get(visible.constraints.size() - 1) == node;
+                    if (!sameGroup && !added) {
+                        visible.constraints.add(node);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Makes the given node visible along the given extent. Nodes of the same batch are visible side by side.
+         */
+        void cover(final CNode node, final double low, final double high, final int batch) {
+            if (!(low < high)) {
+                return;
+            }
+            split(low);
+            split(high);
+
+            for (Segment segment : segments.subMap(low, true, high, false).values()) {
+                List<CNode> nodes = Lists.newArrayList();
+                if (segment.batch == batch) {
+                    nodes.addAll(segment.nodes);
+                }
+                nodes.add(node);
+                segment.nodes = nodes;
+                segment.batch = batch;
+            }
+
+            // merge adjacent segments with equal nodes, including the ones bordering the covered extent
+            List<Double> merged = Lists.newArrayList();
+            List<CNode> previousNodes = segments.lowerEntry(low).getValue().nodes;
+            for (Segment segment : segments.subMap(low, true, high, true).values()) {
+                if (segment.nodes.equals(previousNodes)) {
+                    merged.add(segment.start);
+                }
+                previousNodes = segment.nodes;
+            }
+            merged.forEach(segments::remove);
+        }
+
+        /**
+         * Makes sure a segment starts at the given position.
+         */
+        private void split(final double position) {
+            Segment segment = segments.floorEntry(position).getValue();
+            if (segment.start != position) {
+                // node lists are never modified, hence they can be shared
+                segments.put(position, new Segment(position, segment.nodes, segment.batch));
+            }
+        }
+    }
+
+    /**
+     * A segment of the y axis and the nodes visible along it.
+     */
+    private static final class Segment {
+        private final double start;
+        private List<CNode> nodes;
+        private int batch;
+
+        Segment(final double start, final List<CNode> nodes, final int batch) {
+            this.start = start;
+            this.nodes = nodes;
+            this.batch = batch;
+        }
+    }
+
+}
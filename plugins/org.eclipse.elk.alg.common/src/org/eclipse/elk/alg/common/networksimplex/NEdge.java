@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Kiel University and others.
+ * Copyright (c) 2016, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,7 +15,7 @@ package org.eclipse.elk.alg.common.networksimplex;
  */
 public class NEdge {
 
-    // SUPPRESS CHECKSTYLE NEXT 22 VisibilityModifier
+    // SUPPRESS CHECKSTYLE NEXT 16 VisibilityModifier
     /** A public id, unused internally, use it for whatever you want. */
     public int id;
     /** Internally set and used id to index arrays. */
@@ -31,14 +31,6 @@ public class NEdge {
     /** The minimum length of this edge. */
     public int delta = 1;
 
-    /**
-     * A flag indicating whether a specified edge is part of the spanning tree determined by
-     * {@code tightTree()}.
-     * 
-     * @see NetworkSimplex#tightTreeDFS(NNode)
-     */
-    protected boolean treeEdge = false;
-
     /**
      * @return an {@link NEdgeBuilder} to create a new edge.
      */
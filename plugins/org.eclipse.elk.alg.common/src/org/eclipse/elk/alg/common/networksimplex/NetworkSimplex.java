@@ -1,6 +1,6 @@
 /*******************************************************************************
- * Copyright (c) 2016 Kiel University and others.
- * 
+ * Copyright (c) 2016, 2026 Kiel University and others.
+ *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -12,18 +12,12 @@ package org.eclipse.elk.alg.common.networksimplex;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Queue;
-import java.util.Set;
 
 import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.core.util.Pair;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
-
 /**
  * The main class of the network simplex layerer component. It offers an algorithm to determine an
  * optimal layering of all nodes in the graph concerning a minimal length of all edges using the
@@ -32,10 +26,18 @@ import com.google.common.collect.Sets;
  * <li>Emden R. Gansner, Eleftherios Koutsofios, Stephen C. North, Kiem-Phong Vo, A technique for
  * drawing directed graphs. <i>Software Engineering</i> 19(3), pp. 214-230, 1993.</li>
  * </ul>
- * 
+ *
+ * <p>Internally, nodes and edges are referred to by their indices and all of their attributes are held in arrays.
+ * As proposed by Gansner et al., the spanning tree is rooted and each node is assigned the range {@code low} to
+ * {@code lim} of postorder numbers of the nodes in its subtree. This allows to tell in constant time which of the two
+ * components of a tree edge a node belongs to, and to update the cut values and the ranges incrementally after each
+ * exchange of tree edges: only the tree edges on the path between the end points of the entering edge change their
+ * cut values, and only the subtree below the lowest common ancestor of these end points needs to be renumbered.</p>
+ *
  * <dl>
  * <dt>Precondition:</dt>
  * <dd>the graph has no cycles</dd>
+ * <dd>the graph is connected</dd>
  * <dt>Postcondition:</dt>
  * <dd>all nodes have been assigned a layer such that edges connect only nodes from layers with
  * increasing indices</dd>
@@ -44,22 +46,24 @@ import com.google.common.collect.Sets;
 public final class NetworkSimplex  {
 
     // configuration of this network simplex instance
-    
-    /** The number of nodes in each layer of a previous layering to be considered during {@link #normalize()} 
-     * and {@link #balance(int[])}. That is, for an index {@code i}, {@code previousLayeringNodeCounts[i]} holds 
+
+    /** The number of nodes in each layer of a previous layering to be considered during {@link #normalize()}
+     * and {@link #balance(int[])}. That is, for an index {@code i}, {@code previousLayeringNodeCounts[i]} holds
      * the number of nodes that are have previously been placed in layer {@code i}. */
     private int[] previousLayeringNodeCounts;
     /** Whether to apply {@link #balance(int[])}. */
     private boolean balance = false;
     /** A limit on the number of iterations. */
     private int iterationLimit = Integer.MAX_VALUE;
+    /** The number of candidates for the leaving edge to consider, or {@code 0} to take the first one. */
+    private int searchSize = 0;
     /** Empirically determined threshold when removing subtrees pays off. */
     private static final int REMOVE_SUBTREES_THRESH = 40;
-    
-    /** Small value smaller than zero. Used to check whether cut values are small than zero and to deal with 
+
+    /** Small value smaller than zero. Used to check whether cut values are small than zero and to deal with
      *  imprecision of double computations. */
     private static final double FUZZY_ST_ZERO = -1e-10;
-    
+
     /** Use {@link #forGraph(NGraph)}. */
     private NetworkSimplex() {
     }
@@ -80,7 +84,7 @@ public final class NetworkSimplex  {
      * graph allows multiple optimal layerings regarding a minimal edge length, this method moves
      * separate nodes to a layer with a minimal amount of currently contained nodes with respect to
      * the retention of feasibility and optimality of the given layering.
-     * 
+     *
      * @param doBalance
      *            whether to apply a balancing
      * @return the {@link NetworkSimplex} instance for further configuration or execution.
@@ -89,11 +93,11 @@ public final class NetworkSimplex  {
         this.balance = doBalance;
         return this;
     }
-    
+
     /**
      * Previously layered nodes may become relevant when moving nodes to layers with fewer nodes
      * during balancing.
-     * 
+     *
      * @param considerPreviousLayering
      *            whether previously layered nodes should be considered during.
      * @return the {@link NetworkSimplex} instance for further configuration or execution.
@@ -107,7 +111,7 @@ public final class NetworkSimplex  {
     /**
      * Since there is a theoretical possibility that the network simplex does not terminate Gansner
      * et al. propose to incorporate an iteration limit. However, in practice this shouldn't happen.
-     * 
+     *
      * @param limit
      *            the maximum number of iterations of the network simplex algorithm.
      * @return the {@link NetworkSimplex} instance for further configuration or execution.
@@ -116,23 +120,57 @@ public final class NetworkSimplex  {
         this.iterationLimit = limit;
         return this;
     }
-    
+
+    /**
+     * By default, each iteration replaces the first tree edge with a negative cut value, in the order in which the
+     * edges were added to the tree. Gansner et al. propose to instead search the tree edges cyclically, continuing
+     * where the previous search stopped, and to pick the edge with the most negative cut value among the first
+     * {@code size} candidates found. This usually needs fewer iterations on large graphs. The resulting layering is
+     * equally optimal, but may differ from the default one if there are several optimal layerings.
+     *
+     * @param size
+     *            the number of candidates to consider, or {@code 0} for the default behavior. Gansner et al. use
+     *            {@code 30}.
+     * @return the {@link NetworkSimplex} instance for further configuration or execution.
+     */
+    public NetworkSimplex withSearchSize(final int size) {
+        this.searchSize = size;
+        return this;
+    }
+
     // ================================== Attributes ==============================================
 
     /** The graph all methods in this class operate on. */
     private NGraph graph;
 
-    /** An {@code ArrayList} containing all edges in the graph. */
-    private List<NEdge> edges;
-    
-    /** A {@code HashSet} containing all edges that are part of the spanning tree. */
-    private Set<NEdge> treeEdges;
+    /** The number of nodes. */
+    private int nodeCount;
+    /** The nodes of the graph, indexed by their internal id. */
+    private NNode[] nodes;
+    /** The layer of each node. */
+    private int[] layer;
+    /** Flags indicating which nodes are part of the tight tree determined by {@link #tightTreeDFS(int)}. */
+    private boolean[] treeNode;
 
+    /** The edges of the graph, indexed by their internal id. The outgoing edges of each node are consecutive. */
+    private NEdge[] edges;
+    /** The source node of each edge. */
+    private int[] edgeSource;
+    /** The target node of each edge. */
+    private int[] edgeTarget;
+    /** The minimum length of each edge. */
+    private int[] edgeDelta;
+    /** The weight of each edge. */
+    private double[] edgeWeight;
+    /** The outgoing edges of node {@code n} are {@code outStart[n]} to {@code outStart[n + 1] - 1}. */
+    private int[] outStart;
     /**
-     * A {@code LinkedList} containing all source nodes of the graph, i.e. all nodes that have no
-     * incident incoming edges.
+     * The connected edges of node {@code n} are {@code connectedEdges[connectedStart[n]]} and following, in the
+     * order of {@link NNode#getConnectedEdges()}.
      */
-    private List<NNode> sources;
+    private int[] connectedStart;
+    /** The connected edges of all nodes. */
+    private int[] connectedEdges;
 
     /**
      * A flag indicating whether a specified edge has been visited during DFS-traversal. This array
@@ -140,45 +178,49 @@ public final class NetworkSimplex  {
      */
     private boolean[] edgeVisited;
 
-    /**
-     * The current postorder traversal number used by {@code postorderTraversal()} to assign an
-     * unique traversal ID to each node.
-     * 
-     * @see #postorderTraversal(NNode)
-     */
-    private int postOrder;
-
-    /**
-     * The postorder traversal ID of each node determined by {@code postorderTraversal()}.
-     * 
-     * @see #postorderTraversal(NNode)
-     */
-    private int[] poID;
+    /** Flags indicating which edges are part of the spanning tree. */
+    private boolean[] treeEdge;
+    /** The tree edges in the order they were added to the tree form a list: the first one. */
+    private int firstTreeEdge;
+    /** The last tree edge. */
+    private int lastTreeEdge;
+    /** The next tree edge in the list, or {@code -1}. */
+    private int[] nextTreeEdge;
+    /** The previous tree edge in the list, or {@code -1}. */
+    private int[] previousTreeEdge;
+    /** The tree edge the next search for a leaving edge starts with if a {@link #searchSize} is set. */
+    private int searchStart;
 
-    /**
-     * The lowest postorder traversal ID of each nodes reachable through a node lower in the
-     * traversal tree determined by {@code postorderTraversal}.
-     * 
-     * @see #postorderTraversal(NNode)
-     */
-    private int[] lowestPoID;
+    /** The tree edge connecting each node to its parent in the rooted spanning tree, or {@code -1} for the root. */
+    private int[] parentEdge;
+    /** The postorder number of each node in the rooted spanning tree. */
+    private int[] lim;
+    /** The lowest postorder number in the subtree of each node. */
+    private int[] low;
+    /** The node with each postorder number. */
+    private int[] nodeAtLim;
 
     /**
-     * The cut value of every edge defined as follows: If the edge is deleted, the spanning tree
+     * The cut value of every tree edge defined as follows: If the edge is deleted, the spanning tree
      * breaks into two connected components, the head component containing the target node of the
      * edge and the tail component containing the source node of the edge. The cut value is the sum
-     * of the weight (here {@code 1}) of all edges going from the tail to the head component,
+     * of the weight of all edges going from the tail to the head component,
      * including the tree edge, minus the sum of the weights of all edges from the head to the tail
      * component.
-     * 
+     *
      * @see #cutvalues()
      */
     private double[] cutvalue;
-    
+
+    /** Node stack of the depth-first searches. */
+    private int[] dfsNodes;
+    /** For each node on the {@link #dfsNodes} stack, the index of its next connected edge to visit. */
+    private int[] dfsEdgeIndices;
+
     /**
      * Nodes that are part of subtrees of the graph. They will be removed prior to the actual
      * execution of the network simplex since positioning them with minimal edge length is trivial.
-     * 
+     *
      * @see #removeSubtrees()
      * @see #reattachSubtrees()
      */
@@ -189,80 +231,116 @@ public final class NetworkSimplex  {
     /**
      * Helper method for the network simplex layerer. It instantiates all necessary attributes for
      * the execution of the network simplex layerer and initializes them with their default values.
-     * All edges in the connected component given by the input argument will be determined, as well
-     * as the number of incoming and outgoing edges of each node ( {@code inDegree}, respectively
-     * {@code outDegree}). All sinks and source nodes in the connected component identified in this
-     * step will be added to {@code sinks}, respectively {@code sources}.
-     * 
+     * Nodes and edges are numbered and copied to arrays, edges in the order of their source nodes
+     * and their outgoing edges.
      */
     private void initialize() {
-        // initialize node attributes
-        int numNodes = graph.nodes.size();
-        for (NNode n : graph.nodes) {
-            n.treeNode = false;
-        }
-        poID = new int[numNodes];
-        lowestPoID = new int[numNodes];
-        sources = Lists.newArrayList();
-
-        // determine edges and re-index nodes
-        int index = 0;
-        List<NEdge> theEdges = Lists.newArrayList();
-        for (NNode node : graph.nodes) {
-            node.internalId = index++;
-            // add node to sinks, resp. sources
-            if (node.getIncomingEdges().size() == 0) {
-                sources.add(node);
+        // number nodes and edges
+        nodeCount = graph.nodes.size();
+        nodes = graph.nodes.toArray(new NNode[nodeCount]);
+        int edgeCount = 0;
+        int connectedCount = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            nodes[n].internalId = n;
+            for (NEdge edge : nodes[n].getOutgoingEdges()) {
+                edge.internalId = edgeCount++;
             }
-            theEdges.addAll(node.getOutgoingEdges());
-        }
-        // re-index edges
-        int counter = 0;
-        for (NEdge edge : theEdges) {
-            edge.internalId = counter++;
-            edge.treeEdge = false;
+            connectedCount += nodes[n].getConnectedEdges().size();
         }
+
+        // initialize node attributes
+        layer = new int[nodeCount];
+        treeNode = new boolean[nodeCount];
+        parentEdge = new int[nodeCount];
+        lim = new int[nodeCount];
+        low = new int[nodeCount];
+        Arrays.fill(low, -1);
+        nodeAtLim = new int[nodeCount];
+        dfsNodes = new int[nodeCount];
+        dfsEdgeIndices = new int[nodeCount];
+        outStart = new int[nodeCount + 1];
+        connectedStart = new int[nodeCount + 1];
+        connectedEdges = new int[connectedCount];
+
         // initialize edge attributes
-        int numEdges = theEdges.size();
-        if (cutvalue == null || cutvalue.length < numEdges) {
-            cutvalue = new double[numEdges];
-            edgeVisited = new boolean[numEdges];
-        } else {
-            Arrays.fill(edgeVisited, false);
+        edges = new NEdge[edgeCount];
+        edgeSource = new int[edgeCount];
+        edgeTarget = new int[edgeCount];
+        edgeDelta = new int[edgeCount];
+        edgeWeight = new double[edgeCount];
+        edgeVisited = new boolean[edgeCount];
+        treeEdge = new boolean[edgeCount];
+        nextTreeEdge = new int[edgeCount];
+        previousTreeEdge = new int[edgeCount];
+        cutvalue = new double[edgeCount];
+        firstTreeEdge = -1;
+        lastTreeEdge = -1;
+        searchStart = -1;
+
+        int e = 0;
+        int c = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            NNode node = nodes[n];
+            layer[n] = node.layer;
+            outStart[n] = e;
+            for (NEdge edge : node.getOutgoingEdges()) {
+                edges[e] = edge;
+                edgeSource[e] = n;
+                edgeTarget[e] = edge.getTarget().internalId;
+                edgeDelta[e] = edge.delta;
+                edgeWeight[e] = edge.weight;
+                e++;
+            }
+            connectedStart[n] = c;
+            for (NEdge edge : node.getConnectedEdges()) {
+                connectedEdges[c++] = edge.internalId;
+            }
         }
-        edges = theEdges;
-        // we iterate over this set, thus we have to use a linked hash set 
-        // to get a deterministic iteration order
-        treeEdges = Sets.newLinkedHashSetWithExpectedSize(edges.size());
-        postOrder = 1;
+        outStart[nodeCount] = e;
+        connectedStart[nodeCount] = c;
     }
 
     /**
      * Release all created resources so the GC can reap them.
      */
     private void dispose() {
-        this.cutvalue = null;
+        this.nodes = null;
+        this.layer = null;
+        this.treeNode = null;
         this.edges = null;
-        this.treeEdges = null;
+        this.edgeSource = null;
+        this.edgeTarget = null;
+        this.edgeDelta = null;
+        this.edgeWeight = null;
+        this.outStart = null;
+        this.connectedStart = null;
+        this.connectedEdges = null;
         this.edgeVisited = null;
-        this.lowestPoID = null;
-        this.poID = null;
-        this.sources = null;
+        this.treeEdge = null;
+        this.nextTreeEdge = null;
+        this.previousTreeEdge = null;
+        this.parentEdge = null;
+        this.lim = null;
+        this.low = null;
+        this.nodeAtLim = null;
+        this.cutvalue = null;
+        this.dfsNodes = null;
+        this.dfsEdgeIndices = null;
         this.subtreeNodesStack = null;
     }
 
     // ============================== Network-Simplex Algorithm ===================================
 
     /**
-     * Determine the optimal layering. 
+     * Determine the optimal layering.
      */
     public void execute() {
         execute(new BasicProgressMonitor());
     }
-    
+
     /**
-     * Determine the optimal layering.  
-     * 
+     * Determine the optimal layering.
+     *
      * @param monitor
      *            a progress monitor
      */
@@ -273,12 +351,12 @@ public final class NetworkSimplex  {
             monitor.done();
             return;
         }
-        
+
         // reset any old layering
         for (NNode node : graph.nodes) {
             node.layer = 0;
         }
-        
+
         // remove leafs
         boolean removeSubtrees = graph.nodes.size() >= REMOVE_SUBTREES_THRESH;
         if (removeSubtrees) {
@@ -290,20 +368,23 @@ public final class NetworkSimplex  {
         // determine an initial feasible layering
         feasibleTree();
         // improve the initial layering until it is optimal
-        NEdge e = leaveEdge();
+        int e = leaveEdge();
         int iter = 0;
-        while (e != null && iter < iterationLimit) {
+        while (e != -1 && iter < iterationLimit) {
             // current layering is not optimal
             exchange(e, enterEdge(e));
             e = leaveEdge();
             iter++;
         }
+        for (int n = 0; n < nodeCount; n++) {
+            nodes[n].layer = layer[n];
+        }
 
         // re-attach leafs
         if (removeSubtrees) {
             reattachSubtrees();
         }
-        
+
         // normalize and, if desired, balance
         //   both methods must work on the NNode#layer field
         if (balance) {
@@ -311,30 +392,33 @@ public final class NetworkSimplex  {
         } else {
             normalize();
         }
-        
+
         // release the created resources
         dispose();
         monitor.done();
     }
-    
-    
+
+
     /**
      * Recursively removes subtrees. In other words, removes leafs from the graph until no more
      * leafs are present.
      */
     private void removeSubtrees() {
-        
+
         subtreeNodesStack = new ArrayDeque<>();
-        
+
         // find initial leafs
-        Queue<NNode> leafs = Lists.newLinkedList();
+        Queue<NNode> leafs = new ArrayDeque<>();
+        int id = 0;
         for (NNode node : graph.nodes) {
+            node.internalId = id++;
             if (node.getConnectedEdges().size() == 1) {
                 leafs.add(node);
             }
         }
-        
+
         // remove them from the graph like there's no tomorrow
+        boolean[] removed = new boolean[id];
         while (!leafs.isEmpty()) {
             NNode node = leafs.poll();
             // was the edge already removed?
@@ -343,40 +427,41 @@ public final class NetworkSimplex  {
             }
             NEdge edge = node.getConnectedEdges().get(0);
             boolean isOutEdge = node.getOutgoingEdges().size() > 0;
-            
+
             NNode other = edge.getOther(node);
             if (isOutEdge) {
                 other.getIncomingEdges().remove(edge);
             } else {
                 other.getOutgoingEdges().remove(edge);
             }
-            
+
             if (other.getConnectedEdges().size() == 1) {
                 leafs.add(other);
             }
-            
+
             Pair<NNode, NEdge> leafy = Pair.of(node, edge);
             subtreeNodesStack.push(leafy);
-            // remove the node from the graph's nodes
-            graph.nodes.remove(node);
+            removed[node.internalId] = true;
         }
-        
+
+        // remove the nodes from the graph's nodes
+        graph.nodes.removeIf(node -> removed[node.internalId]);
     }
-    
+
     /**
-     * Re-attaches the previously removed tree nodes. It is important that 
-     * the nodes are re-attached in the opposite order than they were removed.  
+     * Re-attaches the previously removed tree nodes. It is important that
+     * the nodes are re-attached in the opposite order than they were removed.
      */
     private void reattachSubtrees() {
-        
+
         while (!subtreeNodesStack.isEmpty()) {
-            
+
             Pair<NNode, NEdge> leafy = subtreeNodesStack.pop();
             NNode node = leafy.getFirst();
             NEdge edge = leafy.getSecond();
-            
+
             NNode placed = edge.getOther(node);
-            
+
             if (edge.target == node) {
                 placed.getOutgoingEdges().add(edge);
                 node.layer = placed.layer + edge.delta;
@@ -384,10 +469,10 @@ public final class NetworkSimplex  {
                 placed.getIncomingEdges().add(edge);
                 node.layer = placed.layer - edge.delta;
             }
-            
+
             graph.nodes.add(node);
         }
-        
+
     }
 
     /**
@@ -401,68 +486,69 @@ public final class NetworkSimplex  {
      * become tight and will be added to the spanning tree together with all tight edges leading to
      * non-tree nodes as well. If all nodes of the graph are contained in the spanning tree, a tight
      * tree has been found. A concluding computation of each edge's initial cut value takes place.
-     * 
-     * @see NetworkSimplex#tightTreeDFS(NNode) tightTreeDFS()
+     *
+     * @see NetworkSimplex#tightTreeDFS(int) tightTreeDFS()
      */
     private void feasibleTree() {
-        
+
         // determine initial layering
-        layeringTopologicalNumbering(sources);
-        
-        if (edges.size() > 0) {
+        layeringTopologicalNumbering();
+
+        if (edges.length > 0) {
             Arrays.fill(edgeVisited, false);
-            while (tightTreeDFS(graph.nodes.iterator().next()) < graph.nodes.size()) {
+            while (tightTreeDFS(0) < nodeCount) {
                 // some nodes are still not part of the tree
-                NEdge e = minimalSlack();
-                int slack = e.getTarget().layer - e.getSource().layer - e.delta;
-                if (e.getTarget().treeNode) {
+                int e = minimalSlack();
+                if (e == -1) {
+                    throw new IllegalArgumentException("The graph is not connected.");
+                }
+                int slack = layer[edgeTarget[e]] - layer[edgeSource[e]] - edgeDelta[e];
+                if (treeNode[edgeTarget[e]]) {
                     slack = -slack;
                 }
 
                 // update tree
-                for (NNode node : graph.nodes) {
-                    if (node.treeNode) {
-                        node.layer += slack;
+                for (int n = 0; n < nodeCount; n++) {
+                    if (treeNode[n]) {
+                        layer[n] += slack;
                     }
                 }
                 Arrays.fill(edgeVisited, false);
             }
             // update tree-related attributes
-            Arrays.fill(edgeVisited, false);
-            postorderTraversal(graph.nodes.iterator().next());
+            rangeTraversal(0, -1, 0);
             cutvalues();
         }
     }
 
     /**
      * Helper method for the network simplex layerer. It determines an (initial) feasible layering
-     * for the graph by traversing it by a minimal topological numbering. Dependently of
-     * the chosen mode indicated by {@code reverse}, this method traverses incoming edges (if
-     * {@code reverse = true}), or outgoing edges, if {@code reverse = false}, only. Therefore, this
-     * method should only be called with source nodes as argument in the first-mentioned case and
-     * only with sink nodes in the latter case.
-     * 
-     * @param initialRootNodes
-     *            the roots of the topological numbering (sources or sinks, depending on the direction)
-     */
-    private void layeringTopologicalNumbering(final List<NNode> initialRootNodes) {
-        
-        // initialize the number of incident edges for each node
-        int[] incident = new int[graph.nodes.size()];
-        for (NNode node : graph.nodes) {
-            incident[node.internalId] += node.getIncomingEdges().size();
+     * for the graph by traversing it by a minimal topological numbering, starting with the
+     * source nodes.
+     */
+    private void layeringTopologicalNumbering() {
+
+        // initialize the number of incident edges for each node and find the sources
+        int[] incident = new int[nodeCount];
+        int[] roots = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            incident[n] = nodes[n].getIncomingEdges().size();
+            if (incident[n] == 0) {
+                roots[tail++] = n;
+            }
         }
 
-        LinkedList<NNode> roots = Lists.newLinkedList(initialRootNodes);
-        while (!roots.isEmpty()) {
-            NNode node = roots.poll();
-            
-            for (NEdge edge : node.getOutgoingEdges()) {
-                NNode target = edge.getTarget();
-                target.layer = Math.max(target.layer, node.layer + edge.delta);
-                incident[target.internalId]--;
-                if (incident[target.internalId] == 0) {
-                    roots.add(target);
+        while (head < tail) {
+            int node = roots[head++];
+
+            for (int e = outStart[node]; e < outStart[node + 1]; e++) {
+                int target = edgeTarget[e];
+                layer[target] = Math.max(layer[target], layer[node] + edgeDelta[e]);
+                incident[target]--;
+                if (incident[target] == 0) {
+                    roots[tail++] = target;
                 }
             }
         }
@@ -471,7 +557,7 @@ public final class NetworkSimplex  {
     /**
      * Helper method for the network simplex layerer. It determines the length of the currently
      * shortest incoming or outgoing edge of the input node.
-     * 
+     *
      * @param node
      *            the node to determine the length of its shortest incoming or outgoing edge
      * @return a pair containing the length of the shortest incoming (first element) and outgoing
@@ -491,7 +577,7 @@ public final class NetworkSimplex  {
                 minSpanOut = currentSpan;
             }
         }
-        
+
         if (minSpanIn == Integer.MAX_VALUE) {
             minSpanIn = -1;
         }
@@ -507,56 +593,71 @@ public final class NetworkSimplex  {
      * traversing tight edges only (i.e. edges whose current length matches their minimal length in
      * the layering) and returns the number of nodes in this. If this number is equal to the total
      * number of nodes in the graph, a tight spanning tree has been determined.
-     * 
-     * @param node
+     *
+     * @param root
      *            the root of the DFS-subtree
      * @return the number of nodes in the determined tight DFS-tree
      */
-    private int tightTreeDFS(final NNode node) {
-        int nodeCount = 1;
-        node.treeNode = true;
-        NNode opposite = null;
-        for (NEdge edge : node.getConnectedEdges()) {
-            if (!edgeVisited[edge.internalId]) {
-                edgeVisited[edge.internalId] = true;
-                opposite = edge.getOther(node);
-                if (edge.treeEdge) {
-                    // edge is a tree edge already: follow this path
-                    nodeCount += tightTreeDFS(opposite);
-                } else if (!opposite.treeNode
-                        && edge.delta == edge.getTarget().layer
-                                - edge.getSource().layer) {
+    private int tightTreeDFS(final int root) {
+        int treeNodeCount = 1;
+        treeNode[root] = true;
+        int depth = 0;
+        dfsNodes[0] = root;
+        dfsEdgeIndices[0] = connectedStart[root];
+        while (depth >= 0) {
+            int node = dfsNodes[depth];
+            int index = dfsEdgeIndices[depth]++;
+            if (index == connectedStart[node + 1]) {
+                depth--;
+                continue;
+            }
+
+            int edge = connectedEdges[index];
+            if (!edgeVisited[edge]) {
+                edgeVisited[edge] = true;
+                int opposite = edgeSource[edge] == node ? edgeTarget[edge] : edgeSource[edge];
+                if (!treeEdge[edge]
+                        && !treeNode[opposite]
+                        && edgeDelta[edge] == layer[edgeTarget[edge]] - layer[edgeSource[edge]]) {
                     // edge is a tight non-tree edge
-                    edge.treeEdge = true;
-                    treeEdges.add(edge);
-                    nodeCount += tightTreeDFS(opposite);
+                    treeEdge[edge] = true;
+                    appendTreeEdge(edge);
+                } else if (!treeEdge[edge]) {
+                    continue;
                 }
+
+                // follow the tree edge
+                treeNodeCount++;
+                treeNode[opposite] = true;
+                depth++;
+                dfsNodes[depth] = opposite;
+                dfsEdgeIndices[depth] = connectedStart[opposite];
             }
         }
-        return nodeCount;
+        return treeNodeCount;
     }
 
     /**
      * Helper method for the network simplex layerer. It returns the non-tree edge incident on the
      * tree and incident to a non-tree node with a minimal amount of slack (i.e. an edge with the
-     * lowest difference between its current and minimal length) or {@code null}, if no such edge
+     * lowest difference between its current and minimal length) or {@code -1}, if no such edge
      * exists. Note, that the returned edge's slack is never {@code 0}, since otherwise, the edge
      * would be a tree-edge.
-     * 
-     * @return a non-tree edge incident on the tree with a minimal amount of slack or {@code null},
+     *
+     * @return a non-tree edge incident on the tree with a minimal amount of slack or {@code -1},
      *         if no such edge exists
      */
-    private NEdge minimalSlack() {
+    private int minimalSlack() {
         int minSlack = Integer.MAX_VALUE;
-        NEdge minSlackEdge = null;
+        int minSlackEdge = -1;
         int curSlack;
-        for (NEdge edge : edges) {
-            if (edge.getSource().treeNode ^ edge.getTarget().treeNode) {
+        for (int e = 0; e < edges.length; e++) {
+            if (treeNode[edgeSource[e]] ^ treeNode[edgeTarget[e]]) {
                 // edge is non-tree edge and incident on the tree
-                curSlack = edge.getTarget().layer - edge.getSource().layer - edge.delta;
+                curSlack = layer[edgeTarget[e]] - layer[edgeSource[e]] - edgeDelta[e];
                 if (curSlack < minSlack) {
                     minSlack = curSlack;
-                    minSlackEdge = edge;
+                    minSlackEdge = e;
                 }
             }
         }
@@ -564,69 +665,65 @@ public final class NetworkSimplex  {
     }
 
     /**
-     * Helper method for the network simplex layerer. It performs a postorder DFS-traversal of the
-     * graph beginning with the input node. Each node will be assigned a unique traversal ID, which
-     * will be stored in {@code poID}. Furthermore, the lowest postorder traversal ID of any node in
-     * a descending path relative to the input node will be computed and stored in
-     * {@code lowestPoID}, which is also the return value of this method.
-     * 
-     * @param node
-     *            the root of the DFS-subtree
-     * @return the lowest post-order ID of any descending edge in the depth-first-search
-     * 
-     * @see NetworkSimplex#poID poID
-     * @see NetworkSimplex#lowestPoID lowestPoID
-     * @see NetworkSimplex#postOrder postOrder
+     * Helper method for the network simplex layerer. It roots the subtree of the spanning tree that
+     * contains the given node at that node and assigns each of the subtree's nodes its postorder
+     * number {@code lim} and the lowest postorder number {@code low} of any node in its own subtree.
+     * Numbers are assigned starting with the given one. As done by Graphviz, subtrees that keep their parent
+     * edge and would keep their lowest number are skipped since their numbering does not change. After an
+     * exchange, the {@code low} of the nodes whose subtrees have changed must thus be invalidated.
+     *
+     * @param root
+     *            the root of the subtree
+     * @param rootParentEdge
+     *            the tree edge connecting the root to its parent, which is not traversed, or {@code -1}
+     * @param firstLim
+     *            the lowest postorder number to assign
      */
-    private int postorderTraversal(final NNode node) {
-        int lowest = Integer.MAX_VALUE;
-        for (NEdge edge : node.getConnectedEdges()) {
-            if (edge.treeEdge && !edgeVisited[edge.internalId]) {
-                edgeVisited[edge.internalId] = true;
-                lowest = Math.min(lowest, postorderTraversal(edge.getOther(node)));
+    private void rangeTraversal(final int root, final int rootParentEdge, final int firstLim) {
+        int nextLim = firstLim;
+        parentEdge[root] = rootParentEdge;
+        low[root] = nextLim;
+        int depth = 0;
+        dfsNodes[0] = root;
+        dfsEdgeIndices[0] = connectedStart[root];
+        while (depth >= 0) {
+            int node = dfsNodes[depth];
+            int index = dfsEdgeIndices[depth]++;
+            if (index == connectedStart[node + 1]) {
+                lim[node] = nextLim;
+                nodeAtLim[nextLim++] = node;
+                depth--;
+                continue;
+            }
+
+            int edge = connectedEdges[index];
+            if (treeEdge[edge] && edge != parentEdge[node]) {
+                int child = edgeSource[edge] == node ? edgeTarget[edge] : edgeSource[edge];
+                if (parentEdge[child] == edge && low[child] == nextLim) {
+                    nextLim = lim[child] + 1;
+                    continue;
+                }
+                parentEdge[child] = edge;
+                low[child] = nextLim;
+                depth++;
+                dfsNodes[depth] = child;
+                dfsEdgeIndices[depth] = connectedStart[child];
             }
         }
-        poID[node.internalId] = postOrder;
-        lowestPoID[node.internalId] = Math.min(lowest, postOrder++);
-        return lowestPoID[node.internalId];
     }
 
     /**
-     * Helper method for the the network simplex layerer. It determines, whether an node is part of
-     * the head component of the given edge defined as follows: If the input edge is deleted, the
-     * spanning tree breaks into to connected components. The head component is that component,
-     * which contains the edge's target node, and the tail component is the component, which
-     * contains the edge's source node. Note that a node either belongs to the head or tail
-     * component. Therefore, if the node is not part of the head component, it must be part of the
-     * tail component and vice versa.
-     * 
-     * @param node
-     *            the node to determine, whether it belongs to the edges head (or tail) component
-     * @param edge
-     *            the edge to determine, whether the node is in the head (or tail) component
-     * @return {@code true}, if node is in the head component or {@code false}, if the node is in
-     *         the tail component of the edge
-     */
-    private boolean isInHead(final NNode node, final NEdge edge) {
-        NNode source = edge.getSource();
-        NNode target = edge.getTarget();
-
-        if (lowestPoID[source.internalId] <= poID[node.internalId] 
-                && poID[node.internalId] <= poID[source.internalId]
-                && lowestPoID[target.internalId] <= poID[node.internalId] 
-                && poID[node.internalId] <= poID[target.internalId]) {
-            // node is in a descending path in the DFS-Tree
-            if (poID[source.internalId] < poID[target.internalId]) {
-                // root is in the head component
-                return false;
-            }
-            return true;
-        }
-        if (poID[source.internalId] < poID[target.internalId]) {
-            // root is in the head component
-            return true;
-        }
-        return false;
+     * Returns whether the given node is part of the subtree of the other node.
+     */
+    private boolean isInSubtree(final int node, final int subtreeRoot) {
+        return low[subtreeRoot] <= lim[node] && lim[node] <= lim[subtreeRoot];
+    }
+
+    /**
+     * Returns the end point of the given tree edge that is the other's child in the rooted spanning tree.
+     */
+    private int childOf(final int edge) {
+        return parentEdge[edgeSource[edge]] == edge ? edgeSource[edge] : edgeTarget[edge];
     }
 
     /**
@@ -636,128 +733,128 @@ public final class NetworkSimplex  {
      * component containing the source node of the edge. The cut value is the sum of the weights of
      * all edges going from the tail to the head component, including the tree edge itself, minus
      * the sum of the weights of all edges from the head to the tail component.
-     * 
+     *
+     * <p>One of the components is the subtree of the edge's child node in the rooted spanning tree. Edges within the
+     * subtree do not cross the cut, so the weight of the edges leaving it minus the weight of the edges entering it is
+     * the sum of this difference over all of its nodes, which is accumulated in postorder.</p>
+     *
      * @see NetworkSimplex#cutvalue cutvalue
      */
     private void cutvalues() {
-        // determine incident tree edges for each node
-        List<NNode> leafs = Lists.newArrayList();
-        int treeEdgeCount;
-        for (NNode node : graph.nodes) {
-            treeEdgeCount = 0;
-            node.unknownCutvalues.clear();
-            for (NEdge edge : node.getConnectedEdges()) {
-                if (edge.treeEdge) {
-                    node.unknownCutvalues.add(edge);
-                    treeEdgeCount++;
-                }
-            }
-            if (treeEdgeCount == 1) {
-                leafs.add(node);
-            }
+        // the weight of the outgoing minus the weight of the incoming edges of each node
+        double[] subtreeBalance = new double[nodeCount];
+        for (int e = 0; e < edges.length; e++) {
+            subtreeBalance[edgeSource[e]] += edgeWeight[e];
+            subtreeBalance[edgeTarget[e]] -= edgeWeight[e];
         }
-        
-        // determine cut values
-        NEdge toDetermine;
-        NNode source, target;
-        for (NNode node : leafs) {
-            while (node.unknownCutvalues.size() == 1) {
-                // one tree edge with undetermined cut value is incident
-                toDetermine = node.unknownCutvalues.iterator().next();
-                cutvalue[toDetermine.internalId] = toDetermine.weight;
-                source = toDetermine.getSource();
-                target = toDetermine.getTarget();
-                for (NEdge edge : node.getConnectedEdges()) {
-                    if (!edge.equals(toDetermine)) {
-                        if (edge.treeEdge) {
-                            // edge is tree edge
-                            if (source.equals(edge.getSource())
-                                    || target.equals(edge.getTarget())) {
-                                // edge has not the same direction as toDetermine
-                                cutvalue[toDetermine.internalId] -= cutvalue[edge.internalId] - edge.weight;
-                            } else {
-                                cutvalue[toDetermine.internalId] += cutvalue[edge.internalId] - edge.weight;
-                            }
-                        } else {
-                            // edge is non-tree edge
-                            if (node.equals(source)) {
-                                if (edge.getSource().equals(node)) {
-                                    cutvalue[toDetermine.internalId] += edge.weight;
-                                } else {
-                                    cutvalue[toDetermine.internalId] -= edge.weight;
-                                }
-                            } else {
-                                if (edge.getSource().equals(node)) {
-                                    cutvalue[toDetermine.internalId] -= edge.weight;
-                                } else {
-                                    cutvalue[toDetermine.internalId] += edge.weight;
-                                }
-                            }
-                        }
-                    }
-                }
-                
-                // remove edge from 'unknownCutvalues'
-                source.unknownCutvalues.remove(toDetermine);
-                target.unknownCutvalues.remove(toDetermine);
-                
-                // proceed with next node
-                if (source.equals(node)) {
-                    node = toDetermine.getTarget();
-                } else {
-                    node = toDetermine.getSource();
-                }
+
+        for (int l = 0; l < nodeCount; l++) {
+            int node = nodeAtLim[l];
+            int edge = parentEdge[node];
+            if (edge != -1) {
+                // children precede their parents in postorder
+                cutvalue[edge] = edgeSource[edge] == node ? subtreeBalance[node] : -subtreeBalance[node];
+                int parent = edgeSource[edge] == node ? edgeTarget[edge] : edgeSource[edge];
+                subtreeBalance[parent] += subtreeBalance[node];
             }
         }
     }
 
     /**
      * Helper method for the network simplex layerer. It returns a tree edge with a negative cut
-     * value or {@code null}, if no such edge exists, meaning that the current layer assignment of
-     * all nodes is optimal. Note, that this method returns any edge with a negative cut value. A
-     * special preference to an edge with lowest value will not be given.
-     * 
-     * @return a tree edge with negative cut value or {@code null}, if no such edge exists
-     */
-    private NEdge leaveEdge() {
-        for (NEdge edge : treeEdges) {
-            if (edge.treeEdge && cutvalue[edge.internalId] < FUZZY_ST_ZERO) {
-                return edge;
+     * value or {@code -1}, if no such edge exists, meaning that the current layer assignment of
+     * all nodes is optimal. Unless a {@link #withSearchSize(int) search size} is set, this method
+     * returns the first tree edge with a negative cut value. A special preference to an edge with
+     * lowest value will not be given.
+     *
+     * @return a tree edge with negative cut value or {@code -1}, if no such edge exists
+     */
+    private int leaveEdge() {
+        if (searchSize <= 0) {
+            for (int edge = firstTreeEdge; edge != -1; edge = nextTreeEdge[edge]) {
+                if (cutvalue[edge] < FUZZY_ST_ZERO) {
+                    return edge;
+                }
             }
+            return -1;
         }
-        return null;
+
+        // search the tree edges cyclically, starting where the previous search stopped
+        if (firstTreeEdge == -1) {
+            return -1;
+        } else if (searchStart == -1) {
+            searchStart = firstTreeEdge;
+        }
+        int leave = -1;
+        int candidates = 0;
+        int edge = searchStart;
+        do {
+            if (cutvalue[edge] < FUZZY_ST_ZERO) {
+                if (leave == -1 || cutvalue[edge] < cutvalue[leave]) {
+                    leave = edge;
+                }
+                if (++candidates >= searchSize) {
+                    searchStart = edge;
+                    return leave;
+                }
+            }
+            edge = nextTreeEdge[edge] == -1 ? firstTreeEdge : nextTreeEdge[edge];
+        } while (edge != searchStart);
+        return leave;
     }
 
     /**
      * Helper method for the network simplex layerer. It determines an non-tree edge to replace the
      * given tree edge in the spanning tree. All edges going from the head component to the tail
      * component of the edge will be considered. The edge with a minimal amount of slack (i.e. the
-     * lowest difference between its current to its minimal length) will be returned.
-     * 
+     * lowest difference between its current to its minimal length) will be returned. Of several
+     * such edges, the one with the lowest index is chosen.
+     *
+     * <p>Each considered edge has exactly one end point in the subtree of the given edge's child node. The
+     * edges are thus found by iterating over the nodes of either the subtree or the rest of the tree, whichever
+     * is smaller.</p>
+     *
      * @param leave
      *            the tree edge to determine a non-tree edge to be replaced with
      * @return a non-tree edge with a minimal amount of slack to replace the given edge
      * @throws IllegalArgumentException
      *             if the input edge is not a tree edge
      */
-    private NEdge enterEdge(final NEdge leave) {
-        if (!leave.treeEdge) {    
+    private int enterEdge(final int leave) {
+        if (!treeEdge[leave]) {
             throw new IllegalArgumentException("The input edge is not a tree edge.");
         }
 
-        NEdge replace = null;
+        int subtree = childOf(leave);
+        int subtreeLow = low[subtree];
+        int subtreeLim = lim[subtree];
+        boolean subtreeIsHead = edgeTarget[leave] == subtree;
+        boolean searchSubtree = subtreeLim - subtreeLow + 1 <= nodeCount / 2;
+        // the considered edges leave the searched nodes iff the searched nodes form the head component
+        boolean searchOutgoing = subtreeIsHead == searchSubtree;
+
+        int replace = -1;
         int repSlack = Integer.MAX_VALUE;
-        int slack;
-        NNode source, target;
-        for (NEdge edge : edges) {
-            source = edge.getSource();
-            target = edge.getTarget();
-            if (isInHead(source, leave) && !isInHead(target, leave)) {
-                // edge is to consider
-                slack = target.layer - source.layer - edge.delta;
-                if (slack < repSlack) {
-                    repSlack = slack;
-                    replace = edge;
+        int from = searchSubtree ? subtreeLow : 0;
+        int to = searchSubtree ? subtreeLim : nodeCount - 1;
+        for (int l = from; l <= to; l++) {
+            if (!searchSubtree && l == subtreeLow) {
+                // skip the subtree
+                l = subtreeLim;
+                continue;
+            }
+
+            int node = nodeAtLim[l];
+            for (int i = connectedStart[node]; i < connectedStart[node + 1]; i++) {
+                int edge = connectedEdges[i];
+                int other = searchOutgoing ? edgeTarget[edge] : edgeSource[edge];
+                if (other != node && isInSubtree(other, subtree) != searchSubtree) {
+                    // edge is to consider
+                    int slack = layer[edgeTarget[edge]] - layer[edgeSource[edge]] - edgeDelta[edge];
+                    if (slack < repSlack || slack == repSlack && edge < replace) {
+                        repSlack = slack;
+                        replace = edge;
+                    }
                 }
             }
         }
@@ -766,48 +863,125 @@ public final class NetworkSimplex  {
 
     /**
      * Helper method for the network simplex layerer. It exchanges the tree-edge {@code leave} by
-     * the non-tree edge {@code enter} and updates all values based on the tree (i.e. performs a new
-     * postorder DFS-traversal and updates the cut values).
-     * 
+     * the non-tree edge {@code enter} and updates all values based on the tree. The component of
+     * {@code leave} that does not contain the root is shifted to make {@code enter} tight, the cut
+     * values of the tree edges on the path between the end points of {@code enter} are updated,
+     * and the subtree of the lowest common ancestor of these end points is renumbered.
+     *
      * @param leave
      *            the tree-edge to be replaced
      * @param enter
      *            the non-tree edge to replace the tree edge
      * @throws IllegalArgumentException
      *             if either {@code leave} is no tree edge or {@code enter} is a tree edge already
-     * 
-     * @see NetworkSimplex#enterEdge(NEdge) enterEdge()
+     *
+     * @see NetworkSimplex#enterEdge(int) enterEdge()
      * @see NetworkSimplex#leaveEdge() leaveEdge()
      */
-    private void exchange(final NEdge leave, final NEdge enter) {
-        if (!leave.treeEdge) {
+    private void exchange(final int leave, final int enter) {
+        if (!treeEdge[leave]) {
             throw new IllegalArgumentException("Given leave edge is no tree edge.");
         }
-        if (enter.treeEdge) {
+        if (treeEdge[enter]) {
             throw new IllegalArgumentException("Given enter edge is a tree edge already.");
         }
 
-        // update tree
-        leave.treeEdge = false;
-        treeEdges.remove(leave);
-        enter.treeEdge = true;
-        treeEdges.add(enter);
-        int delta = enter.getTarget().layer - enter.getSource().layer - enter.delta;
-        if (!isInHead(enter.getTarget(), leave)) {
+        // shift the tail component such that the entering edge becomes tight; shifting the head component
+        // the other way round instead only changes the layering by a constant, so shift the smaller one
+        int subtree = childOf(leave);
+        int delta = layer[edgeTarget[enter]] - layer[edgeSource[enter]] - edgeDelta[enter];
+        if (edgeTarget[leave] != subtree) {
             delta = -delta;
         }
-        for (NNode node : graph.nodes) {
-            if (!isInHead(node, leave)) {
-                node.layer += delta;
+        if (lim[subtree] - low[subtree] + 1 <= nodeCount / 2) {
+            for (int l = low[subtree]; l <= lim[subtree]; l++) {
+                layer[nodeAtLim[l]] += delta;
+            }
+        } else {
+            for (int l = 0; l < nodeCount; l++) {
+                if (l < low[subtree] || l > lim[subtree]) {
+                    layer[nodeAtLim[l]] -= delta;
+                }
             }
         }
-        
-        // TODO it should be possible to do this incrementally right?
-        // update tree-based values
-        postOrder = 1;
-        Arrays.fill(edgeVisited, false);
-        postorderTraversal(graph.nodes.iterator().next());
-        cutvalues();
+
+        // update the cut values of the tree edges on the path between the entering edge's end points
+        double leaveCutvalue = cutvalue[leave];
+        int ancestor = updateCutvalues(edgeSource[enter], edgeTarget[enter], leaveCutvalue, true);
+        updateCutvalues(edgeTarget[enter], edgeSource[enter], leaveCutvalue, false);
+        cutvalue[enter] = -leaveCutvalue;
+        cutvalue[leave] = 0;
+
+        // update tree
+        treeEdge[leave] = false;
+        removeTreeEdge(leave);
+        treeEdge[enter] = true;
+        appendTreeEdge(enter);
+        rangeTraversal(ancestor, parentEdge[ancestor], low[ancestor]);
+    }
+
+    /**
+     * Updates the cut values of the tree edges on the path from the given node up to the lowest ancestor of the
+     * given node whose subtree contains the other given node. The path is part of the cycle the entering edge closes.
+     * Since the exchange changes the subtrees of the nodes on the path, their {@code low} is invalidated.
+     *
+     * @param from
+     *            an end point of the entering edge
+     * @param to
+     *            the other end point of the entering edge
+     * @param leaveCutvalue
+     *            the cut value of the leaving edge
+     * @param fromSource
+     *            whether {@code from} is the source of the entering edge
+     * @return the lowest common ancestor of both nodes
+     */
+    private int updateCutvalues(final int from, final int to, final double leaveCutvalue, final boolean fromSource) {
+        int node = from;
+        while (!isInSubtree(to, node)) {
+            // the subtree of each node on the path changes and has to be renumbered
+            low[node] = -1;
+            int edge = parentEdge[node];
+            if ((edgeSource[edge] == node) == fromSource) {
+                cutvalue[edge] += leaveCutvalue;
+            } else {
+                cutvalue[edge] -= leaveCutvalue;
+            }
+            node = edgeSource[edge] == node ? edgeTarget[edge] : edgeSource[edge];
+        }
+        return node;
+    }
+
+    /**
+     * Appends the given edge to the list of tree edges.
+     */
+    private void appendTreeEdge(final int edge) {
+        previousTreeEdge[edge] = lastTreeEdge;
+        nextTreeEdge[edge] = -1;
+        if (lastTreeEdge == -1) {
+            firstTreeEdge = edge;
+        } else {
+            nextTreeEdge[lastTreeEdge] = edge;
+        }
+        lastTreeEdge = edge;
+    }
+
+    /**
+     * Removes the given edge from the list of tree edges.
+     */
+    private void removeTreeEdge(final int edge) {
+        if (previousTreeEdge[edge] == -1) {
+            firstTreeEdge = nextTreeEdge[edge];
+        } else {
+            nextTreeEdge[previousTreeEdge[edge]] = nextTreeEdge[edge];
+        }
+        if (nextTreeEdge[edge] == -1) {
+            lastTreeEdge = previousTreeEdge[edge];
+        } else {
+            previousTreeEdge[nextTreeEdge[edge]] = previousTreeEdge[edge];
+        }
+        if (searchStart == edge) {
+            searchStart = nextTreeEdge[edge] == -1 ? firstTreeEdge : nextTreeEdge[edge];
+        }
     }
 
     /**
@@ -817,7 +991,7 @@ public final class NetworkSimplex  {
      * therefore first) layer. This method returns an integer array indicating how many nodes are
      * assigned to which layer. Note that the total number of layers necessary to layer the graph is
      * indicated thereby, which is the size if the array.
-     * 
+     *
      * @return an integer array indicating how many nodes are assigned to which layer
      */
     private int[] normalize() {
@@ -834,7 +1008,7 @@ public final class NetworkSimplex  {
             node.layer -= lowest;
             filling[node.layer]++;
         }
-        
+
         // also consider nodes of already layered connected components
         int layerID = 0;
         if (previousLayeringNodeCounts != null) {
@@ -854,7 +1028,7 @@ public final class NetworkSimplex  {
      * regarding a minimal edge length, this method moves separate nodes to a layer with a minimal
      * amount of currently contained nodes with respect to the retention of feasibility and
      * optimality of the given layering.
-     * 
+     *
      * @param filling
      *            an integer array indicating how many nodes are currently assigned to each layer
      */
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.polyomino;
+
+import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
+
+/**
+ * Computes the successor of a candidate position (x, y) for placing a polyomino, determining the order in which
+ * {@link PolyominoCompactor} tries positions. A position is packed into a single long by {@link #position(int, int)},
+ * since the compactor may try millions of positions and shouldn't allocate an object for each of them.
+ */
+@FunctionalInterface
+public interface ISuccessor {
+
+    /**
+     * Computes the position to try after the given one.
+     *
+     * @param position
+     *            the current position, as returned by {@link #position(int, int)}
+     * @param poly
+     *            the polyomino to be placed
+     * @return the next position
+     */
+    long next(long position, Polyomino poly);
+
+    /**
+     * Packs the given coordinates into a position.
+     *
+     * @param x
+     *            x-coordinate
+     * @param y
+     *            y-coordinate
+     * @return the position
+     */
+    static long position(final int x, final int y) {
+        return ((long) x << Integer.SIZE) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the x-coordinate of the given position.
+     *
+     * @param position
+     *            position as returned by {@link #position(int, int)}
+     * @return the x-coordinate
+     */
+    static int x(final long position) {
+        return (int) (position >> Integer.SIZE);
+    }
+
+    /**
+     * Returns the y-coordinate of the given position.
+     *
+     * @param position
+     *            position as returned by {@link #position(int, int)}
+     * @return the y-coordinate
+     */
+    static int y(final long position) {
+        return (int) position;
+    }
+
+}
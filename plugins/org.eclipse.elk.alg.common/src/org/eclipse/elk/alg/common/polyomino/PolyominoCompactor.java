@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,7 +12,6 @@ package org.eclipse.elk.alg.common.polyomino;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -22,7 +21,6 @@ import org.eclipse.elk.alg.common.polyomino.structures.PlanarGrid;
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
 import org.eclipse.elk.alg.common.polyomino.structures.Polyominoes;
 import org.eclipse.elk.alg.common.utils.UniqueTriple;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
@@ -83,9 +81,9 @@ public class PolyominoCompactor {
             polys.sort(new MinNumOfExtensionDirectionsComparator());
         }
 
-        // 2. Initialize cost function. Implemented as a BiFunction for future interchangeability with different
+        // 2. Initialize cost function. Implemented as an ISuccessor for future interchangeability with different
         // metrics.
-        BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> successorBasedOnCost;
+        ISuccessor successorBasedOnCost;
         switch (polyHolder.getProperty(PolyominoOptions.POLYOMINO_TRAVERSAL_STRATEGY)) {
         case SPIRAL:
             successorBasedOnCost = new SuccessorMaxNormWindingInMathPosSense();
@@ -122,14 +120,14 @@ public class PolyominoCompactor {
             // 3. Start placement of each polyomino at the center of the grid
             int offX = 0;
             int offY = 0;
-            Pair<Integer, Integer> next = new Pair<Integer, Integer>(offX, offY);
+            long next = ISuccessor.position(offX, offY);
 
             // 4. Until no polyomino cell intersects with another polyomino already placed ...
             while (grid.intersectsWithCenterBased(poly, offX, offY)) {
                 // ... get next trial position based on cost function
-                next = successorBasedOnCost.apply(next, poly);
-                offX = next.getFirst();
-                offY = next.getSecond();
+                next = successorBasedOnCost.next(next, poly);
+                offX = ISuccessor.x(next);
+                offY = ISuccessor.y(next);
             }
             // 5. When a valid position is found, mark all new cells in the underlying grid and save the position of the
             // polyomino's center relative to the grid's center
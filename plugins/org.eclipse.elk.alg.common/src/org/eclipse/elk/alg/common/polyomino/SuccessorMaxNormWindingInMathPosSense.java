@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,10 +9,7 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.polyomino;
 
-import java.util.function.BiFunction;
-
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
@@ -64,25 +61,24 @@ import org.eclipse.elk.core.util.Pair;
  * {@code X O O}</br>
  * </br>
  */
-public class SuccessorMaxNormWindingInMathPosSense
-        implements BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+public class SuccessorMaxNormWindingInMathPosSense implements ISuccessor {
 
     @Override
-    public Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
-        int x = coords.getFirst();
-        int y = coords.getSecond();
+    public long next(final long coords, final Polyomino poly) {
+        int x = ISuccessor.x(coords);
+        int y = ISuccessor.y(coords);
         int cost = Math.max(Math.abs(x), Math.abs(y));
         if (x < cost && y == -cost) {
-            return new Pair<Integer, Integer>(x + 1, y);
+            return ISuccessor.position(x + 1, y);
         }
         if (x == cost && y < cost) {
-            return new Pair<Integer, Integer>(x, y + 1);
+            return ISuccessor.position(x, y + 1);
         }
         if (x >= -cost && y == cost) {
-            return new Pair<Integer, Integer>(x - 1, y);
+            return ISuccessor.position(x - 1, y);
         }
         // if (x == -cost && y > -cost)
-        return new Pair<Integer, Integer>(x, y - 1);
+        return ISuccessor.position(x, y - 1);
     }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -10,19 +10,17 @@
 package org.eclipse.elk.alg.common.polyomino;
 
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.elk.alg.common.polyomino.structures.Direction;
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
 import org.eclipse.elk.alg.common.utils.UniqueTriple;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
  * Implements one way of computing the successor of a point (x', y') in ℕ x ℕ by modifying an existing way, given as an
- * instance of {@link BiFunction}. The modification is as follows.
+ * instance of {@link ISuccessor}. The modification is as follows.
  * </p>
  * 
  * <p>
@@ -62,26 +60,24 @@ import org.eclipse.elk.core.util.Pair;
  * case: polyomino has only NORTH and WEST extensions: only return values of the old function, if y<0, x<0.
  * </p>
  */
-public class SuccessorQuadrantsGeneric
-        implements BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+public class SuccessorQuadrantsGeneric implements ISuccessor {
 
     private Polyomino lastPoly;
     private boolean posX, posY, negX, negY;
-    private BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> costFun;
+    private ISuccessor costFun;
 
     /**
      * Constructor for a function computing the successor of a point (x', y') in ℕ x ℕ by modifying an existing way,
-     * given as a {@link BiFunction}. Based on the directions the extensions of a polyomino are facing the number of
+     * given as an {@link ISuccessor}. Based on the directions the extensions of a polyomino are facing the number of
      * valid candidate positions are further restricted by only allowing certain quadrants of the underlying coordinate
      * system.
      */
-    public SuccessorQuadrantsGeneric(
-            final BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> costFun) {
+    public SuccessorQuadrantsGeneric(final ISuccessor costFun) {
         this.costFun = costFun;
     }
 
     @Override
-    public Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
+    public long next(final long coords, final Polyomino poly) {
         if (!poly.equals(lastPoly)) {
             lastPoly = poly;
             Function<UniqueTriple<Direction, Integer, Integer>, Direction> detectDirections =
@@ -114,10 +110,10 @@ public class SuccessorQuadrantsGeneric
 
         }
 
-        Pair<Integer, Integer> nextCoords = costFun.apply(coords, poly);
+        long nextCoords = costFun.next(coords, poly);
 
-        int newX = nextCoords.getFirst();
-        int newY = nextCoords.getSecond();
+        int newX = ISuccessor.x(nextCoords);
+        int newY = ISuccessor.y(nextCoords);
 
         // (0,0) is part of the positive quadrant
         boolean invalid = false;
@@ -141,7 +137,7 @@ public class SuccessorQuadrantsGeneric
         }
 
         if (invalid) {
-            return apply(nextCoords, poly);
+            return next(nextCoords, poly);
         } else {
             return nextCoords;
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -149,13 +149,18 @@ public class PlanarGrid extends TwoBitGrid {
      */
     public <G extends PlanarGrid> boolean intersectsWithCenterBased(final G other, final int xOffset,
             final int yOffset) {
-        for (int x = 0; x < other.getWidth(); x++) {
-            int xTranslated = x - other.getCenterX() + xOffset;
-            for (int y = 0; y < other.getHeight(); y++) {
-                int yTranslated = y - other.getCenterY() + yOffset;
-                if (this.inBoundsCenterBased(xTranslated, yTranslated)
-                        && ((!(other.isEmpty(x, y)) && this.isBlockedCenterBased(xTranslated, yTranslated))
-                                || (other.isBlocked(x, y) && !(this.isEmptyCenterBased(xTranslated, yTranslated))))) {
+        // Compare the rows of both grids word by word; cells of other that lie outside of this grid are ignored
+        int xTranslated = xCenter - other.getCenterX() + xOffset;
+        for (int y = 0; y < other.getHeight(); y++) {
+            int yTranslated = y - other.getCenterY() + yOffset + yCenter;
+            if (yTranslated < 0 || yTranslated >= getHeight()) {
+                continue;
+            }
+            for (int x = 0; x < other.getWidth(); x += CELLS_PER_WORD) {
+                long otherCells = other.getCells(x, y);
+                long cells = getCells(x + xTranslated, yTranslated);
+                if ((nonEmptyCells(otherCells) & blockedCells(cells)
+                        | blockedCells(otherCells) & nonEmptyCells(cells)) != 0) {
                     return true;
                 }
             }
@@ -303,11 +308,13 @@ public class PlanarGrid extends TwoBitGrid {
         int maxX = Integer.MIN_VALUE;
         int minY = Integer.MAX_VALUE;
         int maxY = Integer.MIN_VALUE;
-        for (int xi = 0; xi < gridWidth; ++xi) {
-            for (int yi = 0; yi < gridHeight; ++yi) {
-                if (isBlocked(xi, yi)) {
-                    minX = Math.min(minX, xi);
-                    maxX = Math.max(maxX, xi);
+        for (int yi = 0; yi < gridHeight; ++yi) {
+            for (int xi = 0; xi < gridWidth; xi += CELLS_PER_WORD) {
+                long blocked = blockedCells(getCells(xi, yi));
+                if (blocked != 0) {
+                    // Each cell occupies two bits of the word
+                    minX = Math.min(minX, xi + Long.numberOfTrailingZeros(blocked) / 2);
+                    maxX = Math.max(maxX, xi + (Long.SIZE - 1 - Long.numberOfLeadingZeros(blocked)) / 2);
                     minY = Math.min(minY, yi);
                     maxY = Math.max(maxY, yi);
                 }
@@ -364,6 +371,19 @@ public class PlanarGrid extends TwoBitGrid {
      */
     public boolean weaklyIntersectsArea(final int xUpperLeft, final int yUpperleft, final int xBottomRight,
             final int yBottomRight) {
+        if (xUpperLeft >= 0 && yUpperleft >= 0 && xBottomRight < getWidth() && yBottomRight < getHeight()) {
+            // The area lies inside of the grid, so we can test its rows word by word
+            for (int yi = yUpperleft; yi <= yBottomRight; yi++) {
+                for (int xi = xUpperLeft; xi <= xBottomRight; xi += CELLS_PER_WORD) {
+                    long cells = getCells(xi, yi) & cellMask(xBottomRight - xi + 1);
+                    if (blockedCells(cells) != 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        
         for (int yi = yUpperleft; yi <= yBottomRight; yi++) {
             for (int xi = xUpperLeft; xi <= xBottomRight; xi++) {
                 // Might throw IndexOutOfBoundsException
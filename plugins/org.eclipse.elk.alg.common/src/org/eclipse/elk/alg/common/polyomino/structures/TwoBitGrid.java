@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,7 +12,7 @@ package org.eclipse.elk.alg.common.polyomino.structures;
 /**
  * Basic data structure for representing a discrete ℕ x ℕ grid, albeit bounded by a given width and height. The data
  * structure is based on a two dimensional long array, making it possible to address each bit individually to save
- * space.
+ * space. Since each long holds 32 consecutive cells of a row, rows can also be tested 32 cells at a time.
  */
 public class TwoBitGrid implements IThreeValueGrid {
     ///////////////////////////////////////////////////////////////////////////////
@@ -26,6 +26,10 @@ public class TwoBitGrid implements IThreeValueGrid {
     private static final double HALF_WORD = 32.0;
     private static final int REST_MASK = 0x1F;
     private static final int RIGHT_SHIFT = 5; // 2^5 = 32
+    /** Number of cells held by each long. */
+    static final int CELLS_PER_WORD = 32;
+    /** Mask of the least significant bits of all cells held by a long. */
+    private static final long LSBS_MASK = 0x5555555555555555L;
 
     ///////////////////////////////////////////////////////////////////////////////
     // Variables
@@ -160,6 +164,72 @@ public class TwoBitGrid implements IThreeValueGrid {
         return output.substring(0, output.length() - 1);
     }
 
+    ///////////////////////////////////////////////////////////////////////////////
+    // Package private methods
+
+    /**
+     * Returns the {@link #CELLS_PER_WORD} cells of the given row starting at the given x-coordinate. Cell
+     * {@code x + i} is held by bits {@code 2i} and {@code 2i + 1} of the result, encoded as for the grid itself.
+     * Cells outside of the grid are returned as empty.
+     * 
+     * @param x
+     *            X-coordinate of the first cell
+     * @param y
+     *            Y-coordinate of the row, which must be inside of the grid
+     * @return the cells in the two bit encoding
+     */
+    long getCells(final int x, final int y) {
+        long[] row = grid[y];
+        if (x < 0) {
+            return x > -CELLS_PER_WORD ? getCells(0, y) << (-x << 1) : EMPTY;
+        }
+        int xWord = x >> RIGHT_SHIFT;
+        if (xWord >= row.length) {
+            return EMPTY;
+        }
+        int xRest = x & REST_MASK;
+        long cells = row[xWord] >>> (xRest << 1);
+        if (xRest != 0 && xWord + 1 < row.length) {
+            cells |= row[xWord + 1] << ((CELLS_PER_WORD - xRest) << 1);
+        }
+        return cells;
+    }
+
+    /**
+     * Returns a mask of the blocked cells among the given cells, which has the least significant bit of each blocked
+     * cell set.
+     * 
+     * @param cells
+     *            cells as returned by {@link #getCells(int, int)}
+     * @return the mask of blocked cells
+     */
+    static long blockedCells(final long cells) {
+        return cells & ~(cells >>> 1) & LSBS_MASK;
+    }
+
+    /**
+     * Returns a mask of the blocked and weakly blocked cells among the given cells, which has the least significant bit
+     * of each such cell set.
+     * 
+     * @param cells
+     *            cells as returned by {@link #getCells(int, int)}
+     * @return the mask of cells that are not empty
+     */
+    static long nonEmptyCells(final long cells) {
+        return (cells | (cells >>> 1)) & LSBS_MASK;
+    }
+
+    /**
+     * Returns a mask of the given number of cells, starting with the least significant bits.
+     * 
+     * @param count
+     *            number of cells, at most {@link #CELLS_PER_WORD}
+     * @return the mask
+     */
+    static long cellMask(final int count) {
+        return count >= CELLS_PER_WORD ? -1L : (1L << (count << 1)) - 1;
+    }
+
     ///////////////////////////////////////////////////////////////////////////////
     // Private methods
 
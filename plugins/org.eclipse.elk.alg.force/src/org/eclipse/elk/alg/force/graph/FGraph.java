@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Kiel University and others.
+ * Copyright (c) 2011, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -10,6 +10,7 @@
 package org.eclipse.elk.alg.force.graph;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.elk.alg.force.options.ForceOptions;
@@ -36,8 +37,15 @@ public final class FGraph extends MapPropertyHolder {
     private List<FLabel> labels = new ArrayList<>();
     /** All bend points of this graph. */
     private List<FBendpoint> bendPoints = new ArrayList<>();
-    /** adjacency matrix of the graph. */
-    private int[][] adjacency;
+    /**
+     * The nodes adjacent to node {@code n} are stored at the indices {@code adjacencyStart[n]} to
+     * {@code adjacencyStart[n + 1] - 1} of {@link #adjacentNodes} and {@link #adjacencyPriorities}.
+     */
+    private int[] adjacencyStart;
+    /** The ids of the adjacent nodes, sorted for each node, regardless of the direction of the edges. */
+    private int[] adjacentNodes;
+    /** For each entry of {@link #adjacentNodes} the summed priority of the edges between the two nodes. */
+    private int[] adjacencyPriorities;
 
     /**
      * Returns the list of edges for this graph.
@@ -95,7 +103,10 @@ public final class FGraph extends MapPropertyHolder {
     public int getConnection(final FParticle particle1, final FParticle particle2) {
         if (particle1 instanceof FNode && particle2 instanceof FNode) {
             FNode node1 = (FNode) particle1, node2 = (FNode) particle2;
-            return adjacency[node1.id][node2.id] + adjacency[node2.id][node1.id];
+            int from = adjacencyStart[node1.id];
+            int to = adjacencyStart[node1.id + 1];
+            int index = Arrays.binarySearch(adjacentNodes, from, to, node2.id);
+            return index >= 0 ? adjacencyPriorities[index] : 0;
         } else if (particle1 instanceof FBendpoint && particle2 instanceof FBendpoint) {
             FBendpoint bpoint1 = (FBendpoint) particle1, bpoint2 = (FBendpoint) particle2;
             if (bpoint1.getEdge() == bpoint2.getEdge()) {
@@ -106,14 +117,50 @@ public final class FGraph extends MapPropertyHolder {
     }
     
     /**
-     * Calculate the adjacency matrix of the graph.
+     * Calculate the adjacency lists of the graph, which take space linear in the number of nodes and edges.
      */
     public void calcAdjacency() {
         int n = nodes.size();
-        adjacency = new int[n][n];
+        
+        // each edge is listed at both of its end points, a self loop twice at its node
+        adjacencyStart = new int[n + 1];
         for (FEdge edge : edges) {
-            adjacency[edge.getSource().id][edge.getTarget().id] += edge.getProperty(ForceOptions.PRIORITY);
+            adjacencyStart[edge.getSource().id + 1]++;
+            adjacencyStart[edge.getTarget().id + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            adjacencyStart[i + 1] += adjacencyStart[i];
+        }
+        
+        // sort the entries of each node by the adjacent node, keeping the priority in the lower bits
+        long[] entries = new long[2 * edges.size()];
+        int[] fill = Arrays.copyOf(adjacencyStart, n);
+        for (FEdge edge : edges) {
+            long priority = edge.getProperty(ForceOptions.PRIORITY) & 0xFFFFFFFFL;
+            int source = edge.getSource().id;
+            int target = edge.getTarget().id;
+            entries[fill[source]++] = ((long) target << Integer.SIZE) | priority;
+            entries[fill[target]++] = ((long) source << Integer.SIZE) | priority;
+        }
+        
+        // merge the entries of each node that refer to the same adjacent node
+        adjacentNodes = new int[entries.length];
+        adjacencyPriorities = new int[entries.length];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int from = adjacencyStart[i];
+            int to = adjacencyStart[i + 1];
+            Arrays.sort(entries, from, to);
+            adjacencyStart[i] = count;
+            for (int e = from; e < to; e++) {
+                int node = (int) (entries[e] >>> Integer.SIZE);
+                if (e == from || adjacentNodes[count - 1] != node) {
+                    adjacentNodes[count++] = node;
+                }
+                adjacencyPriorities[count - 1] += (int) entries[e];
+            }
         }
+        adjacencyStart[n] = count;
     }
 
 }
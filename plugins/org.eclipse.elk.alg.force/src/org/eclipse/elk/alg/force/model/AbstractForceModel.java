@@ -9,8 +9,11 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.force.model;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import org.eclipse.elk.alg.force.graph.FBendpoint;
 import org.eclipse.elk.alg.force.graph.FEdge;
@@ -20,9 +23,12 @@ import org.eclipse.elk.alg.force.graph.FNode;
 import org.eclipse.elk.alg.force.graph.FParticle;
 import org.eclipse.elk.alg.force.options.ForceOptions;
 import org.eclipse.elk.alg.force.options.InternalProperties;
+import org.eclipse.elk.alg.force.options.RepulsionApproximation;
 import org.eclipse.elk.core.math.KVector;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 
+import com.google.common.collect.Lists;
+
 /**
  * Superclass for force models.
  *
@@ -36,6 +42,10 @@ public abstract class AbstractForceModel {
     private FGraph graph;
     /** upper bound for particle coordinates. */
     private double dispBound;
+    /** the quadtree used to approximate repulsive forces, or {@code null} if they are computed exactly. */
+    private BarnesHutTree barnesHutTree;
+    /** pairs of connected particles, stored consecutively; only used together with {@link #barnesHutTree}. */
+    private List<FParticle> connectedPairs;
     
     /** factor by which nodes influence the displacement bound. */
     private static final double DISP_BOUND_FACTOR = 16;
@@ -78,6 +88,46 @@ public abstract class AbstractForceModel {
                 edge.distributeBendpoints();
             }
         }
+        
+        // set up the approximation of repulsive forces, if requested
+        if (fgraph.getProperty(ForceOptions.REPULSION_APPROXIMATION) == RepulsionApproximation.BARNES_HUT) {
+            barnesHutTree = new BarnesHutTree(this, Lists.newArrayList(fgraph.getParticles()), random,
+                    fgraph.getProperty(ForceOptions.BARNES_HUT_THETA));
+            connectedPairs = collectConnectedPairs(fgraph);
+        } else {
+            barnesHutTree = null;
+            connectedPairs = null;
+        }
+    }
+    
+    /**
+     * Collect all pairs of particles with a non-zero {@link FGraph#getConnection(FParticle, FParticle) connection},
+     * that is, nodes connected by an edge and bend points of the same edge. Each pair is contained once.
+     */
+    private static List<FParticle> collectConnectedPairs(final FGraph fgraph) {
+        List<FParticle> pairs = new ArrayList<>();
+        long n = fgraph.getNodes().size();
+        Set<Long> nodePairs = new HashSet<>();
+        for (FEdge edge : fgraph.getEdges()) {
+            FNode source = edge.getSource();
+            FNode target = edge.getTarget();
+            if (source != target) {
+                long key = Math.min(source.id, target.id) * n + Math.max(source.id, target.id);
+                if (nodePairs.add(key)) {
+                    pairs.add(source);
+                    pairs.add(target);
+                }
+            }
+            
+            List<FBendpoint> bendpoints = edge.getBendpoints();
+            for (int i = 0; i < bendpoints.size(); i++) {
+                for (int j = i + 1; j < bendpoints.size(); j++) {
+                    pairs.add(bendpoints.get(i));
+                    pairs.add(bendpoints.get(j));
+                }
+            }
+        }
+        return pairs;
     }
     
     /**
@@ -112,13 +162,23 @@ public abstract class AbstractForceModel {
         while (moreIterations(iterations) && !monitor.isCanceled()) {
 
             iterationDone();
-            // calculate attractive and repulsive forces
-            for (FParticle v : fgraph.getParticles()) {
-                for (FParticle u : fgraph.getParticles()) {
-                    if (u != v) {
-                        KVector displacement = calcDisplacement(u, v);
-                        if (displacement != null) {
-                            v.getDisplacement().add(displacement);
+            if (barnesHutTree != null) {
+                // approximate repulsive forces, then correct the forces between connected particles
+                barnesHutTree.addRepulsiveDisplacements();
+                for (int i = 0; i < connectedPairs.size(); i += 2) {
+                    addConnectionDisplacement(connectedPairs.get(i), connectedPairs.get(i + 1));
+                    addConnectionDisplacement(connectedPairs.get(i + 1), connectedPairs.get(i));
+                }
+                
+            } else {
+                // calculate attractive and repulsive forces
+                for (FParticle v : fgraph.getParticles()) {
+                    for (FParticle u : fgraph.getParticles()) {
+                        if (u != v) {
+                            KVector displacement = calcDisplacement(u, v);
+                            if (displacement != null) {
+                                v.getDisplacement().add(displacement);
+                            }
                         }
                     }
                 }
@@ -169,6 +229,39 @@ public abstract class AbstractForceModel {
      */
     protected abstract KVector calcDisplacement(FParticle forcer, FParticle forcee);
     
+    /**
+     * Calculate the amount of force the forcer exerts on the forcee, depending on their distance and connection.
+     * Positive values push the forcee away from the forcer, negative values pull it closer. The repulsive part of the
+     * force must be proportional to the priority of the forcer, since the Barnes-Hut approximation sums up the
+     * priorities of distant particles, which is how {@link RepulsionApproximation#BARNES_HUT} approximates them.
+     * 
+     * @param distance the distance between the borders of the two particles
+     * @param connection the amount of connection between the particles
+     * @param priority the priority of the forcer
+     * @return the amount of force, which is applied to the forcee relative to the distance of the particles' centers
+     */
+    protected abstract double calcForce(double distance, int connection, double priority);
+    
+    /**
+     * Replace the repulsive force between two connected particles, which has been added to the forcee by the
+     * Barnes-Hut approximation, by the actual force between them.
+     * 
+     * @param forcer the particle that is causing the force
+     * @param forcee the particle that is affected by the force
+     */
+    private void addConnectionDisplacement(final FParticle forcer, final FParticle forcee) {
+        avoidSamePosition(random, forcer, forcee);
+        
+        KVector displacement = forcee.getPosition().clone().sub(forcer.getPosition());
+        double length = displacement.length();
+        double d = Math.max(0, length - forcer.getRadius() - forcee.getRadius());
+        int connection = graph.getConnection(forcer, forcee);
+        double priority = forcer.getProperty(ForceOptions.PRIORITY);
+        double force = calcForce(d, connection, priority) - calcForce(d, 0, priority);
+        
+        forcee.getDisplacement().add(displacement.scale(force / length));
+    }
+    
     /**
      * Avoid having nodes on the same position by moving them a little.
      * 
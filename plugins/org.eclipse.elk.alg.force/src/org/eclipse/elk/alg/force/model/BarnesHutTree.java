@@ -0,0 +1,329 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.force.graph.FParticle;
+import org.eclipse.elk.alg.force.options.ForceOptions;
+import org.eclipse.elk.core.math.KVector;
+
+/**
+ * Quadtree over the particles of a force graph that approximates the repulsive forces between them after
+ * Barnes and Hut. Each cell of the tree knows the center, the summed priority, and the average radius of the
+ * particles it contains. If a cell is far away from a particle compared to its size, the repulsive force of the whole
+ * cell is computed as if it were a single particle at its center, which takes O(n log n) time per iteration instead
+ * of O(n&sup2;).
+ *
+ * <p>The tree only computes repulsive forces, that is forces between particles that are not connected to each other.
+ * Forces between connected particles are corrected by the force model afterwards.</p>
+ */
+final class BarnesHutTree {
+
+    /** maximal depth of the tree; particles at (almost) the same position end up in a common leaf. */
+    private static final int MAX_DEPTH = 32;
+    /** initial capacity of the cell arrays, relative to the number of particles. */
+    private static final int CELLS_PER_PARTICLE = 2;
+
+    /** the force model used to compute the amount of force. */
+    private final AbstractForceModel model;
+    /** the random number generator used to separate particles at the same position. */
+    private final Random random;
+    /** ratio of cell size and distance below which a cell is approximated by its center. */
+    private final double theta;
+
+    /* Particle data; positions are copied whenever the tree is built. */
+    private final FParticle[] particles;
+    private final double[] x;
+    private final double[] y;
+    private final double[] radius;
+    private final double[] priority;
+    /** particle indices sorted such that the particles of each cell are stored consecutively. */
+    private final int[] order;
+    /** scratch array used when distributing particles to quadrants. */
+    private final int[] scratch;
+
+    /* Cell data. */
+    private int cellCount;
+    private double[] cellX;
+    private double[] cellY;
+    private double[] cellSize;
+    private double[] centerX;
+    private double[] centerY;
+    private double[] cellPriority;
+    private double[] cellRadius;
+    /** index of the first child cell; children of a cell are stored consecutively. */
+    private int[] childStart;
+    /** number of child cells, which is {@code 0} for leaves. */
+    private int[] childCount;
+    /** range of the cell's particles in {@link #order}. */
+    private int[] rangeStart;
+    private int[] rangeEnd;
+
+    /** stack of cells still to be visited while computing forces. */
+    private int[] stack = new int[MAX_DEPTH * 4];
+
+    /**
+     * Create a tree for the given particles. The set of particles must not change afterwards.
+     *
+     * @param model the force model used to compute the amount of force
+     * @param particles the particles of the graph
+     * @param random the random number generator of the force model
+     * @param theta ratio of cell size and distance below which a cell is approximated by its center
+     */
+    BarnesHutTree(final AbstractForceModel model, final List<FParticle> particles, final Random random,
+            final double theta) {
+
+        this.model = model;
+        this.random = random;
+        this.theta = theta;
+
+        int n = particles.size();
+        this.particles = particles.toArray(new FParticle[n]);
+        x = new double[n];
+        y = new double[n];
+        radius = new double[n];
+        priority = new double[n];
+        order = new int[n];
+        scratch = new int[n];
+        for (int i = 0; i < n; i++) {
+            radius[i] = this.particles[i].getRadius();
+            priority[i] = this.particles[i].getProperty(ForceOptions.PRIORITY);
+        }
+
+        allocateCells(Math.max(1, CELLS_PER_PARTICLE * n));
+    }
+
+    /**
+     * Compute the repulsive forces between all particles and add them to the particles' displacements. The tree is
+     * rebuilt from the current particle positions first.
+     */
+    void addRepulsiveDisplacements() {
+        if (particles.length < 2) {
+            return;
+        }
+
+        build();
+        for (int i = 0; i < particles.length; i++) {
+            addRepulsiveDisplacement(i);
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////
+    // Tree Construction
+
+    private void build() {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < particles.length; i++) {
+            KVector pos = particles[i].getPosition();
+            x[i] = pos.x;
+            y[i] = pos.y;
+            minX = Math.min(minX, pos.x);
+            minY = Math.min(minY, pos.y);
+            maxX = Math.max(maxX, pos.x);
+            maxY = Math.max(maxY, pos.y);
+            order[i] = i;
+        }
+
+        // the root cell is a square that contains all particles
+        double size = Math.max(maxX - minX, maxY - minY);
+        cellCount = 0;
+        int root = newCells(1);
+        buildCell(root, 0, particles.length, minX, minY, size, 0);
+    }
+
+    private void buildCell(final int cell, final int from, final int to, final double cx, final double cy,
+            final double size, final int depth) {
+
+        cellX[cell] = cx;
+        cellY[cell] = cy;
+        cellSize[cell] = size;
+        rangeStart[cell] = from;
+        rangeEnd[cell] = to;
+        childCount[cell] = 0;
+
+        double sumX = 0;
+        double sumY = 0;
+        double sumPriority = 0;
+        double sumRadius = 0;
+        for (int k = from; k < to; k++) {
+            int i = order[k];
+            sumX += x[i];
+            sumY += y[i];
+            sumPriority += priority[i];
+            sumRadius += radius[i];
+        }
+        int count = to - from;
+        centerX[cell] = sumX / count;
+        centerY[cell] = sumY / count;
+        cellPriority[cell] = sumPriority;
+        cellRadius[cell] = sumRadius / count;
+
+        if (count == 1 || depth >= MAX_DEPTH) {
+            return;
+        }
+
+        // distribute the particles to the four quadrants
+        double half = size / 2;
+        double midX = cx + half;
+        double midY = cy + half;
+        int[] quadrantCount = new int[4];
+        for (int k = from; k < to; k++) {
+            quadrantCount[quadrant(order[k], midX, midY)]++;
+        }
+        int[] quadrantStart = new int[5];
+        quadrantStart[0] = from;
+        int nonEmpty = 0;
+        for (int q = 0; q < 4; q++) {
+            quadrantStart[q + 1] = quadrantStart[q] + quadrantCount[q];
+            if (quadrantCount[q] > 0) {
+                nonEmpty++;
+            }
+        }
+        int[] next = Arrays.copyOf(quadrantStart, 4);
+        for (int k = from; k < to; k++) {
+            int i = order[k];
+            scratch[next[quadrant(i, midX, midY)]++] = i;
+        }
+        System.arraycopy(scratch, from, order, from, count);
+
+        // children are allocated as a block before descending into them
+        int first = newCells(nonEmpty);
+        childStart[cell] = first;
+        childCount[cell] = nonEmpty;
+        int child = first;
+        for (int q = 0; q < 4; q++) {
+            if (quadrantCount[q] > 0) {
+                double qx = (q & 1) == 0 ? cx : midX;
+                double qy = (q & 2) == 0 ? cy : midY;
+                buildCell(child++, quadrantStart[q], quadrantStart[q + 1], qx, qy, half, depth + 1);
+            }
+        }
+    }
+
+    private int quadrant(final int i, final double midX, final double midY) {
+        return (x[i] < midX ? 0 : 1) + (y[i] < midY ? 0 : 2);
+    }
+
+    private int newCells(final int count) {
+        if (cellCount + count > cellX.length) {
+            allocateCells(Math.max(cellCount + count, 2 * cellX.length));
+        }
+        int first = cellCount;
+        cellCount += count;
+        return first;
+    }
+
+    private void allocateCells(final int capacity) {
+        if (cellX == null) {
+            cellX = new double[capacity];
+            cellY = new double[capacity];
+            cellSize = new double[capacity];
+            centerX = new double[capacity];
+            centerY = new double[capacity];
+            cellPriority = new double[capacity];
+            cellRadius = new double[capacity];
+            childStart = new int[capacity];
+            childCount = new int[capacity];
+            rangeStart = new int[capacity];
+            rangeEnd = new int[capacity];
+        } else {
+            cellX = Arrays.copyOf(cellX, capacity);
+            cellY = Arrays.copyOf(cellY, capacity);
+            cellSize = Arrays.copyOf(cellSize, capacity);
+            centerX = Arrays.copyOf(centerX, capacity);
+            centerY = Arrays.copyOf(centerY, capacity);
+            cellPriority = Arrays.copyOf(cellPriority, capacity);
+            cellRadius = Arrays.copyOf(cellRadius, capacity);
+            childStart = Arrays.copyOf(childStart, capacity);
+            childCount = Arrays.copyOf(childCount, capacity);
+            rangeStart = Arrays.copyOf(rangeStart, capacity);
+            rangeEnd = Arrays.copyOf(rangeEnd, capacity);
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////
+    // Force Computation
+
+    private void addRepulsiveDisplacement(final int i) {
+        KVector displacement = particles[i].getDisplacement();
+
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int cell = stack[--top];
+
+            if (childCount[cell] == 0) {
+                // leaves are computed exactly
+                for (int k = rangeStart[cell]; k < rangeEnd[cell]; k++) {
+                    int j = order[k];
+                    if (j != i) {
+                        addRepulsion(j, i, displacement);
+                    }
+                }
+                continue;
+            }
+
+            double dx = x[i] - centerX[cell];
+            double dy = y[i] - centerY[cell];
+            double length = Math.sqrt(dx * dx + dy * dy);
+            if (length > 0 && cellSize[cell] < theta * length && !contains(cell, i)) {
+                // the cell is far enough away to be regarded as a single particle
+                double d = Math.max(0, length - cellRadius[cell] - radius[i]);
+                double force = model.calcForce(d, 0, cellPriority[cell]);
+                displacement.x += dx * force / length;
+                displacement.y += dy * force / length;
+            } else {
+                if (top + childCount[cell] > stack.length) {
+                    stack = Arrays.copyOf(stack, 2 * stack.length);
+                }
+                for (int c = childStart[cell]; c < childStart[cell] + childCount[cell]; c++) {
+                    stack[top++] = c;
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the repulsive force particle {@code j} exerts on particle {@code i} to the given displacement.
+     */
+    private void addRepulsion(final int j, final int i, final KVector displacement) {
+        if (x[i] == x[j] && y[i] == y[j]) {
+            AbstractForceModel.avoidSamePosition(random, particles[j], particles[i]);
+            KVector posI = particles[i].getPosition();
+            KVector posJ = particles[j].getPosition();
+            x[i] = posI.x;
+            y[i] = posI.y;
+            x[j] = posJ.x;
+            y[j] = posJ.y;
+        }
+
+        double dx = x[i] - x[j];
+        double dy = y[i] - y[j];
+        double length = Math.sqrt(dx * dx + dy * dy);
+        double d = Math.max(0, length - radius[j] - radius[i]);
+        double force = model.calcForce(d, 0, priority[j]);
+        displacement.x += dx * force / length;
+        displacement.y += dy * force / length;
+    }
+
+    private boolean contains(final int cell, final int i) {
+        return x[i] >= cellX[cell] && x[i] <= cellX[cell] + cellSize[cell]
+                && y[i] >= cellY[cell] && y[i] <= cellY[cell] + cellSize[cell];
+    }
+
+}
@@ -54,13 +54,8 @@ public final class EadesModel extends AbstractForceModel {
         double d = Math.max(0, length - forcer.getRadius() - forcee.getRadius());
         
         // calculate attractive or repulsive force, depending of adjacency
-        double force;
         int connection = getGraph().getConnection(forcer, forcee);
-        if (connection > 0) {
-            force = -attractive(d, springLength) * connection;
-        } else {
-            force = repulsive(d, repulsionFactor) * forcer.getProperty(ForceOptions.PRIORITY);
-        }
+        double force = calcForce(d, connection, forcer.getProperty(ForceOptions.PRIORITY));
 
         // scale distance vector to the amount of repulsive forces
         displacement.scale(force / length);
@@ -68,6 +63,15 @@ public final class EadesModel extends AbstractForceModel {
         return displacement;
     }
     
+    @Override
+    protected double calcForce(final double distance, final int connection, final double priority) {
+        if (connection > 0) {
+            return -attractive(distance, springLength) * connection;
+        } else {
+            return repulsive(distance, repulsionFactor) * priority;
+        }
+    }
+    
     /**
      * Compute repulsion force between the forcee and the forcer.
      *
@@ -69,21 +69,28 @@ public final class FruchtermanReingoldModel extends AbstractForceModel {
         double length = displacement.length();
         double d = Math.max(0, length - forcer.getRadius() - forcee.getRadius());
         
-        // calculate repulsive force, independent of adjacency
-        double force = repulsive(d, k) * forcer.getProperty(ForceOptions.PRIORITY);
-        
-        // calculate attractive force, depending of adjacency
         int connection = getGraph().getConnection(forcer, forcee);
-        if (connection > 0) {
-            force -= attractive(d, k) * connection;
-        }
+        double force = calcForce(d, connection, forcer.getProperty(ForceOptions.PRIORITY));
 
         // scale distance vector to the amount of repulsive forces
-        displacement.scale(force * temperature / length);
+        displacement.scale(force / length);
 
         return displacement;
     }
     
+    @Override
+    protected double calcForce(final double distance, final int connection, final double priority) {
+        // calculate repulsive force, independent of adjacency
+        double force = repulsive(distance, k) * priority;
+        
+        // calculate attractive force, depending of adjacency
+        if (connection > 0) {
+            force -= attractive(distance, k) * connection;
+        }
+        
+        return force * temperature;
+    }
+    
     @Override
     protected void iterationDone() {
         super.iterationDone();
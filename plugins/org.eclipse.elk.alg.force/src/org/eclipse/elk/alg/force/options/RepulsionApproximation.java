@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.options;
+
+/**
+ * Enumeration of the ways repulsive forces between particles can be computed.
+ */
+public enum RepulsionApproximation {
+    
+    /** compute the repulsive forces between all pairs of particles. */
+    EXACT,
+    /** approximate the repulsive forces of distant particles with a quadtree. */
+    BARNES_HUT;
+
+}
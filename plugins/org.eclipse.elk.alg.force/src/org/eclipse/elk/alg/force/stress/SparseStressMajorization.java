@@ -0,0 +1,715 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.stress;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.IntConsumer;
+// elkjs-exclude-start
+import java.util.stream.IntStream;
+// elkjs-exclude-end
+
+import org.eclipse.elk.alg.force.graph.FEdge;
+import org.eclipse.elk.alg.force.graph.FGraph;
+import org.eclipse.elk.alg.force.graph.FNode;
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressMajorization.Dimension;
+
+/**
+ * Sparse variant of stress majorization for large graphs as described by Ortmann, Klimenta, and Brandes.
+ * <ul><li>
+ * Mark Ortmann, Mirza Klimenta, and Ulrik Brandes. A sparse stress model. <em>Journal of Graph Algorithms and
+ * Applications</em>, 21(5), 2017.
+ * </li><li>
+ * Ulrik Brandes and Christian Pich. Eigensolver methods for progressive multidimensional scaling of large data.
+ * <em>Graph Drawing</em>, 2006.
+ * </li></ul>
+ *
+ * Instead of the stress between all pairs of nodes, only the stress between a node and the nodes of its
+ * {@link StressOptions#SPARSE_NEIGHBORHOOD k-hop neighborhood} is considered exactly. All other nodes are represented
+ * by a fixed number of {@link StressOptions#PIVOTS pivots}, each one weighted by the number of nodes closest to it.
+ * Thus, only the shortest paths from the pivots have to be computed, which requires O(n&middot;k) time and memory
+ * instead of O(n&sup2;).
+ *
+ * <p>If the graph is not laid out interactively, the initial positions are computed by pivot MDS from the very same
+ * distances. Contrary to {@link StressMajorization}, all nodes are moved simultaneously in each iteration, that is,
+ * new positions are computed from the positions of the previous iteration only. This allows to compute the new
+ * positions in parallel while the result does not depend on the number of threads. Since the stress may increase
+ * then, an iteration that increases the stress is undone and ends the process.</p>
+ */
+public class SparseStressMajorization {
+
+    /** Maximal number of iterations of the power iteration computing the initial layout. */
+    private static final int POWER_ITERATIONS = 100;
+    /** Convergence threshold of the power iteration. */
+    private static final double POWER_EPSILON = 1e-9;
+    /** Minimal number of nodes for which nodes are processed in parallel. */
+    private static final int PARALLEL_THRESHOLD = 256;
+    /** Amount of random displacement, relative to the desired edge length, applied to the initial layout. */
+    private static final double JITTER = 1e-3;
+
+    /** The graph do be laid out, should be connected. */
+    private FGraph graph;
+    /** Number of nodes of the graph. */
+    private int n;
+
+    /** Current positions of the nodes. */
+    private double[] x;
+    private double[] y;
+    /** Positions of the next iteration. */
+    private double[] nextX;
+    private double[] nextY;
+    /** Whether a node may be moved. */
+    private boolean[] fixed;
+
+    /* Adjacency of the nodes in compressed form; the neighbors of node i are stored in [adjStart[i], adjStart[i+1]). */
+    private int[] adjStart;
+    private int[] adjNode;
+    private double[] adjLength;
+
+    /** Nodes whose stress towards a node is considered, for each node. */
+    private int[][] termNode;
+    /** Target distances of the terms of each node. */
+    private double[][] termDistance;
+    /** Weights of the terms of each node. */
+    private double[][] termWeight;
+
+    /** Common desired edge length, can be overridden by individual edges. */
+    private double desiredEdgeLength;
+    /** Dimensions to consider during layout. */
+    private Dimension dim;
+    /** Epsilon for terminating the stress minimizing process. */
+    private double epsilon;
+    /** Maximum number of iterations (overrides the {@link #epsilon}). */
+    private int iterationLimit;
+
+
+    /**
+     * Initialize all internal structures that are required for the subsequent iterative procedure. Unless the graph
+     * is laid out interactively, this includes computing initial node positions.
+     *
+     * @param fgraph the graph to be laid out.
+     */
+    public void initialize(final FGraph fgraph) {
+        this.graph = fgraph;
+        this.n = fgraph.getNodes().size();
+        if (n <= 1) {
+            return;
+        }
+
+        this.dim = graph.getProperty(StressOptions.DIMENSION);
+        this.iterationLimit = graph.getProperty(StressOptions.ITERATION_LIMIT);
+        this.epsilon = graph.getProperty(StressOptions.EPSILON);
+        this.desiredEdgeLength = graph.getProperty(StressOptions.DESIRED_EDGE_LENGTH);
+
+        List<FNode> nodes = graph.getNodes();
+        x = new double[n];
+        y = new double[n];
+        nextX = new double[n];
+        nextY = new double[n];
+        fixed = new boolean[n];
+        for (FNode node : nodes) {
+            x[node.id] = node.getPosition().x;
+            y[node.id] = node.getPosition().y;
+            // note that we do not use 'NO_LAYOUT' here, see StressMajorization
+            fixed[node.id] = node.getProperty(StressOptions.FIXED);
+        }
+
+        buildAdjacency();
+
+        // shortest paths from the pivots
+        int k = Math.min(n, graph.getProperty(StressOptions.PIVOTS));
+        int[] pivots = new int[k];
+        double[][] pivotDistance = new double[k][];
+        selectPivots(pivots, pivotDistance);
+
+        // each pivot represents the nodes that are closer to it than to any other pivot
+        int[] region = new int[n];
+        double[] closest = new double[n];
+        Arrays.fill(closest, Double.POSITIVE_INFINITY);
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                if (pivotDistance[p][i] < closest[i]) {
+                    closest[i] = pivotDistance[p][i];
+                    region[i] = p;
+                }
+            }
+        }
+        int[] regionSize = new int[k];
+        for (int i = 0; i < n; i++) {
+            regionSize[region[i]]++;
+        }
+
+        int hops = graph.getProperty(StressOptions.SPARSE_NEIGHBORHOOD);
+        termNode = new int[n][];
+        termDistance = new double[n][];
+        termWeight = new double[n][];
+        forEachNode(i -> computeTerms(i, hops, pivots, pivotDistance, regionSize));
+
+        if (!graph.getProperty(StressOptions.INTERACTIVE)) {
+            pivotMds(pivotDistance);
+        }
+    }
+
+    /**
+     * Execute the stress-minimizing iteration until a termination criterion is reached.
+     */
+    public void execute() {
+        if (n <= 1) {
+            return;
+        }
+
+        int count = 0;
+        double prevStress = computeStress();
+        double curStress = Double.POSITIVE_INFINITY;
+
+        do {
+            if (count > 0) {
+                prevStress = curStress;
+            }
+
+            forEachNode(this::computeNewPosition);
+            double[] swap = x;
+            x = nextX;
+            nextX = swap;
+            swap = y;
+            y = nextY;
+            nextY = swap;
+
+            curStress = computeStress();
+
+            if (curStress > prevStress) {
+                // moving all nodes at once made things worse, hence we go back to the previous positions and stop
+                swap = x;
+                x = nextX;
+                nextX = swap;
+                swap = y;
+                y = nextY;
+                nextY = swap;
+                break;
+            }
+
+        } while (!done(count++, prevStress, curStress));
+
+        for (FNode node : graph.getNodes()) {
+            node.getPosition().set(x[node.id], y[node.id]);
+        }
+    }
+
+    /**
+     * Runs the given action for each node index, in parallel if the graph is large enough. Actions may only write to
+     * data of the node they are called for.
+     */
+    private void forEachNode(final IntConsumer action) {
+        // elkjs-exclude-start
+        if (n >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, n).parallel().forEach(action);
+            return;
+        }
+        // elkjs-exclude-end
+        for (int i = 0; i < n; i++) {
+            action.accept(i);
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////
+    // Distances
+
+    private void buildAdjacency() {
+        adjStart = new int[n + 1];
+        for (FEdge edge : graph.getEdges()) {
+            adjStart[edge.getSource().id + 1]++;
+            adjStart[edge.getTarget().id + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            adjStart[i + 1] += adjStart[i];
+        }
+
+        adjNode = new int[adjStart[n]];
+        adjLength = new double[adjStart[n]];
+        int[] next = Arrays.copyOf(adjStart, n);
+        for (FEdge edge : graph.getEdges()) {
+            double length = edge.hasProperty(StressOptions.DESIRED_EDGE_LENGTH)
+                    ? edge.getProperty(StressOptions.DESIRED_EDGE_LENGTH)
+                    : desiredEdgeLength;
+            int s = edge.getSource().id;
+            int t = edge.getTarget().id;
+            adjNode[next[s]] = t;
+            adjLength[next[s]++] = length;
+            adjNode[next[t]] = s;
+            adjLength[next[t]++] = length;
+        }
+    }
+
+    /**
+     * Selects pivots by max/min selection: the first pivot is the first node, each further pivot is the node
+     * farthest away from all pivots selected so far.
+     */
+    private void selectPivots(final int[] pivots, final double[][] pivotDistance) {
+        double[] minDistance = new double[n];
+        Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+
+        int pivot = 0;
+        for (int p = 0; p < pivots.length; p++) {
+            pivots[p] = pivot;
+            pivotDistance[p] = dijkstra(pivot);
+
+            int farthest = 0;
+            for (int i = 0; i < n; i++) {
+                minDistance[i] = Math.min(minDistance[i], pivotDistance[p][i]);
+                if (minDistance[i] > minDistance[farthest]) {
+                    farthest = i;
+                }
+            }
+            pivot = farthest;
+        }
+    }
+
+    /**
+     * Dijkstra's single source shortest path algorithm.
+     */
+    private double[] dijkstra(final int source) {
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        dist[source] = 0;
+
+        // queue entries are never updated; outdated entries are skipped when they are polled
+        PriorityQueue<QueueEntry> queue = new PriorityQueue<>();
+        queue.add(new QueueEntry(source, 0));
+        while (!queue.isEmpty()) {
+            QueueEntry entry = queue.poll();
+            int u = entry.node;
+            if (entry.distance > dist[u]) {
+                continue;
+            }
+            for (int a = adjStart[u]; a < adjStart[u + 1]; a++) {
+                int v = adjNode[a];
+                double d = dist[u] + adjLength[a];
+                if (d < dist[v]) {
+                    dist[v] = d;
+                    queue.add(new QueueEntry(v, d));
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Collects the stress terms of node {@code i}. The nodes within the given number of hops contribute with their
+     * shortest path distance (using at most that many edges), all remaining nodes are represented by the pivots.
+     */
+    private void computeTerms(final int i, final int hops, final int[] pivots, final double[][] pivotDistance,
+            final int[] regionSize) {
+
+        // hop-bounded Bellman-Ford, only relaxing edges of nodes improved in the previous round
+        NeighborhoodDistances dist = new NeighborhoodDistances();
+        dist.improve(i, 0, 0);
+        int[] frontier = { i };
+        int[] improved = new int[Math.max(1, adjStart[i + 1] - adjStart[i])];
+        for (int h = 1; h <= hops && frontier.length > 0; h++) {
+            int improvedCount = 0;
+            for (int u : frontier) {
+                double du = dist.get(u);
+                for (int a = adjStart[u]; a < adjStart[u + 1]; a++) {
+                    // nodes improved several times in a round are recorded only once
+                    if (dist.improve(adjNode[a], du + adjLength[a], h)) {
+                        if (improvedCount == improved.length) {
+                            improved = Arrays.copyOf(improved, 2 * improved.length);
+                        }
+                        improved[improvedCount++] = adjNode[a];
+                    }
+                }
+            }
+            frontier = Arrays.copyOf(improved, improvedCount);
+            Arrays.sort(frontier);
+        }
+
+        int[] neighbors = dist.nodes();
+        Arrays.sort(neighbors);
+        int pivotTerms = 0;
+        for (int p : pivots) {
+            if (!dist.contains(p)) {
+                pivotTerms++;
+            }
+        }
+
+        // the node itself is among the neighbors, but not among its terms
+        int size = neighbors.length - 1 + pivotTerms;
+        int[] nodes = new int[size];
+        double[] distances = new double[size];
+        double[] weights = new double[size];
+        int t = 0;
+        for (int v : neighbors) {
+            if (v != i) {
+                double d = dist.get(v);
+                nodes[t] = v;
+                distances[t] = d;
+                weights[t++] = 1.0 / (d * d);
+            }
+        }
+        for (int p = 0; p < pivots.length; p++) {
+            int v = pivots[p];
+            if (!dist.contains(v)) {
+                double d = pivotDistance[p][i];
+                nodes[t] = v;
+                distances[t] = d;
+                weights[t++] = regionSize[p] / (d * d);
+            }
+        }
+
+        termNode[i] = nodes;
+        termDistance[i] = distances;
+        termWeight[i] = weights;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////
+    // Initial Layout
+
+    /**
+     * Computes initial positions by pivot MDS: the double-centered matrix of squared distances between the nodes and
+     * the pivots is projected onto the two eigenvectors of its product with itself that belong to the largest
+     * eigenvalues. The layout is scaled to best fit the target distances afterwards.
+     */
+    private void pivotMds(final double[][] pivotDistance) {
+        int k = pivotDistance.length;
+
+        // double centering
+        double[][] c = new double[k][n];
+        double[] rowMean = new double[n];
+        double[] colMean = new double[k];
+        double mean = 0;
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                double sq = pivotDistance[p][i] * pivotDistance[p][i];
+                c[p][i] = sq;
+                rowMean[i] += sq / k;
+                colMean[p] += sq / n;
+                mean += sq / ((double) n * k);
+            }
+        }
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                c[p][i] = -0.5 * (c[p][i] - rowMean[i] - colMean[p] + mean);
+            }
+        }
+
+        // c^T c
+        double[][] ctc = new double[k][k];
+        for (int p = 0; p < k; p++) {
+            for (int q = p; q < k; q++) {
+                double sum = 0;
+                for (int i = 0; i < n; i++) {
+                    sum += c[p][i] * c[q][i];
+                }
+                ctc[p][q] = sum;
+                ctc[q][p] = sum;
+            }
+        }
+
+        double[] first = powerIteration(ctc, null);
+        double[] second = powerIteration(ctc, first);
+
+        double[] mdsX = new double[n];
+        double[] mdsY = new double[n];
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                mdsX[i] += c[p][i] * first[p];
+                mdsY[i] += c[p][i] * second[p];
+            }
+        }
+
+        // scale such that the weighted stress is minimal for the resulting layout
+        double numerator = 0;
+        double denominator = 0;
+        for (int i = 0; i < n; i++) {
+            for (int t = 0; t < termNode[i].length; t++) {
+                int j = termNode[i][t];
+                double dx = mdsX[i] - mdsX[j];
+                double dy = mdsY[i] - mdsY[j];
+                double dist = Math.sqrt(dx * dx + dy * dy);
+                numerator += termWeight[i][t] * termDistance[i][t] * dist;
+                denominator += termWeight[i][t] * dist * dist;
+            }
+        }
+        double scale = denominator > 0 ? numerator / denominator : 1;
+
+        // nodes with the same distances to all pivots would end up at the same position and never be separated
+        Random random = new Random(1);
+        double jitter = JITTER * desiredEdgeLength;
+        for (int i = 0; i < n; i++) {
+            x[i] = mdsX[i] * scale + (random.nextDouble() - 0.5) * jitter;
+            y[i] = mdsY[i] * scale + (random.nextDouble() - 0.5) * jitter;
+        }
+    }
+
+    /**
+     * Computes the eigenvector belonging to the largest eigenvalue of the given symmetric matrix. If an orthogonal
+     * vector is given, the result is kept orthogonal to it, yielding the eigenvector of the second largest eigenvalue.
+     */
+    private static double[] powerIteration(final double[][] matrix, final double[] orthogonal) {
+        int k = matrix.length;
+        double[] v = new double[k];
+        for (int p = 0; p < k; p++) {
+            // deterministic start vector that is unlikely to be orthogonal to an eigenvector
+            v[p] = 1.0 + (p % 2 == 0 ? p : -p) / (double) k;
+        }
+        makeOrthogonal(v, orthogonal);
+        normalize(v);
+
+        double[] next = new double[k];
+        for (int iteration = 0; iteration < POWER_ITERATIONS; iteration++) {
+            for (int p = 0; p < k; p++) {
+                double sum = 0;
+                for (int q = 0; q < k; q++) {
+                    sum += matrix[p][q] * v[q];
+                }
+                next[p] = sum;
+            }
+            makeOrthogonal(next, orthogonal);
+            if (!normalize(next)) {
+                // the matrix has no further eigenvalue larger than zero
+                break;
+            }
+
+            double change = 0;
+            for (int p = 0; p < k; p++) {
+                change += Math.abs(next[p] - v[p]);
+            }
+            System.arraycopy(next, 0, v, 0, k);
+            if (change < POWER_EPSILON) {
+                break;
+            }
+        }
+        return v;
+    }
+
+    private static void makeOrthogonal(final double[] v, final double[] orthogonal) {
+        if (orthogonal != null) {
+            double dot = 0;
+            for (int p = 0; p < v.length; p++) {
+                dot += v[p] * orthogonal[p];
+            }
+            for (int p = 0; p < v.length; p++) {
+                v[p] -= dot * orthogonal[p];
+            }
+        }
+    }
+
+    private static boolean normalize(final double[] v) {
+        double length = 0;
+        for (double value : v) {
+            length += value * value;
+        }
+        length = Math.sqrt(length);
+        if (length == 0) {
+            return false;
+        }
+        for (int p = 0; p < v.length; p++) {
+            v[p] /= length;
+        }
+        return true;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////
+    // Stress Majorization
+
+    /**
+     * Done if either stress improvement is small than {@link StressOptions#EPSILON} or the
+     * {@link StressOptions#ITERATION_LIMIT} is reached.
+     */
+    private boolean done(final int count, final double prevStress, final double curStress) {
+        return prevStress == 0
+            || (((prevStress - curStress) / prevStress) < epsilon)
+            || (count >= iterationLimit);
+    }
+
+    /**
+     * @return the sparse stress of the current node positioning.
+     */
+    private double computeStress() {
+        double[] stress = new double[n];
+        forEachNode(i -> {
+            double sum = 0;
+            for (int t = 0; t < termNode[i].length; t++) {
+                int j = termNode[i][t];
+                double dx = x[i] - x[j];
+                double dy = y[i] - y[j];
+                double eucDisplacement = Math.sqrt(dx * dx + dy * dy) - termDistance[i][t];
+                sum += termWeight[i][t] * eucDisplacement * eucDisplacement;
+            }
+            stress[i] = sum;
+        });
+
+        // sum up sequentially such that the result does not depend on the number of threads
+        double sum = 0;
+        for (double s : stress) {
+            sum += s;
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the next position of node {@code i} from the current positions of all nodes and stores it in
+     * {@link #nextX} and {@link #nextY}.
+     */
+    private void computeNewPosition(final int i) {
+        nextX[i] = x[i];
+        nextY[i] = y[i];
+        if (fixed[i]) {
+            return;
+        }
+
+        double weightSum = 0;
+        double xDisp = 0;
+        double yDisp = 0;
+        for (int t = 0; t < termNode[i].length; t++) {
+            int j = termNode[i][t];
+            double wij = termWeight[i][t];
+            weightSum += wij;
+
+            double dx = x[i] - x[j];
+            double dy = y[i] - y[j];
+            double eucDist = Math.sqrt(dx * dx + dy * dy);
+            if (eucDist > 0) {
+                xDisp += wij * (x[j] + termDistance[i][t] * dx / eucDist);
+                yDisp += wij * (y[j] + termDistance[i][t] * dy / eucDist);
+            }
+        }
+
+        if (weightSum == 0) {
+            return;
+        }
+        if (dim != Dimension.Y) {
+            nextX[i] = xDisp / weightSum;
+        }
+        if (dim != Dimension.X) {
+            nextY[i] = yDisp / weightSum;
+        }
+    }
+
+    /**
+     * Distances from a node to the nodes of its neighborhood, held in an open addressing hash table since the
+     * neighborhoods are small compared to the graph.
+     */
+    private static final class NeighborhoodDistances {
+        /** Marks an empty slot of {@link #keys}. */
+        private static final int EMPTY = -1;
+
+        /** The nodes, or {@link #EMPTY}. */
+        private int[] keys = new int[16];
+        /** The distance of each node. */
+        private double[] distances = new double[keys.length];
+        /** The last round in which the distance of each node was improved. */
+        private int[] rounds = new int[keys.length];
+        /** Number of nodes in the table. */
+        private int size;
+
+        NeighborhoodDistances() {
+            Arrays.fill(keys, EMPTY);
+        }
+
+        /**
+         * Sets the distance of the given node if it is not known yet or larger.
+         *
+         * @return whether the distance was improved and had not been improved in the given round before
+         */
+        boolean improve(final int node, final double distance, final int round) {
+            int slot = slot(node);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = node;
+                distances[slot] = distance;
+                rounds[slot] = round;
+                if (++size > keys.length / 2) {
+                    grow();
+                }
+                return true;
+            } else if (distance < distances[slot]) {
+                distances[slot] = distance;
+                boolean first = rounds[slot] != round;
+                rounds[slot] = round;
+                return first;
+            }
+            return false;
+        }
+
+        boolean contains(final int node) {
+            return keys[slot(node)] != EMPTY;
+        }
+
+        double get(final int node) {
+            return distances[slot(node)];
+        }
+
+        /**
+         * Returns the nodes in the table, in no particular order.
+         */
+        int[] nodes() {
+            int[] nodes = new int[size];
+            int i = 0;
+            for (int key : keys) {
+                if (key != EMPTY) {
+                    nodes[i++] = key;
+                }
+            }
+            return nodes;
+        }
+
+        private int slot(final int node) {
+            int mask = keys.length - 1;
+            int hash = node * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != node) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            double[] oldDistances = distances;
+            int[] oldRounds = rounds;
+            keys = new int[2 * oldKeys.length];
+            distances = new double[keys.length];
+            rounds = new int[keys.length];
+            Arrays.fill(keys, EMPTY);
+            for (int s = 0; s < oldKeys.length; s++) {
+                if (oldKeys[s] != EMPTY) {
+                    int slot = slot(oldKeys[s]);
+                    keys[slot] = oldKeys[s];
+                    distances[slot] = oldDistances[s];
+                    rounds[slot] = oldRounds[s];
+                }
+            }
+        }
+    }
+
+    /**
+     * Entry of the priority queue used by {@link SparseStressMajorization#dijkstra(int)}.
+     */
+    private static final class QueueEntry implements Comparable<QueueEntry> {
+        private final int node;
+        private final double distance;
+
+        QueueEntry(final int node, final double distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(final QueueEntry other) {
+            return Double.compare(distance, other.distance);
+        }
+    }
+}
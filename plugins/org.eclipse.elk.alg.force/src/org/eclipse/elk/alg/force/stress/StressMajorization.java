@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Kiel University and others.
+ * Copyright (c) 2016, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.function.IntConsumer;
+// elkjs-exclude-start
+import java.util.stream.IntStream;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.force.graph.FEdge;
 import org.eclipse.elk.alg.force.graph.FGraph;
@@ -32,9 +36,17 @@ import com.google.common.collect.Multimap;
  * The implementation supports performing a layout in one dimension only, preserving the coordinates of the other
  * dimension. For this, set {@link StressOptions#DIMENSION} to either {@link Dimension#X} or {@link Dimension#Y}.
  * Furthermore, nodes can be fixed using the {@link StressOptions#FIXED} option.
+ * 
+ * <p>Nodes are moved one after another, each one with respect to the current positions of all other nodes. If
+ * {@link StressOptions#SIMULTANEOUS_UPDATE} is set, all nodes are moved at once with respect to the positions of the
+ * previous iteration instead, which allows to compute the new positions of large graphs in parallel. Since the stress
+ * may increase then, an iteration that increases the stress is undone and ends the process.</p>
  */
 public class StressMajorization {
 
+    /** Minimal number of nodes for which the positions and the stress are computed in parallel. */
+    private static final int PARALLEL_THRESHOLD = 256;
+
     /** The graph do be laid out, should be connected. */
     private FGraph graph;
 
@@ -51,6 +63,8 @@ public class StressMajorization {
     private double epsilon;
     /** Maximum number of iterations (overrides the {@link #epsilon}). */
     private int iterationLimit;
+    /** Whether all nodes are moved at once in each iteration. */
+    private boolean simultaneous;
 
     private Multimap<FNode, FEdge> connectedEdges = LinkedListMultimap.create();
 
@@ -71,6 +85,7 @@ public class StressMajorization {
         this.iterationLimit = graph.getProperty(StressOptions.ITERATION_LIMIT);
         this.epsilon = graph.getProperty(StressOptions.EPSILON);
         this.desiredEdgeLength = graph.getProperty(StressOptions.DESIRED_EDGE_LENGTH);
+        this.simultaneous = graph.getProperty(StressOptions.SIMULTANEOUS_UPDATE);
         
         connectedEdges.clear();
         for (FEdge edge : graph.getEdges()) {
@@ -104,6 +119,9 @@ public class StressMajorization {
             return;
         }
         
+        List<FNode> nodes = graph.getNodes();
+        KVector[] positions = new KVector[nodes.size()];
+        
         int count = 0;
         double prevStress = computeStress();
         double curStress = Double.POSITIVE_INFINITY;
@@ -113,24 +131,69 @@ public class StressMajorization {
                 prevStress = curStress;
             }
 
-            for (FNode u : graph.getNodes()) {
-
-                // note that we do not use 'NO_LAYOUT' here,
-                // since that option results in the node already
-                // being excluded by the layout engine
-                if (u.getProperty(StressOptions.FIXED)) {
-                    continue;
+            if (simultaneous) {
+                // compute the new positions from the current ones, keeping those in case the stress increases
+                forEachNode(i -> positions[i] = isFixed(nodes.get(i)) ? null : computeNewPosition(nodes.get(i)));
+                for (int i = 0; i < positions.length; i++) {
+                    if (positions[i] != null) {
+                        KVector position = nodes.get(i).getPosition();
+                        double x = position.x;
+                        double y = position.y;
+                        position.set(positions[i]);
+                        positions[i].set(x, y);
+                    }
+                }
+            } else {
+                for (FNode u : nodes) {
+                    if (!isFixed(u)) {
+                        KVector newPos = computeNewPosition(u);
+                        u.getPosition().reset().add(newPos);
+                    }
                 }
-
-                KVector newPos = computeNewPosition(u);
-                u.getPosition().reset().add(newPos);
             }
 
             curStress = computeStress();
             
+            if (simultaneous && curStress > prevStress) {
+                // moving all nodes at once made things worse, hence we go back to the previous positions and stop
+                for (int i = 0; i < positions.length; i++) {
+                    if (positions[i] != null) {
+                        nodes.get(i).getPosition().set(positions[i]);
+                    }
+                }
+                break;
+            }
+            
         } while (!done(count++, prevStress, curStress));
     }
 
+    /**
+     * Whether the given node may not be moved.
+     */
+    private static boolean isFixed(final FNode u) {
+        // note that we do not use 'NO_LAYOUT' here,
+        // since that option results in the node already
+        // being excluded by the layout engine
+        return u.getProperty(StressOptions.FIXED);
+    }
+
+    /**
+     * Runs the given action for the index of each node, in parallel if the graph is large enough. Actions may only
+     * write data of the node they are called for.
+     */
+    private void forEachNode(final IntConsumer action) {
+        int n = graph.getNodes().size();
+        // elkjs-exclude-start
+        if (n >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, n).parallel().forEach(action);
+            return;
+        }
+        // elkjs-exclude-end
+        for (int i = 0; i < n; i++) {
+            action.accept(i);
+        }
+    }
+
     /**
      * Performs Dijkstra's all pairs shortest path algorithm.
      */
@@ -189,21 +252,41 @@ public class StressMajorization {
      * @return the stress value of the current node positioning.
      */
     private double computeStress() {
+        int n = graph.getNodes().size();
         double stress = 0;
-        List<FNode> nodes = graph.getNodes();
-        // we know 'nodes' is an arraylist
-        for (int i = 0; i < nodes.size(); ++i) {
-            FNode u = nodes.get(i);
-            for (int j = i + 1; j < nodes.size(); ++j) {
-                FNode v = nodes.get(j);
-                double eucDist = u.getPosition().distance(v.getPosition());
-                double eucDisplacement = eucDist - apsp[u.id][v.id];
-                stress += w[u.id][v.id] * eucDisplacement * eucDisplacement;
+        if (simultaneous) {
+            double[] rowStress = new double[n];
+            forEachNode(i -> rowStress[i] = addStress(i, 0));
+            
+            // sum up sequentially such that the result does not depend on the number of threads
+            for (double s : rowStress) {
+                stress += s;
+            }
+        } else {
+            for (int i = 0; i < n; ++i) {
+                stress = addStress(i, stress);
             }
         }
         return stress;
     }
 
+    /**
+     * Adds the stress between the node at the given index and all subsequent nodes to the given stress value.
+     */
+    private double addStress(final int i, final double stress) {
+        List<FNode> nodes = graph.getNodes();
+        // we know 'nodes' is an arraylist
+        FNode u = nodes.get(i);
+        double sum = stress;
+        for (int j = i + 1; j < nodes.size(); ++j) {
+            FNode v = nodes.get(j);
+            double eucDist = u.getPosition().distance(v.getPosition());
+            double eucDisplacement = eucDist - apsp[u.id][v.id];
+            sum += w[u.id][v.id] * eucDisplacement * eucDisplacement;
+        }
+        return sum;
+    }
+
     /**
      * Computes a new position for the passed node. The procedure is described in
      * <em>Section 2.3 Localized optimization</em> of the paper.
@@ -16,7 +16,17 @@ import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Random;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.components.ComponentsProcessor;
 import org.eclipse.elk.alg.layered.compound.CompoundGraphPostprocessor;
@@ -43,6 +53,9 @@ import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.ElkUtil;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.core.util.Pair;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.WrappedException;
+// elkjs-exclude-end
 
 /**
  * The main entry point into ELK Layered. ELK Layered is a layout algorithm after the layered
@@ -114,6 +127,10 @@ public final class ElkLayered {
     private final CompoundGraphPostprocessor compoundGraphPostprocessor = new CompoundGraphPostprocessor();
     /** Test controller for a white box test. */
     private TestController testController = null;
+    // elkjs-exclude-start
+    /** executor for parallel component layout; {@code null} if the common fork-join pool is to be used. */
+    private ExecutorService componentExecutor = null;
+    // elkjs-exclude-end
 
 
     ////////////////////////////////////////////////////////////////////////////////
@@ -143,13 +160,26 @@ public final class ElkLayered {
             // Execute layout on the sole component using the top-level progress monitor
             layout(components.get(0), theMonitor);
         } else {
-            // Execute layout on each component using a progress monitor subtask
-            float compWork = 1.0f / components.size();
-            for (LGraph comp : components) {
-                if (monitor.isCanceled()) {
+            boolean laidOutInParallel = false;
+            // elkjs-exclude-start
+            if (lgraph.getProperty(LayeredOptions.PARALLEL_COMPONENT_LAYOUT) && testController == null) {
+                layoutComponentsInParallel(lgraph, components, theMonitor);
+                if (theMonitor.isCanceled()) {
                     return;
                 }
-                layout(comp, theMonitor.subTask(compWork));
+                laidOutInParallel = true;
+            }
+            // elkjs-exclude-end
+            
+            if (!laidOutInParallel) {
+                // Execute layout on each component using a progress monitor subtask
+                float compWork = 1.0f / components.size();
+                for (LGraph comp : components) {
+                    if (monitor.isCanceled()) {
+                        return;
+                    }
+                    layout(comp, theMonitor.subTask(compWork));
+                }
             }
         }
         componentsProcessor.combine(components, lgraph);
@@ -161,6 +191,78 @@ public final class ElkLayered {
     }
 
 
+    // elkjs-exclude-start
+    /**
+     * Sets the executor used to lay out connected components concurrently if
+     * {@link LayeredOptions#PARALLEL_COMPONENT_LAYOUT} is enabled. The executor is not shut down by ELK Layered.
+     *
+     * @param executor the executor to use, or {@code null} to use the common fork-join pool.
+     */
+    public void setComponentExecutor(final ExecutorService executor) {
+        this.componentExecutor = executor;
+    }
+
+    /**
+     * Lays out the given connected components concurrently. The components are configured as the graph they were
+     * split from, but each one gets a copy of its processors such that no two workers ever share processor instances.
+     * Since a component's configuration may depend on the size of the graph, as whether greedy switch is active does,
+     * the copies are assembled for the graph instead of configuring each component anew. Furthermore, each component
+     * is assigned a random number generator seeded from the parent graph's generator in component order. Processors,
+     * seeds and progress monitor sub-tasks are created upfront on the calling thread, which makes the result
+     * independent of the number of threads and of the order in which components finish.
+     *
+     * @param lgraph the graph the components were split from
+     * @param components the connected components to be laid out
+     * @param monitor the progress monitor to create one sub-task per component in
+     */
+    private void layoutComponentsInParallel(final LGraph lgraph, final List<LGraph> components,
+            final IElkProgressMonitor monitor) {
+        
+        Random random = lgraph.getProperty(InternalProperties.RANDOM);
+        float compWork = 1.0f / components.size();
+
+        List<Callable<Void>> tasks = new ArrayList<>(components.size());
+        for (LGraph comp : components) {
+            comp.setProperty(InternalProperties.PROCESSORS, new GraphConfigurator().assembleProcessors(lgraph));
+            comp.setProperty(InternalProperties.RANDOM, new Random(random.nextLong()));
+            final IElkProgressMonitor compMonitor = monitor.subTask(compWork);
+            tasks.add(() -> {
+                if (!monitor.isCanceled()) {
+                    layout(comp, compMonitor);
+                }
+                return null;
+            });
+        }
+        
+        ExecutorService executor = componentExecutor != null ? componentExecutor : ForkJoinPool.commonPool();
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Void> task : tasks) {
+            futures.add(completionService.submit(task));
+        }
+        
+        // Wait for the components in the order they finish; the first failure cancels the remaining ones
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                completionService.take().get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new WrappedException("Interrupted during parallel component layout.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new WrappedException(e.getCause());
+        }
+    }
+    // elkjs-exclude-end
+
+
     ////////////////////////////////////////////////////////////////////////////////
     // Compound Graph Layout
 
@@ -179,16 +281,12 @@ public final class ElkLayered {
         theMonitor.begin("Layered layout", 2); // SUPPRESS CHECKSTYLE MagicNumber
 
         // Preprocess the compound graph by splitting cross-hierarchy edges
-        notifyProcessorReady(lgraph, compoundGraphPreprocessor);
-        compoundGraphPreprocessor.process(lgraph, theMonitor.subTask(1));
-        notifyProcessorFinished(lgraph, compoundGraphPreprocessor);
+        executeProcessor(compoundGraphPreprocessor, lgraph, theMonitor.subTask(1));
 
         hierarchicalLayout(lgraph, theMonitor.subTask(1));
 
         // Postprocess the compound graph by combining split cross-hierarchy edges
-        notifyProcessorReady(lgraph, compoundGraphPostprocessor);
-        compoundGraphPostprocessor.process(lgraph, theMonitor.subTask(1));
-        notifyProcessorFinished(lgraph, compoundGraphPostprocessor);
+        executeProcessor(compoundGraphPostprocessor, lgraph, theMonitor.subTask(1));
 
         theMonitor.done();
     }
@@ -249,9 +347,7 @@ public final class ElkLayered {
                         }
                         // elkjs-exclude-end
                         
-                        notifyProcessorReady(graph, processor);
-                        processor.process(graph, monitor.subTask(1));
-                        notifyProcessorFinished(graph, processor);
+                        executeProcessor(processor, graph, monitor.subTask(1));
                         
                         slotIndex++;
                         
@@ -265,9 +361,7 @@ public final class ElkLayered {
                         // elkjs-exclude-end
                         
                         // If processor operates on the full hierarchy, it must be executed on the root
-                        notifyProcessorReady(graph, processor);
-                        processor.process(graph, monitor.subTask(1));
-                        notifyProcessorFinished(graph, processor);
+                        executeProcessor(processor, graph, monitor.subTask(1));
                         
                         slotIndex++;
                         
@@ -559,6 +653,52 @@ public final class ElkLayered {
     }
 
 
+    ////////////////////////////////////////////////////////////////////////////////
+    // Processor Execution Listeners
+
+    /**
+     * Executes the given processor on the given graph, notifying the test controller and measuring the execution for
+     * the graph's {@link LayeredOptions#PROCESSOR_EXECUTION_LISTENER processor execution listener}, if any.
+     */
+    @SuppressWarnings("unchecked")
+    private void executeProcessor(final ILayoutProcessor<LGraph> processor, final LGraph lgraph,
+            final IElkProgressMonitor monitor) {
+        
+        notifyProcessorReady(lgraph, processor);
+        
+        IProcessorExecutionListener listener = lgraph.getProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER);
+        if (listener == null) {
+            processor.process(lgraph, monitor);
+            
+        } else {
+            int nodeCount = lgraph.getLayerlessNodes().size();
+            for (Layer layer : lgraph) {
+                nodeCount += layer.getNodes().size();
+            }
+            
+            long allocatedBytes = ThreadResourceUsage.allocatedBytes();
+            long cpuTime = ThreadResourceUsage.cpuTime();
+            long wallTime = System.nanoTime();
+            
+            processor.process(lgraph, monitor);
+            
+            wallTime = System.nanoTime() - wallTime;
+            if (cpuTime >= 0) {
+                cpuTime = ThreadResourceUsage.cpuTime() - cpuTime;
+            }
+            if (allocatedBytes >= 0) {
+                allocatedBytes = ThreadResourceUsage.allocatedBytes() - allocatedBytes;
+            }
+            
+            Class<? extends ILayoutProcessor<LGraph>> processorClass =
+                    (Class<? extends ILayoutProcessor<LGraph>>) processor.getClass();
+            listener.processorExecuted(processorClass, lgraph, nodeCount, wallTime, cpuTime, allocatedBytes);
+        }
+        
+        notifyProcessorFinished(lgraph, processor);
+    }
+
+
     ////////////////////////////////////////////////////////////////////////////////
     // Actual Layout
 
@@ -602,9 +742,7 @@ public final class ElkLayered {
             }
             // elkjs-exclude-end
             
-            notifyProcessorReady(lgraph, processor);
-            processor.process(lgraph, monitor.subTask(monitorProgress));
-            notifyProcessorFinished(lgraph, processor);
+            executeProcessor(processor, lgraph, monitor.subTask(monitorProgress));
             
             slotIndex++;
         }
@@ -644,9 +782,7 @@ public final class ElkLayered {
     private void layoutTest(final List<LGraph> lgraphs, final ILayoutProcessor<LGraph> processor) {
         // invoke the layout processor on each of the given graphs
         for (LGraph lgraph : lgraphs) {
-            notifyProcessorReady(lgraph, processor);
-            processor.process(lgraph, new BasicProgressMonitor());
-            notifyProcessorFinished(lgraph, processor);
+            executeProcessor(processor, lgraph, new BasicProgressMonitor());
         }
     }
 
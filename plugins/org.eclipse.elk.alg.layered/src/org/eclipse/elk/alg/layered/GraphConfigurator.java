@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2020 Kiel University and others.
+ * Copyright (c) 2015, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,6 +9,7 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered;
 
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
@@ -27,6 +28,7 @@ import org.eclipse.elk.alg.layered.options.OrderingStrategy;
 import org.eclipse.elk.alg.layered.options.Spacings;
 import org.eclipse.elk.alg.layered.p5edges.EdgeRouterFactory;
 import org.eclipse.elk.core.alg.AlgorithmAssembler;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.labels.LabelManagementOptions;
 import org.eclipse.elk.core.options.Direction;
@@ -160,15 +162,34 @@ final class GraphConfigurator {
         // Make sure the graph properties are sensible
         configureGraphProperties(lgraph);
         
+        lgraph.setProperty(InternalProperties.PROCESSORS, assembleProcessors(lgraph));
+    }
+    
+    /**
+     * Assembles the phases and processors required to lay out the given graph, which must already have been prepared
+     * by {@link #prepareGraphForLayout(LGraph)}, without changing its properties. Since each configurator has
+     * processor instances of its own, this allows to obtain a copy of a graph's processors from another configurator.
+     * 
+     * @param lgraph the graph to layout.
+     * @return the phases and processors in the order in which they are to be executed.
+     */
+    public List<ILayoutProcessor<LGraph>> assembleProcessors(final LGraph lgraph) {
         // Setup the algorithm assembler
         algorithmAssembler.reset();
         
-        algorithmAssembler.setPhase(LayeredPhases.P1_CYCLE_BREAKING,
-                lgraph.getProperty(LayeredOptions.CYCLE_BREAKING_STRATEGY));
-        algorithmAssembler.setPhase(LayeredPhases.P2_LAYERING,
-                lgraph.getProperty(LayeredOptions.LAYERING_STRATEGY));
-        algorithmAssembler.setPhase(LayeredPhases.P3_NODE_ORDERING,
-                lgraph.getProperty(LayeredOptions.CROSSING_MINIMIZATION_STRATEGY));
+        if (lgraph.getProperty(InternalProperties.INCREMENTAL_LAYOUT)) {
+            // incremental layout follows the previous layout instead of the configured strategies
+            algorithmAssembler.setPhase(LayeredPhases.P1_CYCLE_BREAKING, IncrementalPhases.CYCLE_BREAKING);
+            algorithmAssembler.setPhase(LayeredPhases.P2_LAYERING, IncrementalPhases.LAYERING);
+            algorithmAssembler.setPhase(LayeredPhases.P3_NODE_ORDERING, IncrementalPhases.NODE_ORDERING);
+        } else {
+            algorithmAssembler.setPhase(LayeredPhases.P1_CYCLE_BREAKING,
+                    lgraph.getProperty(LayeredOptions.CYCLE_BREAKING_STRATEGY));
+            algorithmAssembler.setPhase(LayeredPhases.P2_LAYERING,
+                    lgraph.getProperty(LayeredOptions.LAYERING_STRATEGY));
+            algorithmAssembler.setPhase(LayeredPhases.P3_NODE_ORDERING,
+                    lgraph.getProperty(LayeredOptions.CROSSING_MINIMIZATION_STRATEGY));
+        }
         algorithmAssembler.setPhase(LayeredPhases.P4_NODE_PLACEMENT,
                 lgraph.getProperty(LayeredOptions.NODE_PLACEMENT_STRATEGY));
         algorithmAssembler.setPhase(LayeredPhases.P5_EDGE_ROUTING,
@@ -176,7 +197,7 @@ final class GraphConfigurator {
         
         algorithmAssembler.addProcessorConfiguration(getPhaseIndependentLayoutProcessorConfiguration(lgraph));
         
-        lgraph.setProperty(InternalProperties.PROCESSORS, algorithmAssembler.build(lgraph));
+        return algorithmAssembler.build(lgraph);
     }
     
     /**
@@ -219,7 +240,8 @@ final class GraphConfigurator {
         // If the graph should be laid out interactively or you really want it,
         // add the layers and positions to the nodes.
         if (lgraph.getProperty(LayeredOptions.INTERACTIVE_LAYOUT)
-                || lgraph.getProperty(LayeredOptions.GENERATE_POSITION_AND_LAYER_IDS)) {
+                || lgraph.getProperty(LayeredOptions.GENERATE_POSITION_AND_LAYER_IDS)
+                || lgraph.getProperty(InternalProperties.RECORD_INCREMENTAL_HINTS)) {
             configuration.addAfter(LayeredPhases.P5_EDGE_ROUTING, 
                     IntermediateProcessorStrategy.CONSTRAINTS_POSTPROCESSOR);
         }
@@ -333,7 +355,7 @@ final class GraphConfigurator {
      * 
      * <h3>Non-hierarchical layout</h3>
      * <ol>
-     *  <li>no interactive crossing minimization is performed</li>
+     *  <li>no interactive or incremental crossing minimization is performed</li>
      *  <li>the {@link LayeredOptions#CROSSING_MINIMIZATION_GREEDY_SWITCH_TYPE} option is set to something different 
      *      than OFF</li>
      *  <li>the activationThreshold is larger than or equal to the graph's number of nodes (or '0')</li>
@@ -357,7 +379,8 @@ final class GraphConfigurator {
         boolean interactiveCrossMin =
                 lgraph.getProperty(LayeredOptions.CROSSING_MINIMIZATION_SEMI_INTERACTIVE) 
                 || lgraph.getProperty(
-                        LayeredOptions.CROSSING_MINIMIZATION_STRATEGY) == CrossingMinimizationStrategy.INTERACTIVE;
+                        LayeredOptions.CROSSING_MINIMIZATION_STRATEGY) == CrossingMinimizationStrategy.INTERACTIVE
+                || lgraph.getProperty(InternalProperties.INCREMENTAL_LAYOUT);
         int activationThreshold =
                 lgraph.getProperty(LayeredOptions.CROSSING_MINIMIZATION_GREEDY_SWITCH_ACTIVATION_THRESHOLD);
         int graphSize = lgraph.getLayerlessNodes().size();
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+
+/**
+ * Receives measurements of each layout processor execution of {@link ElkLayered}. A listener is set on the graph to
+ * be laid out with the {@link LayeredOptions#PROCESSOR_EXECUTION_LISTENER} option, which passes it on to whichever
+ * layout provider instance lays out the graph. Listeners are meant to feed metrics systems with per-phase latencies
+ * without having to enable the logging of the progress monitor.
+ *
+ * <p>
+ * As long as no listener is set, ELK Layered does not take any measurements at all. With parallel component layout
+ * enabled or with several graphs laid out at once, listeners are notified concurrently from several threads and must
+ * thus be thread-safe. They should return quickly since they are called on the thread that performs the layout.
+ * </p>
+ */
+public interface IProcessorExecutionListener {
+
+    /**
+     * Called after a layout processor has finished processing a graph. CPU time and allocated bytes are measured for
+     * the thread that executed the processor; work the processor hands off to other threads is not included.
+     *
+     * @param processorClass
+     *            class of the layout processor that was executed.
+     * @param graph
+     *            the graph the processor was executed on. Must not be modified.
+     * @param nodeCount
+     *            number of nodes, including dummy nodes, the graph had when the processor started.
+     * @param wallTimeNanos
+     *            elapsed wall clock time in nanoseconds.
+     * @param cpuTimeNanos
+     *            CPU time in nanoseconds, or {@code -1} if the platform cannot measure it.
+     * @param allocatedBytes
+     *            number of bytes allocated on the heap, or {@code -1} if the platform cannot measure it.
+     */
+    void processorExecuted(Class<? extends ILayoutProcessor<LGraph>> processorClass, LGraph graph, int nodeCount,
+            long wallTimeNanos, long cpuTimeNanos, long allocatedBytes);
+
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
+import org.eclipse.elk.alg.layered.graph.transform.ElkGraphTransformer;
+import org.eclipse.elk.alg.layered.graph.transform.IGraphTransformer;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.options.HierarchyHandling;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Incremental layout with ELK Layered for editors that lay out the same graph over and over again after small
+ * changes. The layer and in-layer position of each node is cached per graph after each layout. Subsequent layouts of
+ * the same graph keep nodes in their previous layers and in their previous order instead of computing a new layering
+ * and running the crossing minimization sweeps:
+ * <ul>
+ *   <li>cycles are broken such that edges keep their previous direction,</li>
+ *   <li>nodes stay in their previous layer unless new edges require them to move back, and new nodes are placed
+ *     next to their neighbors,</li>
+ *   <li>each layer is sorted once by the previous positions, placing new nodes and dummy nodes at the barycenter of
+ *     their neighbors.</li>
+ * </ul>
+ * The first three phases thus take O(n log n) time. Everything else is not incremental: the graph is imported anew,
+ * and node placement and edge routing are performed on the whole graph as usual, so on large graphs these still
+ * dominate the running time of each layout. A
+ * {@link LayoutChangeSet} can tell which nodes are new and which nodes are to be repositioned within their layer
+ * since their edges changed; without one, every node not contained in the previous layout is regarded as new.
+ *
+ * <pre>
+ * IncrementalLayeredLayout incremental = new IncrementalLayeredLayout();
+ * incremental.layout(graph, monitor);
+ * // edit the graph ...
+ * incremental.layout(graph, new LayoutChangeSet().nodeAdded(node).edgeAdded(edge), monitor);
+ * </pre>
+ *
+ * <p>Only the graph's direct children are laid out, just as with {@link LayeredLayoutProvider}. Graphs with
+ * {@link HierarchyHandling#INCLUDE_CHILDREN} are always laid out from scratch. Graphs are referenced weakly such that
+ * the cached results of graphs that are no longer used are released. This class is not thread-safe.</p>
+ */
+public final class IncrementalLayeredLayout {
+
+    /** the layout algorithm. */
+    private final ElkLayered elkLayered = new ElkLayered();
+    /** layer and position of each node in the previous layout, per graph. */
+    private final Map<ElkNode, Map<ElkNode, LayoutHint>> cache = new WeakHashMap<>();
+
+    /**
+     * Lays out the given graph, following its previous layout if there is one.
+     *
+     * @param elkgraph the graph to lay out.
+     * @param progressMonitor the progress monitor.
+     */
+    public void layout(final ElkNode elkgraph, final IElkProgressMonitor progressMonitor) {
+        layout(elkgraph, null, progressMonitor);
+    }
+
+    /**
+     * Lays out the given graph, following its previous layout if there is one.
+     *
+     * @param elkgraph the graph to lay out.
+     * @param changes the changes made to the graph since its previous layout, or {@code null} if unknown.
+     * @param progressMonitor the progress monitor.
+     */
+    public void layout(final ElkNode elkgraph, final LayoutChangeSet changes,
+            final IElkProgressMonitor progressMonitor) {
+
+        IGraphTransformer<ElkNode> graphTransformer = new ElkGraphTransformer();
+        LGraph layeredGraph = graphTransformer.importGraph(elkgraph);
+
+        boolean hierarchical =
+                elkgraph.getProperty(LayeredOptions.HIERARCHY_HANDLING) == HierarchyHandling.INCLUDE_CHILDREN;
+        if (hierarchical) {
+            cache.remove(elkgraph);
+            elkLayered.doCompoundLayout(layeredGraph, progressMonitor);
+        } else {
+            Map<ElkNode, LayoutHint> hints = cache.get(elkgraph);
+            if (hints != null) {
+                setHints(layeredGraph, hints, changes);
+            }
+
+            // the resulting layers and positions are the hints for the next layout
+            layeredGraph.setProperty(InternalProperties.RECORD_INCREMENTAL_HINTS, true);
+            elkLayered.doLayout(layeredGraph, progressMonitor);
+        }
+
+        if (!progressMonitor.isCanceled()) {
+            if (!hierarchical) {
+                cache.put(elkgraph, collectHints(layeredGraph));
+            }
+            graphTransformer.applyLayout(layeredGraph);
+        }
+    }
+
+    /**
+     * Returns whether a layout of the given graph is cached that subsequent layouts will follow.
+     *
+     * @param elkgraph a graph.
+     * @return {@code true} if the next layout of the graph will be computed incrementally.
+     */
+    public boolean hasCachedLayout(final ElkNode elkgraph) {
+        return cache.containsKey(elkgraph);
+    }
+
+    /**
+     * Discards the cached layout of the given graph such that its next layout is computed from scratch.
+     *
+     * @param elkgraph a graph.
+     */
+    public void invalidate(final ElkNode elkgraph) {
+        cache.remove(elkgraph);
+    }
+
+    private static void setHints(final LGraph layeredGraph, final Map<ElkNode, LayoutHint> hints,
+            final LayoutChangeSet changes) {
+
+        Set<ElkNode> added = Sets.newHashSet();
+        Set<ElkNode> repositioned = Sets.newHashSet();
+        if (changes != null) {
+            hints.keySet().removeAll(changes.getRemovedNodes());
+            added.addAll(changes.getAddedNodes());
+            for (ElkEdge edge : Sets.union(changes.getAddedEdges(), changes.getRemovedEdges())) {
+                for (ElkConnectableShape shape : edge.getSources()) {
+                    repositioned.add(ElkGraphUtil.connectableShapeToNode(shape));
+                }
+                for (ElkConnectableShape shape : edge.getTargets()) {
+                    repositioned.add(ElkGraphUtil.connectableShapeToNode(shape));
+                }
+            }
+        }
+
+        for (LNode lnode : layeredGraph.getLayerlessNodes()) {
+            Object origin = lnode.getProperty(InternalProperties.ORIGIN);
+            LayoutHint hint = hints.get(origin);
+            if (hint != null && !added.contains(origin)) {
+                lnode.setProperty(InternalProperties.INCREMENTAL_LAYER_HINT, hint.layer);
+                if (!repositioned.contains(origin)) {
+                    lnode.setProperty(InternalProperties.INCREMENTAL_POSITION_HINT, hint.position);
+                }
+            }
+        }
+        layeredGraph.setProperty(InternalProperties.INCREMENTAL_LAYOUT, true);
+    }
+
+    private static Map<ElkNode, LayoutHint> collectHints(final LGraph layeredGraph) {
+        // nodes are referenced weakly as well since they do not refer to the hints
+        Map<ElkNode, LayoutHint> hints = new WeakHashMap<>();
+        for (LNode lnode : layeredGraph.getLayerlessNodes()) {
+            Object origin = lnode.getProperty(InternalProperties.ORIGIN);
+            int layer = lnode.getProperty(InternalProperties.INCREMENTAL_LAYER_HINT);
+            if (lnode.getType() == NodeType.NORMAL && origin instanceof ElkNode && layer >= 0) {
+                hints.put((ElkNode) origin,
+                        new LayoutHint(layer, lnode.getProperty(InternalProperties.INCREMENTAL_POSITION_HINT)));
+            }
+        }
+        return hints;
+    }
+
+    /**
+     * Layer and position of a node in a previous layout.
+     */
+    private static final class LayoutHint {
+        private final int layer;
+        private final int position;
+
+        LayoutHint(final int layer, final int position) {
+            this.layer = layer;
+            this.position = position;
+        }
+    }
+
+}
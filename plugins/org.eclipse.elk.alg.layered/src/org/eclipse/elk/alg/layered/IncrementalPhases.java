@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.p1cycles.IncrementalCycleBreaker;
+import org.eclipse.elk.alg.layered.p2layers.IncrementalLayerer;
+import org.eclipse.elk.alg.layered.p3order.IncrementalCrossingMinimizer;
+import org.eclipse.elk.core.alg.ILayoutPhase;
+import org.eclipse.elk.core.alg.ILayoutPhaseFactory;
+
+/**
+ * Factory for the phases that replace the first three phases during incremental layout. These are not available as
+ * layout option values since they only make sense with the hints set by {@link IncrementalLayeredLayout}.
+ */
+enum IncrementalPhases implements ILayoutPhaseFactory<LayeredPhases, LGraph> {
+
+    /** Creates an {@link IncrementalCycleBreaker}. */
+    CYCLE_BREAKING,
+    /** Creates an {@link IncrementalLayerer}. */
+    LAYERING,
+    /** Creates an {@link IncrementalCrossingMinimizer}. */
+    NODE_ORDERING;
+
+    @Override
+    public ILayoutPhase<LayeredPhases, LGraph> create() {
+        switch (this) {
+        case CYCLE_BREAKING:
+            return new IncrementalCycleBreaker();
+
+        case LAYERING:
+            return new IncrementalLayerer();
+
+        case NODE_ORDERING:
+            return new IncrementalCrossingMinimizer();
+
+        default:
+            throw new IllegalArgumentException(
+                    "No implementation is available for the incremental phase " + this.toString());
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+
+import com.google.common.collect.Sets;
+
+/**
+ * The changes made to a graph since its previous layout by {@link IncrementalLayeredLayout}. Added nodes are placed
+ * from scratch, and the nodes incident to added or removed edges have their position within their layer recomputed.
+ * All other nodes keep their previous layer and their order within it as far as possible.
+ *
+ * <p>Changes are registered through chained calls:</p>
+ * <pre>
+ * LayoutChangeSet changes = new LayoutChangeSet()
+ *     .nodeAdded(node)
+ *     .edgeAdded(edge);
+ * </pre>
+ */
+public final class LayoutChangeSet {
+
+    private final Set<ElkNode> addedNodes = Sets.newLinkedHashSet();
+    private final Set<ElkNode> removedNodes = Sets.newLinkedHashSet();
+    private final Set<ElkEdge> addedEdges = Sets.newLinkedHashSet();
+    private final Set<ElkEdge> removedEdges = Sets.newLinkedHashSet();
+
+    /**
+     * Registers a node that was added to the graph.
+     * 
+     * @param node the added node.
+     * @return this change set.
+     */
+    public LayoutChangeSet nodeAdded(final ElkNode node) {
+        addedNodes.add(node);
+        return this;
+    }
+
+    /**
+     * Registers a node that was removed from the graph.
+     * 
+     * @param node the removed node.
+     * @return this change set.
+     */
+    public LayoutChangeSet nodeRemoved(final ElkNode node) {
+        removedNodes.add(node);
+        return this;
+    }
+
+    /**
+     * Registers an edge that was added to the graph.
+     * 
+     * @param edge the added edge.
+     * @return this change set.
+     */
+    public LayoutChangeSet edgeAdded(final ElkEdge edge) {
+        addedEdges.add(edge);
+        return this;
+    }
+
+    /**
+     * Registers an edge that was removed from the graph. Its sources and targets are taken into account as long as
+     * the edge still refers to them.
+     * 
+     * @param edge the removed edge.
+     * @return this change set.
+     */
+    public LayoutChangeSet edgeRemoved(final ElkEdge edge) {
+        removedEdges.add(edge);
+        return this;
+    }
+
+    /**
+     * @return the nodes added to the graph.
+     */
+    public Set<ElkNode> getAddedNodes() {
+        return Collections.unmodifiableSet(addedNodes);
+    }
+
+    /**
+     * @return the nodes removed from the graph.
+     */
+    public Set<ElkNode> getRemovedNodes() {
+        return Collections.unmodifiableSet(removedNodes);
+    }
+
+    /**
+     * @return the edges added to the graph.
+     */
+    public Set<ElkEdge> getAddedEdges() {
+        return Collections.unmodifiableSet(addedEdges);
+    }
+
+    /**
+     * @return the edges removed from the graph.
+     */
+    public Set<ElkEdge> getRemovedEdges() {
+        return Collections.unmodifiableSet(removedEdges);
+    }
+
+    /**
+     * @return whether no changes were registered.
+     */
+    public boolean isEmpty() {
+        return addedNodes.isEmpty() && removedNodes.isEmpty() && addedEdges.isEmpty() && removedEdges.isEmpty();
+    }
+
+}
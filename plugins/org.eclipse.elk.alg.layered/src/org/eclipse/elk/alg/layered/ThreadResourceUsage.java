@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+// elkjs-exclude-start
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+// elkjs-exclude-end
+
+/**
+ * Reads the CPU time and the number of allocated bytes of the current thread, if the platform supports it. Allocated
+ * bytes are only available through the {@code com.sun.management} extension of the thread MX bean, which is looked up
+ * reflectively since it is not part of the Java SE API.
+ */
+final class ThreadResourceUsage {
+
+    // elkjs-exclude-start
+    /** the thread MX bean, or {@code null} if CPU time measurement is not supported. */
+    private static final ThreadMXBean CPU_TIME_BEAN;
+    /** handle for {@code getThreadAllocatedBytes(long)} bound to the MX bean, or {@code null} if not supported. */
+    private static final MethodHandle ALLOCATED_BYTES;
+
+    static {
+        ThreadMXBean bean = null;
+        try {
+            bean = ManagementFactory.getThreadMXBean();
+        } catch (Throwable e) {
+            // The management API is not available on this platform
+        }
+
+        CPU_TIME_BEAN = bean != null && bean.isCurrentThreadCpuTimeSupported() && bean.isThreadCpuTimeEnabled()
+                ? bean
+                : null;
+
+        MethodHandle allocatedBytes = null;
+        if (bean != null) {
+            try {
+                Class<?> extendedBean = Class.forName("com.sun.management.ThreadMXBean");
+                if (extendedBean.isInstance(bean)
+                        && (Boolean) extendedBean.getMethod("isThreadAllocatedMemoryEnabled").invoke(bean)) {
+                    allocatedBytes = MethodHandles.publicLookup()
+                            .findVirtual(extendedBean, "getThreadAllocatedBytes",
+                                    MethodType.methodType(long.class, long.class))
+                            .bindTo(bean);
+                }
+            } catch (Throwable e) {
+                // Allocation measurement is not supported
+            }
+        }
+        ALLOCATED_BYTES = allocatedBytes;
+    }
+    // elkjs-exclude-end
+
+    private ThreadResourceUsage() {
+    }
+
+    /**
+     * @return the CPU time of the current thread in nanoseconds, or {@code -1} if it cannot be measured.
+     */
+    static long cpuTime() {
+        // elkjs-exclude-start
+        if (CPU_TIME_BEAN != null) {
+            return CPU_TIME_BEAN.getCurrentThreadCpuTime();
+        }
+        // elkjs-exclude-end
+        return -1;
+    }
+
+    /**
+     * @return the number of bytes allocated by the current thread so far, or {@code -1} if it cannot be measured.
+     */
+    static long allocatedBytes() {
+        // elkjs-exclude-start
+        if (ALLOCATED_BYTES != null) {
+            try {
+                return (long) ALLOCATED_BYTES.invokeExact(Thread.currentThread().getId());
+            } catch (Throwable e) {
+                return -1;
+            }
+        }
+        // elkjs-exclude-end
+        return -1;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2020 Kiel University and others.
+ * Copyright (c) 2015, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -574,6 +574,13 @@ class ElkGraphImporter {
                     root.getProperty(LabelManagementOptions.LABEL_MANAGER));
         }
         
+        // The same goes for a processor execution listener
+        if (lgraph.getProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER) == null) {
+            ElkGraphElement root = (ElkGraphElement) EcoreUtil.getRootContainer(elkgraph);
+            lgraph.setProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER,
+                    root.getProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER));
+        }
+        
         // Remember the KGraph parent the LGraph was created from
         lgraph.setProperty(InternalProperties.ORIGIN, elkgraph);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Kiel University and others.
+ * Copyright (c) 2019, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,12 +14,16 @@ import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.graph.LNode;
 import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
 import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 
 /**
- * Adds to each LNode the layerID and positionID that has been computed by ELK Layered.
+ * Adds to each LNode the layerID and positionID that has been computed by ELK Layered. Graphs laid out
+ * incrementally get them as {@link InternalProperties#INCREMENTAL_LAYER_HINT layer} and
+ * {@link InternalProperties#INCREMENTAL_POSITION_HINT position hints} instead, unless the ids are requested as well,
+ * such that they do not end up on the nodes of the input graph.
  * <dl>
  *   <dt>Precondition:</dt>
  *      <dd>none</dd>
@@ -42,6 +46,9 @@ public final class ConstraintsPostprocessor implements ILayoutProcessor<LGraph>
         // elkjs-exclude-end
         // Uses for each loops since they should be more efficient because LinkedLists are accessed.
         // It still creates counter variables so that no getter calls on layer and node are needed.
+        boolean generateIds = graph.getProperty(LayeredOptions.INTERACTIVE_LAYOUT)
+                || graph.getProperty(LayeredOptions.GENERATE_POSITION_AND_LAYER_IDS);
+        boolean recordHints = graph.getProperty(InternalProperties.RECORD_INCREMENTAL_HINTS);
         int layerIndex = 0;
 
         for (Layer layer : graph.getLayers()) {
@@ -51,8 +58,14 @@ public final class ConstraintsPostprocessor implements ILayoutProcessor<LGraph>
             for (LNode currentNode : layer.getNodes()) {
                 if (currentNode.getType() == NodeType.NORMAL) {
                     nodeLayer = true;
-                    currentNode.setProperty(LayeredOptions.LAYERING_LAYER_ID, layerIndex);
-                    currentNode.setProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID, posIndex);
+                    if (generateIds) {
+                        currentNode.setProperty(LayeredOptions.LAYERING_LAYER_ID, layerIndex);
+                        currentNode.setProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID, posIndex);
+                    }
+                    if (recordHints) {
+                        currentNode.setProperty(InternalProperties.INCREMENTAL_LAYER_HINT, layerIndex);
+                        currentNode.setProperty(InternalProperties.INCREMENTAL_POSITION_HINT, posIndex);
+                    }
                     posIndex++;
                 }
             }
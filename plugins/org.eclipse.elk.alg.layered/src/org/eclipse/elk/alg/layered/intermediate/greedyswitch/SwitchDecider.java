@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 Kiel University and others.
+ * Copyright (c) 2014, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -18,7 +18,6 @@ import org.eclipse.elk.alg.layered.graph.LPort;
 import org.eclipse.elk.alg.layered.p3order.GraphInfoHolder;
 import org.eclipse.elk.alg.layered.p3order.counting.CrossingsCounter;
 import org.eclipse.elk.core.options.PortSide;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * This class decides whether two neighboring nodes should be switched. There are two variants:
@@ -125,27 +124,24 @@ public final class SwitchDecider {
         LNode upperNode = freeLayer[upperNodeIndex];
         LNode lowerNode = freeLayer[lowerNodeIndex];
         
-        Pair<Integer, Integer> leftInlayer =
-                leftInLayerCounter.countInLayerCrossingsBetweenNodesInBothOrders(upperNode, lowerNode, PortSide.WEST);
-        Pair<Integer, Integer> rightInlayer =
-                rightInLayerCounter.countInLayerCrossingsBetweenNodesInBothOrders(upperNode, lowerNode, PortSide.EAST);
+        leftInLayerCounter.countInLayerCrossingsBetweenNodes(upperNode, lowerNode, PortSide.WEST);
+        rightInLayerCounter.countInLayerCrossingsBetweenNodes(upperNode, lowerNode, PortSide.EAST);
         northSouthCounter.countCrossings(upperNode, lowerNode);
         int upperLowerCrossings =
                 crossingMatrixFiller.getCrossingMatrixEntry(upperNode, lowerNode)
-                        + leftInlayer.getFirst() + rightInlayer.getFirst()
+                        + leftInLayerCounter.getUpperLowerCrossings() + rightInLayerCounter.getUpperLowerCrossings()
                         + northSouthCounter.getUpperLowerCrossings();
         int lowerUpperCrossings =
                 crossingMatrixFiller.getCrossingMatrixEntry(lowerNode, upperNode)
-                        + leftInlayer.getSecond() + rightInlayer.getSecond()
+                        + leftInLayerCounter.getLowerUpperCrossings() + rightInLayerCounter.getLowerUpperCrossings()
                         + northSouthCounter.getLowerUpperCrossings();
 
         if (countCrossingsCausedByPortSwitch) {
             LPort upperPort = (LPort) upperNode.getProperty(InternalProperties.ORIGIN);
             LPort lowerPort = (LPort) lowerNode.getProperty(InternalProperties.ORIGIN);
-            Pair<Integer, Integer> crossingNumbers =
-                    parentCrossCounter.countCrossingsBetweenPortsInBothOrders(upperPort, lowerPort);
-            upperLowerCrossings += crossingNumbers.getFirst();
-            lowerUpperCrossings += crossingNumbers.getSecond();
+            parentCrossCounter.countCrossingsBetweenPorts(upperPort, lowerPort);
+            upperLowerCrossings += parentCrossCounter.getUpperLowerCrossings();
+            lowerUpperCrossings += parentCrossCounter.getLowerUpperCrossings();
         }
 
         return upperLowerCrossings > lowerUpperCrossings;
@@ -452,7 +452,32 @@ public final class InternalProperties {
      * This is used to cache this once it was calculated.
      */
     public static final IProperty<Map<LNode, Integer>> TARGET_NODE_MODEL_ORDER = new Property<>("targetNode.modelOrder");
-    
+
+    /**
+     * Set on graphs laid out by {@link org.eclipse.elk.alg.layered.IncrementalLayeredLayout IncrementalLayeredLayout}
+     * to replace the first three phases by ones that follow the layer and position hints of the previous layout.
+     */
+    public static final IProperty<Boolean> INCREMENTAL_LAYOUT = new Property<>("incremental.layout", false);
+
+    /**
+     * Index of the layer a node was placed in by the previous layout, or {@code -1} if unknown. Set on nodes of graphs
+     * with {@link #INCREMENTAL_LAYOUT}.
+     */
+    public static final IProperty<Integer> INCREMENTAL_LAYER_HINT = new Property<>("incremental.layerHint", -1);
+
+    /**
+     * Position of a node within its layer in the previous layout, or {@code -1} if unknown or if the node's
+     * position is to be recomputed. Set on nodes of graphs with {@link #INCREMENTAL_LAYOUT}.
+     */
+    public static final IProperty<Integer> INCREMENTAL_POSITION_HINT = new Property<>("incremental.positionHint", -1);
+
+    /**
+     * Set on graphs laid out by {@link org.eclipse.elk.alg.layered.IncrementalLayeredLayout IncrementalLayeredLayout}
+     * to have the resulting layers and positions stored as {@link #INCREMENTAL_LAYER_HINT} and
+     * {@link #INCREMENTAL_POSITION_HINT} of the nodes, which are the hints for the next layout.
+     */
+    public static final IProperty<Boolean> RECORD_INCREMENTAL_HINTS = new Property<>("incremental.recordHints", false);
+
     /**
      * Hidden default constructor.
      */
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p1cycles;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.LayeredPhases;
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.intermediate.IntermediateProcessorStrategy;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.alg.ILayoutPhase;
+import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A cycle breaker for incremental layout that keeps the edge directions of the previous layout. Nodes with a
+ * {@link InternalProperties#INCREMENTAL_LAYER_HINT layer hint} are ordered by their previous layer and position.
+ * Nodes without one are ordered right behind their ordered predecessors or, if they have none, right before their
+ * ordered successors; this is propagated breadth-first through new parts of the graph. All edges pointing backwards
+ * in the resulting order are reversed, which leaves the graph acyclic.
+ *
+ * <dl>
+ *   <dt>Precondition:</dt><dd>none</dd>
+ *   <dt>Postcondition:</dt><dd>the graph has no cycles</dd>
+ * </dl>
+ */
+public final class IncrementalCycleBreaker implements ILayoutPhase<LayeredPhases, LGraph> {
+
+    /** intermediate processing configuration. */
+    private static final LayoutProcessorConfiguration<LayeredPhases, LGraph> INTERMEDIATE_PROCESSING_CONFIGURATION =
+        LayoutProcessorConfiguration.<LayeredPhases, LGraph>create()
+            .addAfter(LayeredPhases.P5_EDGE_ROUTING, IntermediateProcessorStrategy.REVERSED_EDGE_RESTORER);
+
+    /** share of a layer used to order the nodes within a layer by their previous position. */
+    private static final double POSITION_SHARE = 0.5;
+
+    @Override
+    public LayoutProcessorConfiguration<LayeredPhases, LGraph> getLayoutProcessorConfiguration(final LGraph graph) {
+        return INTERMEDIATE_PROCESSING_CONFIGURATION;
+    }
+
+    @Override
+    public void process(final LGraph layeredGraph, final IElkProgressMonitor monitor) {
+        monitor.begin("Incremental cycle breaking", 1);
+
+        List<LNode> nodes = layeredGraph.getLayerlessNodes();
+        int n = nodes.size();
+        double[] key = new double[n];
+        Arrays.fill(key, Double.NaN);
+
+        // nodes of the previous layout are ordered by their previous layer and position
+        Deque<LNode> queue = new ArrayDeque<>();
+        int index = 0;
+        for (LNode node : nodes) {
+            node.id = index++;
+            switch (node.getProperty(LayeredOptions.LAYERING_LAYER_CONSTRAINT)) {
+            case FIRST:
+            case FIRST_SEPARATE:
+                key[node.id] = Double.NEGATIVE_INFINITY;
+                break;
+            case LAST:
+            case LAST_SEPARATE:
+                key[node.id] = Double.POSITIVE_INFINITY;
+                break;
+            default:
+                int layer = node.getProperty(InternalProperties.INCREMENTAL_LAYER_HINT);
+                if (layer >= 0) {
+                    int position = Math.max(0, node.getProperty(InternalProperties.INCREMENTAL_POSITION_HINT));
+                    key[node.id] = layer + POSITION_SHARE * position / (n + 1);
+                    queue.add(node);
+                }
+            }
+        }
+
+        // new nodes are ordered relative to their already ordered neighbors
+        while (!queue.isEmpty()) {
+            LNode node = queue.poll();
+            for (LEdge edge : node.getConnectedEdges()) {
+                LNode other = edge.getSource().getNode() == node
+                        ? edge.getTarget().getNode()
+                        : edge.getSource().getNode();
+                if (Double.isNaN(key[other.id])) {
+                    key[other.id] = keyFromNeighbors(other, key);
+                    queue.add(other);
+                }
+            }
+        }
+
+        // gather edges that point to the wrong direction; nodes that are not connected to any ordered node
+        // are ordered by their index
+        List<LEdge> revEdges = Lists.newArrayList();
+        for (LNode source : nodes) {
+            for (LEdge edge : source.getOutgoingEdges()) {
+                LNode target = edge.getTarget().getNode();
+                if (target != source && compare(source, target, key) > 0) {
+                    revEdges.add(edge);
+                }
+            }
+        }
+        for (LEdge edge : revEdges) {
+            edge.reverse(layeredGraph, true);
+        }
+
+        monitor.done();
+    }
+
+    /**
+     * Computes a key for the given node that orders it right behind its ordered predecessors or, if there are none,
+     * right before its ordered successors. Nodes with layer constraints are not considered.
+     */
+    private static double keyFromNeighbors(final LNode node, final double[] key) {
+        double maxPredecessor = Double.NaN;
+        for (LEdge edge : node.getIncomingEdges()) {
+            double k = key[edge.getSource().getNode().id];
+            if (!Double.isNaN(k) && !Double.isInfinite(k) && !(k <= maxPredecessor)) {
+                maxPredecessor = k;
+            }
+        }
+        if (!Double.isNaN(maxPredecessor)) {
+            return maxPredecessor + 1;
+        }
+
+        double minSuccessor = Double.NaN;
+        for (LEdge edge : node.getOutgoingEdges()) {
+            double k = key[edge.getTarget().getNode().id];
+            if (!Double.isNaN(k) && !Double.isInfinite(k) && !(k >= minSuccessor)) {
+                minSuccessor = k;
+            }
+        }
+        return minSuccessor - 1;
+    }
+
+    private static int compare(final LNode node1, final LNode node2, final double[] key) {
+        double key1 = Double.isNaN(key[node1.id]) ? Double.POSITIVE_INFINITY : key[node1.id];
+        double key2 = Double.isNaN(key[node2.id]) ? Double.POSITIVE_INFINITY : key[node2.id];
+        int result = Double.compare(key1, key2);
+        return result != 0 ? result : Integer.compare(node1.id, node2.id);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p2layers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.LayeredPhases;
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.intermediate.IntermediateProcessorStrategy;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.core.alg.ILayoutPhase;
+import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+/**
+ * A layerer for incremental layout that keeps nodes in the layers of the previous layout. Each node with a
+ * {@link InternalProperties#INCREMENTAL_LAYER_HINT layer hint} is placed in its previous layer unless one of its
+ * predecessors requires it to move further back. New nodes are placed right behind their predecessors, or right
+ * before their successors if they have no predecessors. This takes linear time.
+ *
+ * <dl>
+ *   <dt>Precondition:</dt><dd>the graph has no cycles</dd>
+ *   <dt>Postcondition:</dt><dd>all nodes have been assigned a layer such that
+ *     edges connect only nodes from layers with increasing indices</dd>
+ * </dl>
+ */
+public final class IncrementalLayerer implements ILayoutPhase<LayeredPhases, LGraph> {
+
+    /** intermediate processing configuration. */
+    private static final LayoutProcessorConfiguration<LayeredPhases, LGraph> BASELINE_PROCESSING_CONFIGURATION =
+        LayoutProcessorConfiguration.<LayeredPhases, LGraph>create()
+            .addBefore(LayeredPhases.P1_CYCLE_BREAKING,
+                    IntermediateProcessorStrategy.EDGE_AND_LAYER_CONSTRAINT_EDGE_REVERSER)
+            .addBefore(LayeredPhases.P2_LAYERING, IntermediateProcessorStrategy.LAYER_CONSTRAINT_PREPROCESSOR)
+            .addBefore(LayeredPhases.P3_NODE_ORDERING, IntermediateProcessorStrategy.LAYER_CONSTRAINT_POSTPROCESSOR);
+
+    @Override
+    public LayoutProcessorConfiguration<LayeredPhases, LGraph> getLayoutProcessorConfiguration(final LGraph graph) {
+        return BASELINE_PROCESSING_CONFIGURATION;
+    }
+
+    @Override
+    public void process(final LGraph layeredGraph, final IElkProgressMonitor monitor) {
+        monitor.begin("Incremental layering", 1);
+
+        List<LNode> nodes = layeredGraph.getLayerlessNodes();
+        int n = nodes.size();
+        int[] layer = new int[n];
+        int[] unprocessedPredecessors = new int[n];
+        LNode[] topologicalOrder = new LNode[n];
+
+        // the node id is used as index for the arrays
+        Deque<LNode> sources = new ArrayDeque<>();
+        int index = 0;
+        for (LNode node : nodes) {
+            node.id = index++;
+        }
+        for (LNode node : nodes) {
+            for (LEdge edge : node.getIncomingEdges()) {
+                if (!edge.isSelfLoop()) {
+                    unprocessedPredecessors[node.id]++;
+                }
+            }
+            if (unprocessedPredecessors[node.id] == 0) {
+                sources.add(node);
+            }
+        }
+
+        // forward pass: nodes stay in their previous layer unless their predecessors push them further back
+        int count = 0;
+        while (!sources.isEmpty()) {
+            LNode node = sources.poll();
+            topologicalOrder[count++] = node;
+            layer[node.id] = Math.max(layer[node.id], node.getProperty(InternalProperties.INCREMENTAL_LAYER_HINT));
+
+            for (LEdge edge : node.getOutgoingEdges()) {
+                if (!edge.isSelfLoop()) {
+                    LNode target = edge.getTarget().getNode();
+                    layer[target.id] = Math.max(layer[target.id], layer[node.id] + 1);
+                    if (--unprocessedPredecessors[target.id] == 0) {
+                        sources.add(target);
+                    }
+                }
+            }
+        }
+        if (count < n) {
+            throw new IllegalStateException("The graph has cycles that the incremental cycle breaker did not break.");
+        }
+
+        // backward pass: new nodes move towards their successors
+        int maxLayer = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            LNode node = topologicalOrder[i];
+            if (node.getProperty(InternalProperties.INCREMENTAL_LAYER_HINT) < 0) {
+                int minSuccessor = Integer.MAX_VALUE;
+                for (LEdge edge : node.getOutgoingEdges()) {
+                    if (!edge.isSelfLoop()) {
+                        minSuccessor = Math.min(minSuccessor, layer[edge.getTarget().getNode().id]);
+                    }
+                }
+                if (minSuccessor != Integer.MAX_VALUE) {
+                    layer[node.id] = Math.max(layer[node.id], minSuccessor - 1);
+                }
+            }
+            maxLayer = Math.max(maxLayer, layer[node.id]);
+        }
+
+        // create the layers, leaving out the ones that remained empty
+        Layer[] layers = new Layer[maxLayer + 1];
+        for (LNode node : nodes) {
+            if (layers[layer[node.id]] == null) {
+                layers[layer[node.id]] = new Layer(layeredGraph);
+            }
+        }
+        for (Layer l : layers) {
+            if (l != null) {
+                layeredGraph.getLayers().add(l);
+            }
+        }
+        for (LNode node : nodes) {
+            node.setLayer(layers[layer[node.id]]);
+        }
+
+        // empty the list of unlayered nodes
+        nodes.clear();
+
+        monitor.done();
+    }
+
+}
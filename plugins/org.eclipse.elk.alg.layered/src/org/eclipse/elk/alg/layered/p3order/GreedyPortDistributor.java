@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Kiel University.
+ * Copyright (c) 2016, 2026 Kiel University.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -20,7 +20,6 @@ import org.eclipse.elk.alg.layered.p3order.counting.CrossingsCounter;
 import org.eclipse.elk.alg.layered.p3order.counting.IInitializable;
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
 import org.eclipse.elk.core.options.PortSide;
-import org.eclipse.elk.core.util.Pair;
 
 import com.google.common.collect.Lists;
 
@@ -100,10 +99,9 @@ public class GreedyPortDistributor implements ISweepPortDistributor, IInitializa
 
     private boolean switchingDecreasesCrossings(final LPort upperPort, final LPort lowerPort, final LNode node,
             final boolean useHierarchicalCrosscounter) {
-        Pair<Integer, Integer> originalNSwitchedCrossings =
-                crossingsCounter.countCrossingsBetweenPortsInBothOrders(upperPort, lowerPort);
-        int upperLowerCrossings = originalNSwitchedCrossings.getFirst();
-        int lowerUpperCrossings = originalNSwitchedCrossings.getSecond();
+        crossingsCounter.countCrossingsBetweenPorts(upperPort, lowerPort);
+        int upperLowerCrossings = crossingsCounter.getUpperLowerCrossings();
+        int lowerUpperCrossings = crossingsCounter.getLowerUpperCrossings();
         if (useHierarchicalCrosscounter) {
             LNode upperNode = upperPort.getProperty(InternalProperties.PORT_DUMMY);
             LNode lowerNode = lowerPort.getProperty(InternalProperties.PORT_DUMMY);
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p3order;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.alg.layered.LayeredPhases;
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.intermediate.IntermediateProcessorStrategy;
+import org.eclipse.elk.alg.layered.options.GraphProperties;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.p3order.counting.IInitializable;
+import org.eclipse.elk.core.alg.ILayoutPhase;
+import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A crossing minimizer for incremental layout that keeps the order of nodes of the previous layout. Each node with a
+ * {@link InternalProperties#INCREMENTAL_POSITION_HINT position hint} is sorted by its previous position in its layer.
+ * All other nodes, that is, new nodes, nodes whose position is to be recomputed, and dummy nodes, are sorted by the
+ * barycenter of their neighbors in the preceding layers or, if there are none, in the subsequent layers. Instead of
+ * repeated layer sweeps, each layer is sorted once, which takes O(n log n) time.
+ *
+ * <p>Nodes forming an {@link InternalProperties#IN_LAYER_LAYOUT_UNIT in-layer layout unit}, such as the dummy nodes
+ * created for northern and southern ports, keep their relative order and are moved together.</p>
+ *
+ * <dl>
+ *   <dt>Preconditions:</dt>
+ *     <dd>The graph has a proper layering</dd>
+ *     <dd>All nodes have at least fixed port sides.</dd>
+ *   <dt>Postconditions:</dt>
+ *     <dd>The order of nodes in each layer follows the previous layout.</dd>
+ * </dl>
+ */
+public final class IncrementalCrossingMinimizer implements ILayoutPhase<LayeredPhases, LGraph> {
+
+    /** intermediate processing configuration. */
+    private static final LayoutProcessorConfiguration<LayeredPhases, LGraph> INTERMEDIATE_PROCESSING_CONFIGURATION =
+        LayoutProcessorConfiguration.<LayeredPhases, LGraph>create()
+            .addBefore(LayeredPhases.P3_NODE_ORDERING, IntermediateProcessorStrategy.LONG_EDGE_SPLITTER)
+            .addBefore(LayeredPhases.P4_NODE_PLACEMENT, IntermediateProcessorStrategy.IN_LAYER_CONSTRAINT_PROCESSOR)
+            .addAfter(LayeredPhases.P5_EDGE_ROUTING, IntermediateProcessorStrategy.LONG_EDGE_JOINER);
+
+    /** sort keys of the nodes, indexed by node id. */
+    private double[] key;
+
+    @Override
+    public LayoutProcessorConfiguration<LayeredPhases, LGraph> getLayoutProcessorConfiguration(final LGraph graph) {
+        LayoutProcessorConfiguration<LayeredPhases, LGraph> configuration =
+                LayoutProcessorConfiguration.createFrom(INTERMEDIATE_PROCESSING_CONFIGURATION);
+
+        if (graph.getProperty(InternalProperties.GRAPH_PROPERTIES).contains(GraphProperties.NON_FREE_PORTS)) {
+            configuration.addBefore(LayeredPhases.P3_NODE_ORDERING, IntermediateProcessorStrategy.PORT_LIST_SORTER);
+        }
+
+        return configuration;
+    }
+
+    @Override
+    public void process(final LGraph layeredGraph, final IElkProgressMonitor monitor) {
+        monitor.begin("Incremental crossing minimization", 1);
+
+        // layer ids are used to tell preceding from subsequent layers, node ids index the key array
+        int layerIndex = 0;
+        int nodeIndex = 0;
+        for (Layer layer : layeredGraph) {
+            layer.id = layerIndex++;
+            for (LNode node : layer) {
+                node.id = nodeIndex++;
+            }
+        }
+        key = new double[nodeIndex];
+        Arrays.fill(key, Double.NaN);
+
+        // nodes with a hint use their previous position, others follow their neighbors in preceding layers
+        for (Layer layer : layeredGraph) {
+            for (LNode node : layer) {
+                if (unitOf(node) == node) {
+                    int hint = node.getProperty(InternalProperties.INCREMENTAL_POSITION_HINT);
+                    key[node.id] = hint >= 0 ? hint : barycenter(node, true);
+                }
+            }
+            copyUnitKeys(layer);
+        }
+
+        // nodes without such neighbors follow their neighbors in subsequent layers
+        List<Layer> layers = layeredGraph.getLayers();
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            for (LNode node : layers.get(i)) {
+                if (unitOf(node) == node && Double.isNaN(key[node.id])) {
+                    key[node.id] = barycenter(node, false);
+                }
+            }
+            copyUnitKeys(layers.get(i));
+        }
+
+        for (Layer layer : layeredGraph) {
+            sort(layer);
+        }
+
+        // distribute the ports of the nodes now that their order is known
+        LNode[][] nodeOrder = layeredGraph.toNodeArray();
+        AbstractBarycenterPortDistributor portDistributor = new NodeRelativePortDistributor(nodeOrder.length);
+        IInitializable.init(Arrays.asList(portDistributor), nodeOrder);
+        for (int i = 0; i < nodeOrder.length; i++) {
+            portDistributor.distributePortsWhileSweeping(nodeOrder, i, true);
+        }
+
+        key = null;
+        monitor.done();
+    }
+
+    /**
+     * Returns the average key of the given node's neighbors in preceding or subsequent layers, or {@code NaN} if none
+     * of them has a key yet.
+     */
+    private double barycenter(final LNode node, final boolean preceding) {
+        double sum = 0;
+        int count = 0;
+        for (LEdge edge : node.getConnectedEdges()) {
+            LNode other = edge.getSource().getNode() == node ? edge.getTarget().getNode() : edge.getSource().getNode();
+            boolean otherPreceding = other.getLayer().id < node.getLayer().id;
+            boolean otherSubsequent = other.getLayer().id > node.getLayer().id;
+            if ((preceding ? otherPreceding : otherSubsequent) && !Double.isNaN(key[other.id])) {
+                sum += key[other.id];
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    private void copyUnitKeys(final Layer layer) {
+        for (LNode node : layer) {
+            LNode unit = unitOf(node);
+            if (unit != node) {
+                key[node.id] = key[unit.id];
+            }
+        }
+    }
+
+    /**
+     * Sorts the layout units of the given layer by their keys. Units without a key are moved to the end, and units
+     * with equal keys as well as the nodes of a unit keep their relative order.
+     */
+    private void sort(final Layer layer) {
+        Map<LNode, List<LNode>> units = new LinkedHashMap<>();
+        for (LNode node : layer) {
+            units.computeIfAbsent(unitOf(node), u -> Lists.newArrayList()).add(node);
+        }
+
+        List<LNode> unitOrder = Lists.newArrayList(units.keySet());
+        unitOrder.sort(Comparator.comparingDouble(unit -> Double.isNaN(key[unit.id])
+                ? Double.POSITIVE_INFINITY
+                : key[unit.id]));
+
+        List<LNode> nodes = layer.getNodes();
+        nodes.clear();
+        for (LNode unit : unitOrder) {
+            nodes.addAll(units.get(unit));
+        }
+    }
+
+    private static LNode unitOf(final LNode node) {
+        LNode unit = node.getProperty(InternalProperties.IN_LAYER_LAYOUT_UNIT);
+        return unit != null && unit.getLayer() == node.getLayer() ? unit : node;
+    }
+
+}
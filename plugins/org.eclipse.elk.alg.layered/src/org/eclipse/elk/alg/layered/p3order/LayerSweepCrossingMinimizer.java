@@ -15,7 +15,13 @@ import java.util.Deque;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.atomic.AtomicInteger;
+// elkjs-exclude-end
 import java.util.function.Consumer;
+// elkjs-exclude-start
+import java.util.stream.IntStream;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.IHierarchyAwareLayoutProcessor;
 import org.eclipse.elk.alg.layered.LayeredPhases;
@@ -184,6 +190,16 @@ public class LayerSweepCrossingMinimizer
         // In order to only copy graphs whose node order has changed, save them in a set.
         graphsWhoseNodeOrderChanged.clear();
 
+        // elkjs-exclude-start
+        if (gData.lGraph().getProperty(LayeredOptions.CROSSING_MINIMIZATION_PARALLEL_RESTARTS)
+                && gData.lGraph().getProperty(LayeredOptions.THOROUGHNESS) > 1
+                && gData.childGraphs().stream().allMatch(child -> graphInfoHolders.get(child.id).dontSweepInto())) {
+            
+            compareRandomizedLayoutsInParallel(gData);
+            return;
+        }
+        // elkjs-exclude-end
+
         if (gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0
             || gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0) {
             double bestCrossings = Double.MAX_VALUE;
@@ -224,6 +240,72 @@ public class LayerSweepCrossingMinimizer
         }
     }
 
+    // elkjs-exclude-start
+    /**
+     * Runs the randomized restarts of {@link #compareDifferentRandomizedLayouts(GraphInfoHolder)} in parallel. Each
+     * restart works on a copy of the graph with a random seed of its own, starting from the current node order, and
+     * thus has its own node order arrays, port distributor and crossings counter. The restart with the fewest
+     * crossings wins, ties being broken in favor of the lower restart index, which makes the result independent of the
+     * number of threads. The graph must not be swept through hierarchically.
+     */
+    private void compareRandomizedLayoutsInParallel(final GraphInfoHolder gData) {
+        LGraph lGraph = gData.lGraph();
+        boolean considerModelOrder =
+                lGraph.getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_STRATEGY) != OrderingStrategy.NONE;
+        boolean countModelOrder =
+                lGraph.getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0
+                || lGraph.getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0;
+        int thoroughness = lGraph.getProperty(LayeredOptions.THOROUGHNESS);
+        
+        // Seeds are drawn upfront to not depend on the order in which restarts are executed
+        long[] seeds = new long[thoroughness];
+        for (int i = 0; i < thoroughness; i++) {
+            seeds[i] = random.nextLong();
+        }
+        
+        // Restarts with an index above that of a restart that found a crossing-free order cannot win anymore
+        AtomicInteger firstCrossingFreeRestart = new AtomicInteger(thoroughness);
+        SweepCopy[] results = new SweepCopy[thoroughness];
+        double[] crossings = new double[thoroughness];
+        
+        IntStream.range(0, thoroughness).parallel().forEach(i -> {
+            if (i > firstCrossingFreeRestart.get()) {
+                crossings[i] = Double.MAX_VALUE;
+                return;
+            }
+            
+            RandomRestartCopy copy = new RandomRestartCopy(lGraph, seeds[i]);
+            if (considerModelOrder) {
+                // Mimic the sequential restarts, the first two of which start from the initial order
+                copy.graph().setProperty(InternalProperties.FIRST_TRY_WITH_INITIAL_ORDER, i == 0);
+                copy.graph().setProperty(InternalProperties.SECOND_TRY_WITH_INITIAL_ORDER, i == 1);
+            }
+            
+            LayerSweepCrossingMinimizer restart = new LayerSweepCrossingMinimizer(crossMinType);
+            GraphInfoHolder copyData = restart.initialize(copy.graph()).get(0);
+            crossings[i] = countModelOrder
+                    ? restart.minimizeCrossingsNodePortOrderWithCounter(copyData)
+                    : restart.minimizeCrossingsWithCounter(copyData);
+            
+            // Without a best order, the initial order was kept
+            SweepCopy bestOrder = copyData.currentlyBestNodeAndPortOrder();
+            results[i] = bestOrder == null ? null : copy.toOriginal(bestOrder);
+            
+            if (crossings[i] == 0) {
+                firstCrossingFreeRestart.accumulateAndGet(i, Math::min);
+            }
+        });
+        
+        int best = 0;
+        for (int i = 1; i < thoroughness; i++) {
+            if (crossings[i] < crossings[best]) {
+                best = i;
+            }
+        }
+        gData.setBestNodeNPortOrder(results[best]);
+    }
+    // elkjs-exclude-end
+
     private int minimizeCrossingsWithCounter(final GraphInfoHolder gData) {
         boolean isForwardSweep = random.nextBoolean();
 
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p3order;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LPort;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.MapPropertyHolder;
+import org.eclipse.elk.graph.util.ElkReflect;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * A copy of a layered graph on which a single randomized restart of the layer sweep can run without touching the
+ * original graph. The crossing minimization reorders the port lists of nodes while sweeping, which is why restarts
+ * cannot run in parallel on the same graph.
+ *
+ * <p>
+ * The copy contains the layers, nodes, ports and edges of the graph, but neither labels nor nested graphs. It is thus
+ * only suitable for graphs which are not swept through hierarchically. Properties are copied as well, references to
+ * nodes, ports and edges of the graph being replaced by references to their copies. Property values that
+ * {@link ElkReflect} knows how to clone, such as lists, sets and vectors, are cloned such that the copies don't share
+ * them with the original graph or with each other. Other values are shared and must not be modified while sweeping.
+ * </p>
+ *
+ * <p>
+ * The copy only reads from the original graph, so several copies can be created concurrently as long as the original
+ * graph is not modified.
+ * </p>
+ */
+final class RandomRestartCopy {
+
+    /** The copy of the graph. */
+    private final LGraph graph;
+    /** Maps each copied node to its original. */
+    private final Map<LNode, LNode> originalNodes = Maps.newHashMap();
+    /** Maps each copied port to its original. */
+    private final Map<LPort, LPort> originalPorts = Maps.newHashMap();
+
+    /**
+     * Copies the given graph.
+     *
+     * @param original
+     *            the graph to copy
+     * @param seed
+     *            the seed of the random number generator used while sweeping over the copy
+     */
+    RandomRestartCopy(final LGraph original, final long seed) {
+        graph = new LGraph();
+        graph.copyProperties(original);
+        graph.setProperty(InternalProperties.RANDOM, new Random(seed));
+
+        Map<Object, Object> copies = Maps.newHashMap();
+        List<MapPropertyHolder> copiedElements = Lists.newArrayList();
+        copiedElements.add(graph);
+
+        // Nodes and their ports
+        for (Layer originalLayer : original.getLayers()) {
+            Layer layer = new Layer(graph);
+            graph.getLayers().add(layer);
+
+            for (LNode originalNode : originalLayer.getNodes()) {
+                LNode node = new LNode(graph);
+                node.setType(originalNode.getType());
+                node.copyProperties(originalNode);
+                node.getSize().set(originalNode.getSize());
+                node.setLayer(layer);
+                copies.put(originalNode, node);
+                copiedElements.add(node);
+                originalNodes.put(node, originalNode);
+
+                for (LPort originalPort : originalNode.getPorts()) {
+                    LPort port = new LPort();
+                    port.copyProperties(originalPort);
+                    port.setSide(originalPort.getSide());
+                    port.getSize().set(originalPort.getSize());
+                    port.getAnchor().set(originalPort.getAnchor());
+                    port.setExplicitlySuppliedPortAnchor(originalPort.isExplicitlySuppliedPortAnchor());
+                    port.setConnectedToExternalNodes(originalPort.isConnectedToExternalNodes());
+                    port.setNode(node);
+                    copies.put(originalPort, port);
+                    copiedElements.add(port);
+                    originalPorts.put(port, originalPort);
+                }
+            }
+        }
+
+        // Edges, in the order in which they appear at their source ports
+        for (Layer originalLayer : original.getLayers()) {
+            for (LNode originalNode : originalLayer.getNodes()) {
+                for (LPort originalPort : originalNode.getPorts()) {
+                    for (LEdge originalEdge : originalPort.getOutgoingEdges()) {
+                        LEdge edge = new LEdge();
+                        edge.copyProperties(originalEdge);
+                        edge.setSource((LPort) copies.get(originalEdge.getSource()));
+                        edge.setTarget((LPort) copies.get(originalEdge.getTarget()));
+                        copies.put(originalEdge, edge);
+                        copiedElements.add(edge);
+                    }
+                }
+            }
+        }
+
+        // Keep the order of incoming edges as well
+        for (Layer originalLayer : original.getLayers()) {
+            for (LNode originalNode : originalLayer.getNodes()) {
+                for (LPort originalPort : originalNode.getPorts()) {
+                    List<LEdge> incomingEdges = ((LPort) copies.get(originalPort)).getIncomingEdges();
+                    incomingEdges.clear();
+                    for (LEdge originalEdge : originalPort.getIncomingEdges()) {
+                        incomingEdges.add((LEdge) copies.get(originalEdge));
+                    }
+                }
+            }
+        }
+
+        // Let properties refer to the copied elements
+        for (MapPropertyHolder element : copiedElements) {
+            redirectProperties(element, copies);
+        }
+
+        for (LNode node : originalNodes.keySet()) {
+            node.cachePortSides();
+        }
+    }
+
+    /**
+     * Replaces property values that are elements of the original graph by their copies, and clones values that can be
+     * cloned, such as collections and vectors. Elements of the original graph contained in cloned collections are
+     * replaced by their copies as well. Collections that can't be cloned are replaced by lists if they contain such
+     * elements.
+     */
+    @SuppressWarnings("unchecked")
+    private static void redirectProperties(final MapPropertyHolder element, final Map<Object, Object> copies) {
+        for (Map.Entry<IProperty<?>, Object> entry : element.getAllProperties().entrySet()) {
+            Object value = entry.getValue();
+            if (copies.containsKey(value)) {
+                entry.setValue(copies.get(value));
+                continue;
+            }
+
+            Object clone = value instanceof Cloneable ? ElkReflect.clone(value) : null;
+            if (clone instanceof List<?>) {
+                ((List<Object>) clone).replaceAll(item -> copies.getOrDefault(item, item));
+
+            } else if (clone instanceof Collection<?>
+                    && ((Collection<?>) clone).stream().anyMatch(item -> copies.containsKey(item))) {
+
+                List<Object> items = new ArrayList<>((Collection<Object>) clone);
+                ((Collection<Object>) clone).clear();
+                for (Object item : items) {
+                    ((Collection<Object>) clone).add(copies.getOrDefault(item, item));
+                }
+
+            } else if (clone == null && value instanceof Collection<?>
+                    && ((Collection<?>) value).stream().anyMatch(item -> copies.containsKey(item))) {
+
+                List<Object> redirected = new ArrayList<>(((Collection<Object>) value).size());
+                for (Object item : (Collection<Object>) value) {
+                    redirected.add(copies.getOrDefault(item, item));
+                }
+                clone = redirected;
+            }
+
+            if (clone != null) {
+                entry.setValue(clone);
+            }
+        }
+    }
+
+    /**
+     * @return the copy of the graph.
+     */
+    public LGraph graph() {
+        return graph;
+    }
+
+    /**
+     * Translates a node and port order computed on the copy into the corresponding order of the original graph.
+     *
+     * @param sweep
+     *            node and port order of the copy
+     * @return the same node and port order in terms of the original graph
+     */
+    public SweepCopy toOriginal(final SweepCopy sweep) {
+        return sweep.translate(originalNodes, originalPorts);
+    }
+
+}
@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.elk.alg.layered.graph.LGraph;
@@ -62,6 +63,39 @@ class SweepCopy {
         portOrders = new ArrayList<>(sc.portOrders);
     }
 
+    private SweepCopy(final LNode[][] nodeOrder, final List<List<List<LPort>>> portOrders) {
+        this.nodeOrder = nodeOrder;
+        this.portOrders = portOrders;
+    }
+
+    /**
+     * Creates a copy of this node and port order in which nodes and ports are replaced as given by the two maps.
+     * 
+     * @param nodes
+     *            maps each node of this copy to its replacement
+     * @param ports
+     *            maps each port of this copy to its replacement
+     * @return the translated node and port order
+     */
+    SweepCopy translate(final Map<LNode, LNode> nodes, final Map<LPort, LPort> ports) {
+        LNode[][] translatedNodes = new LNode[nodeOrder.length][];
+        List<List<List<LPort>>> translatedPorts = new ArrayList<>(portOrders.size());
+        for (int i = 0; i < nodeOrder.length; i++) {
+            translatedNodes[i] = new LNode[nodeOrder[i].length];
+            List<List<LPort>> layer = new ArrayList<>(nodeOrder[i].length);
+            translatedPorts.add(layer);
+            for (int j = 0; j < nodeOrder[i].length; j++) {
+                translatedNodes[i][j] = nodes.get(nodeOrder[i][j]);
+                List<LPort> nodePorts = new ArrayList<>(portOrders.get(i).get(j).size());
+                for (LPort port : portOrders.get(i).get(j)) {
+                    nodePorts.add(ports.get(port));
+                }
+                layer.add(nodePorts);
+            }
+        }
+        return new SweepCopy(translatedNodes, translatedPorts);
+    }
+
     private LNode[][] deepCopy(final LNode[][] currentlyBestNodeOrder) {
         if (currentlyBestNodeOrder == null) {
             return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 Kiel University and others.
+ * Copyright (c) 2016, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,13 +9,8 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.p3order.counting;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 
 import org.eclipse.elk.alg.layered.graph.LEdge;
 import org.eclipse.elk.alg.layered.graph.LNode;
@@ -26,9 +21,6 @@ import org.eclipse.elk.alg.layered.options.InternalProperties;
 import org.eclipse.elk.core.options.PortSide;
 import org.eclipse.elk.core.util.Pair;
 
-import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
-
 /**
  * In ELK Layered we distinguish three types of edge crossings that can occur:
  * <ul>
@@ -128,14 +120,44 @@ import com.google.common.collect.Lists;
  * <li>southern nsl dummies with western edges north-to-south
  * <li>southern nsl dummies with eastern edges south-to-north
  * 
+ * <h3>Memory</h3>
+ * Counting runs very often during crossing minimization, so the counter does not allocate memory once it has
+ * seen the largest layers of a graph: ports are collected in arrays that are reused, end positions are kept on an int
+ * stack, the {@link BinaryIndexedTree} is reset instead of recreated, and the results of counting crossings in both
+ * orders are available through {@link #getUpperLowerCrossings()} and {@link #getLowerUpperCrossings()}.
  */
 public final class CrossingsCounter {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
     private final int[] portPositions;
 
-    private BinaryIndexedTree indexTree;
-    private final Deque<Integer> ends;
-
-    private int[] nodeCardinalities;
+    private final BinaryIndexedTree indexTree;
+    /** Stack of edge end positions to be added to the index tree. */
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int endCount;
+
+    private int[] nodeCardinalities = new int[INITIAL_CAPACITY];
+
+    /** The ports indexed by the last initialization. */
+    private LPort[] ports = new LPort[INITIAL_CAPACITY];
+    private int portCount;
+    /** The ports considered when counting crossings in both orders, sorted by their positions. */
+    private LPort[] selectedPorts = new LPort[INITIAL_CAPACITY];
+    private int selectedCount;
+    /** Scratch space for sorting the selected ports. */
+    private LPort[] sortedPorts = new LPort[INITIAL_CAPACITY];
+    private long[] sortKeys = new long[INITIAL_CAPACITY];
+
+    /** Targets and degrees of the edges incident to a port when counting north/south crossings. */
+    private LPort[] targets = new LPort[INITIAL_CAPACITY];
+    private int[] targetDegrees = new int[INITIAL_CAPACITY];
+    /** Stack of north/south and long edge dummies when indexing ports for north/south counting. */
+    private LNode[] dummyStack = new LNode[INITIAL_CAPACITY];
+    private int dummyCount;
+
+    private int upperLowerCrossings;
+    private int lowerUpperCrossings;
 
     /**
      * Create crossings counter.
@@ -145,7 +167,7 @@ public final class CrossingsCounter {
      */
     public CrossingsCounter(final int[] portPositions) {
         this.portPositions = portPositions;
-        ends = new ArrayDeque<>();
+        indexTree = new BinaryIndexedTree(0);
     }
     
     // - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - -
@@ -163,9 +185,8 @@ public final class CrossingsCounter {
      */
     public int countCrossingsBetweenLayers(final LNode[] leftLayerNodes,
             final LNode[] rightLayerNodes) {
-        List<LPort> ports = initPortPositionsCounterClockwise(leftLayerNodes, rightLayerNodes);
-        indexTree = new BinaryIndexedTree(ports.size());
-        return countCrossingsOnPorts(ports);
+        initForCountingBetween(leftLayerNodes, rightLayerNodes);
+        return countCrossingsOnPorts(ports, portCount);
     }
 
     /**
@@ -178,8 +199,8 @@ public final class CrossingsCounter {
      * @return number of crossings.
      */
     public int countInLayerCrossingsOnSide(final LNode[] nodes, final PortSide side) {
-        List<LPort> ports = initPortPositionsForInLayerCrossings(nodes, side);
-        return countInLayerCrossingsOnPorts(ports);
+        initPortPositionsForInLayerCrossings(nodes, side);
+        return countInLayerCrossingsOnPorts(ports, portCount);
     }
     
     /**
@@ -191,16 +212,39 @@ public final class CrossingsCounter {
      * @return number of crossings.
      */
     public int countNorthSouthPortCrossingsInLayer(final LNode[] layer) {
-        List<LPort> ports = initPositionsForNorthSouthCounting(layer);
-        indexTree = new BinaryIndexedTree(ports.size());
-        return countNorthSouthCrossingsOnPorts(ports);
+        initPositionsForNorthSouthCounting(layer);
+        indexTree.reset(portCount);
+        return countNorthSouthCrossingsOnPorts(ports, portCount);
     }
 
     /**
      * Count crossings caused between edges incident to upperPort and lowerPort and when the order of these two is
      * switched. Initialize before use with {@link #initForCountingBetween(LNode[], LNode[])} when not on either end of
      * a graph. If you do want to use this to the left of the leftmost or to the right of the rightmost layer, use
-     * {@link #initPortPositionsForInLayerCrossings(LNode[], PortSide)}.
+     * {@link #initPortPositionsForInLayerCrossings(LNode[], PortSide)}. The results are available through
+     * {@link #getUpperLowerCrossings()} and {@link #getLowerUpperCrossings()}.
+     * 
+     * @param upperPort
+     *            the upper port
+     * @param lowerPort
+     *            the lower port
+     */
+    public void countCrossingsBetweenPorts(final LPort upperPort, final LPort lowerPort) {
+        selectConnectedPorts(upperPort, lowerPort);
+        upperLowerCrossings = countCrossingsOnPorts(selectedPorts, selectedCount);
+        // Since we might add endpositions of ports which are not in the ports list, we need to explicitly remove
+        // them from the index tree.
+        removeEnds(selectedPorts, selectedCount, false);
+        switchPorts(upperPort, lowerPort);
+        sortSelectedPorts(false);
+        lowerUpperCrossings = countCrossingsOnPorts(selectedPorts, selectedCount);
+        removeEnds(selectedPorts, selectedCount, false);
+        switchPorts(lowerPort, upperPort);
+    }
+
+    /**
+     * Count crossings caused between edges incident to upperPort and lowerPort and when the order of these two is
+     * switched. Same as {@link #countCrossingsBetweenPorts(LPort, LPort)}, but returns the results.
      * 
      * @param upperPort
      *            the upper port
@@ -211,22 +255,39 @@ public final class CrossingsCounter {
      */
     public Pair<Integer, Integer> countCrossingsBetweenPortsInBothOrders(final LPort upperPort,
             final LPort lowerPort) {
-        List<LPort> ports = connectedPortsSortedByPosition(upperPort, lowerPort);
-        int upperLowerCrossings = countCrossingsOnPorts(ports);
-        // Since we might add endpositions of ports which are not in the ports list, we need to explicitly clear
-        // the index tree.
-        indexTree.clear();
-        switchPorts(upperPort, lowerPort);
-        Collections.sort(ports, (a, b) -> Integer.compare(positionOf(a), positionOf(b)));
-        int lowerUpperCrossings = countCrossingsOnPorts(ports);
-        indexTree.clear();
-        switchPorts(lowerPort, upperPort);
+        countCrossingsBetweenPorts(upperPort, lowerPort);
         return Pair.of(upperLowerCrossings, lowerUpperCrossings);
     }
 
     /**
      * Count crossings caused between edges incident to upperNode and lowerNode and when the order of these two is
-     * switched. Initialize before use with {@link #initPortPositionsForInLayerCrossings(LNode[], PortSide)}.
+     * switched. Initialize before use with {@link #initPortPositionsForInLayerCrossings(LNode[], PortSide)}. The
+     * results are available through {@link #getUpperLowerCrossings()} and {@link #getLowerUpperCrossings()}.
+     * 
+     * @param upperNode
+     *            the upper node
+     * @param lowerNode
+     *            the lower node
+     * @param side
+     *            the side on which to count
+     */
+    public void countInLayerCrossingsBetweenNodes(final LNode upperNode, final LNode lowerNode,
+            final PortSide side) {
+        selectConnectedInLayerPorts(upperNode, lowerNode, side);
+        upperLowerCrossings = countInLayerCrossingsOnPorts(selectedPorts, selectedCount);
+        // Since we might add endpositions of ports which are not in the ports list, we need to explicitly remove
+        // them from the index tree.
+        removeEnds(selectedPorts, selectedCount, true);
+        switchNodes(upperNode, lowerNode, side);
+        sortSelectedPorts(false);
+        lowerUpperCrossings = countInLayerCrossingsOnPorts(selectedPorts, selectedCount);
+        removeEnds(selectedPorts, selectedCount, true);
+        switchNodes(lowerNode, upperNode, side);
+    }
+
+    /**
+     * Count crossings caused between edges incident to upperNode and lowerNode and when the order of these two is
+     * switched. Same as {@link #countInLayerCrossingsBetweenNodes(LNode, LNode, PortSide)}, but returns the results.
      * 
      * @param upperNode
      *            the upper node
@@ -239,22 +300,31 @@ public final class CrossingsCounter {
      */
     public Pair<Integer, Integer> countInLayerCrossingsBetweenNodesInBothOrders(final LNode upperNode,
             final LNode lowerNode, final PortSide side) {
-        List<LPort> ports = connectedInLayerPortsSortedByPosition(upperNode, lowerNode, side);
-        int upperLowerCrossings = countInLayerCrossingsOnPorts(ports);
-        switchNodes(upperNode, lowerNode, side);
-        // Since we might add endpositions of ports which are not in the ports list, we need to explicitly clear
-        // the index tree.
-        indexTree.clear();
-        Collections.sort(ports, (a, b) -> Integer.compare(positionOf(a), positionOf(b)));
-        int lowerUpperCrossings = countInLayerCrossingsOnPorts(ports);
-        switchNodes(lowerNode, upperNode, side);
-        indexTree.clear();
+        countInLayerCrossingsBetweenNodes(upperNode, lowerNode, side);
         return Pair.of(upperLowerCrossings, lowerUpperCrossings);
     }
 
+    /**
+     * @return the crossings in the unswitched order found by the last call to
+     *         {@link #countCrossingsBetweenPorts(LPort, LPort)} or
+     *         {@link #countInLayerCrossingsBetweenNodes(LNode, LNode, PortSide)}.
+     */
+    public int getUpperLowerCrossings() {
+        return upperLowerCrossings;
+    }
+
+    /**
+     * @return the crossings in the switched order found by the last call to
+     *         {@link #countCrossingsBetweenPorts(LPort, LPort)} or
+     *         {@link #countInLayerCrossingsBetweenNodes(LNode, LNode, PortSide)}.
+     */
+    public int getLowerUpperCrossings() {
+        return lowerUpperCrossings;
+    }
+
     /**
      * Initializes the counter for counting crosses on a specific side of two layers. Use this method if only if you do
-     * not need to count all crossings, such as with {@link #countCrossingsBetweenPortsInBothOrders(LPort, LPort)}.
+     * not need to count all crossings, such as with {@link #countCrossingsBetweenPorts(LPort, LPort)}.
      *
      * @param leftLayerNodes
      *            Nodes in western layer.
@@ -262,27 +332,27 @@ public final class CrossingsCounter {
      *            Nodes in eastern layer.
      */
     public void initForCountingBetween(final LNode[] leftLayerNodes, final LNode[] rightLayerNodes) {
-        List<LPort> ports = initPortPositionsCounterClockwise(leftLayerNodes, rightLayerNodes);
-        indexTree = new BinaryIndexedTree(ports.size());
+        portCount = 0;
+        initPositions(leftLayerNodes, PortSide.EAST, true, false);
+        initPositions(rightLayerNodes, PortSide.WEST, false, false);
+        indexTree.reset(portCount);
     }
 
     /**
      * Initializes the counter for counting in-layer crossings on a specific side of a single layer. Use this method if
      * only if you do not need to count all in layer crossings, such as with
-     * {@link #countCrossingsBetweenPortsInBothOrders(LPort, LPort)} on one end of a graph or
-     * {@link #countInLayerCrossingsBetweenNodesInBothOrders(LNode, LNode, PortSide)} in the middle.
+     * {@link #countCrossingsBetweenPorts(LPort, LPort)} on one end of a graph or
+     * {@link #countInLayerCrossingsBetweenNodes(LNode, LNode, PortSide)} in the middle.
      * 
      * @param nodes
      *            The order of the nodes in the layer
      * @param side
      *            The side to initialize
-     * @return the ports on which to count crossings on
      */
-    public List<LPort> initPortPositionsForInLayerCrossings(final LNode[] nodes, final PortSide side) {
-        List<LPort> ports = new ArrayList<>();
-        initPositions(nodes, ports, side, true, true);
-        indexTree = new BinaryIndexedTree(ports.size());
-        return ports;
+    public void initPortPositionsForInLayerCrossings(final LNode[] nodes, final PortSide side) {
+        portCount = 0;
+        initPositions(nodes, side, true, true);
+        indexTree.reset(portCount);
     }
 
     /**
@@ -312,13 +382,15 @@ public final class CrossingsCounter {
      *            The side on which the crossings are currently being counted.
      */
     public void switchNodes(final LNode wasUpperNode, final LNode wasLowerNode, final PortSide side) {
-        Iterable<LPort> ports = CrossMinUtil.inNorthSouthEastWestOrder(wasUpperNode, side);
-        for (LPort port : ports) {
+        List<LPort> upperPorts = wasUpperNode.getPortSideView(side);
+        for (int i = 0; i < upperPorts.size(); i++) {
+            LPort port = upperPorts.get(i);
             portPositions[port.id] = positionOf(port) + nodeCardinalities[wasLowerNode.id];
         }
         
-        ports = CrossMinUtil.inNorthSouthEastWestOrder(wasLowerNode, side);
-        for (LPort port : ports) {
+        List<LPort> lowerPorts = wasLowerNode.getPortSideView(side);
+        for (int i = 0; i < lowerPorts.size(); i++) {
+            LPort port = lowerPorts.get(i);
             portPositions[port.id] = positionOf(port) - nodeCardinalities[wasUpperNode.id];
         }
     }
@@ -327,91 +399,186 @@ public final class CrossingsCounter {
     //                                  PRIVATE API
     // - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - 
     
-    private List<LPort> connectedInLayerPortsSortedByPosition(final LNode upperNode, final LNode lowerNode,
-            final PortSide side) {
-        Set<LPort> ports = new TreeSet<>((a, b) -> Integer.compare(positionOf(a), positionOf(b)));
-        for (LNode node : new LNode[] { upperNode, lowerNode }) {
-            for (LPort port : CrossMinUtil.inNorthSouthEastWestOrder(node, side)) {
-                for (LEdge edge : port.getConnectedEdges()) {
-                    if (!edge.isSelfLoop()) {
-                        ports.add(port);
-                        if (isInLayer(edge)) {
-                            ports.add(otherEndOf(edge, port));
-                        }
-                    }
+    private void selectConnectedInLayerPorts(final LNode upperNode, final LNode lowerNode, final PortSide side) {
+        selectedCount = 0;
+        selectConnectedInLayerPorts(upperNode, side);
+        selectConnectedInLayerPorts(lowerNode, side);
+        sortSelectedPorts(true);
+    }
+
+    private void selectConnectedInLayerPorts(final LNode node, final PortSide side) {
+        // Visit the ports in north-south-east-west order
+        List<LPort> nodePorts = node.getPortSideView(side);
+        boolean reverse = side == PortSide.SOUTH || side == PortSide.WEST;
+        int size = nodePorts.size();
+        for (int i = 0; i < size; i++) {
+            LPort port = nodePorts.get(reverse ? size - 1 - i : i);
+            selectInLayerEnds(port, port.getIncomingEdges());
+            selectInLayerEnds(port, port.getOutgoingEdges());
+        }
+    }
+
+    private void selectInLayerEnds(final LPort port, final List<LEdge> edges) {
+        for (int i = 0; i < edges.size(); i++) {
+            LEdge edge = edges.get(i);
+            if (!edge.isSelfLoop()) {
+                select(port);
+                if (isInLayer(edge)) {
+                    select(otherEndOf(edge, port));
                 }
             }
         }
-        return Lists.newArrayList(ports);
     }
 
-    private List<LPort> connectedPortsSortedByPosition(final LPort upperPort, final LPort lowerPort) {
-        Set<LPort> ports = new TreeSet<>((a, b) -> Integer.compare(positionOf(a), positionOf(b)));
-        for (LPort port : new LPort[] { upperPort, lowerPort }) {
-            ports.add(port);
-            for (LEdge edge : port.getConnectedEdges()) {
-                if (!isPortSelfLoop(edge)) {
-                    ports.add(otherEndOf(edge, port));
-                }
+    private void selectConnectedPorts(final LPort upperPort, final LPort lowerPort) {
+        selectedCount = 0;
+        selectConnectedPorts(upperPort);
+        selectConnectedPorts(lowerPort);
+        sortSelectedPorts(true);
+    }
+
+    private void selectConnectedPorts(final LPort port) {
+        select(port);
+        selectEnds(port, port.getIncomingEdges());
+        selectEnds(port, port.getOutgoingEdges());
+    }
+
+    private void selectEnds(final LPort port, final List<LEdge> edges) {
+        for (int i = 0; i < edges.size(); i++) {
+            LEdge edge = edges.get(i);
+            if (!isPortSelfLoop(edge)) {
+                select(otherEndOf(edge, port));
             }
         }
-        return Lists.newArrayList(ports);
     }
 
-    private int countCrossingsOnPorts(final Iterable<LPort> ports) {
-        int crossings = 0;
-        for (LPort port : ports) {
-            indexTree.removeAll(positionOf(port));
-            // First get crossings for all edges.
-            for (LEdge edge : port.getConnectedEdges()) {
+    private void select(final LPort port) {
+        if (selectedCount == selectedPorts.length) {
+            selectedPorts = Arrays.copyOf(selectedPorts, 2 * selectedCount);
+        }
+        selectedPorts[selectedCount++] = port;
+    }
+
+    /**
+     * Sorts the selected ports by their current positions, optionally keeping only the first selected port of each
+     * position.
+     */
+    private void sortSelectedPorts(final boolean removeDuplicates) {
+        if (sortKeys.length < selectedCount) {
+            sortKeys = new long[selectedPorts.length];
+            sortedPorts = new LPort[selectedPorts.length];
+        }
+        for (int i = 0; i < selectedCount; i++) {
+            sortKeys[i] = ((long) positionOf(selectedPorts[i]) << Integer.SIZE) | i;
+        }
+        Arrays.sort(sortKeys, 0, selectedCount);
+
+        int count = 0;
+        for (int i = 0; i < selectedCount; i++) {
+            LPort port = selectedPorts[(int) sortKeys[i]];
+            if (!removeDuplicates || count == 0 || positionOf(sortedPorts[count - 1]) != positionOf(port)) {
+                sortedPorts[count++] = port;
+            }
+        }
+
+        LPort[] swap = selectedPorts;
+        selectedPorts = sortedPorts;
+        sortedPorts = swap;
+        selectedCount = count;
+    }
+
+    /**
+     * Removes the end positions that counting crossings on the given ports left in the index tree.
+     */
+    private void removeEnds(final LPort[] portArray, final int count, final boolean inLayerOnly) {
+        for (int i = 0; i < count; i++) {
+            LPort port = portArray[i];
+            removeEnds(port, port.getIncomingEdges(), inLayerOnly);
+            removeEnds(port, port.getOutgoingEdges(), inLayerOnly);
+        }
+    }
+
+    private void removeEnds(final LPort port, final List<LEdge> edges, final boolean inLayerOnly) {
+        for (int i = 0; i < edges.size(); i++) {
+            LEdge edge = edges.get(i);
+            if (!inLayerOnly || isInLayer(edge)) {
                 int endPosition = positionOf(otherEndOf(edge, port));
                 if (endPosition > positionOf(port)) {
-                    crossings += indexTree.rank(endPosition);
-                    ends.push(endPosition);
+                    indexTree.removeAll(endPosition);
                 }
             }
+        }
+    }
+
+    private int countCrossingsOnPorts(final LPort[] portArray, final int count) {
+        int crossings = 0;
+        for (int i = 0; i < count; i++) {
+            LPort port = portArray[i];
+            indexTree.removeAll(positionOf(port));
+            // First get crossings for all edges.
+            crossings += countCrossingsOnEdges(port, port.getIncomingEdges());
+            crossings += countCrossingsOnEdges(port, port.getOutgoingEdges());
             // Then add end points.
-            while (!ends.isEmpty()) {
-                indexTree.add(ends.pop());
-            }
+            addEnds();
         }
 
         return crossings;
     }
 
-    private int countInLayerCrossingsOnPorts(final Iterable<LPort> ports) {
+    private int countCrossingsOnEdges(final LPort port, final List<LEdge> edges) {
         int crossings = 0;
-        for (LPort port : ports) {
+        for (int i = 0; i < edges.size(); i++) {
+            int endPosition = positionOf(otherEndOf(edges.get(i), port));
+            if (endPosition > positionOf(port)) {
+                crossings += indexTree.rank(endPosition);
+                pushEnd(endPosition);
+            }
+        }
+        return crossings;
+    }
+
+    private int countInLayerCrossingsOnPorts(final LPort[] portArray, final int count) {
+        int crossings = 0;
+        for (int i = 0; i < count; i++) {
+            LPort port = portArray[i];
             indexTree.removeAll(positionOf(port));
-            int numBetweenLayerEdges = 0;
             // First get crossings for all edges.
-            for (LEdge edge : port.getConnectedEdges()) {
-                if (isInLayer(edge)) {
-                    int endPosition = positionOf(otherEndOf(edge, port));
-                    if (endPosition > positionOf(port)) {
-                        crossings += indexTree.rank(endPosition);
-                        ends.push(endPosition);
-                    }
-                } else {
-                    numBetweenLayerEdges++;
-                }
-            }
-            crossings += indexTree.size() * numBetweenLayerEdges;
+            crossings += countInLayerCrossingsOnEdges(port, port.getIncomingEdges());
+            crossings += countInLayerCrossingsOnEdges(port, port.getOutgoingEdges());
             // Then add end points.
-            while (!ends.isEmpty()) {
-                indexTree.add(ends.pop());
-            }
+            addEnds();
         }
         return crossings;
     }
+
+    /**
+     * Counts the crossings of the given in-layer edges and the crossings of between-layer edges with in-layer edges.
+     */
+    private int countInLayerCrossingsOnEdges(final LPort port, final List<LEdge> edges) {
+        int crossings = 0;
+        int numBetweenLayerEdges = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            LEdge edge = edges.get(i);
+            if (isInLayer(edge)) {
+                int endPosition = positionOf(otherEndOf(edge, port));
+                if (endPosition > positionOf(port)) {
+                    crossings += indexTree.rank(endPosition);
+                    pushEnd(endPosition);
+                }
+            } else {
+                numBetweenLayerEdges++;
+            }
+        }
+        return crossings + indexTree.size() * numBetweenLayerEdges;
+    }
    
-    private int countNorthSouthCrossingsOnPorts(final Iterable<LPort> ports) {
+    private int countNorthSouthCrossingsOnPorts(final LPort[] portArray, final int count) {
         int crossings = 0;
-        final List<Pair<LPort, Integer>> targetsAndDegrees = Lists.newArrayList();
         
-        for (LPort port : ports) {
+        for (int i = 0; i < count; i++) {
+            LPort port = portArray[i];
             indexTree.removeAll(positionOf(port));
-            targetsAndDegrees.clear();
+            int targetCount = 0;
 
             // collect the edges that are incident to the port,
             //  which is a bit tedious since north/south ports have no physical edge within the graph at this point
@@ -419,81 +586,115 @@ public final class CrossingsCounter {
             case NORMAL:
                 LNode dummy = (LNode) port.getProperty(InternalProperties.PORT_DUMMY);
                 assert dummy != null; // guarded in #initPositionsForNorthSouthCounting(...)
-                dummy.getPorts().forEach(p -> targetsAndDegrees.add(Pair.of(p, p.getDegree()))); // western and eastern
+                for (LPort p : dummy.getPorts()) { // western and eastern
+                    targetCount = addTarget(targetCount, p, p.getDegree());
+                }
                 break;
 
             case LONG_EDGE:
-                port.getNode().getPorts().stream()
-                    .filter(p -> p != port).findFirst() // add an edge to the dummy's other port
-                    .ifPresent(p -> targetsAndDegrees.add(Pair.of(p, p.getDegree())));
+                for (LPort p : port.getNode().getPorts()) {
+                    if (p != port) {
+                        // add an edge to the dummy's other port
+                        targetCount = addTarget(targetCount, p, p.getDegree());
+                        break;
+                    }
+                }
                 break;
             
             case NORTH_SOUTH_PORT:
                 LPort dummyPort = (LPort) port.getProperty(InternalProperties.ORIGIN);
-                targetsAndDegrees.add(Pair.of(dummyPort, port.getDegree()));
+                targetCount = addTarget(targetCount, dummyPort, port.getDegree());
                 break;
             }
 
             // First get crossings for all edges.
-            for (Pair<LPort, Integer> targetAndDegree : targetsAndDegrees) {
-                int endPosition = positionOf(targetAndDegree.getFirst());
+            for (int t = 0; t < targetCount; t++) {
+                int endPosition = positionOf(targets[t]);
                 if (endPosition > positionOf(port)) {
-                    crossings += indexTree.rank(endPosition) * targetAndDegree.getSecond();
-                    ends.push(endPosition);
+                    crossings += indexTree.rank(endPosition) * targetDegrees[t];
+                    pushEnd(endPosition);
                 }
             }
 
             // Then add end points.
-            while (!ends.isEmpty()) {
-                indexTree.add(ends.pop());
-            }
+            addEnds();
         }
 
         return crossings;
     }
 
-    private void initPositions(final LNode[] nodes, final List<LPort> ports,
-            final PortSide side, final boolean topDown, final boolean getCardinalities) {
-        int numPorts = ports.size();
-        if (getCardinalities) {
+    private int addTarget(final int targetCount, final LPort target, final int degree) {
+        if (targetCount == targets.length) {
+            targets = Arrays.copyOf(targets, 2 * targetCount);
+            targetDegrees = Arrays.copyOf(targetDegrees, 2 * targetCount);
+        }
+        targets[targetCount] = target;
+        targetDegrees[targetCount] = degree;
+        return targetCount + 1;
+    }
+
+    private void pushEnd(final int endPosition) {
+        if (endCount == ends.length) {
+            ends = Arrays.copyOf(ends, 2 * endCount);
+        }
+        ends[endCount++] = endPosition;
+    }
+
+    /**
+     * Adds all end positions on the stack to the index tree.
+     */
+    private void addEnds() {
+        while (endCount > 0) {
+            indexTree.add(ends[--endCount]);
+        }
+    }
+
+    private void initPositions(final LNode[] nodes, final PortSide side, final boolean topDown,
+            final boolean getCardinalities) {
+        
+        if (getCardinalities && nodeCardinalities.length < nodes.length) {
             nodeCardinalities = new int[nodes.length];
         }
         for (int i = start(nodes, topDown); end(i, topDown, nodes); i += step(topDown)) {
             LNode node = nodes[i];
-            List<LPort> nodePorts = getPorts(node, side, topDown);
+            List<LPort> nodePorts = node.getPortSideView(side);
             if (getCardinalities) {
                 nodeCardinalities[node.id] = nodePorts.size();
             }
-            for (LPort port : nodePorts) {
-                portPositions[port.id] = numPorts++;
+            // Ports are indexed clockwise, i.e. east ports top-down and west ports bottom-up
+            boolean clockwise = (side == PortSide.EAST) == topDown;
+            int size = nodePorts.size();
+            for (int j = 0; j < size; j++) {
+                addPort(nodePorts.get(clockwise ? j : size - 1 - j));
             }
-            ports.addAll(nodePorts);
         }
     }
 
-    private List<LPort> initPortPositionsCounterClockwise(final LNode[] leftLayerNodes,
-            final LNode[] rightLayerNodes) {
-        List<LPort> ports = new ArrayList<>();
-        initPositions(leftLayerNodes, ports, PortSide.EAST, true, false);
-        initPositions(rightLayerNodes, ports, PortSide.WEST, false, false);
-        return ports;
+    /**
+     * Assigns the next position to the given port.
+     */
+    private void addPort(final LPort port) {
+        if (portCount == ports.length) {
+            ports = Arrays.copyOf(ports, 2 * portCount);
+        }
+        portPositions[port.id] = portCount;
+        ports[portCount++] = port;
     }
     
     private static final PortSide INDEXING_SIDE = PortSide.WEST;
     private static final PortSide STACK_SIDE = PortSide.EAST;
     
-    private List<LPort> initPositionsForNorthSouthCounting(final LNode[] nodes) {
-        final List<LPort> ports = Lists.newArrayList();
-        final Deque<LNode> stack = new ArrayDeque<>();
+    private void initPositionsForNorthSouthCounting(final LNode[] nodes) {
+        portCount = 0;
+        dummyCount = 0;
         
         LNode lastLayoutUnit = null;
-        int index = 0;
         for (int i = 0; i < nodes.length; ++i) {
             LNode current = nodes[i];
 
             if (isLayoutUnitChanged(lastLayoutUnit, current)) {
                 // work the stack (filled with southern dummies)
-                index = emptyStack(stack, ports, STACK_SIDE, index);
+                emptyStack(STACK_SIDE);
             }
             if (current.hasProperty(InternalProperties.IN_LAYER_LAYOUT_UNIT)) {
                 lastLayoutUnit = current.getProperty(InternalProperties.IN_LAYER_LAYOUT_UNIT);
@@ -503,39 +704,32 @@ public final class CrossingsCounter {
             // what we consider normal
             case NORMAL:
                 // index the northern ports west-to-east
-                for (LPort p : getNorthSouthPortsWithIncidentEdges(current, PortSide.NORTH)) {
-                    portPositions[p.id] = index++;
-                    ports.add(p);
-                }
+                addNorthSouthPortsWithIncidentEdges(current, PortSide.NORTH);
                 
                 // work the stack (filled with northern dummies)
-                index = emptyStack(stack, ports, STACK_SIDE, index);
+                emptyStack(STACK_SIDE);
                 
                 // index the southern ports in regular clock-wise order
-                for (LPort p : getNorthSouthPortsWithIncidentEdges(current, PortSide.SOUTH)) {
-                    portPositions[p.id] = index++;
-                    ports.add(p);
-                }
+                addNorthSouthPortsWithIncidentEdges(current, PortSide.SOUTH);
                 break;
                 
             case NORTH_SOUTH_PORT:
                 if (!current.getPortSideView(INDEXING_SIDE).isEmpty()) {
                     // should be only one
-                    LPort p = current.getPortSideView(INDEXING_SIDE).get(0);
-                    portPositions[p.id] = index++;
-                    ports.add(p);
+                    addPort(current.getPortSideView(INDEXING_SIDE).get(0));
                 }
                 if (!current.getPortSideView(STACK_SIDE).isEmpty()) {
-                    stack.push(current);
+                    pushDummy(current);
                 }
                 break;
                 
             case LONG_EDGE:
                 for (LPort p : current.getPortSideView(PortSide.WEST)) {
-                    portPositions[p.id] = index++;
-                    ports.add(p);
+                    addPort(p);
+                }
+                for (int j = current.getPortSideView(PortSide.EAST).size(); j > 0; j--) {
+                    pushDummy(current);
                 }
-                current.getPortSideView(PortSide.EAST).forEach(p -> stack.push(current));
                 break;
                 
             default: // nothing to do here
@@ -544,24 +738,24 @@ public final class CrossingsCounter {
         }
         
         // are there any southern dummy nodes left on the stack?
-        emptyStack(stack, ports, STACK_SIDE, index);
-        
-        return ports;
+        emptyStack(STACK_SIDE);
     }
 
-    private int emptyStack(final Deque<LNode> stack, final List<LPort> ports, 
-            final PortSide side, final int startIndex) {
-        
-        int index = startIndex;
-        while (!stack.isEmpty()) {
-            LNode dummy = stack.pop(); 
+    private void pushDummy(final LNode dummy) {
+        if (dummyCount == dummyStack.length) {
+            dummyStack = Arrays.copyOf(dummyStack, 2 * dummyCount);
+        }
+        dummyStack[dummyCount++] = dummy;
+    }
+
+    private void emptyStack(final PortSide side) {
+        while (dummyCount > 0) {
+            LNode dummy = dummyStack[--dummyCount];
+            dummyStack[dummyCount] = null;
             // dummy is either a north/south port dummy or a long edge dummy
             //  both of which have only a single port on the west and/or east side
-            LPort p = dummy.getPortSideView(side).get(0);
-            portPositions[p.id] = index++;
-            ports.add(p);
+            addPort(dummy.getPortSideView(side).get(0));
         }
-        return index;
     }
     
 
@@ -569,23 +763,13 @@ public final class CrossingsCounter {
     //                                  CONVENIENCE
     // - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - 
     
-    private List<LPort> getPorts(final LNode node, final PortSide side, final boolean topDown) {
-        if (side == PortSide.EAST) {
-            if (topDown) {
-                return node.getPortSideView(side);
-            } else {
-                return Lists.reverse(node.getPortSideView(side));
+    private void addNorthSouthPortsWithIncidentEdges(final LNode node, final PortSide side) {
+        for (LPort p : node.getPortSideView(side)) {
+            if (p.hasProperty(InternalProperties.PORT_DUMMY)) {
+                addPort(p);
             }
-        } else if (topDown) {
-            return Lists.reverse(node.getPortSideView(side));
-        } else {
-            return node.getPortSideView(side);
         }
     }
-
-    private Iterable<LPort> getNorthSouthPortsWithIncidentEdges(final LNode node, final PortSide side) {
-        return Iterables.filter(node.getPortSideView(side), p -> p.hasProperty(InternalProperties.PORT_DUMMY));
-    }
     
     private int start(final LNode[] nodes, final boolean topDown) {
         return topDown ? 0 : nodes.length - 1;
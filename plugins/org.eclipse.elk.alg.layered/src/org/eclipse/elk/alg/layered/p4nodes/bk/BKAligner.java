@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Kiel University and others.
+ * Copyright (c) 2015, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,7 +14,6 @@ import static org.eclipse.elk.alg.layered.p4nodes.bk.BKNodePlacer.getEdge;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.elk.alg.layered.graph.LEdge;
 import org.eclipse.elk.alg.layered.graph.LGraph;
@@ -23,7 +22,6 @@ import org.eclipse.elk.alg.layered.graph.Layer;
 import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
 import org.eclipse.elk.alg.layered.p4nodes.bk.BKAlignedLayout.HDirection;
 import org.eclipse.elk.alg.layered.p4nodes.bk.BKAlignedLayout.VDirection;
-import org.eclipse.elk.core.util.Pair;
 
 import com.google.common.collect.Lists;
 
@@ -60,9 +58,9 @@ public class BKAligner {
      * possible, such that the long edge is drawn straightly.</p>
      * 
      * @param bal One of the four layouts which shall be used in this step 
-     * @param markedEdges List with all edges that were marked as type 1 conflicts
+     * @param markedEdges flags indexed by edge id that tell which edges were marked as type 1 conflicts
      */
-    public void verticalAlignment(final BKAlignedLayout bal, final Set<LEdge> markedEdges) {
+    public void verticalAlignment(final BKAlignedLayout bal, final boolean[] markedEdges) {
         // Initialize root and align maps
         for (Layer layer : layeredGraph.getLayers()) {
             for (LNode v : layer.getNodes()) {
@@ -98,18 +96,25 @@ public class BKAligner {
             // m denotes the position of a neighbor in the neighbor list of a node.
             // CHECKSTYLEOFF Local Variable Names
             for (LNode v_i_k : nodes) {
-                List<Pair<LNode, LEdge>> neighbors = null;
+                int[] neighborStart;
+                int[] neighborNodes;
+                int[] neighborEdges;
                 if (bal.hdir == HDirection.LEFT) {
-                    neighbors = ni.rightNeighbors.get(v_i_k.id);
+                    neighborStart = ni.rightNeighborStart;
+                    neighborNodes = ni.rightNeighborNodes;
+                    neighborEdges = ni.rightNeighborEdges;
                 } else {
-                    neighbors = ni.leftNeighbors.get(v_i_k.id);
+                    neighborStart = ni.leftNeighborStart;
+                    neighborNodes = ni.leftNeighborNodes;
+                    neighborEdges = ni.leftNeighborEdges;
                 }
 
-                if (neighbors.size() > 0) {
+                int first = neighborStart[v_i_k.id];
+                int d = neighborStart[v_i_k.id + 1] - first;
+                if (d > 0) {
 
                     // When a node has many upper neighbors, consider only the (two) nodes in the
                     // middle.
-                    int d = neighbors.size();
                     int low = ((int) Math.floor(((d + 1.0) / 2.0))) - 1;
                     int high = ((int) Math.ceil(((d + 1.0) / 2.0))) - 1;
 
@@ -117,19 +122,17 @@ public class BKAligner {
                         // Check, whether v_i_k can be added to a block of its upper/lower neighbor(s)
                         for (int m = high; m >= low; m--) {
                             if (bal.align[v_i_k.id].equals(v_i_k)) {
-                                Pair<LNode, LEdge> u_m_pair = neighbors.get(m);
-                                LNode u_m = u_m_pair.getFirst();
+                                int u_m = neighborNodes[first + m];
                                 
-                                // Again, getEdge won't return null because the neighbor relationship
+                                // Again, the edge exists because the neighbor relationship
                                 // ensures that at least one edge exists
-                                if (!markedEdges.contains(u_m_pair.getSecond()) 
-                                        && r > ni.nodeIndex[u_m.id]) {
-                                    bal.align[u_m.id] = v_i_k;
-                                    bal.root[v_i_k.id] = bal.root[u_m.id];
+                                if (!markedEdges[neighborEdges[first + m]] && r > ni.nodeIndex[u_m]) {
+                                    bal.align[u_m] = v_i_k;
+                                    bal.root[v_i_k.id] = bal.root[u_m];
                                     bal.align[v_i_k.id] = bal.root[v_i_k.id];
                                     bal.od[bal.root[v_i_k.id].id] &= v_i_k.getType() == NodeType.LONG_EDGE;  
                                     
-                                    r = ni.nodeIndex[u_m.id];
+                                    r = ni.nodeIndex[u_m];
                                 }
                             }
                         }
@@ -137,17 +140,15 @@ public class BKAligner {
                         // Check, whether vik can be added to a block of its upper/lower neighbor(s)
                         for (int m = low; m <= high; m++) {
                             if (bal.align[v_i_k.id].equals(v_i_k)) {
-                                Pair<LNode, LEdge> um_pair = neighbors.get(m);
-                                LNode um = um_pair.getFirst();
+                                int um = neighborNodes[first + m];
                                 
-                                if (!markedEdges.contains(um_pair.getSecond()) 
-                                        && r < ni.nodeIndex[um.id]) {
-                                    bal.align[um.id] = v_i_k;
-                                    bal.root[v_i_k.id] = bal.root[um.id];
+                                if (!markedEdges[neighborEdges[first + m]] && r < ni.nodeIndex[um]) {
+                                    bal.align[um] = v_i_k;
+                                    bal.root[v_i_k.id] = bal.root[um];
                                     bal.align[v_i_k.id] = bal.root[v_i_k.id];
                                     bal.od[bal.root[v_i_k.id].id] &= v_i_k.getType() == NodeType.LONG_EDGE;
                                     
-                                    r = ni.nodeIndex[um.id];
+                                    r = ni.nodeIndex[um];
                                 }
                             }
                         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 Kiel University and others.
+ * Copyright (c) 2012, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.stream.IntStream;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.LayeredPhases;
 import org.eclipse.elk.alg.layered.graph.LEdge;
@@ -31,7 +34,6 @@ import org.eclipse.elk.alg.layered.p4nodes.bk.BKAlignedLayout.VDirection;
 import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
-import org.eclipse.elk.core.util.Pair;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -50,7 +52,7 @@ import com.google.common.collect.Sets;
  * and was made more stable in general. The algorithm is structured in five steps, which include two new
  * steps which were not included in the original algorithm by Brandes and Koepf. The middle three steps
  * are executed four times, traversing the graph in all combinations of TOP or BOTTOM and LEFT or
- * RIGHT.</p>
+ * RIGHT. Since the four runs are independent of each other, they can be executed in parallel.</p>
  * 
  * <p>In ELK Layered we have the general idea of layouting from left to right and
  * transforming in the desired direction later. We decided to translate the terminology of the original
@@ -131,8 +133,8 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
     }
     
     private LGraph lGraph;
-    /** List of edges involved in type 1 conflicts (see above). */
-    private final Set<LEdge> markedEdges = Sets.newHashSet();
+    /** Flags indexed by edge id that tell which edges are involved in type 1 conflicts (see above). */
+    private boolean[] markedEdges;
     /**  Precalculated information on nodes' neighborhoods etc. */
     private NeighborhoodInformation ni;
 
@@ -148,6 +150,7 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
         // Precalculate some information that we require during the 
         // following processes. 
         ni = NeighborhoodInformation.buildFor(layeredGraph);
+        markedEdges = new boolean[ni.graph.edges.length];
 
         // a balanced layout is desired if
         //  a) no specific alignment is set and straight edges are not desired
@@ -202,23 +205,20 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
                 layouts.add(leftup); 
         }
         
+        // The layouts are independent of each other once the conflicts are marked
         BKAligner aligner = new BKAligner(layeredGraph, ni);
-        for (BKAlignedLayout bal : layouts) {
-            // Phase which determines the nodes' memberships in blocks. This happens in four different
-            // ways, either from processing the nodes from the first layer to the last or vice versa.
-            aligner.verticalAlignment(bal, markedEdges);
-            
-            // Additional phase which is not included in the original Brandes-Koepf Algorithm.
-            // It makes sure that the connected ports within a block are aligned to avoid unnecessary
-            // bend points. Also, the required size of each block is determined.
-            aligner.insideBlockShift(bal);
+        boolean computed = false;
+        // elkjs-exclude-start
+        if (layeredGraph.getProperty(LayeredOptions.NODE_PLACEMENT_BK_PARALLEL_ALIGNMENTS) && layouts.size() > 1) {
+            computeLayoutsInParallel(layeredGraph, aligner, layouts);
+            computed = true;
         }
-
-        ICompactor compacter = new BKCompactor(layeredGraph, ni);
-        for (BKAlignedLayout bal : layouts) {
-            // This phase determines the y coordinates of the blocks and thus the vertical coordinates
-            // of all nodes.
-            compacter.horizontalCompaction(bal);
+        // elkjs-exclude-end
+        if (!computed) {
+            ICompactor compacter = new BKCompactor(layeredGraph, ni);
+            for (BKAlignedLayout bal : layouts) {
+                computeLayout(aligner, compacter, bal);
+            }
         }
 
         // Debug output
@@ -262,31 +262,73 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
         }
         
         // Apply calculated positions to nodes.
-        for (Layer layer : layeredGraph.getLayers()) {
-            for (LNode node : layer.getNodes()) {
-                node.getPosition().y = chosenLayout.y[node.id] + chosenLayout.innerShift[node.id];
-            }
+        double[] nodeY = ni.graph.nodeY;
+        for (int n = 0; n < nodeY.length; n++) {
+            nodeY[n] = chosenLayout.y[n] + chosenLayout.innerShift[n];
         }
+        ni.graph.applyNodeCoordinates();
 
         // Debug output
         if (monitor.isLoggingEnabled()) {
             monitor.log("Chosen node placement: " + chosenLayout);
             monitor.log("Blocks: " + getBlocks(chosenLayout));
             monitor.log("Classes: " + getClasses(chosenLayout, monitor));
-            monitor.log("Marked edges: " + markedEdges);
+            List<LEdge> marked = Lists.newArrayList();
+            for (int e = 0; e < markedEdges.length; e++) {
+                if (markedEdges[e]) {
+                    marked.add(ni.graph.edges[e]);
+                }
+            }
+            monitor.log("Marked edges: " + marked);
         }
         
         // cleanup
         for (BKAlignedLayout bal : layouts) {
             bal.cleanup();
         }
-        ni.cleanup();
-        markedEdges.clear();
+        ni = null;
+        markedEdges = null;
         
         monitor.done();
     }
     
 
+    /**
+     * Computes the given layout by running the three middle steps of the algorithm.
+     */
+    private void computeLayout(final BKAligner aligner, final ICompactor compacter, final BKAlignedLayout bal) {
+        // Phase which determines the nodes' memberships in blocks. This happens in four different
+        // ways, either from processing the nodes from the first layer to the last or vice versa.
+        aligner.verticalAlignment(bal, markedEdges);
+
+        // Additional phase which is not included in the original Brandes-Koepf Algorithm.
+        // It makes sure that the connected ports within a block are aligned to avoid unnecessary
+        // bend points. Also, the required size of each block is determined.
+        aligner.insideBlockShift(bal);
+
+        // This phase determines the y coordinates of the blocks and thus the vertical coordinates
+        // of all nodes.
+        compacter.horizontalCompaction(bal);
+    }
+
+    // elkjs-exclude-start
+    /**
+     * Computes the given layouts in parallel on the common fork-join pool. The neighborhood information, the marked
+     * edges, and the graph are only read while the layouts are computed, and the aligner keeps no state of its own.
+     * Each layout gets a compacter of its own, which is created up front since its creation reads layout options.
+     */
+    private void computeLayoutsInParallel(final LGraph layeredGraph, final BKAligner aligner,
+            final List<BKAlignedLayout> layouts) {
+
+        ICompactor[] compacters = new ICompactor[layouts.size()];
+        for (int i = 0; i < compacters.length; i++) {
+            compacters[i] = new BKCompactor(layeredGraph, ni);
+        }
+        IntStream.range(0, compacters.length).parallel().forEach(i ->
+            computeLayout(aligner, compacters[i], layouts.get(i)));
+    }
+    // elkjs-exclude-end
+
     /////////////////////////////////////////////////////////////////////////////////////////////////////
     // Conflict Detection
     
@@ -347,21 +389,21 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
                 if (l_1 == ((layerSize[i + 1]) - 1) || incidentToInnerSegment(v_l_i, i + 1, i)) {
                     int k_1 = layerSize[i] - 1;
                     if (incidentToInnerSegment(v_l_i, i + 1, i)) {
-                        k_1 = ni.nodeIndex[ni.leftNeighbors.get(v_l_i.id).get(0).getFirst().id];
+                        k_1 = ni.nodeIndex[ni.leftNeighborNodes[ni.leftNeighborStart[v_l_i.id]]];
                     }
                     
                     while (l <= l_1) {
                         LNode v_l = currentLayer.getNodes().get(l);
                         
                         if (!incidentToInnerSegment(v_l, i + 1, i)) {
-                            for (Pair<LNode, LEdge> upperNeighbor : ni.leftNeighbors.get(v_l.id)) {
-                                int k = ni.nodeIndex[upperNeighbor.getFirst().id];
+                            for (int n = ni.leftNeighborStart[v_l.id]; n < ni.leftNeighborStart[v_l.id + 1]; n++) {
+                                int k = ni.nodeIndex[ni.leftNeighborNodes[n]];
                                 
                                 if (k < k_0 || k > k_1) {
                                     // Marked edge can't return null here, because the upper neighbor
                                     // relationship between v_l and upperNeighbor enforces the existence
                                     // of at least one edge between the two nodes
-                                    markedEdges.add(upperNeighbor.getSecond());
+                                    markedEdges[ni.leftNeighborEdges[n]] = true;
                                 }
                             }
                         }
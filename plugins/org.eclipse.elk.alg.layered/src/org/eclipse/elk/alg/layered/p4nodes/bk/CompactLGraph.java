@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p4nodes.bk;
+
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LGraphElement;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.Layer;
+
+/**
+ * A struct-of-arrays view of a layered graph from which {@link NeighborhoodInformation} derives the neighbors of the
+ * nodes and on which the {@link BKNodePlacer} computes the final y coordinates. Nodes and edges are numbered
+ * consecutively and their relations are stored in int arrays in compressed sparse row form: the incident edges of
+ * node {@code n} are found at the indices {@code start[n]} (inclusive) to {@code start[n + 1]} (exclusive) of the
+ * respective array. The view only holds what the node placer needs, which are the adjacency of the nodes and their
+ * y coordinates.
+ *
+ * <p>Nodes are numbered layer by layer in the order of the layers' node lists, and edges in the order of their source
+ * nodes and of {@link LNode#getOutgoingEdges()}. The outgoing edges of node {@code n} are thus the edges
+ * {@code outStart[n]} to {@code outStart[n + 1] - 1}. Creating the view sets the {@link LGraphElement#id id} of each
+ * layer, node, and edge to its index, so the node placer can switch between the object model and the view freely.
+ * The view does not follow later modifications of the graph. Node coordinates computed on the view are transferred
+ * to the graph with {@link #applyNodeCoordinates()}.</p>
+ *
+ * <p>All nodes of the graph must be assigned to layers, and all edges must connect nodes of the graph.</p>
+ */
+final class CompactLGraph {
+
+    // Allow the fields of this view to be accessed from package siblings.
+    // SUPPRESS CHECKSTYLE NEXT 30 VisibilityModifier
+
+    /** the layered graph this is a view of. */
+    final LGraph graph;
+
+    /** the nodes, layer by layer. */
+    final LNode[] nodes;
+    /** the index of each node within its layer. */
+    final int[] nodeIndex;
+    /** the y coordinate of each node. */
+    final double[] nodeY;
+
+    /** the edges, in the order of their source nodes. */
+    final LEdge[] edges;
+    /** the source node of each edge. */
+    final int[] edgeSource;
+    /** the target node of each edge. */
+    final int[] edgeTarget;
+
+    /** the outgoing edges of node {@code n} are {@code outStart[n]} to {@code outStart[n + 1] - 1}. */
+    final int[] outStart;
+    /** the incoming edges of node {@code n} are {@code inEdges[inStart[n]]} and following. */
+    final int[] inStart;
+    /** the incoming edges of the nodes, ordered as {@link LNode#getIncomingEdges()}. */
+    final int[] inEdges;
+
+    /** the number of layers. */
+    private final int layerCount;
+
+    /**
+     * Creates the view of the given graph. Use {@link #of(LGraph)}.
+     */
+    private CompactLGraph(final LGraph graph, final int nodeCount, final int edgeCount) {
+        this.graph = graph;
+        layerCount = graph.getLayers().size();
+        nodes = new LNode[nodeCount];
+        nodeIndex = new int[nodeCount];
+        nodeY = new double[nodeCount];
+        edges = new LEdge[edgeCount];
+        edgeSource = new int[edgeCount];
+        edgeTarget = new int[edgeCount];
+        outStart = new int[nodeCount + 1];
+        inStart = new int[nodeCount + 1];
+        inEdges = new int[edgeCount];
+    }
+
+    /**
+     * Creates the view of the given graph, assigning the ids of its layers, nodes, and edges.
+     *
+     * @param graph a layered graph
+     * @return the view
+     */
+    static CompactLGraph of(final LGraph graph) {
+        // Number the elements
+        int layerId = 0;
+        int nodeCount = 0;
+        int edgeCount = 0;
+        for (Layer layer : graph) {
+            layer.id = layerId++;
+            for (LNode node : layer) {
+                node.id = nodeCount++;
+                for (LEdge edge : node.getOutgoingEdges()) {
+                    edge.id = edgeCount++;
+                }
+            }
+        }
+
+        CompactLGraph view = new CompactLGraph(graph, nodeCount, edgeCount);
+
+        // Nodes and edges
+        int n = 0;
+        int e = 0;
+        for (Layer layer : graph) {
+            int index = 0;
+            for (LNode node : layer) {
+                view.nodes[n] = node;
+                view.nodeIndex[n] = index++;
+                view.nodeY[n] = node.getPosition().y;
+                view.outStart[n] = e;
+                for (LEdge edge : node.getOutgoingEdges()) {
+                    view.edges[e] = edge;
+                    view.edgeSource[e] = n;
+                    view.edgeTarget[e] = edge.getTarget().getNode().id;
+                    e++;
+                }
+                n++;
+            }
+        }
+        view.outStart[nodeCount] = e;
+
+        // Incoming edges
+        int in = 0;
+        for (n = 0; n < nodeCount; n++) {
+            view.inStart[n] = in;
+            for (LEdge edge : view.nodes[n].getIncomingEdges()) {
+                view.inEdges[in++] = edge.id;
+            }
+        }
+        view.inStart[nodeCount] = in;
+
+        return view;
+    }
+
+    /**
+     * Returns the number of layers.
+     *
+     * @return the number of layers
+     */
+    int layerCount() {
+        return layerCount;
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return the number of nodes
+     */
+    int nodeCount() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns whether the given edge connects a node to itself.
+     *
+     * @param edge index of an edge
+     * @return whether the edge is a self loop
+     */
+    boolean isSelfLoop(final int edge) {
+        return edgeSource[edge] == edgeTarget[edge];
+    }
+
+    /**
+     * Returns whether the given edge connects two different nodes of the same layer.
+     *
+     * @param edge index of an edge
+     * @return whether the edge is an in-layer edge
+     */
+    boolean isInLayerEdge(final int edge) {
+        int source = edgeSource[edge];
+        int target = edgeTarget[edge];
+        return source != target && nodes[source].getLayer() == nodes[target].getLayer();
+    }
+
+    /**
+     * Sets the y coordinate of each node of the graph to the one held by this view.
+     */
+    void applyNodeCoordinates() {
+        for (int n = 0; n < nodes.length; n++) {
+            nodes[n].getPosition().y = nodeY[n];
+        }
+    }
+
+}
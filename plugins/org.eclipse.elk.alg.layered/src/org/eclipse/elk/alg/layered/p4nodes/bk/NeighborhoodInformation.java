@@ -1,6 +1,6 @@
 /*******************************************************************************
- * Copyright (c) 2015 Kiel University and others.
- * 
+ * Copyright (c) 2015, 2026 Kiel University and others.
+ *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -9,190 +9,155 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.p4nodes.bk;
 
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
+import java.util.Arrays;
 
-import org.eclipse.elk.alg.layered.graph.LEdge;
 import org.eclipse.elk.alg.layered.graph.LGraph;
-import org.eclipse.elk.alg.layered.graph.LNode;
-import org.eclipse.elk.alg.layered.graph.Layer;
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
-import org.eclipse.elk.core.util.Pair;
-
-import com.google.common.collect.Lists;
 
 /**
  * Class holds neighborhood information for a layered graph that is used during bk node placing.
  * Since this information is required multiple times but does not change during processing we
- * precalculate it in this class.
- * 
+ * precalculate it in this class. Nodes and edges are referred to by their ids, which are their
+ * indices in the underlying {@link CompactLGraph}, and the neighbors are stored in compressed
+ * sparse row form.
+ *
+ * <p>Instances are never modified once they are built. They can thus be shared by the alignments
+ * that the {@link BKNodePlacer} computes in parallel, provided that the arrays are only read.</p>
+ *
  * @author uru
  */
 public final class NeighborhoodInformation {
-    
+
     // Allow the fields of this container to be accessed from package siblings.
-    // SUPPRESS CHECKSTYLE NEXT 24 VisibilityModifier
-    
+    // SUPPRESS CHECKSTYLE NEXT 36 VisibilityModifier
+
+    /** The array-based view of the graph, used by package siblings only. */
+    final CompactLGraph graph;
     /** Number of nodes in the graph. */
-    public int nodeCount;
+    public final int nodeCount;
     /** For a layer {@code l} the entry at {@code layerIndex[l.id]} holds the index of layer {@code l}. */
-    public int[] layerIndex;
+    public final int[] layerIndex;
     /** For a node {@code n} the entry at {@code nodeIndex[n.id]} holds the index of {@code n} within its layer. */
-    public int[] nodeIndex;
+    public final int[] nodeIndex;
     /**
-     * For a node n holds leftNeighbors.get(n.id) holds a list with all left neighbors along with
-     * any edge that connects n to its neighbor.
+     * The left neighbors of node {@code n} are stored at the indices {@code leftNeighborStart[n.id]} to
+     * {@code leftNeighborStart[n.id + 1] - 1} of {@link #leftNeighborNodes} and {@link #leftNeighborEdges}.
      */
-    public List<List<Pair<LNode, LEdge>>> leftNeighbors;
-    /** See javadoc of {@link #leftNeighbors}. */
-    public List<List<Pair<LNode, LEdge>>> rightNeighbors;
-    /** A comparator to sort a list of neighbor nodes. */
-    private NeighborComparator neighborComparator;
-    
+    public final int[] leftNeighborStart;
     /**
-     * Use {@link #buildFor(LGraph)} to construct an instance.
+     * The ids of all left neighbors, ordered by their index in their layer. A node is a left neighbor
+     * of {@code n} once for every edge of highest straightness priority that connects it to {@code n}.
      */
-    private NeighborhoodInformation() {
-    }
-    
+    public final int[] leftNeighborNodes;
+    /** For each entry of {@link #leftNeighborNodes} the id of the edge that connects the neighbor. */
+    public final int[] leftNeighborEdges;
+    /** See javadoc of {@link #leftNeighborStart}. */
+    public final int[] rightNeighborStart;
+    /** See javadoc of {@link #leftNeighborNodes}. */
+    public final int[] rightNeighborNodes;
+    /** See javadoc of {@link #leftNeighborEdges}. */
+    public final int[] rightNeighborEdges;
+
     /**
-     * Release allocated resources.
+     * Use {@link #buildFor(LGraph)} to construct an instance.
      */
-    public void cleanup() {
-        layerIndex = null;
-        nodeIndex = null;
-        leftNeighbors.clear();
-        rightNeighbors.clear();
-        neighborComparator = null;
+    private NeighborhoodInformation(final CompactLGraph graph) {
+        this.graph = graph;
+        nodeCount = graph.nodeCount();
+
+        // cache indexes of layers and of nodes
+        layerIndex = new int[graph.layerCount()];
+        for (int l = 0; l < layerIndex.length; l++) {
+            layerIndex[l] = l;
+        }
+        nodeIndex = graph.nodeIndex;
+
+        // determine all left and right neighbors of the graph's nodes
+        int[] priorities = new int[graph.edges.length];
+        for (int e = 0; e < priorities.length; e++) {
+            priorities[e] = graph.edges[e].getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
+        }
+
+        leftNeighborStart = new int[nodeCount + 1];
+        leftNeighborNodes = new int[graph.inEdges.length];
+        leftNeighborEdges = new int[graph.inEdges.length];
+        determineNeighbors(graph, priorities, true, leftNeighborStart, leftNeighborNodes, leftNeighborEdges);
+
+        rightNeighborStart = new int[nodeCount + 1];
+        rightNeighborNodes = new int[graph.edges.length];
+        rightNeighborEdges = new int[graph.edges.length];
+        determineNeighbors(graph, priorities, false, rightNeighborStart, rightNeighborNodes, rightNeighborEdges);
     }
-    
+
     /**
      * Creates and properly initializes the neighborhood information required by the
      * {@link BKNodePlacer}. This includes:
      * <ul>
-     * <li>calculating the number of nodes in the graph</li>
-     * <li>assigning a unique id to every layer and node</li>
+     * <li>creating a {@link CompactLGraph}, which assigns a unique id to every layer, node, and edge</li>
      * <li>recording the index of every node in its layer</li>
      * <li>calculating left and right neighbors for every node</li>
      * </ul>
-     * 
+     *
      * @param graph
      *            the underlying graph
      * @return a properly initialized instance
      */
     public static NeighborhoodInformation buildFor(final LGraph graph) {
-        NeighborhoodInformation ni = new NeighborhoodInformation();
-        
-        ni.nodeCount = 0;
-        for (Layer layer : graph) {
-            ni.nodeCount += layer.getNodes().size();
-        }
-        
-        // cache indexes of layers and of nodes
-        int lId = 0;
-        int lIndex = 0;
-        ni.layerIndex = new int[graph.getLayers().size()];
-        int nId = 0;
-        int nIndex = 0;
-        ni.nodeIndex = new int[ni.nodeCount];
-        for (Layer l : graph.getLayers()) {
-            l.id = lId++;
-            ni.layerIndex[l.id] = lIndex++;
-            nIndex = 0;
-            for (LNode n : l.getNodes()) {
-                n.id = nId++;
-                ni.nodeIndex[n.id] = nIndex++;
-            }
-        }
-        
-        // we will need a comparator for the next step
-        ni.neighborComparator = ni.new NeighborComparator();
-        
-        // determine all left and right neighbors of the graph's nodes
-        ni.leftNeighbors = Lists.newArrayListWithCapacity(ni.nodeCount);
-        determineAllLeftNeighbors(ni, graph);
-        ni.rightNeighbors = Lists.newArrayListWithCapacity(ni.nodeCount);
-        determineAllRightNeighbors(ni, graph);
-        
-        return ni;
+        return new NeighborhoodInformation(CompactLGraph.of(graph));
     }
-    
-    
+
     /**
-     * Give all right neighbors (originally known as lower neighbors) of a given node. A lower
-     * neighbor is a node in a following layer that has an edge coming from the given node.
+     * Determines the left neighbors (originally known as upper neighbors) or the right neighbors
+     * (originally known as lower neighbors) of all nodes. A left neighbor is a node in a previous
+     * layer that has an edge pointing to the given node, a right neighbor is a node in a following
+     * layer that has an edge coming from the given node. Only the edges of the highest straightness
+     * priority are considered.
      */
-    private static void determineAllRightNeighbors(final NeighborhoodInformation ni, final LGraph graph) {
-        for (Layer l : graph) {
-            for (LNode n : l) {
-
-                List<Pair<LNode, LEdge>> result = Lists.newArrayList();
-                int maxPriority = 0;
-                
-                for (LEdge edge : n.getOutgoingEdges()) {
-                    if (edge.isSelfLoop() || edge.isInLayerEdge()) {
-                        continue;
-                    } 
-                    int edgePrio = edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
-                    if (edgePrio > maxPriority) {
-                        maxPriority = edgePrio;
-                        result.clear();
-                    }
-                    if (edgePrio == maxPriority) {
-                        result.add(Pair.of(edge.getTarget().getNode(), edge));
-                    }
-                }
+    private static void determineNeighbors(final CompactLGraph g, final int[] priorities, final boolean left,
+            final int[] neighborStart, final int[] neighborNodes, final int[] neighborEdges) {
 
-                Collections.sort(result, ni.neighborComparator);
+        // The outgoing edges of a node are numbered consecutively, the incoming ones are listed in inEdges
+        int[] edgeStart = left ? g.inStart : g.outStart;
+        int[] neighbor = left ? g.edgeSource : g.edgeTarget;
+        int nodeCount = g.nodeCount();
+        long[] keys = new long[neighborEdges.length];
+        int count = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            neighborStart[n] = count;
+            int maxPriority = 0;
 
-                ni.rightNeighbors.add(n.id, result);
+            for (int i = edgeStart[n]; i < edgeStart[n + 1]; i++) {
+                int edge = left ? g.inEdges[i] : i;
+                if (g.isSelfLoop(edge) || g.isInLayerEdge(edge)) {
+                    continue;
+                }
+                int edgePrio = priorities[edge];
+                if (edgePrio > maxPriority) {
+                    maxPriority = edgePrio;
+                    count = neighborStart[n];
+                }
+                if (edgePrio == maxPriority) {
+                    neighborEdges[count++] = edge;
+                }
             }
-        }
-    }
-    
 
-    /**
-     * Gives all left neighbors (originally known as upper neighbors) of a given node. An upper
-     * neighbor is a node in a previous layer that has an edge pointing to the given node.
-     */
-    private static void determineAllLeftNeighbors(final NeighborhoodInformation ni, final LGraph graph) {
-        for (Layer l : graph) {
-            for (LNode n : l) {
-                
-                List<Pair<LNode, LEdge>> result = Lists.newArrayList();
-                int maxPriority = 0;
-                
-                for (LEdge edge : n.getIncomingEdges()) {
-                    if (edge.isSelfLoop() || edge.isInLayerEdge()) {
-                        continue;
-                    } 
-                    int edgePrio = edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
-                    if (edgePrio > maxPriority) {
-                        maxPriority = edgePrio;
-                        result.clear();
-                    }
-                    if (edgePrio == maxPriority) {
-                        result.add(Pair.of(edge.getSource().getNode(), edge));
-                    }
+            // sort the neighbors by their index in their layer, keeping the order of edges to the same neighbor
+            int from = neighborStart[n];
+            if (count - from > 1) {
+                for (int i = from; i < count; i++) {
+                    keys[i] = ((long) g.nodeIndex[neighbor[neighborEdges[i]]] << Integer.SIZE) | (i - from);
+                }
+                Arrays.sort(keys, from, count);
+                int[] edges = Arrays.copyOfRange(neighborEdges, from, count);
+                for (int i = from; i < count; i++) {
+                    neighborEdges[i] = edges[(int) keys[i]];
                 }
-                
-                Collections.sort(result, ni.neighborComparator);
-                
-                ni.leftNeighbors.add(n.id, result);
+            }
+            for (int i = from; i < count; i++) {
+                neighborNodes[i] = neighbor[neighborEdges[i]];
             }
         }
+        neighborStart[nodeCount] = count;
     }
-    
-    /////////////////////////////////////////////////////////////////////////////////////////////////////
-    // Class NeighborComparator
-    
-    // SUPPRESS CHECKSTYLE NEXT 1 Javadoc
-    private final class NeighborComparator implements Comparator<Pair<LNode, LEdge>> {
-        @Override
-        public int compare(final Pair<LNode, LEdge> o1, final Pair<LNode, LEdge> o2) {
-            int cmp = nodeIndex[o1.getFirst().id] - nodeIndex[o2.getFirst().id];
-            return (int) Math.signum(cmp);
-        }
-    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 Kiel University and others.
+ * Copyright (c) 2010, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,12 +9,10 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.p5edges.orthogonal;
 
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.elk.alg.layered.DebugUtil;
 import org.eclipse.elk.alg.layered.graph.LGraph;
@@ -166,19 +164,9 @@ public final class OrthogonalRoutingGenerator {
         createHyperEdgeSegments(
                 targetLayerNodes, routingStrategy.getTargetPortSide(), edgeSegments, portToEdgeSegmentMap);
 
-        // Our critical conflict threshold is a fraction of the minimum distance between two horizontal hyperedge
-        // segments
-        criticalConflictThreshold = CRITICAL_CONFLICT_THRESHOLD_FACTOR * minimumHorizontalSegmentDistance(edgeSegments);
-        
         // create dependencies for the hyperedge segment ordering graph and note how many critical dependencies have
         // been created
-        int criticalDependencyCount = 0;
-        for (int firstIdx = 0; firstIdx < edgeSegments.size() - 1; firstIdx++) {
-            HyperEdgeSegment firstSegment = edgeSegments.get(firstIdx);
-            for (int secondIdx = firstIdx + 1; secondIdx < edgeSegments.size(); secondIdx++) {
-                criticalDependencyCount += createDependencyIfNecessary(firstSegment, edgeSegments.get(secondIdx));
-            }
-        }
+        int criticalDependencyCount = createDependencies(edgeSegments);
 
         // write the full dependency graph to an output file
         // elkjs-exclude-start
@@ -237,43 +225,45 @@ public final class OrthogonalRoutingGenerator {
     }
 
     /**
-     * Computes and returns the minimum distance between any two adjacent source connections and any two adjacent target
-     * connections.
+     * Returns the smallest difference between any two distinct numbers in the given arrays of numbers. If there are
+     * less than two distinct numbers, we return {@link Double#MAX_VALUE}.
      */
-    private double minimumHorizontalSegmentDistance(final List<HyperEdgeSegment> edgeSegments) {
-        double minIncomingDistance = minimumDifference(
-                edgeSegments.stream().flatMap(segment -> segment.getIncomingConnectionCoordinates().stream()));
-        double minOutgoingDistance = minimumDifference(
-                edgeSegments.stream().flatMap(segment -> segment.getOutgoingConnectionCoordinates().stream()));
-        
-        return Math.min(minIncomingDistance, minOutgoingDistance);
-    }
-    
-    /**
-     * Returns the smallest difference between any two numbers in the given stream of numbers. If there are less than
-     * two numbers, we return {@link Double#MAX_VALUE}.
-     */
-    private double minimumDifference(final Stream<Double> numberStream) {
-        List<Double> numbers = numberStream.sorted().distinct().collect(Collectors.toList());
+    private static double minimumDifference(final double[][] numberArrays) {
+        int count = 0;
+        for (double[] array : numberArrays) {
+            count += array.length;
+        }
+        double[] numbers = new double[count];
+        count = 0;
+        for (double[] array : numberArrays) {
+            System.arraycopy(array, 0, numbers, count, array.length);
+            count += array.length;
+        }
+        Arrays.sort(numbers);
         
         double minDifference = Double.MAX_VALUE;
-        
-        if (numbers.size() >= 2) {
-            Iterator<Double> iter = numbers.iterator();
-            Double currentNumber = iter.next();
-            
-            while (iter.hasNext()) {
-                Double previousNumber = currentNumber;
-                currentNumber = iter.next();
-                
-                // This relies on the fact that the numbers are distinct and sorted ascendingly
-                minDifference = Math.min(minDifference, currentNumber.doubleValue() - previousNumber.doubleValue());
+        for (int i = 1; i < numbers.length; i++) {
+            // Since the numbers are sorted ascendingly, we only need to skip duplicates
+            if (Double.compare(numbers[i - 1], numbers[i]) != 0) {
+                minDifference = Math.min(minDifference, numbers[i] - numbers[i - 1]);
             }
         }
         
         return minDifference;
     }
 
+    /**
+     * Returns the given list of coordinates as an array.
+     */
+    private static double[] toArray(final List<Double> coordinates) {
+        double[] array = new double[coordinates.size()];
+        int i = 0;
+        for (Double coordinate : coordinates) {
+            array[i++] = coordinate;
+        }
+        return array;
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////
     // Hyper Edge Graph Creation
@@ -308,8 +298,168 @@ public final class OrthogonalRoutingGenerator {
     }
 
     /**
-     * Create dependencies between the two given hyperedge segments, if one is needed. This method is used not just
-     * here, but also by {@link HyperEdgeSegmentSplitter}.
+     * Creates the dependencies between all pairs of the given hyperedge segments that need one. Two segments can only
+     * depend on each other if their extents come closer to each other than the conflict thresholds. Instead of
+     * comparing every segment to every other segment, we find the segments that come close to a segment with the
+     * help of the segments ordered by their start coordinates. To create the same dependencies in the same order as a
+     * pairwise comparison would, each segment is compared to the following segments in the list, in their order.
+     * This method is package-private to allow testing.
+     *
+     * @param edgeSegments
+     *            the hyperedge segments.
+     * @return the number of critical dependencies that were added
+     */
+    int createDependencies(final List<HyperEdgeSegment> edgeSegments) {
+        // copy the connection coordinates of the segments into arrays for fast access
+        int segmentCount = edgeSegments.size();
+        double[][] incomingCoordinates = new double[segmentCount][];
+        double[][] outgoingCoordinates = new double[segmentCount][];
+        for (int i = 0; i < segmentCount; i++) {
+            incomingCoordinates[i] = toArray(edgeSegments.get(i).getIncomingConnectionCoordinates());
+            outgoingCoordinates[i] = toArray(edgeSegments.get(i).getOutgoingConnectionCoordinates());
+        }
+
+        // Our critical conflict threshold is a fraction of the minimum distance between two horizontal hyperedge
+        // segments
+        criticalConflictThreshold = CRITICAL_CONFLICT_THRESHOLD_FACTOR * Math.min(
+                minimumDifference(incomingCoordinates), minimumDifference(outgoingCoordinates));
+
+        // straight segments don't take up a slot and thus never depend on other segments
+        Integer[] order = new Integer[segmentCount];
+        int orderSize = 0;
+        for (int i = 0; i < segmentCount; i++) {
+            if (!isStraight(edgeSegments.get(i))) {
+                order[orderSize++] = i;
+            }
+        }
+        Arrays.sort(order, 0, orderSize, (i1, i2) -> Double.compare(
+                edgeSegments.get(i1).getStartCoordinate(), edgeSegments.get(i2).getStartCoordinate()));
+
+        // segments may start up to the reach below the end of another segment and still depend on it
+        double reach = dependencyReach();
+        int[] position = new int[segmentCount];
+        double[] limits = new double[orderSize];
+        for (int p = 0; p < orderSize; p++) {
+            position[order[p]] = p;
+            limits[p] = edgeSegments.get(order[p]).getEndCoordinate() + reach;
+        }
+        SegmentLimitTree limitTree = new SegmentLimitTree(limits);
+
+        int[] partners = new int[orderSize];
+        int criticalDependencyCount = 0;
+        for (int first = 0; first < segmentCount; first++) {
+            HyperEdgeSegment segment = edgeSegments.get(first);
+            if (isStraight(segment)) {
+                continue;
+            }
+
+            // segments starting after this one that start before it ends, and segments starting before this one that
+            // end after it starts; only the ones following it in the list are compared to it
+            int partnerCount = 0;
+            double limit = limits[position[first]];
+            for (int p = position[first] + 1;
+                    p < orderSize && edgeSegments.get(order[p]).getStartCoordinate() < limit; p++) {
+                if (order[p] > first) {
+                    partners[partnerCount++] = order[p];
+                }
+            }
+            int foundCount = limitTree.findLimitsAbove(position[first], segment.getStartCoordinate());
+            for (int i = 0; i < foundCount; i++) {
+                int p = limitTree.found(i);
+                if (order[p] > first) {
+                    partners[partnerCount++] = order[p];
+                }
+            }
+            Arrays.sort(partners, 0, partnerCount);
+
+            for (int i = 0; i < partnerCount; i++) {
+                int second = partners[i];
+                criticalDependencyCount += createDependencyIfNecessary(
+                        segment, incomingCoordinates[first], outgoingCoordinates[first],
+                        edgeSegments.get(second), incomingCoordinates[second], outgoingCoordinates[second]);
+            }
+        }
+        return criticalDependencyCount;
+    }
+
+    /**
+     * The limits below which segments have to start to depend on a segment, for the segments ordered by their start
+     * coordinates. The limits are held in a binary tree whose inner nodes hold the maximum of their children, such that
+     * finding the limits above a coordinate only needs to descend into the subtrees that contain one.
+     */
+    private static final class SegmentLimitTree {
+
+        /** the number of leaves, a power of two. */
+        private final int leafCount;
+        /** the tree, with the root at index 1 and the children of node {@code i} at {@code 2i} and {@code 2i + 1}. */
+        private final double[] maxLimit;
+        /** the positions found by the last query, in ascending order. */
+        private final int[] found;
+        /** the number of positions found by the last query. */
+        private int foundCount;
+
+        SegmentLimitTree(final double[] limits) {
+            leafCount = Integer.highestOneBit(Math.max(1, limits.length) * 2 - 1);
+            maxLimit = new double[2 * leafCount];
+            Arrays.fill(maxLimit, Double.NEGATIVE_INFINITY);
+            System.arraycopy(limits, 0, maxLimit, leafCount, limits.length);
+            for (int i = leafCount - 1; i > 0; i--) {
+                maxLimit[i] = Math.max(maxLimit[2 * i], maxLimit[2 * i + 1]);
+            }
+            found = new int[limits.length];
+        }
+
+        /**
+         * Finds the positions below the given one whose limits are greater than the given coordinate. They can then
+         * be retrieved with {@link #found(int)}.
+         *
+         * @return the number of positions found
+         */
+        int findLimitsAbove(final int bound, final double coordinate) {
+            foundCount = 0;
+            collect(1, 0, leafCount, bound, coordinate);
+            return foundCount;
+        }
+
+        /**
+         * Returns the {@code i}-th position found by the last query.
+         */
+        int found(final int i) {
+            return found[i];
+        }
+
+        private void collect(final int node, final int from, final int to, final int bound, final double coordinate) {
+            if (from >= bound || maxLimit[node] <= coordinate) {
+                return;
+            }
+            if (node >= leafCount) {
+                found[foundCount++] = from;
+            } else {
+                int middle = (from + to) / 2;
+                collect(2 * node, from, middle, bound, coordinate);
+                collect(2 * node + 1, middle, to, bound, coordinate);
+            }
+        }
+    }
+
+    /**
+     * Returns the distance below the end of a segment at which other segments may start without conflicting with or
+     * crossing the segment. The tolerance accounts for rounding errors.
+     */
+    private double dependencyReach() {
+        return Math.max(conflictThreshold, criticalConflictThreshold) + TOLERANCE;
+    }
+
+    /**
+     * Checks whether the given segment is just a straight line.
+     */
+    private static boolean isStraight(final HyperEdgeSegment segment) {
+        return Math.abs(segment.getStartCoordinate() - segment.getEndCoordinate()) < TOLERANCE;
+    }
+
+    /**
+     * Create dependencies between the two given hyperedge segments, if one is needed. This method is used by
+     * {@link HyperEdgeSegmentSplitter}.
      *
      * @param he1
      *            first hyperedge segments
@@ -318,17 +468,48 @@ public final class OrthogonalRoutingGenerator {
      * @return the number of critical dependencies that were added
      */
     int createDependencyIfNecessary(final HyperEdgeSegment he1, final HyperEdgeSegment he2) {
+        // segments that are too far apart don't need a dependency
+        double reach = dependencyReach();
+        if (he2.getStartCoordinate() >= he1.getEndCoordinate() + reach
+                || he1.getStartCoordinate() >= he2.getEndCoordinate() + reach) {
+            
+            return 0;
+        }
+        
+        return createDependencyIfNecessary(
+                he1, toArray(he1.getIncomingConnectionCoordinates()), toArray(he1.getOutgoingConnectionCoordinates()),
+                he2, toArray(he2.getIncomingConnectionCoordinates()), toArray(he2.getOutgoingConnectionCoordinates()));
+    }
+
+    /**
+     * Create dependencies between the two given hyperedge segments, if one is needed.
+     *
+     * @param he1
+     *            first hyperedge segments
+     * @param incoming1
+     *            sorted incoming connection coordinates of the first segment
+     * @param outgoing1
+     *            sorted outgoing connection coordinates of the first segment
+     * @param he2
+     *            second hyperedge segments
+     * @param incoming2
+     *            sorted incoming connection coordinates of the second segment
+     * @param outgoing2
+     *            sorted outgoing connection coordinates of the second segment
+     * @return the number of critical dependencies that were added
+     */
+    private int createDependencyIfNecessary(final HyperEdgeSegment he1, final double[] incoming1,
+            final double[] outgoing1, final HyperEdgeSegment he2, final double[] incoming2, final double[] outgoing2) {
+        
         // check if at least one of the two nodes is just a straight line; those don't
         // create dependencies since they don't take up a slot
-        if (Math.abs(he1.getStartCoordinate() - he1.getEndCoordinate()) < TOLERANCE
-                || Math.abs(he2.getStartCoordinate() - he2.getEndCoordinate()) < TOLERANCE) {
-            
+        if (isStraight(he1) || isStraight(he2)) {
             return 0;
         }
 
         // compare number of conflicts for both variants
-        int conflicts1 = countConflicts(he1.getOutgoingConnectionCoordinates(), he2.getIncomingConnectionCoordinates());
-        int conflicts2 = countConflicts(he2.getOutgoingConnectionCoordinates(), he1.getIncomingConnectionCoordinates());
+        int conflicts1 = countConflicts(outgoing1, incoming2);
+        int conflicts2 = countConflicts(outgoing2, incoming1);
         
         boolean criticalConflictsDetected =
                 conflicts1 == CRITICAL_CONFLICTS_DETECTED || conflicts2 == CRITICAL_CONFLICTS_DETECTED;
@@ -350,14 +531,10 @@ public final class OrthogonalRoutingGenerator {
             
         } else {
             // we did not detect critical conflicts, so count the number of crossings for both variants
-            int crossings1 = countCrossings(
-                    he1.getOutgoingConnectionCoordinates(), he2.getStartCoordinate(), he2.getEndCoordinate());
-            crossings1 += countCrossings(
-                    he2.getIncomingConnectionCoordinates(), he1.getStartCoordinate(), he1.getEndCoordinate());
-            int crossings2 = countCrossings(
-                    he2.getOutgoingConnectionCoordinates(), he1.getStartCoordinate(), he1.getEndCoordinate());
-            crossings2 += countCrossings(
-                    he1.getIncomingConnectionCoordinates(), he2.getStartCoordinate(), he2.getEndCoordinate());
+            int crossings1 = countCrossings(outgoing1, he2.getStartCoordinate(), he2.getEndCoordinate());
+            crossings1 += countCrossings(incoming2, he1.getStartCoordinate(), he1.getEndCoordinate());
+            int crossings2 = countCrossings(outgoing2, he1.getStartCoordinate(), he1.getEndCoordinate());
+            crossings2 += countCrossings(incoming1, he2.getStartCoordinate(), he2.getEndCoordinate());
             
             // compute the penalty; crossings are deemed worse than (non-critical) conflicts
             int depValue1 = CONFLICT_PENALTY * conflicts1 + CROSSING_PENALTY * crossings1;
@@ -383,20 +560,20 @@ public final class OrthogonalRoutingGenerator {
      * Counts the number of conflicts for the given lists of positions.
      *
      * @param posis1
-     *            sorted list of positions
+     *            sorted array of positions
      * @param posis2
-     *            sorted list of positions
+     *            sorted array of positions
      * @return number of positions that overlap, or {@link #CRITICAL_CONFLICTS_DETECTED} if a critical conflict was
      *         detected.
      */
-    private int countConflicts(final List<Double> posis1, final List<Double> posis2) {
+    private int countConflicts(final double[] posis1, final double[] posis2) {
         int conflicts = 0;
 
-        if (!posis1.isEmpty() && !posis2.isEmpty()) {
-            Iterator<Double> iter1 = posis1.iterator();
-            Iterator<Double> iter2 = posis2.iterator();
-            double pos1 = iter1.next();
-            double pos2 = iter2.next();
+        if (posis1.length > 0 && posis2.length > 0) {
+            int index1 = 0;
+            int index2 = 0;
+            double pos1 = posis1[index1];
+            double pos2 = posis2[index2];
             boolean hasMore = true;
 
             do {
@@ -407,10 +584,10 @@ public final class OrthogonalRoutingGenerator {
                     conflicts++;
                 }
 
-                if (pos1 <= pos2 && iter1.hasNext()) {
-                    pos1 = iter1.next();
-                } else if (pos2 <= pos1 && iter2.hasNext()) {
-                    pos2 = iter2.next();
+                if (pos1 <= pos2 && index1 < posis1.length - 1) {
+                    pos1 = posis1[++index1];
+                } else if (pos2 <= pos1 && index2 < posis2.length - 1) {
+                    pos2 = posis2[++index2];
                 } else {
                     hasMore = false;
                 }
@@ -440,6 +617,26 @@ public final class OrthogonalRoutingGenerator {
         return crossings;
     }
 
+    /**
+     * Counts the number of crossings for a given array of positions.
+     *
+     * @param posis sorted array of positions
+     * @param start start of the critical area
+     * @param end end of the critical area
+     * @return number of positions in the critical area
+     */
+    static int countCrossings(final double[] posis, final double start, final double end) {
+        int crossings = 0;
+        for (double pos : posis) {
+            if (pos > end) {
+                break;
+            } else if (pos >= start) {
+                crossings++;
+            }
+        }
+        return crossings;
+    }
+
     ///////////////////////////////////////////////////////////////////////////////
     // Cycle Breaking
 
@@ -481,11 +678,11 @@ public final class OrthogonalRoutingGenerator {
     // Topological Ordering
 
     /**
-     * Perform a topological numbering of the given hyperedge segments.
+     * Perform a topological numbering of the given hyperedge segments, which assigns their routing slots.
      *
      * @param segments list of hyperedge segments
      */
-    private static void topologicalNumbering(final List<HyperEdgeSegment> segments) {
+    static void topologicalNumbering(final List<HyperEdgeSegment> segments) {
         // determine sources, targets, incoming count and outgoing count; targets are only
         // added to the list if they only connect westward ports (that is, if all their
         // horizontal segments point to the right)
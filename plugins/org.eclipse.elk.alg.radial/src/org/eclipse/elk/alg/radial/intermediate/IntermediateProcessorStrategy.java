@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -10,7 +10,7 @@
 package org.eclipse.elk.alg.radial.intermediate;
 
 import org.eclipse.elk.alg.radial.intermediate.compaction.GeneralCompactor;
-import org.eclipse.elk.alg.radial.intermediate.overlaps.RadiusExtensionOverlapRemoval;
+import org.eclipse.elk.alg.radial.intermediate.overlaps.GeneralOverlapRemover;
 import org.eclipse.elk.alg.radial.intermediate.rotation.GeneralRotator;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
 import org.eclipse.elk.core.alg.ILayoutProcessorFactory;
@@ -42,7 +42,7 @@ public enum IntermediateProcessorStrategy implements ILayoutProcessorFactory<Elk
     public ILayoutProcessor<ElkNode> create() {
         switch (this) {
         case OVERLAP_REMOVAL:
-            return new RadiusExtensionOverlapRemoval();
+            return new GeneralOverlapRemover();
         case COMPACTION:
             return new GeneralCompactor();
         case ROTATION:
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.intermediate.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Finds the pairs of line segments that may cross by sweeping a ray around a center point. Seen from the center, each
+ * segment covers an arc of directions, and two segments can only cross in a direction covered by both. Hence only
+ * segments whose arcs overlap are reported as candidates, every pair exactly once.
+ *
+ * <p>
+ * This suits segments that point towards the center, such as the edges of a radial layout that lead towards the
+ * root: their arcs are narrow, so segments converging towards the center are not reported unless they swap their
+ * angular order. Sorting the arcs takes O(n log n) time, after which each candidate pair is found in constant time.
+ * Segments passing through the center cover all directions and are reported together with every other segment.
+ * </p>
+ */
+public final class AngularSegmentSweep {
+
+    /** The angle by which arcs are widened on both sides to be safe against rounding errors. */
+    private static final double TOLERANCE = 1e-9;
+    /** A full turn. */
+    private static final double FULL_TURN = 2 * Math.PI;
+
+    /** The center point. */
+    private final double centerX, centerY;
+    /** The direction in which the arc of each segment starts, in {@code [0, 2 pi)}. */
+    private final double[] arcStart;
+    /** The direction in which the arc of each segment ends, at most a full turn after its start. */
+    private final double[] arcEnd;
+    /** The segments added so far. */
+    private final int[] segments;
+    /** The number of segments added so far. */
+    private int size;
+
+    /**
+     * Receives pairs of segments.
+     */
+    @FunctionalInterface
+    public interface PairConsumer {
+
+        /**
+         * Receives a pair of segments.
+         *
+         * @param segment
+         *            The index of the first segment.
+         * @param other
+         *            The index of the second segment.
+         */
+        void accept(int segment, int other);
+    }
+
+    /**
+     * Creates a sweep around the given center point.
+     *
+     * @param centerX
+     *            The x-coordinate of the center.
+     * @param centerY
+     *            The y-coordinate of the center.
+     * @param segmentCount
+     *            The number of segments that will be added, which are identified by the indices below that number.
+     */
+    public AngularSegmentSweep(final double centerX, final double centerY, final int segmentCount) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+        arcStart = new double[segmentCount];
+        arcEnd = new double[segmentCount];
+        segments = new int[segmentCount];
+    }
+
+    /**
+     * Adds a segment.
+     *
+     * @param index
+     *            The index of the segment, which must not have been added before.
+     * @param x1
+     *            The x-coordinate of the first end point.
+     * @param y1
+     *            The y-coordinate of the first end point.
+     * @param x2
+     *            The x-coordinate of the second end point.
+     * @param y2
+     *            The y-coordinate of the second end point.
+     */
+    public void add(final int index, final double x1, final double y1, final double x2, final double y2) {
+        double ax = x1 - centerX;
+        double ay = y1 - centerY;
+        double bx = x2 - centerX;
+        double by = y2 - centerY;
+        double cross = ax * by - ay * bx;
+        double dot = ax * bx + ay * by;
+
+        double start;
+        double width;
+        if (dot <= 0 && Math.abs(cross) <= TOLERANCE * Math.hypot(ax, ay) * Math.hypot(bx, by)) {
+            // The segment passes through the center or too close to it to tell on which side
+            start = 0;
+            width = FULL_TURN;
+        } else {
+            // The segment does not contain the center, hence it covers less than half a turn
+            double from = Math.atan2(ay, ax);
+            double difference = Math.atan2(by, bx) - from;
+            if (difference > Math.PI) {
+                difference -= FULL_TURN;
+            } else if (difference <= -Math.PI) {
+                difference += FULL_TURN;
+            }
+            start = (difference >= 0 ? from : from + difference) - TOLERANCE;
+            width = Math.abs(difference) + 2 * TOLERANCE;
+            if (start < 0) {
+                start += FULL_TURN;
+            }
+        }
+
+        arcStart[index] = start;
+        arcEnd[index] = start + width;
+        segments[size++] = index;
+    }
+
+    /**
+     * Reports each pair of added segments whose arcs overlap to the given consumer, the segment whose arc starts later
+     * first.
+     *
+     * @param candidates
+     *            Receives the pairs of segments that may cross.
+     */
+    public void sweep(final PairConsumer candidates) {
+        // Sort the segments by the start of their arcs, ties broken by index
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = segments[i];
+        }
+        Arrays.sort(order, (s1, s2) -> {
+            int byStart = Double.compare(arcStart[s1], arcStart[s2]);
+            return byStart != 0 ? byStart : Integer.compare(s1, s2);
+        });
+        double[] starts = new double[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = arcStart[order[i]];
+        }
+
+        // The segments whose arcs may still overlap with arcs starting later
+        int[] active = new int[size];
+        int activeSize = 0;
+        int[] reportedTo = new int[arcStart.length];
+        Arrays.fill(reportedTo, -1);
+        for (int i = 0; i < size; i++) {
+            int segment = order[i];
+            double start = starts[i];
+
+            // Arcs that started before and have not ended yet
+            for (int a = 0; a < activeSize; a++) {
+                int other = active[a];
+                if (arcEnd[other] < start) {
+                    active[a--] = active[--activeSize];
+                } else {
+                    reportedTo[other] = segment;
+                    candidates.accept(segment, other);
+                }
+            }
+            active[activeSize++] = segment;
+
+            // If the arc passes the direction where the sweep started, it also overlaps arcs starting before its end
+            double wrappedEnd = arcEnd[segment] - FULL_TURN;
+            for (int j = 0; j < i && starts[j] <= wrappedEnd; j++) {
+                int other = order[j];
+                if (reportedTo[other] != segment) {
+                    reportedTo[other] = segment;
+                    candidates.accept(segment, other);
+                }
+            }
+        }
+    }
+
+}
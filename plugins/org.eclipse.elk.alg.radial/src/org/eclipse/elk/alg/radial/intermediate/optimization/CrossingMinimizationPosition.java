@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -20,76 +20,105 @@ import org.eclipse.elk.graph.ElkNode;
  * Count the number of crossings of the edges between root and the first radius. The algorithm expects the
  * {@link CoreOptions.POSITION} option to be set. <em>Warning</em>: It makes assumptions that the position points to a node <em>in</em>
  * the tree-parent node!
+ * 
+ * <p>
+ * Only edges whose directions seen from the root overlap are tested for a crossing, as found by an
+ * {@link AngularSegmentSweep} around the root, instead of all pairs of edges. Edges pointing towards the root cover
+ * few directions, so this saves most tests even if all positions lie in a small area, for example inside the root.
+ * Counting inversions of the edges' angles around the root is no alternative, since edges with arbitrary positions
+ * may cross without their angular order changing.
+ * </p>
  */
 public class CrossingMinimizationPosition implements IEvaluation {
 
-    /** The root node of the graph. */
-    private ElkNode root;
+    /** The edge end points at the nodes. */
+    private double[] nodeX, nodeY;
+    /** The edge end points given by the nodes' positions. */
+    private double[] positionX, positionY;
+    /** The slopes and intercepts of the lines through the edges. */
+    private double[] slope, intercept;
 
     @Override
     public double evaluate(final ElkNode rootNode) {
-        this.root = rootNode;
-        int crossings = 0;
         List<ElkNode> nodes = RadialUtil.getSuccessors(rootNode);
+        int size = nodes.size();
+        nodeX = new double[size];
+        nodeY = new double[size];
+        positionX = new double[size];
+        positionY = new double[size];
+        slope = new double[size];
+        intercept = new double[size];
+
+        // root
+        double rootX = rootNode.getX() + rootNode.getWidth() / 2;
+        double rootY = rootNode.getY() + rootNode.getHeight() / 2;
+
+        for (int i = 0; i < size; i++) {
+            ElkNode node = nodes.get(i);
+            nodeX[i] = node.getX() + node.getWidth() / 2;
+            nodeY[i] = node.getY() + node.getHeight() / 2;
+            KVector position = node.getProperty(CoreOptions.POSITION);
+            positionX[i] = position.x + rootX;
+            positionY[i] = position.y + rootY;
+            slope[i] = (nodeY[i] - positionY[i]) / (nodeX[i] - positionX[i]);
+            intercept[i] = nodeY[i] - slope[i] * nodeX[i];
+        }
 
-        int k = 0;
-        for (ElkNode node1 : nodes) {
-            k++;
-            for (int i = k; i < nodes.size(); i++) {
-                if (isCrossing(node1, nodes.get(i))) {
-                    crossings += 1;
+        int[] crossings = { 0 };
+        AngularSegmentSweep sweep = new AngularSegmentSweep(rootX, rootY, size);
+        for (int i = 0; i < size; i++) {
+            final int edge = i;
+            if (isDegenerate(edge)) {
+                // Vertical edges have no line equation, so the crossing test may hold without the edges meeting,
+                // hence test them against all other edges as before
+                for (int other = 0; other < size; other++) {
+                    if (other != edge && (!isDegenerate(other) || other < edge) && isCrossing(edge, other)) {
+                        crossings[0]++;
+                    }
                 }
+            } else {
+                sweep.add(edge, nodeX[edge], nodeY[edge], positionX[edge], positionY[edge]);
             }
         }
-        return crossings;
+        sweep.sweep((edge, other) -> {
+            if (isCrossing(edge, other)) {
+                crossings[0]++;
+            }
+        });
+        return crossings[0];
+    }
+
+    /**
+     * Whether the line through an edge has no finite slope and intercept, as is the case for vertical edges.
+     * 
+     * @param edge
+     *            The index of the edge.
+     * @return Returns if the line cannot be described by slope and intercept.
+     */
+    private boolean isDegenerate(final int edge) {
+        return Double.isNaN(slope[edge]) || Double.isInfinite(slope[edge]) || Double.isNaN(intercept[edge])
+                || Double.isInfinite(intercept[edge]);
     }
 
     /**
      * Calculate if two edges are crossing by calculating the line between the nodes and their node position.
      * 
-     * @param node1
-     *            The first node for checking the crossing.
-     * @param node2
-     *            The second node for checking the crossing.
+     * @param edge1
+     *            The index of the first edge for checking the crossing.
+     * @param edge2
+     *            The index of the second edge for checking the crossing.
      * @return Returns if the lines of the nodes are crossing.
      */
-    private boolean isCrossing(final ElkNode node1, final ElkNode node2) {
-        // root
-        double rootX = root.getX() + root.getWidth() / 2;
-        double rootY = root.getX() + root.getWidth() / 2;
-
-        // node1
-        double xPos1 = node1.getX() + node1.getWidth() / 2;
-        double yPos1 = node1.getY() + node1.getHeight() / 2;
-        KVector node1Vector = new KVector(xPos1, yPos1);
-
-        KVector position1 = node1.getProperty(CoreOptions.POSITION);
-        position1.x = position1.x + rootX;
-        position1.y = position1.y + rootY;
-
-        double m1 = (node1Vector.y - position1.y) / (node1Vector.x - position1.x);
-        double b1 = node1Vector.y - m1 * node1Vector.x;
-
-        // node2
-        double xPos2 = node2.getX() + node2.getWidth() / 2;
-        double yPos2 = node2.getY() + node2.getHeight() / 2;
-        KVector node2Vector = new KVector(xPos2, yPos2);
-
-        KVector position2 = node2.getProperty(CoreOptions.POSITION);
-        position2.x = position2.x + rootX;
-        position2.y = position2.y + rootY;
-
-        double m2 = (node2Vector.y - position2.y) / (node2Vector.x - position2.x);
-        double b2 = node2Vector.y - m2 * node2Vector.x;
-
-        double xCut = (b1 - b2) / (m2 - m1);
+    private boolean isCrossing(final int edge1, final int edge2) {
+        double xCut = (intercept[edge1] - intercept[edge2]) / (slope[edge2] - slope[edge1]);
         // check whether the cut occurs on the relevant line segment
-        if ((position1.x < xCut && node1Vector.x < xCut) || (xCut < position1.x && xCut < node1Vector.x)) {
+        if ((positionX[edge1] < xCut && nodeX[edge1] < xCut) || (xCut < positionX[edge1] && xCut < nodeX[edge1])) {
             return false;
-        } else if ((position2.x < xCut && node2Vector.x < xCut) || (xCut < position2.x && xCut < node2Vector.x)) {
+        } else if ((positionX[edge2] < xCut && nodeX[edge2] < xCut)
+                || (xCut < positionX[edge2] && xCut < nodeX[edge2])) {
             return false;
         }
         return true;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.intermediate.overlaps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.elk.graph.ElkNode;
+
+/**
+ * Remove overlaps after the initial layout by extending layers with overlaps. Instead of extending a layer step by step
+ * until it is free of overlaps, the smallest extension is computed directly. The nodes of a layer are sorted by their
+ * angle around the root. Since every node moves along the ray from the root through its center, the extensions for
+ * which two neighboring nodes overlap form an interval. The smallest extension outside of all these intervals is found
+ * by sweeping over them, which takes O(n log n) time per layer.
+ */
+public class AnalyticRadiusOverlapRemoval extends RadiusExtensionOverlapRemoval {
+
+    @Override
+    protected void removeLayerOverlaps(final List<ElkNode> nodes) {
+        int n = nodes.size();
+        if (n < 2) {
+            return;
+        }
+
+        ElkNode root = getRoot();
+        double rootX = root.getX() + root.getWidth() / 2;
+        double rootY = root.getY() + root.getHeight() / 2;
+
+        // Node centers and the unit vectors along which the nodes are moved
+        double[] centerX = new double[n];
+        double[] centerY = new double[n];
+        double[] unitX = new double[n];
+        double[] unitY = new double[n];
+        double[] angle = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            ElkNode node = nodes.get(i);
+            centerX[i] = node.getX() + node.getWidth() / 2;
+            centerY[i] = node.getY() + node.getHeight() / 2;
+            double x = centerX[i] - rootX;
+            double y = centerY[i] - rootY;
+            double length = Math.sqrt(x * x + y * y);
+            unitX[i] = x / length;
+            unitY[i] = y / length;
+            angle[i] = Math.atan2(y, x);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> angle[i]));
+
+        // Collect the extensions for which neighbors overlap, two nodes only form a single pair
+        double spacing = getSpacing();
+        List<double[]> overlapIntervals = new ArrayList<>();
+        for (int i = 0; i < (n == 2 ? 1 : n); i++) {
+            int a = order[i];
+            int b = order[(i + 1) % n];
+            ElkNode nodeA = nodes.get(a);
+            ElkNode nodeB = nodes.get(b);
+            double[] xInterval = overlapInterval(centerX[a] - centerX[b], unitX[a] - unitX[b],
+                    (nodeA.getWidth() + nodeB.getWidth()) / 2 + spacing);
+            double[] yInterval = overlapInterval(centerY[a] - centerY[b], unitY[a] - unitY[b],
+                    (nodeA.getHeight() + nodeB.getHeight()) / 2 + spacing);
+            if (xInterval != null && yInterval != null) {
+                double start = Math.max(xInterval[0], yInterval[0]);
+                double end = Math.min(xInterval[1], yInterval[1]);
+                // Nodes in the same direction from the root cannot be separated by an extension
+                if (start < end && end > 0 && end != Double.POSITIVE_INFINITY) {
+                    overlapIntervals.add(new double[] { start, end });
+                }
+            }
+        }
+        overlapIntervals.sort(Comparator.comparingDouble(interval -> interval[0]));
+
+        // Find the smallest extension that is not inside any of the intervals
+        double extension = 0;
+        for (double[] interval : overlapIntervals) {
+            if (interval[0] < extension && extension < interval[1]) {
+                extension = interval[1];
+            }
+        }
+
+        if (extension > 0) {
+            for (ElkNode node : nodes) {
+                moveNode(node, extension);
+            }
+        }
+    }
+
+    /**
+     * Computes the open interval of extensions {@code t} for which {@code |distance + t * change| < extent}, that is
+     * for which two nodes overlap in one dimension.
+     *
+     * @param distance
+     *            The current distance of the node centers in the dimension.
+     * @param change
+     *            The change of the distance per unit of extension.
+     * @param extent
+     *            The distance the node centers need to be apart, including the spacing.
+     * @return The interval's start and end, which may be infinite, or {@code null} if there is no such extension.
+     */
+    private static double[] overlapInterval(final double distance, final double change, final double extent) {
+        if (change == 0) {
+            return Math.abs(distance) < extent
+                    ? new double[] { Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY } : null;
+        }
+        double first = (-extent - distance) / change;
+        double second = (extent - distance) / change;
+        return new double[] { Math.min(first, second), Math.max(first, second) };
+    }
+
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.intermediate.overlaps;
+
+import org.eclipse.elk.alg.radial.options.RadialOptions;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+
+/**
+ * The LayoutProcessor for overlap removal. Calls the overlap removal chosen by the overlap removal option.
+ */
+public class GeneralOverlapRemover implements ILayoutProcessor<ElkNode> {
+
+    @Override
+    public void process(final ElkNode graph, final IElkProgressMonitor progressMonitor) {
+        progressMonitor.begin("Remove overlaps", 1);
+        progressMonitor.logGraph(graph, "Before");
+        IOverlapRemoval overlapRemoval = graph.getProperty(RadialOptions.OVERLAP_REMOVAL).create();
+        overlapRemoval.removeOverlaps(graph, progressMonitor);
+        progressMonitor.logGraph(graph, "After");
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -57,9 +57,7 @@ public class RadiusExtensionOverlapRemoval extends AbstractRadiusExtensionCompac
                 oldPositions.add(new KVector(node.getX(), node.getY()));
             }
             progressMonitor.logGraph(graph, "Before removing overlaps");
-            while (overlapLayer(nodes)) {
-                contractLayer(nodes, false);
-            }
+            removeLayerOverlaps(nodes);
             progressMonitor.logGraph(graph, "After removing overlaps");
 
             double movedX = 0;
@@ -89,6 +87,18 @@ public class RadiusExtensionOverlapRemoval extends AbstractRadiusExtensionCompac
         }
     }
 
+    /**
+     * Extends the radius of the given nodes until the nodes are non-overlapping, moving them by the compaction step at
+     * a time.
+     * 
+     * @param nodes A list of the same radius.
+     */
+    protected void removeLayerOverlaps(final List<ElkNode> nodes) {
+        while (overlapLayer(nodes)) {
+            contractLayer(nodes, false);
+        }
+    }
+
     @Override
     public void process(final ElkNode graph, final IElkProgressMonitor progressMonitor) {
         progressMonitor.begin("Remove overlaps", 1);
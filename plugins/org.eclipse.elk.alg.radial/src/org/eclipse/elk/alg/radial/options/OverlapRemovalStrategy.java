@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,6 +9,7 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.radial.options;
 
+import org.eclipse.elk.alg.radial.intermediate.overlaps.AnalyticRadiusOverlapRemoval;
 import org.eclipse.elk.alg.radial.intermediate.overlaps.IOverlapRemoval;
 import org.eclipse.elk.alg.radial.intermediate.overlaps.RadiusExtensionOverlapRemoval;
 
@@ -18,7 +19,9 @@ import org.eclipse.elk.alg.radial.intermediate.overlaps.RadiusExtensionOverlapRe
  */
 public enum OverlapRemovalStrategy {
     /** Extend the radii until overlap are removed. */
-    EXTENT_RADII;
+    EXTENT_RADII,
+    /** Compute the smallest extension of each radius that removes its overlaps instead of extending it step by step. */
+    ANALYTIC_RADII;
 
     /**
      * Create the overlap strategy.
@@ -29,6 +32,8 @@ public enum OverlapRemovalStrategy {
         switch (this) {
         case EXTENT_RADII:
             return new RadiusExtensionOverlapRemoval();
+        case ANALYTIC_RADII:
+            return new AnalyticRadiusOverlapRemoval();
         default:
             throw new IllegalArgumentException(
                     "No implementation is available for the layout option " + this.toString());
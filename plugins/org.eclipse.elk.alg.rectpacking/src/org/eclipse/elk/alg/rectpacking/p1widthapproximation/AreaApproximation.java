@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Kiel University and others.
+ * Copyright (c) 2018, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,7 +9,6 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p1widthapproximation;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.elk.alg.rectpacking.options.OptimizationGoal;
@@ -65,7 +64,7 @@ public class AreaApproximation {
         ElkNode firstRect = rectangles.get(0);
         firstRect.setX(0);
         firstRect.setY(0);
-        List<ElkNode> placedRects = new ArrayList<>();
+        PlacedRectangles placedRects = new PlacedRectangles(rectangles.size());
         placedRects.add(firstRect);
         ElkNode lastPlaced = firstRect;
         DrawingData currentValues = new DrawingData(this.aspectRatio, firstRect.getWidth(), firstRect.getHeight(),
@@ -237,12 +236,12 @@ public class AreaApproximation {
      * @param toPlace The rectangle to be placed.
      * @param lastPlaced The rectangle that was placed last.
      * @param drawing The current drawing containing width and height, besides others.
-     * @param placedRects The already placed rectangles.
+     * @param placedRects The borders of the already placed rectangles.
      * @param nodeNodeSpacing The spacing between two nodes.
      * @return An {@link DrawingData} object containing the values after the rectangle would be placed.
      */
     private DrawingData calcValuesForOpt(final DrawingDataDescriptor option, final ElkNode toPlace,
-            final ElkNode lastPlaced, final DrawingData drawing, final List<ElkNode> placedRects,
+            final ElkNode lastPlaced, final DrawingData drawing, final PlacedRectangles placedRects,
             final double nodeNodeSpacing) {
 
         double x = 0;
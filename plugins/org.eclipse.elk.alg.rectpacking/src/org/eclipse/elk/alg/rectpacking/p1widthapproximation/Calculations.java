@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Kiel University and others.
+ * Copyright (c) 2018, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,8 +9,6 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p1widthapproximation;
 
-import java.util.List;
-
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
 import org.eclipse.elk.alg.rectpacking.util.DrawingDataDescriptor;
 import org.eclipse.elk.graph.ElkNode;
@@ -55,30 +53,29 @@ public final class Calculations {
      * Calculates the y-coordinate after the shift of the rectangle to be placed right of lastPlaced.
      * 
      * @param x The x-coordinate of the rectangle to be placed.
-     * @param placedRects A list of already placed rectangles.
+     * @param placedRects The borders of the already placed rectangles.
      * @param lastPlaced The rectangle that was placed most recently.
      * @return The y-coordinate after the shift of the rectangle to be placed right of lastPlaced
      */
-    protected static double calculateYforLPR(final double x, final List<ElkNode> placedRects,
+    protected static double calculateYforLPR(final double x, final PlacedRectangles placedRects,
             final ElkNode lastPlaced, final double nodeNodeSpacing) {
-        ElkNode closestUpperNeighbor = null;
+        boolean hasClosestUpperNeighbor = false;
         double closestNeighborBottomBorder = 0;
         // find neighbors that lay between the upper and lower border of the rectangle to be placed.
-        for (ElkNode placedRect : placedRects) {
-            double placedRectBottomBorder = placedRect.getY() + placedRect.getHeight();
-            if (verticalOrderConstraint(placedRect, x, nodeNodeSpacing)) {
+        for (int i = 0; i < placedRects.size(); i++) {
+            double placedRectBottomBorder = placedRects.getBottomBorder(i);
+            if (verticalOrderConstraint(placedRects.getRightBorder(i), x, nodeNodeSpacing)) {
                 // is closest neighbor?
-                if (closestUpperNeighbor == null) {
-                    closestUpperNeighbor = placedRect;
-                } else if (lastPlaced.getY() - placedRectBottomBorder < lastPlaced.getY() - closestNeighborBottomBorder) {
-                    closestUpperNeighbor = placedRect;
+                if (!hasClosestUpperNeighbor || lastPlaced.getY() - placedRectBottomBorder
+                        < lastPlaced.getY() - closestNeighborBottomBorder) {
+                    hasClosestUpperNeighbor = true;
+                    closestNeighborBottomBorder = placedRectBottomBorder;
                 }
-                closestNeighborBottomBorder = closestUpperNeighbor.getY() + closestUpperNeighbor.getHeight();
             }
         }
 
         // no neighbor yet
-        if (closestUpperNeighbor == null) {
+        if (!hasClosestUpperNeighbor) {
             return 0;
         } else {
             // else, choose closest neighbors bottom border
@@ -89,31 +86,30 @@ public final class Calculations {
     /**
      * Calculates the x-coordinate after shift of the rectangle to be placed below the last placed rectangle.
      * 
-     * @param placedRects A list of already placed rectangles.
+     * @param placedRects The borders of the already placed rectangles.
      * @param y The y-coordinate of the rectangle to be placed.
      * @param lastPlaced The most recently placed rectangle.
      * @return The x-coordinate after shift of the rectangle to be placed below lastPlaced.
      */
-    protected static double calculateXforLPB(final double y, final List<ElkNode> placedRects,
+    protected static double calculateXforLPB(final double y, final PlacedRectangles placedRects,
             final ElkNode lastPlaced, final double nodeNodeSpacing) {
-        ElkNode closestLeftNeighbour = null;
+        boolean hasClosestLeftNeighbour = false;
         double closestNeighborRightBorder = 0;
         // Find neighbors that lay in between the height of the rectangle to be placed.
-        for (ElkNode placedRect : placedRects) {
-            double placedRectRightBorder = placedRect.getX() + placedRect.getWidth();
-            if (horizontalOrderConstraint(placedRect, y, nodeNodeSpacing)) {
+        for (int i = 0; i < placedRects.size(); i++) {
+            double placedRectRightBorder = placedRects.getRightBorder(i);
+            if (horizontalOrderConstraint(placedRects.getBottomBorder(i), y, nodeNodeSpacing)) {
                 // Is closest neighbor?
-                if (closestLeftNeighbour == null) {
-                    closestLeftNeighbour = placedRect;
-                } else if (lastPlaced.getX() - placedRectRightBorder < lastPlaced.getX() - closestNeighborRightBorder) {
-                    closestLeftNeighbour = placedRect;
+                if (!hasClosestLeftNeighbour
+                        || lastPlaced.getX() - placedRectRightBorder < lastPlaced.getX() - closestNeighborRightBorder) {
+                    hasClosestLeftNeighbour = true;
+                    closestNeighborRightBorder = placedRectRightBorder;
                 }
-                closestNeighborRightBorder = closestLeftNeighbour.getX() + closestLeftNeighbour.getWidth();
             }
         }
 
         // No neighbor yet.
-        if (closestLeftNeighbour == null) {
+        if (!hasClosestLeftNeighbour) {
             return 0;
         } else {
             // Else, choose closest neighbors right border
@@ -167,23 +163,25 @@ public final class Calculations {
      * Checks whether the placedRect produces an vertical order constraint regarding the order. If toPlace is placed
      * left of placedRect, toPlace can at most be placed at the bottom border of placedRect.
      * 
-     * @param placedRect The already placed rectangle.
+     * @param placedRectRightBorder The right border of the already placed rectangle.
      * @param x The x-coordinate of the rectangle to be placed.
      * @return True, if the placedRect produces a constraint. False otherwise.
      */
-    private static boolean verticalOrderConstraint(final ElkNode placedRect, final double x, final double nodeNodeSpacing) {
-        return x < placedRect.getX() + placedRect.getWidth() + nodeNodeSpacing;
+    private static boolean verticalOrderConstraint(final double placedRectRightBorder, final double x,
+            final double nodeNodeSpacing) {
+        return x < placedRectRightBorder + nodeNodeSpacing;
     }
 
     /**
      * Checks whether the placedRect produces an horizontal order constraint regarding the order. If toPlace is placed
      * above of placedRect, toPlace can at most be placed at the right border of placedRect.
      * 
-     * @param placedRect The already placed rectangle.
+     * @param placedRectBottomBorder The bottom border of the already placed rectangle.
      * @param yCoordRectToPlace The y-coordinate of the rectangle to be placed.
      * @return True, if the placedRect produces a constraint. False otherwise.
      */
-    private static boolean horizontalOrderConstraint(final ElkNode placedRect, final double yCoordRectToPlace, final double nodeNodeSpacing) {
-        return yCoordRectToPlace < placedRect.getY() + placedRect.getHeight() + nodeNodeSpacing;
+    private static boolean horizontalOrderConstraint(final double placedRectBottomBorder,
+            final double yCoordRectToPlace, final double nodeNodeSpacing) {
+        return yCoordRectToPlace < placedRectBottomBorder + nodeNodeSpacing;
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Kiel University and others.
+ * Copyright (c) 2022, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,7 +9,11 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p2packing;
 
+import java.util.ArrayList;
 import java.util.List;
+// elkjs-exclude-start
+import java.util.stream.IntStream;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.rectpacking.RectPackingLayoutPhases;
 import org.eclipse.elk.alg.rectpacking.options.InternalProperties;
@@ -19,6 +23,7 @@ import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
+import org.eclipse.elk.core.util.NullElkProgressMonitor;
 import org.eclipse.elk.graph.ElkGraphFactory;
 import org.eclipse.elk.graph.ElkNode;
 
@@ -39,6 +44,9 @@ import org.eclipse.elk.graph.ElkNode;
  *     <dd>{@link InternalProperties#ROWS},</dd>
  *     <dd>and {@link InternalProperties#ADDITIONAL_HEIGHT} are set.</dd>
  * </dl>
+ * 
+ * <p>If {@link RectPackingOptions#PACKING_COMPACTION_PARALLEL_CANDIDATES} is set, the target widths of all additional
+ * compaction iterations are chosen up front and compacted in parallel.</p>
  */
 public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode> {
 
@@ -65,6 +73,11 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
         
         // Begin more compaction iterations if more than one iteration is specified.
         int iterations = graph.getProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS);
+        if (iterations > 1 && graph.getProperty(RectPackingOptions.PACKING_COMPACTION_PARALLEL_CANDIDATES)) {
+            // The candidates replace the sequential iterations
+            compactCandidates(graph, drawing, iterations - 1, progressMonitor);
+            iterations = 1;
+        }
         while (iterations > 1) {
             // Create a shallow clone based on properties and sizes of children (not grandchildren).
             ElkNode clone = clone(graph);
@@ -101,6 +114,119 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
         progressMonitor.done();
     }
 
+    /**
+     * Compacts the graph for several target widths chosen up front and applies the best result, if it is at least as
+     * good as the given drawing.
+     * 
+     * @param graph The graph, which has been compacted once.
+     * @param drawing The drawing of the first compaction, updated if a better one is found.
+     * @param count The maximum number of target widths to try.
+     * @param progressMonitor The progress monitor.
+     */
+    private void compactCandidates(ElkNode graph, DrawingData drawing, int count, IElkProgressMonitor progressMonitor) {
+        List<Double> targetWidths = candidateTargetWidths(graph, drawing, count);
+        if (targetWidths.isEmpty()) {
+            return;
+        }
+        double aspectRatio = graph.getProperty(RectPackingOptions.ASPECT_RATIO);
+        double nodeNodeSpacing = graph.getProperty(RectPackingOptions.SPACING_NODE_NODE);
+        ElkPadding padding = graph.getProperty(RectPackingOptions.PADDING);
+        
+        // Clones are created up front since creating them reads the properties of the original graph.
+        int candidates = targetWidths.size();
+        ElkNode[] clones = new ElkNode[candidates];
+        RowFillingAndCompaction[] compactions = new RowFillingAndCompaction[candidates];
+        DrawingData[] drawings = new DrawingData[candidates];
+        for (int i = 0; i < candidates; i++) {
+            clones[i] = clone(graph);
+            clones[i].setProperty(InternalProperties.TARGET_WIDTH, targetWidths.get(i));
+            compactions[i] = new RowFillingAndCompaction(aspectRatio, nodeNodeSpacing);
+        }
+        
+        boolean compacted = false;
+        // elkjs-exclude-start
+        // Each candidate only touches its own clone. The progress monitor is not thread safe, so nothing is logged.
+        IntStream.range(0, candidates).parallel().forEach(i -> drawings[i] = compactions[i].start(
+                graph.getChildren(), new NullElkProgressMonitor(), clones[i], padding));
+        compacted = true;
+        // elkjs-exclude-end
+        if (!compacted) {
+            for (int i = 0; i < candidates; i++) {
+                drawings[i] = compactions[i].start(graph.getChildren(), progressMonitor, clones[i], padding);
+            }
+        }
+        
+        // Choose the first candidate with the best scale measure.
+        int best = -1;
+        double bestSM = drawing.getScaleMeasure();
+        for (int i = 0; i < candidates; i++) {
+            // elkjs-exclude-start
+            if (progressMonitor.isLoggingEnabled()) {
+                progressMonitor.logGraph(clones[i], "Layouted candidate " + i);
+            }
+            // elkjs-exclude-end
+            double newSM = drawings[i].getScaleMeasure();
+            if (best == -1 ? newSM >= bestSM : newSM > bestSM) {
+                best = i;
+                bestSM = newSM;
+            }
+        }
+        
+        if (best != -1) {
+            for (int i = 0; i < clones[best].getChildren().size(); i++) {
+                copyPosition(clones[best].getChildren().get(i), graph.getChildren().get(i));
+            }
+            copyRowWidthChangeValues(graph, compactions[best]);
+            drawing.setDrawingWidth(drawings[best].getDrawingWidth());
+            drawing.setDrawingHeight(drawings[best].getDrawingHeight());
+        }
+    }
+    
+    /**
+     * Chooses the target widths to try after the first compaction. If the drawing is too high, the target width is
+     * increased by amounts spread between the minimum and the maximum increase that let a row take a block of the
+     * next row. If it is too wide, it is decreased likewise. The first candidate is the one that would be tried by a
+     * second iteration.
+     * 
+     * @param graph The graph, which has been compacted once.
+     * @param drawing The drawing of the first compaction.
+     * @param count The maximum number of target widths.
+     * @return The distinct target widths, which is empty if no width promises an improvement.
+     */
+    private List<Double> candidateTargetWidths(ElkNode graph, DrawingData drawing, int count) {
+        ElkPadding padding = graph.getProperty(RectPackingOptions.PADDING);
+        double aspectRatio = graph.getProperty(RectPackingOptions.ASPECT_RATIO);
+        double targetWidth = graph.getProperty(InternalProperties.TARGET_WIDTH);
+        double drawingAspectRatio = (drawing.getDrawingWidth() + padding.getHorizontal())
+                / (drawing.getDrawingHeight() + padding.getVertical());
+        List<Double> targetWidths = new ArrayList<>(count);
+        if (graph.getChildren().size() <= 1) {
+            return targetWidths;
+        }
+        
+        double minIncrease = graph.getProperty(InternalProperties.MIN_ROW_INCREASE);
+        double minDecrease = graph.getProperty(InternalProperties.MIN_ROW_DECREASE);
+        for (int i = 0; i < count; i++) {
+            // Fraction of the way from the minimum to the maximum change
+            double fraction = count == 1 ? 0 : (double) i / (count - 1);
+            double width;
+            if (minIncrease != Double.POSITIVE_INFINITY && drawingAspectRatio < aspectRatio) {
+                double maxIncrease = Math.max(minIncrease, graph.getProperty(InternalProperties.MAX_ROW_INCREASE));
+                width = targetWidth + minIncrease + fraction * (maxIncrease - minIncrease);
+            } else if (minDecrease != Double.POSITIVE_INFINITY && drawingAspectRatio > aspectRatio) {
+                double maxDecrease = Math.max(minDecrease, graph.getProperty(InternalProperties.MAX_ROW_DECREASE));
+                width = Math.max(graph.getProperty(InternalProperties.MIN_WIDTH),
+                        targetWidth - minDecrease - fraction * (maxDecrease - minDecrease));
+            } else {
+                break;
+            }
+            if (!targetWidths.contains(width)) {
+                targetWidths.add(width);
+            }
+        }
+        return targetWidths;
+    }
+
     /**
      * Copies the row width increase and decrease to the graph.
      * 
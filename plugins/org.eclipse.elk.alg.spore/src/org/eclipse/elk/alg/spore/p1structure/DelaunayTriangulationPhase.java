@@ -11,7 +11,7 @@ package org.eclipse.elk.alg.spore.p1structure;
 
 import java.util.List;
 
-import org.eclipse.elk.alg.common.BowyerWatsonTriangulation;
+import org.eclipse.elk.alg.common.DivideAndConquerTriangulation;
 import org.eclipse.elk.alg.common.spore.InternalProperties;
 import org.eclipse.elk.alg.spore.SPOrEPhases;
 import org.eclipse.elk.alg.spore.graph.Graph;
@@ -46,9 +46,9 @@ public class DelaunayTriangulationPhase implements ILayoutPhase<SPOrEPhases, Gra
         }
         
         if (graph.tEdges == null) {
-            graph.tEdges = BowyerWatsonTriangulation.triangulate(vertices, debugOutput);
+            graph.tEdges = DivideAndConquerTriangulation.triangulate(vertices, debugOutput);
         } else {
-            graph.tEdges.addAll(BowyerWatsonTriangulation.triangulate(vertices, debugOutput));
+            graph.tEdges.addAll(DivideAndConquerTriangulation.triangulate(vertices, debugOutput));
         }
 
         progressMonitor.done();
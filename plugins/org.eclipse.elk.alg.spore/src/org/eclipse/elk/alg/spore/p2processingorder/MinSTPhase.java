@@ -12,6 +12,7 @@ package org.eclipse.elk.alg.spore.p2processingorder;
 import java.util.Map;
 
 import org.eclipse.elk.alg.common.NaiveMinST;
+import org.eclipse.elk.alg.common.PrimMinST;
 import org.eclipse.elk.alg.common.Tree;
 import org.eclipse.elk.alg.common.spore.InternalProperties;
 import org.eclipse.elk.alg.common.spore.Node;
@@ -50,11 +51,12 @@ public class MinSTPhase implements ILayoutPhase<SPOrEPhases, Graph> {
         }
         
         Tree<KVector> tTree;
+        // the naive implementation returns the same tree, but illustrates each step in its debug output
         if (graph.getProperty(InternalProperties.DEBUG_SVG)) {
             tTree = NaiveMinST.createSpanningTree(graph.tEdges, root, graph.costFunction, 
                     ElkUtil.debugFolderPath("spore") + "20minst");
         } else {
-            tTree = NaiveMinST.createSpanningTree(graph.tEdges, root, graph.costFunction);
+            tTree = PrimMinST.createSpanningTree(graph.tEdges, root, graph.costFunction);
         }
         
         // convert result to a Tree that can be used in the execution phase
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Kiel University and others.
+ * Copyright (c) 2008, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+// elkjs-exclude-end
 
 import org.eclipse.elk.core.data.DeprecatedLayoutOptionReplacer;
 import org.eclipse.elk.core.data.LayoutAlgorithmData;
@@ -28,6 +32,7 @@ import org.eclipse.elk.core.options.TopdownSizeApproximator;
 import org.eclipse.elk.core.testing.TestController;
 import org.eclipse.elk.core.util.ElkUtil;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
+import org.eclipse.elk.core.util.LayoutCache;
 import org.eclipse.elk.graph.ElkBendPoint;
 import org.eclipse.elk.graph.ElkConnectableShape;
 import org.eclipse.elk.graph.ElkEdge;
@@ -37,6 +42,7 @@ import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.elk.graph.properties.GraphFeature;
 import org.eclipse.elk.graph.util.ElkGraphUtil;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 
 /**
@@ -62,6 +68,20 @@ import com.google.common.collect.Lists;
  * </p>
  * 
  * <p>
+ * Engines created with {@link #RecursiveGraphLayoutEngine(ForkJoinPool)} lay out the subgraphs of sibling
+ * compound nodes concurrently, since these are independent of each other as long as they are laid out separately.
+ * All subgraphs are finished before their parent is laid out, and results do not depend on the order in which
+ * the subgraphs finish. Runs with a test controller are always executed sequentially.
+ * </p>
+ * 
+ * <p>
+ * If a {@link LayoutCache} is {@link #setLayoutCache(LayoutCache) set}, the engine looks up each compound node before
+ * laying out its content. If a structurally equal subgraph has been laid out before, its layout is replayed instead of
+ * running the layout algorithms on the subgraph, otherwise the new layout is stored in the cache. Thus, graphs that
+ * contain the same subgraph several times lay it out only once. Runs with a test controller do not use the cache.
+ * </p>
+ * 
+ * <p>
  * MIGRATE Extend the graph layout engine to offset edge coordinates properly
  * </p> 
  * 
@@ -70,6 +90,53 @@ import com.google.common.collect.Lists;
  */
 public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
     
+    // elkjs-exclude-start
+    /** The pool used to lay out sibling subgraphs concurrently, or {@code null} for sequential layout. */
+    private final ForkJoinPool forkJoinPool;
+    // elkjs-exclude-end
+    
+    /** The cache of subgraph layouts, or {@code null} if layouts are always computed. */
+    private LayoutCache layoutCache;
+    
+    /**
+     * Creates a layout engine that lays out all levels of the hierarchy sequentially.
+     */
+    public RecursiveGraphLayoutEngine() {
+        // elkjs-exclude-start
+        this.forkJoinPool = null;
+        // elkjs-exclude-end
+    }
+    
+    // elkjs-exclude-start
+    /**
+     * Creates a layout engine that lays out the subgraphs of sibling compound nodes concurrently on the given pool.
+     * 
+     * @param forkJoinPool the pool to run subgraph layouts on, e.g. {@link ForkJoinPool#commonPool()}. If
+     *            {@code null}, the engine works sequentially.
+     */
+    public RecursiveGraphLayoutEngine(final ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+    // elkjs-exclude-end
+    
+    /**
+     * Sets the cache used to look up and store the layouts of compound nodes.
+     * 
+     * @param layoutCache the cache, possibly shared with other engines, or {@code null} to disable caching
+     */
+    public void setLayoutCache(final LayoutCache layoutCache) {
+        this.layoutCache = layoutCache;
+    }
+    
+    /**
+     * Returns the cache used to look up and store the layouts of compound nodes.
+     * 
+     * @return the cache, or {@code null} if caching is disabled
+     */
+    public LayoutCache getLayoutCache() {
+        return layoutCache;
+    }
+    
     /**
      * Performs recursive layout on the given layout graph.
      * 
@@ -160,6 +227,16 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                 return Collections.emptyList();
             }
             
+            // Replay the layout of a structurally equal subgraph laid out before, if possible
+            LayoutCache.Key cacheKey = null;
+            if (layoutCache != null && testController == null) {
+                cacheKey = LayoutCache.keyOf(layoutNode);
+                if (cacheKey != null && layoutCache.replay(cacheKey, layoutNode)) {
+                    progressMonitor.worked(countNodesRecursively(layoutNode, false));
+                    return Collections.emptyList();
+                }
+            }
+            
             // We collect inside self loops of children and post-process them later
             List<ElkEdge> childrenInsideSelfLoops = Lists.newArrayList();
             
@@ -181,6 +258,7 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                 // Look for nodes that stop the hierarchy handling, evaluating the inheritance on the way
                 final Queue<ElkNode> nodeQueue = Lists.newLinkedList();
                 nodeQueue.addAll(layoutNode.getChildren());
+                final List<ElkNode> separateNodes = Lists.newArrayList();
                 
                 while (!nodeQueue.isEmpty()) {
                     ElkNode node = nodeQueue.poll();
@@ -195,19 +273,24 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                     if (stopHierarchy 
                           || (node.hasProperty(CoreOptions.ALGORITHM) 
                                   && !algorithmData.equals(node.getProperty(CoreOptions.RESOLVED_ALGORITHM)))) {
-                        List<ElkEdge> childLayoutSelfLoops = layoutRecursively(node, testController, progressMonitor);
-                        childrenInsideSelfLoops.addAll(childLayoutSelfLoops);
-                        // Explicitly disable hierarchical layout for the child node. Simplifies the
-                        // handling of switching algorithms in the layouter.
-                        node.setProperty(CoreOptions.HIERARCHY_HANDLING, HierarchyHandling.SEPARATE_CHILDREN);
-
-                        // Apply the LayoutOptions.SCALE_FACTOR if present
-                        ElkUtil.applyConfiguredNodeScaling(node);
+                        separateNodes.add(node);
                     } else {
                         // Child should be included in current layout, possibly adding its own children
                         nodeQueue.addAll(node.getChildren());
                     }
                 }
+                
+                // The nodes that stop the hierarchy handling are laid out with separate recursive calls
+                childrenInsideSelfLoops.addAll(layoutChildrenRecursively(separateNodes, testController,
+                        progressMonitor));
+                for (ElkNode node : separateNodes) {
+                    // Explicitly disable hierarchical layout for the child node. Simplifies the
+                    // handling of switching algorithms in the layouter.
+                    node.setProperty(CoreOptions.HIERARCHY_HANDLING, HierarchyHandling.SEPARATE_CHILDREN);
+
+                    // Apply the LayoutOptions.SCALE_FACTOR if present
+                    ElkUtil.applyConfiguredNodeScaling(node);
+                }
 
             } else {
                 nodeCount = layoutNode.getChildren().size();
@@ -234,8 +317,9 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                             // provider if yes its size needs to be pre-computed before computing the layout
                             LayoutAlgorithmData localAlgorithmData = 
                                     childNode.getProperty(CoreOptions.RESOLVED_ALGORITHM);
-                            if (childNode.getChildren().size() > 0
-                                    && localAlgorithmData.getInstancePool().fetch() instanceof ITopdownLayoutProvider) {
+                            AbstractLayoutProvider childLayoutProvider = childNode.getChildren().size() > 0
+                                    ? localAlgorithmData.getInstancePool().fetch() : null;
+                            if (childLayoutProvider instanceof ITopdownLayoutProvider) {
                                 // topdownlayout providers should not be used on hierarchical nodes
                                 if (childNode.getProperty(CoreOptions.TOPDOWN_NODE_TYPE)
                                         .equals(TopdownNodeTypes.HIERARCHICAL_NODE)) {
@@ -243,7 +327,7 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                                             "Topdown Layout Providers should only be used on parallel nodes.");
                                 }
                                 ITopdownLayoutProvider topdownLayoutProvider = 
-                                        (ITopdownLayoutProvider) localAlgorithmData.getInstancePool().fetch();
+                                        (ITopdownLayoutProvider) childLayoutProvider;
                                 
                                 KVector requiredSize = topdownLayoutProvider.getPredictedGraphSize(childNode);
                                 childNode.setDimensions(Math.max(childNode.getWidth(), requiredSize.x), 
@@ -255,6 +339,9 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                                 childNode.setDimensions(Math.max(childNode.getWidth(), size.x),
                                         Math.max(childNode.getHeight(), size.y));
                             }
+                            if (childLayoutProvider != null) {
+                                localAlgorithmData.getInstancePool().release(childLayoutProvider);
+                            }
                         }
                     }
                     
@@ -387,10 +474,9 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                 }
                 
                 // Layout each compound node contained in this node separately
+                childrenInsideSelfLoops.addAll(layoutChildrenRecursively(layoutNode.getChildren(), testController,
+                        progressMonitor));
                 for (ElkNode child : layoutNode.getChildren()) {
-                    List<ElkEdge> childLayoutSelfLoops = layoutRecursively(child, testController, progressMonitor); 
-                    childrenInsideSelfLoops.addAll(childLayoutSelfLoops);
-                    
                     // Apply the LayoutOptions.SCALE_FACTOR if present
                     ElkUtil.applyConfiguredNodeScaling(child);
                 }
@@ -413,6 +499,11 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
             // Post-process the inner self loops we collected
             postProcessInsideSelfLoops(childrenInsideSelfLoops);
             
+            // Subgraphs with inside self loops are never cached, so the list returned on cache hits is correct
+            if (cacheKey != null && !progressMonitor.isCanceled()) {
+                layoutCache.store(cacheKey, layoutNode);
+            }
+            
             // Return our own inside self loops to be processed later
             if (hasInsideSelfLoops && supportsInsideSelfLoops) {
                 return insideSelfLoops;
@@ -424,6 +515,84 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
         }
     }
 
+    /**
+     * Recursively lays out the given nodes, which must not be nested in each other. If this engine has a fork-join
+     * pool, no test controller is given, and at least two of the nodes have children, the nodes with children are
+     * laid out concurrently.
+     * 
+     * @param nodes the nodes to be laid out
+     * @param testController an optional test controller if this layout run is part of a unit test
+     * @param progressMonitor monitor used to keep track of progress
+     * @return list of self loops routed inside the nodes, ordered as the nodes are.
+     */
+    private List<ElkEdge> layoutChildrenRecursively(final List<ElkNode> nodes, final TestController testController,
+            final IElkProgressMonitor progressMonitor) {
+        
+        // elkjs-exclude-start
+        if (forkJoinPool != null && testController == null
+                && Iterables.size(Iterables.filter(nodes, node -> !node.getChildren().isEmpty())) > 1) {
+            return layoutChildrenConcurrently(nodes, progressMonitor);
+        }
+        // elkjs-exclude-end
+        
+        List<ElkEdge> insideSelfLoops = Lists.newArrayList();
+        for (ElkNode node : nodes) {
+            insideSelfLoops.addAll(layoutRecursively(node, testController, progressMonitor));
+        }
+        return insideSelfLoops;
+    }
+    
+    // elkjs-exclude-start
+    /**
+     * Lays out the given nodes with children concurrently on this engine's fork-join pool. The remaining nodes are
+     * processed on the calling thread. Each node reports to a sub-monitor of its own whose share is the work counted
+     * for the node's content, created upfront since progress monitors are not meant to be used by multiple threads.
+     */
+    private List<ElkEdge> layoutChildrenConcurrently(final List<ElkNode> nodes,
+            final IElkProgressMonitor progressMonitor) {
+        
+        List<List<ElkEdge>> results = Lists.newArrayListWithCapacity(nodes.size());
+        List<ForkJoinTask<List<ElkEdge>>> tasks = Lists.newArrayListWithCapacity(nodes.size());
+        for (ElkNode node : nodes) {
+            int work = countNodesRecursively(node, false);
+            IElkProgressMonitor nodeMonitor = progressMonitor.subTask(work);
+            if (node.getChildren().isEmpty()) {
+                nodeMonitor.begin("Recursive Graph Layout", work);
+                results.add(layoutRecursively(node, null, nodeMonitor));
+                nodeMonitor.done();
+                tasks.add(null);
+            } else {
+                results.add(null);
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    nodeMonitor.begin("Recursive Graph Layout", work);
+                    List<ElkEdge> insideSelfLoops = layoutRecursively(node, null, nodeMonitor);
+                    nodeMonitor.done();
+                    return insideSelfLoops;
+                }));
+            }
+        }
+        
+        // Nested concurrent layouts are invoked from pool threads, which keep working on other tasks while waiting
+        // for their own subtasks
+        List<ForkJoinTask<List<ElkEdge>>> forkedTasks = Lists.newArrayList(Iterables.filter(tasks, t -> t != null));
+        if (ForkJoinTask.getPool() == forkJoinPool) {
+            ForkJoinTask.invokeAll(forkedTasks);
+        } else {
+            forkJoinPool.invoke(ForkJoinTask.adapt(() -> {
+                ForkJoinTask.invokeAll(forkedTasks);
+            }));
+        }
+        
+        // Collect the results in the order of the nodes to remain deterministic
+        List<ElkEdge> insideSelfLoops = Lists.newArrayList();
+        for (int i = 0; i < nodes.size(); i++) {
+            ForkJoinTask<List<ElkEdge>> task = tasks.get(i);
+            insideSelfLoops.addAll(task == null ? results.get(i) : task.join());
+        }
+        return insideSelfLoops;
+    }
+    // elkjs-exclude-end
+
     /**
      * Execute the given layout algorithm on a parent node.
      */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 Kiel University and others.
+ * Copyright (c) 2009, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -60,7 +60,8 @@ public final class LayoutAlgorithmData implements ILayoutMetaData {
         this.id = builder.id;
         this.name = builder.name;
         this.description = builder.description;
-        this.providerPool = new InstancePool<AbstractLayoutProvider>(builder.providerFactory);
+        this.providerPool = new InstancePool<AbstractLayoutProvider>(builder.providerFactory,
+                builder.providerPoolMinimum, builder.providerPoolLimit);
         this.category = builder.category;
         this.melkBundleName = builder.melkBundleName;
         this.definingBundleId = builder.definingBundleId;
@@ -185,7 +186,9 @@ public final class LayoutAlgorithmData implements ILayoutMetaData {
 
     /**
      * Return an instance pool for layout providers. If multiple threads execute the layout
-     * algorithm in parallel, each thread should use its own instance of the algorithm.
+     * algorithm in parallel, each thread should use its own instance of the algorithm. The pool
+     * is warmed up when the algorithm is registered with the {@link LayoutMetaDataService}; its
+     * sizes can be reconfigured with {@link InstancePool#setSizes(int, int)}.
      *
      * @return a layout provider instance pool
      */
@@ -245,6 +248,8 @@ public final class LayoutAlgorithmData implements ILayoutMetaData {
         private String id;
         private String name;
         private IFactory<AbstractLayoutProvider> providerFactory;
+        private int providerPoolMinimum = 0;
+        private int providerPoolLimit = InstancePool.INFINITE;
         private String category;
         private String melkBundleName;
         private String definingBundleId;
@@ -284,6 +289,17 @@ public final class LayoutAlgorithmData implements ILayoutMetaData {
             return this;
         }
         
+        /**
+         * Configure the minimal and maximal number of layout providers held by the
+         * {@link LayoutAlgorithmData#getInstancePool() instance pool}. By default, no providers are
+         * created in advance and the number of providers held is unbounded.
+         */
+        public Builder providerPoolSizes(final int minimum, final int limit) {
+            this.providerPoolMinimum = minimum;
+            this.providerPoolLimit = limit;
+            return this;
+        }
+        
         /**
          * Configure the {@link LayoutAlgorithmData#getCategoryId() category}.
          */
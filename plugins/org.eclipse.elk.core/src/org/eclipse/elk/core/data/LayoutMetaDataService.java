@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 Kiel University and others.
+ * Copyright (c) 2008, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -427,6 +427,8 @@ public final class LayoutMetaDataService {
         @Override
         public void register(final LayoutAlgorithmData algorithmData) {
             layoutAlgorithmMap.put(algorithmData.getId(), algorithmData);
+            // create the instances the provider pool is configured to hold at least before the first layout run
+            algorithmData.getInstancePool().warmUp();
         }
 
         @Override
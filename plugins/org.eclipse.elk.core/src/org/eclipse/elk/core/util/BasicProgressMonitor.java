@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 Kiel University and others.
+ * Copyright (c) 2009, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -74,8 +74,8 @@ public class BasicProgressMonitor implements IElkProgressMonitor {
     private float totalWork;
     /** the amount of work that is completed. */
     private float completedWork = 0.0f;
-    /** the number of work units that will be consumed after completion of the currently active child task. */
-    private float currentChildWork = -1;
+    /** the number of work units of the parent monitor that will be consumed after completion of this task. */
+    private float parentWork = -1;
     
     /** whether logging should be enabled (if not, logging objects does nothing). */
     private boolean recordLogs = false;
@@ -241,16 +241,17 @@ public class BasicProgressMonitor implements IElkProgressMonitor {
     }
 
     /**
-     * Sets the current work counters of this monitor and all parent monitors.
+     * Sets the current work counters of this monitor and all parent monitors. Synchronized since sub-tasks of the
+     * same monitor may be worked on by different threads, e.g. during parallel component layout.
      *
      * @param work amount of work that has been completed
      */
-    private void internalWorked(final float work) {
+    private synchronized void internalWorked(final float work) {
         if (totalWork > 0 && completedWork < totalWork) {
             completedWork += work;
             doWorked(completedWork, totalWork, parentMonitor == null);
-            if (parentMonitor != null && parentMonitor.currentChildWork > 0 && maxLevels != 0) {
-                parentMonitor.internalWorked(work / totalWork * parentMonitor.currentChildWork);
+            if (parentMonitor != null && parentWork > 0 && maxLevels != 0) {
+                parentMonitor.internalWorked(work / totalWork * parentWork);
             }
         }
     }
@@ -337,7 +338,7 @@ public class BasicProgressMonitor implements IElkProgressMonitor {
             BasicProgressMonitor subMonitor = doSubTask(work, maxLevels);
             children.add(subMonitor);
             subMonitor.parentMonitor = this;
-            currentChildWork = work;
+            subMonitor.parentWork = work;
             return subMonitor;
         } else {
             return null;
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+// elkjs-exclude-start
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+// elkjs-exclude-end
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.math.KVectorChain;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * The coordinates of a laid out subgraph as stored by a {@link LayoutCache}. Shapes and edges are identified by
+ * their index in the canonical order established by {@link Elements}, so a cached layout can be replayed onto any
+ * subgraph of the same structure.
+ */
+final class CachedLayout {
+
+    /** marks the start of a serialized layout. */
+    private static final int MAGIC = 0x454c4b4c;
+    /** version of the serialization format. */
+    private static final int VERSION = 1;
+
+    /** location and size of each shape, four values per shape. The location of the root is not replayed. */
+    private final double[] shapes;
+    /** the routes of the edges. */
+    private final EdgeLayout[] edges;
+
+    private CachedLayout(final double[] shapes, final EdgeLayout[] edges) {
+        this.shapes = shapes;
+        this.edges = edges;
+    }
+
+    /**
+     * Records the current coordinates of the given elements.
+     */
+    static CachedLayout record(final Elements elements) {
+        double[] shapes = new double[4 * elements.shapes.size()];
+        for (int i = 0; i < elements.shapes.size(); i++) {
+            ElkShape shape = elements.shapes.get(i);
+            shapes[4 * i] = shape.getX();
+            shapes[4 * i + 1] = shape.getY();
+            shapes[4 * i + 2] = shape.getWidth();
+            shapes[4 * i + 3] = shape.getHeight();
+        }
+
+        EdgeLayout[] edges = new EdgeLayout[elements.edges.size()];
+        for (int i = 0; i < edges.length; i++) {
+            ElkEdge edge = elements.edges.get(i);
+            List<ElkEdgeSection> sections = edge.getSections();
+            EdgeLayout edgeLayout = new EdgeLayout(sections.size());
+            for (int s = 0; s < sections.size(); s++) {
+                ElkEdgeSection section = sections.get(s);
+                double[] points = new double[4 + 2 * section.getBendPoints().size()];
+                points[0] = section.getStartX();
+                points[1] = section.getStartY();
+                points[2] = section.getEndX();
+                points[3] = section.getEndY();
+                int p = 4;
+                for (ElkBendPoint bendPoint : section.getBendPoints()) {
+                    points[p++] = bendPoint.getX();
+                    points[p++] = bendPoint.getY();
+                }
+                edgeLayout.sections[s] = points;
+                edgeLayout.incomingShapes[s] = elements.indexOf(section.getIncomingShape());
+                edgeLayout.outgoingShapes[s] = elements.indexOf(section.getOutgoingShape());
+                edgeLayout.outgoingSections[s] = new int[section.getOutgoingSections().size()];
+                for (int o = 0; o < edgeLayout.outgoingSections[s].length; o++) {
+                    edgeLayout.outgoingSections[s][o] = sections.indexOf(section.getOutgoingSections().get(o));
+                }
+            }
+            if (edge.hasProperty(CoreOptions.JUNCTION_POINTS)) {
+                KVectorChain junctionPoints = edge.getProperty(CoreOptions.JUNCTION_POINTS);
+                edgeLayout.junctionPoints = new double[2 * junctionPoints.size()];
+                int p = 0;
+                for (KVector junctionPoint : junctionPoints) {
+                    edgeLayout.junctionPoints[p++] = junctionPoint.x;
+                    edgeLayout.junctionPoints[p++] = junctionPoint.y;
+                }
+            }
+            edges[i] = edgeLayout;
+        }
+        return new CachedLayout(shapes, edges);
+    }
+
+    /**
+     * Applies the recorded coordinates to the given elements, replacing any existing edge sections.
+     *
+     * @return {@code false} if the elements do not match the recorded ones, in which case nothing is changed
+     */
+    boolean replay(final Elements elements) {
+        if (4 * elements.shapes.size() != shapes.length || elements.edges.size() != edges.length) {
+            return false;
+        }
+
+        for (int i = 0; i < elements.shapes.size(); i++) {
+            ElkShape shape = elements.shapes.get(i);
+            if (i > 0) {
+                shape.setLocation(shapes[4 * i], shapes[4 * i + 1]);
+            }
+            shape.setDimensions(shapes[4 * i + 2], shapes[4 * i + 3]);
+        }
+
+        for (int i = 0; i < edges.length; i++) {
+            ElkEdge edge = elements.edges.get(i);
+            EdgeLayout edgeLayout = edges[i];
+            edge.getSections().clear();
+            List<ElkEdgeSection> sections = Lists.newArrayListWithCapacity(edgeLayout.sections.length);
+            for (int s = 0; s < edgeLayout.sections.length; s++) {
+                double[] points = edgeLayout.sections[s];
+                ElkEdgeSection section = ElkGraphUtil.createEdgeSection(edge);
+                section.setStartLocation(points[0], points[1]);
+                section.setEndLocation(points[2], points[3]);
+                for (int p = 4; p < points.length; p += 2) {
+                    ElkGraphUtil.createBendPoint(section, points[p], points[p + 1]);
+                }
+                section.setIncomingShape(elements.shapeAt(edgeLayout.incomingShapes[s]));
+                section.setOutgoingShape(elements.shapeAt(edgeLayout.outgoingShapes[s]));
+                sections.add(section);
+            }
+            for (int s = 0; s < edgeLayout.sections.length; s++) {
+                for (int target : edgeLayout.outgoingSections[s]) {
+                    if (target >= 0) {
+                        sections.get(s).getOutgoingSections().add(sections.get(target));
+                    }
+                }
+            }
+
+            if (edgeLayout.junctionPoints != null) {
+                KVectorChain junctionPoints = new KVectorChain();
+                for (int p = 0; p < edgeLayout.junctionPoints.length; p += 2) {
+                    junctionPoints.add(edgeLayout.junctionPoints[p], edgeLayout.junctionPoints[p + 1]);
+                }
+                edge.setProperty(CoreOptions.JUNCTION_POINTS, junctionPoints);
+            } else if (edge.hasProperty(CoreOptions.JUNCTION_POINTS)) {
+                edge.setProperty(CoreOptions.JUNCTION_POINTS, null);
+            }
+        }
+        return true;
+    }
+
+    // elkjs-exclude-start
+    /**
+     * Serializes this layout.
+     */
+    void write(final DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeDoubles(out, shapes);
+        out.writeInt(edges.length);
+        for (EdgeLayout edgeLayout : edges) {
+            out.writeInt(edgeLayout.sections.length);
+            for (int s = 0; s < edgeLayout.sections.length; s++) {
+                writeDoubles(out, edgeLayout.sections[s]);
+                out.writeInt(edgeLayout.incomingShapes[s]);
+                out.writeInt(edgeLayout.outgoingShapes[s]);
+                out.writeInt(edgeLayout.outgoingSections[s].length);
+                for (int target : edgeLayout.outgoingSections[s]) {
+                    out.writeInt(target);
+                }
+            }
+            out.writeBoolean(edgeLayout.junctionPoints != null);
+            if (edgeLayout.junctionPoints != null) {
+                writeDoubles(out, edgeLayout.junctionPoints);
+            }
+        }
+    }
+
+    /**
+     * Reads a layout serialized by {@link #write(DataOutput)}.
+     *
+     * @throws IOException if the input cannot be read or is not a serialized layout
+     */
+    static CachedLayout read(final DataInput in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a cached layout of the expected version.");
+        }
+        double[] shapes = readDoubles(in);
+        EdgeLayout[] edges = new EdgeLayout[in.readInt()];
+        for (int i = 0; i < edges.length; i++) {
+            EdgeLayout edgeLayout = new EdgeLayout(in.readInt());
+            for (int s = 0; s < edgeLayout.sections.length; s++) {
+                edgeLayout.sections[s] = readDoubles(in);
+                edgeLayout.incomingShapes[s] = in.readInt();
+                edgeLayout.outgoingShapes[s] = in.readInt();
+                edgeLayout.outgoingSections[s] = new int[in.readInt()];
+                for (int o = 0; o < edgeLayout.outgoingSections[s].length; o++) {
+                    edgeLayout.outgoingSections[s][o] = in.readInt();
+                }
+            }
+            if (in.readBoolean()) {
+                edgeLayout.junctionPoints = readDoubles(in);
+            }
+            edges[i] = edgeLayout;
+        }
+        return new CachedLayout(shapes, edges);
+    }
+
+    private static void writeDoubles(final DataOutput out, final double[] values) throws IOException {
+        out.writeInt(values.length);
+        for (double value : values) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static double[] readDoubles(final DataInput in) throws IOException {
+        double[] values = new double[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readDouble();
+        }
+        return values;
+    }
+    // elkjs-exclude-end
+
+    /**
+     * The recorded route of an edge.
+     */
+    private static final class EdgeLayout {
+        /** start, end, and bend points of each section. */
+        private final double[][] sections;
+        /** index of each section's incoming shape, or -1. */
+        private final int[] incomingShapes;
+        /** index of each section's outgoing shape, or -1. */
+        private final int[] outgoingShapes;
+        /** indices of each section's outgoing sections. */
+        private final int[][] outgoingSections;
+        /** the junction points, or {@code null} if the edge has none. */
+        private double[] junctionPoints;
+
+        EdgeLayout(final int sectionCount) {
+            sections = new double[sectionCount][];
+            incomingShapes = new int[sectionCount];
+            outgoingShapes = new int[sectionCount];
+            outgoingSections = new int[sectionCount][];
+        }
+    }
+
+    /**
+     * The elements of a subgraph in canonical order. Shapes are listed depth-first, each node followed by its labels,
+     * its ports with their labels, and its children. Edges are listed in the order of the nodes containing them, and
+     * their labels are appended to the shapes.
+     */
+    static final class Elements {
+        /** the root of the subgraph. */
+        final ElkNode root;
+        /** the nodes of the subgraph, starting with the root. */
+        final List<ElkNode> nodes = Lists.newArrayList();
+        /** the nodes, ports, and labels of the subgraph. */
+        final List<ElkShape> shapes = Lists.newArrayList();
+        /** the edges contained in the nodes of the subgraph. */
+        final List<ElkEdge> edges = Lists.newArrayList();
+        /** index of each node and port in the list of shapes. */
+        private final Map<ElkConnectableShape, Integer> shapeIndices = Maps.newHashMap();
+
+        /**
+         * Collects the elements of the subgraph rooted at the given node.
+         */
+        Elements(final ElkNode root) {
+            this.root = root;
+            collect(root);
+            for (ElkNode node : nodes) {
+                edges.addAll(node.getContainedEdges());
+            }
+            for (ElkEdge edge : edges) {
+                shapes.addAll(edge.getLabels());
+            }
+        }
+
+        private void collect(final ElkNode node) {
+            nodes.add(node);
+            shapeIndices.put(node, shapes.size());
+            shapes.add(node);
+            shapes.addAll(node.getLabels());
+            for (ElkPort port : node.getPorts()) {
+                shapeIndices.put(port, shapes.size());
+                shapes.add(port);
+                shapes.addAll(port.getLabels());
+            }
+            for (ElkNode child : node.getChildren()) {
+                collect(child);
+            }
+        }
+
+        /**
+         * Returns the index of the given node or port, or -1 if it is {@code null} or not part of the subgraph.
+         */
+        int indexOf(final ElkConnectableShape shape) {
+            Integer index = shape == null ? null : shapeIndices.get(shape);
+            return index == null ? -1 : index;
+        }
+
+        /**
+         * Returns the node or port with the given index, or {@code null} if the index is negative.
+         */
+        ElkConnectableShape shapeAt(final int index) {
+            return index < 0 ? null : (ElkConnectableShape) shapes.get(index);
+        }
+    }
+
+}
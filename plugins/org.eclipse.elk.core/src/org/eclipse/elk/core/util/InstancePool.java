@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Kiel University and others.
+ * Copyright (c) 2011, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,92 +9,287 @@
  *******************************************************************************/
 package org.eclipse.elk.core.util;
 
-import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A pool for class instances. The pool can hold a configurable number of instances of the class. Note
  * that the number of instances created can well exceed the capacity of this pool. The capacity only
- * influences how many of those instances can be kept for later reuse.
- * 
- * <p>All of the instance methods in this class are thread-safe.</p>
+ * influences how many of those instances can be kept for later reuse. A minimum size can be configured
+ * as well; {@link #warmUp()} fills the pool up to that size such that the first fetches need not create
+ * instances.
+ *
+ * <p>All of the instance methods in this class are thread-safe and do not block. Each thread first
+ * tries to fetch the instance it released most recently, which is kept in a slot chosen by the thread's
+ * identity. Only if that slot is empty, the instances shared by all threads are accessed. Thus, threads
+ * that repeatedly fetch and release instances hardly ever compete for the same memory.</p>
+ *
+ * <p>The pool counts how many fetches could be served by pooled instances ({@link #getHitCount() hits})
+ * and how many required new instances to be created ({@link #getMissCount() misses}).</p>
  *
  * @param <T> the type of instances that are held by this pool
  * @author msp
  */
 public final class InstancePool<T> {
-    
+
     /** an infinite amount of instances. */
     public static final int INFINITE = -1;
-    
+
+    /** the number of slots for instances associated with threads. */
+    private static final int AFFINE_SLOTS = affineSlotCount();
+
     /** the instance factory to use for this pool. */
     private final IFactory<T> factory;
-    /** the list of currently held instances. */
-    private final LinkedList<T> instances = new LinkedList<T>();
+    /** instances associated with the threads whose identity maps to the respective slot. */
+    private final AtomicReference<T>[] affineInstances;
+    /** top of the stack of instances shared by all threads. */
+    private final AtomicReference<Node<T>> sharedInstances = new AtomicReference<Node<T>>();
+    /** the number of instances currently held, including ones that are about to be added or removed. */
+    private final AtomicInteger size = new AtomicInteger();
+    /** the configured minimal number of instances to be held after warming up. */
+    private volatile int minimum;
     /** the configured instance limit. */
-    private int limit;
-    /** lock used for synchronization. */
-    private final Object lock = new Object();
-    
+    private volatile int limit;
+    /** the number of fetches served by pooled instances. */
+    private final AtomicLong hits = new AtomicLong();
+    /** the number of fetches that required a new instance. */
+    private final AtomicLong misses = new AtomicLong();
+
     /**
-     * Create an instance pool with an infinite capacity. 
-     * 
+     * Create an instance pool with an infinite capacity.
+     *
      * @param thefactory the instance factory
      */
     public InstancePool(final IFactory<T> thefactory) {
         this(thefactory, INFINITE);
     }
-    
+
     /**
      * Create an instance pool with given capacity.
-     * 
+     *
      * @param thefactory the instance factory
      * @param thelimit the maximal number of instances that shall be kept in the pool
      */
     public InstancePool(final IFactory<T> thefactory, final int thelimit) {
+        this(thefactory, 0, thelimit);
+    }
+
+    /**
+     * Create an instance pool with given minimal size and capacity. The pool is not filled before
+     * {@link #warmUp()} is called.
+     *
+     * @param thefactory the instance factory
+     * @param theminimum the number of instances created by {@link #warmUp()}
+     * @param thelimit the maximal number of instances that shall be kept in the pool
+     */
+    @SuppressWarnings("unchecked")
+    public InstancePool(final IFactory<T> thefactory, final int theminimum, final int thelimit) {
         assert thefactory != null;
         this.factory = thefactory;
+        this.affineInstances = new AtomicReference[AFFINE_SLOTS];
+        for (int i = 0; i < AFFINE_SLOTS; i++) {
+            affineInstances[i] = new AtomicReference<T>();
+        }
+        setSizes(theminimum, thelimit);
+    }
+
+    /**
+     * Configures the minimal and maximal number of instances held by this pool. Instances exceeding the new
+     * limit are disposed. Call {@link #warmUp()} to create the minimal number of instances.
+     *
+     * @param theminimum the number of instances created by {@link #warmUp()}
+     * @param thelimit the maximal number of instances that shall be kept in the pool, or {@link #INFINITE}
+     */
+    public void setSizes(final int theminimum, final int thelimit) {
+        if (theminimum < 0 || (thelimit >= 0 && theminimum > thelimit)) {
+            throw new IllegalArgumentException("Invalid pool sizes: minimum " + theminimum + ", limit " + thelimit);
+        }
+        this.minimum = theminimum;
         this.limit = thelimit;
+
+        while (thelimit >= 0 && size.get() > thelimit) {
+            T obj = poll();
+            if (obj == null) {
+                break;
+            }
+            factory.destroy(obj);
+        }
+    }
+
+    /**
+     * Creates instances until the pool holds its minimal number of instances.
+     */
+    public void warmUp() {
+        while (size.get() < minimum) {
+            if (!offer(factory.create(), true)) {
+                break;
+            }
+        }
     }
-    
+
     /**
      * Fetch an instance from the pool. If no instance is available, a new one is created.
-     * 
+     *
      * @return a class instance
      */
     public T fetch() {
-        synchronized (lock) {
-            if (instances.isEmpty()) {
-                return factory.create();
-            }
-            return instances.removeFirst();
+        T obj = poll();
+        if (obj != null) {
+            hits.incrementAndGet();
+            return obj;
         }
+        misses.incrementAndGet();
+        return factory.create();
     }
-    
+
     /**
      * Release an instance into the pool to be used again unless the pool's capacity is already reached.
      * Only instances that are still usable may be released.
-     * 
+     *
      * @param obj a class instance
      */
     public void release(final T obj) {
-        synchronized (lock) {
-            if (limit < 0 || instances.size() < limit) {
-                instances.addLast(obj);
-            } else {
-                factory.destroy(obj);
-            }
+        if (!offer(obj, false)) {
+            factory.destroy(obj);
         }
     }
-    
+
     /**
      * Clear the instance pool by disposing all instances that are currently held.
      */
     public void clear() {
-        synchronized (lock) {
-            for (T obj : instances) {
-                factory.destroy(obj);
+        T obj = poll();
+        while (obj != null) {
+            factory.destroy(obj);
+            obj = poll();
+        }
+    }
+
+    /**
+     * Returns the number of instances currently held by this pool.
+     *
+     * @return the number of pooled instances
+     */
+    public int getSize() {
+        return Math.max(size.get(), 0);
+    }
+
+    /**
+     * Returns the number of fetches that could be served by an instance held by this pool.
+     *
+     * @return the number of pool hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of fetches that required a new instance to be created, since the pool was empty.
+     *
+     * @return the number of pool misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "InstancePool(size=" + getSize() + ", minimum=" + minimum + ", limit=" + limit
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ")";
+    }
+
+    /**
+     * Adds the given instance to the pool unless the pool's capacity is reached.
+     *
+     * @param obj the instance
+     * @param shared whether the instance shall be shared by all threads instead of being associated with the
+     *          current thread
+     * @return whether the instance was added
+     */
+    private boolean offer(final T obj, final boolean shared) {
+        int count = size.incrementAndGet();
+        int currentLimit = limit;
+        if (currentLimit >= 0 && count > currentLimit) {
+            size.decrementAndGet();
+            return false;
+        }
+
+        if (!shared && affineInstances[affineSlot()].compareAndSet(null, obj)) {
+            return true;
+        }
+
+        Node<T> node = new Node<T>(obj);
+        do {
+            node.next = sharedInstances.get();
+        } while (!sharedInstances.compareAndSet(node.next, node));
+        return true;
+    }
+
+    /**
+     * Removes an instance from the pool, preferring the one associated with the current thread, then the shared
+     * ones, and finally the ones associated with other threads.
+     *
+     * @return an instance, or {@code null} if the pool is empty
+     */
+    private T poll() {
+        int slot = affineSlot();
+        T obj = affineInstances[slot].getAndSet(null);
+        if (obj == null) {
+            obj = pollShared();
+        }
+        for (int i = 1; obj == null && i < AFFINE_SLOTS; i++) {
+            obj = affineInstances[(slot + i) % AFFINE_SLOTS].getAndSet(null);
+        }
+        if (obj != null) {
+            size.decrementAndGet();
+        }
+        return obj;
+    }
+
+    private T pollShared() {
+        Node<T> node;
+        do {
+            node = sharedInstances.get();
+            if (node == null) {
+                return null;
             }
-            instances.clear();
+        } while (!sharedInstances.compareAndSet(node, node.next));
+        return node.instance;
+    }
+
+    /**
+     * Returns the slot of instances associated with the current thread.
+     */
+    private static int affineSlot() {
+        int slot = 0;
+        // elkjs-exclude-start
+        slot = (int) (Thread.currentThread().getId() % AFFINE_SLOTS);
+        // elkjs-exclude-end
+        return slot;
+    }
+
+    /**
+     * Returns the number of slots for instances associated with threads, which is the number of processors since at
+     * most that many threads run at the same time.
+     */
+    private static int affineSlotCount() {
+        int count = 1;
+        // elkjs-exclude-start
+        count = Runtime.getRuntime().availableProcessors();
+        // elkjs-exclude-end
+        return count;
+    }
+
+    /**
+     * An element of the stack of shared instances. Nodes are never reused, which rules out the ABA problem.
+     */
+    private static final class Node<T> {
+        private final T instance;
+        private Node<T> next;
+
+        Node(final T instance) {
+            this.instance = instance;
         }
     }
 
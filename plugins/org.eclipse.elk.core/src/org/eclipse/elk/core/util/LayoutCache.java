@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+// elkjs-exclude-start
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+// elkjs-exclude-end
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.graph.ElkNode;
+
+/**
+ * A bounded cache of layouts, keyed by the structural hash of the laid out subgraphs. If a layout engine is asked to
+ * lay out a subgraph that is structurally equal to one it has laid out before, the cached coordinates can be replayed
+ * onto the new subgraph instead of running the layout algorithms again. Two subgraphs are structurally equal if they
+ * consist of the same tree of nodes, ports, and labels with the same sizes and coordinates, the same edges, and the
+ * same layout options; identifiers and label texts may differ. The
+ * {@link org.eclipse.elk.core.RecursiveGraphLayoutEngine RecursiveGraphLayoutEngine} consults its cache for each
+ * compound node, which lets repeated subgraphs of one graph be laid out only once.
+ *
+ * <p>The cache keeps a limited number of layouts in memory and evicts the least recently used ones. Evicted layouts
+ * can optionally be written to a directory, from which they are read again on demand. Since keys do not depend on
+ * object identities, such a directory can be shared by subsequent runs.</p>
+ *
+ * <p>Layouts record the locations and sizes of all nodes, ports, and labels, as well as the edge sections and junction
+ * points of all edges. Other properties that layout algorithms may set on graph elements are not replayed.</p>
+ *
+ * <p>All of the instance methods in this class are thread-safe.</p>
+ */
+public final class LayoutCache {
+
+    /** the maximal number of layouts kept in memory. */
+    private final int capacity;
+    /** the cached layouts, ordered from least to most recently used. */
+    private final LinkedHashMap<Key, CachedLayout> layouts;
+    /** the number of lookups that found a layout. */
+    private long hits;
+    /** the number of lookups that did not find a layout. */
+    private long misses;
+
+    // elkjs-exclude-start
+    /** the directory evicted layouts are written to, or {@code null}. */
+    private File spillDirectory;
+    /** the maximal number of layouts written to the spill directory by this cache. */
+    private int spillCapacity;
+    /** the layouts written to the spill directory by this cache, ordered from oldest to newest. */
+    private final LinkedHashMap<Key, File> spilledLayouts = new LinkedHashMap<>();
+    // elkjs-exclude-end
+
+    /**
+     * Creates a cache that keeps at most the given number of layouts in memory.
+     *
+     * @param capacity the maximal number of layouts kept in memory
+     */
+    public LayoutCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.layouts = new LinkedHashMap<>(16, 0.75f, true); // SUPPRESS CHECKSTYLE MagicNumber
+    }
+
+    // elkjs-exclude-start
+    /**
+     * Lets the cache write layouts it evicts from memory to the given directory. Layouts that are found in the
+     * directory, including ones written by previous runs, are served as if they were kept in memory. Once this cache
+     * has written the given number of layouts, it deletes the oldest ones it wrote.
+     *
+     * @param directory an existing directory
+     * @param maxSpilledLayouts the maximal number of layouts this cache keeps in the directory
+     * @return this cache
+     */
+    public synchronized LayoutCache withSpillDirectory(final File directory, final int maxSpilledLayouts) {
+        if (!directory.isDirectory()) {
+            throw new IllegalArgumentException("Not a directory: " + directory);
+        }
+        this.spillDirectory = directory;
+        this.spillCapacity = maxSpilledLayouts;
+        return this;
+    }
+    // elkjs-exclude-end
+
+    /**
+     * Computes the key identifying the given subgraph in a layout cache. Subgraphs with edges leading out of them
+     * cannot be cached, and neither can ones that use topdown layout or inside self loops, since their layout depends
+     * on more than the subgraph itself.
+     *
+     * @param node the root of the subgraph
+     * @return the key, or {@code null} if the subgraph cannot be cached
+     */
+    public static Key keyOf(final ElkNode node) {
+        CachedLayout.Elements elements = new CachedLayout.Elements(node);
+        for (ElkNode n : elements.nodes) {
+            if (n.getProperty(CoreOptions.TOPDOWN_LAYOUT) || n.getProperty(CoreOptions.INSIDE_SELF_LOOPS_ACTIVATE)) {
+                return null;
+            }
+        }
+        return StructuralGraphHash.of(elements);
+    }
+
+    /**
+     * Replays the layout cached for the given key onto the given subgraph, if there is one.
+     *
+     * @param key the key computed for the subgraph by {@link #keyOf(ElkNode)} before it was modified
+     * @param node the root of the subgraph
+     * @return whether a layout was found and replayed
+     */
+    public boolean replay(final Key key, final ElkNode node) {
+        CachedLayout layout = lookup(key);
+        return layout != null && layout.replay(new CachedLayout.Elements(node));
+    }
+
+    /**
+     * Stores the current layout of the given subgraph.
+     *
+     * @param key the key computed for the subgraph by {@link #keyOf(ElkNode)} before it was laid out
+     * @param node the root of the subgraph
+     */
+    public void store(final Key key, final ElkNode node) {
+        CachedLayout layout = CachedLayout.record(new CachedLayout.Elements(node));
+        synchronized (this) {
+            layouts.put(key, layout);
+            while (layouts.size() > capacity) {
+                Map.Entry<Key, CachedLayout> eldest = layouts.entrySet().iterator().next();
+                layouts.remove(eldest.getKey());
+                // elkjs-exclude-start
+                spill(eldest.getKey(), eldest.getValue());
+                // elkjs-exclude-end
+            }
+        }
+    }
+
+    /**
+     * Removes all layouts from this cache, including the ones it has written to its spill directory.
+     */
+    public synchronized void clear() {
+        layouts.clear();
+        // elkjs-exclude-start
+        for (File file : spilledLayouts.values()) {
+            file.delete();
+        }
+        spilledLayouts.clear();
+        // elkjs-exclude-end
+    }
+
+    /**
+     * Returns the number of layouts currently kept in memory.
+     *
+     * @return the number of layouts in memory
+     */
+    public synchronized int getSize() {
+        return layouts.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a cached layout.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached layout.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LayoutCache(size=" + layouts.size() + ", capacity=" + capacity + ", hits=" + hits
+                + ", misses=" + misses + ")";
+    }
+
+    /**
+     * Returns the layout cached for the given key, loading it from the spill directory if necessary.
+     */
+    private synchronized CachedLayout lookup(final Key key) {
+        CachedLayout layout = layouts.get(key);
+        // elkjs-exclude-start
+        if (layout == null && spillDirectory != null) {
+            layout = unspill(key);
+            if (layout != null) {
+                layouts.put(key, layout);
+            }
+        }
+        // elkjs-exclude-end
+        if (layout != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return layout;
+    }
+
+    // elkjs-exclude-start
+    /**
+     * Writes the given layout to the spill directory, if there is one. Failures are ignored since they merely cause
+     * later cache misses.
+     */
+    private void spill(final Key key, final CachedLayout layout) {
+        if (spillDirectory == null || spillCapacity <= 0) {
+            return;
+        }
+        File file = new File(spillDirectory, key + ".layout");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            layout.write(out);
+        } catch (IOException e) {
+            file.delete();
+            return;
+        }
+
+        spilledLayouts.remove(key);
+        spilledLayouts.put(key, file);
+        Iterator<File> oldest = spilledLayouts.values().iterator();
+        while (spilledLayouts.size() > spillCapacity) {
+            oldest.next().delete();
+            oldest.remove();
+        }
+    }
+
+    /**
+     * Reads the layout with the given key from the spill directory.
+     *
+     * @return the layout, or {@code null} if there is none or it cannot be read
+     */
+    private CachedLayout unspill(final Key key) {
+        File file = new File(spillDirectory, key + ".layout");
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return CachedLayout.read(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+    // elkjs-exclude-end
+
+    /**
+     * The structural hash of a subgraph, computed by {@link LayoutCache#keyOf(ElkNode)}.
+     */
+    public static final class Key {
+        private final long hash1;
+        private final long hash2;
+
+        Key(final long hash1, final long hash2) {
+            this.hash1 = hash1;
+            this.hash2 = hash2;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return hash1 == other.hash1 && hash2 == other.hash2;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (hash1 ^ (hash1 >>> 32)); // SUPPRESS CHECKSTYLE MagicNumber
+        }
+
+        @Override
+        public String toString() {
+            return hex(hash1) + hex(hash2);
+        }
+
+        private static String hex(final long value) {
+            String hex = Long.toHexString(value);
+            return "0000000000000000".substring(hex.length()) + hex;
+        }
+    }
+
+}
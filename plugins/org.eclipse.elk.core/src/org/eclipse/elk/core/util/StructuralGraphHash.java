@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.elk.core.data.LayoutAlgorithmData;
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkGraphElement;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IProperty;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Computes the structural hash of a subgraph that identifies it in a {@link LayoutCache}. The hash covers everything
+ * a layout algorithm may look at: the tree of nodes, ports, and labels, the edges and their end points, the current
+ * coordinates of all elements except the location of the root, the number of edges that connect the subgraph to the
+ * outside, and the layout options set on all elements. Identifiers and label texts are left out, as are the layout
+ * options that only hold layout results. Two hashes of 64 bits each are computed with different mixing functions,
+ * which renders collisions practically impossible.
+ */
+final class StructuralGraphHash {
+
+    /** options whose values are computed by layout algorithms and are thus not part of the hash. */
+    private static final Set<String> RESULT_OPTIONS = Sets.newHashSet(
+            CoreOptions.JUNCTION_POINTS.getId(),
+            CoreOptions.CHILD_AREA_WIDTH.getId(),
+            CoreOptions.CHILD_AREA_HEIGHT.getId());
+
+    private static final long MULTIPLIER_1 = 0x9e3779b97f4a7c15L;
+    private static final long MULTIPLIER_2 = 0xc2b2ae3d27d4eb4fL;
+
+    private static final int NODE = 1;
+    private static final int PORT = 2;
+    private static final int LABEL = 3;
+    private static final int EDGE = 4;
+    private static final int SECTION = 5;
+    private static final int NULL = 6;
+    private static final int VECTOR = 7;
+    private static final int ITERABLE = 8;
+    private static final int OBJECT = 9;
+
+    private long hash1 = 1;
+    private long hash2 = 2;
+
+    private StructuralGraphHash() {
+    }
+
+    /**
+     * Computes the hash of the given elements.
+     *
+     * @return the key identifying the elements in a layout cache, or {@code null} if an edge of the subgraph is
+     *         connected to an element outside of it
+     */
+    static LayoutCache.Key of(final CachedLayout.Elements elements) {
+        StructuralGraphHash hash = new StructuralGraphHash();
+        Set<ElkEdge> edges = Sets.newHashSet(elements.edges);
+
+        for (ElkShape shape : elements.shapes) {
+            if (shape instanceof ElkNode) {
+                ElkNode node = (ElkNode) shape;
+                hash.add(NODE);
+                hash.add(node.getChildren().size());
+                hash.add(node.getPorts().size());
+                hash.add(node.getLabels().size());
+                hash.addExternalEdges(node, edges);
+            } else if (shape instanceof ElkPort) {
+                ElkPort port = (ElkPort) shape;
+                hash.add(PORT);
+                hash.add(port.getLabels().size());
+                hash.addExternalEdges(port, edges);
+            } else {
+                hash.add(LABEL);
+                hash.add(((ElkLabel) shape).getLabels().size());
+            }
+            if (shape != elements.root) {
+                hash.add(shape.getX());
+                hash.add(shape.getY());
+            }
+            hash.add(shape.getWidth());
+            hash.add(shape.getHeight());
+            hash.addProperties(shape);
+        }
+
+        for (ElkEdge edge : elements.edges) {
+            hash.add(EDGE);
+            hash.add(elements.indexOf(edge.getContainingNode()));
+            if (!hash.addShapes(elements, edge.getSources()) || !hash.addShapes(elements, edge.getTargets())) {
+                return null;
+            }
+            hash.add(edge.getLabels().size());
+            hash.add(edge.getSections().size());
+            for (ElkEdgeSection section : edge.getSections()) {
+                hash.add(SECTION);
+                hash.add(section.getStartX());
+                hash.add(section.getStartY());
+                hash.add(section.getEndX());
+                hash.add(section.getEndY());
+                hash.add(section.getBendPoints().size());
+                for (ElkBendPoint bendPoint : section.getBendPoints()) {
+                    hash.add(bendPoint.getX());
+                    hash.add(bendPoint.getY());
+                }
+            }
+            hash.addProperties(edge);
+        }
+
+        return new LayoutCache.Key(hash.hash1, hash.hash2);
+    }
+
+    /**
+     * Adds the indices of the given shapes.
+     *
+     * @return {@code false} if one of the shapes is not part of the subgraph
+     */
+    private boolean addShapes(final CachedLayout.Elements elements, final List<ElkConnectableShape> shapes) {
+        add(shapes.size());
+        for (ElkConnectableShape shape : shapes) {
+            int index = elements.indexOf(shape);
+            if (index < 0) {
+                return false;
+            }
+            add(index);
+        }
+        return true;
+    }
+
+    /**
+     * Adds the number of incoming and outgoing edges of the given shape that are not part of the subgraph. Algorithms
+     * may use them, for example, to decide on which side to place a port of the root.
+     */
+    private void addExternalEdges(final ElkConnectableShape shape, final Set<ElkEdge> edges) {
+        int incoming = 0;
+        for (ElkEdge edge : shape.getIncomingEdges()) {
+            if (!edges.contains(edge)) {
+                incoming++;
+            }
+        }
+        int outgoing = 0;
+        for (ElkEdge edge : shape.getOutgoingEdges()) {
+            if (!edges.contains(edge)) {
+                outgoing++;
+            }
+        }
+        add(incoming);
+        add(outgoing);
+    }
+
+    /**
+     * Adds the layout options of the given element, ordered by their identifiers.
+     */
+    private void addProperties(final ElkGraphElement element) {
+        Map<IProperty<?>, Object> properties = element.getAllProperties();
+        List<IProperty<?>> keys = Lists.newArrayListWithCapacity(properties.size());
+        for (IProperty<?> property : properties.keySet()) {
+            if (!RESULT_OPTIONS.contains(property.getId())) {
+                keys.add(property);
+            }
+        }
+        Collections.sort(keys, (p1, p2) -> p1.getId().compareTo(p2.getId()));
+
+        add(keys.size());
+        for (IProperty<?> property : keys) {
+            add(property.getId());
+            addValue(properties.get(property));
+        }
+    }
+
+    /**
+     * Adds an option value. Values other than numbers, vectors, algorithms, and collections are represented by their
+     * class and string representation.
+     */
+    private void addValue(final Object value) {
+        if (value == null) {
+            add(NULL);
+        } else if (value instanceof Double || value instanceof Float) {
+            add(((Number) value).doubleValue());
+        } else if (value instanceof KVector) {
+            add(VECTOR);
+            add(((KVector) value).x);
+            add(((KVector) value).y);
+        } else if (value instanceof LayoutAlgorithmData) {
+            add(((LayoutAlgorithmData) value).getId());
+        } else if (value instanceof Iterable) {
+            add(ITERABLE);
+            int size = 0;
+            for (Object element : (Iterable<?>) value) {
+                addValue(element);
+                size++;
+            }
+            add(size);
+        } else {
+            add(OBJECT);
+            add(value.getClass().getName());
+            add(value.toString());
+        }
+    }
+
+    private void add(final String value) {
+        add(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            add(value.charAt(i));
+        }
+    }
+
+    private void add(final double value) {
+        add(Double.doubleToLongBits(value));
+    }
+
+    private void add(final long value) {
+        hash1 = Long.rotateLeft((hash1 ^ value) * MULTIPLIER_1, 31);
+        hash2 = (hash2 + value) * MULTIPLIER_2;
+        hash2 ^= hash2 >>> 29;
+    }
+
+}
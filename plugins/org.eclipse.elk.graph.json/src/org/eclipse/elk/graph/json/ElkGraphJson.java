@@ -10,7 +10,9 @@
 package org.eclipse.elk.graph.json;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 
 import org.eclipse.elk.core.util.Maybe;
 import org.eclipse.elk.graph.ElkNode;
@@ -22,6 +24,7 @@ import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Utility methods to import and export the ELK Graph JSON Format.
@@ -61,6 +64,23 @@ public final class ElkGraphJson {
         return ib;
     }
     
+    /**
+     * Initializes an importer that reads the graph from the passed reader. The graph is built while reading the json,
+     * without creating an intermediate json object, which keeps the memory footprint of large graphs low. The import
+     * is finished using the {@link ImportBuilder#toElk()} method.
+     * 
+     * @param graph
+     *            reader for the graph to import. It is not closed by the importer.
+     * @return a builder instance that can be further configured.
+     * 
+     * @see ImportBuilder#rememberStreamingImporter(Maybe)
+     */
+    public static ImportBuilder forGraph(final Reader graph) {
+        ImportBuilder ib = new ImportBuilder();
+        ib.graphReader = graph;
+        return ib;
+    }
+    
     /**
      * Builder for importing.
      */
@@ -68,7 +88,9 @@ public final class ElkGraphJson {
         
         private JsonObject jsonGraph;
         private String graph;
+        private Reader graphReader;
         private Maybe<JsonImporter> importerMaybe;
+        private Maybe<StreamingJsonImporter> streamingImporterMaybe;
         /** See {@link JsonReader#setLenient(boolean)} for details. */
         private boolean lenient = true;
         
@@ -87,6 +109,20 @@ public final class ElkGraphJson {
             return this;
         }
 
+        /**
+         * Same as {@link #rememberImporter(Maybe)}, but for graphs read from a {@link Reader}. The
+         * {@link StreamingJsonImporter} can {@link StreamingJsonImporter#transferLayout(ElkNode, Reader, Writer)
+         * transfer} the layout by reading the original json a second time.
+         * 
+         * @param maybe
+         *            an empty {@link Maybe}.
+         * @return the builder.
+         */
+        public ImportBuilder rememberStreamingImporter(final Maybe<StreamingJsonImporter> maybe) {
+            this.streamingImporterMaybe = maybe;
+            return this;
+        }
+
         /**
          * If <code>true</code>, be more relaxed when parsing the JSON, e.g. allow property keys without quotes. By
          * default <code>true</code>. For details see {@link JsonReader#setLenient(boolean)}.
@@ -108,6 +144,10 @@ public final class ElkGraphJson {
          * @return the root node of the imported ELK Graph.
          */
         public ElkNode toElk() {
+            if (graphReader != null) {
+                return streamToElk();
+            }
+
             if (jsonGraph == null) {
                 // Due to a GSON workaround the following lines are a bit more complicated that they have to be.
                 // See the javadoc comment of GSON_ELEMENT_ADAPTER for details.
@@ -133,6 +173,25 @@ public final class ElkGraphJson {
 
             return elkGraph;
         }
+
+        private ElkNode streamToElk() {
+            JsonReader reader = new JsonReader(graphReader);
+            reader.setLenient(this.lenient);
+
+            StreamingJsonImporter importer = new StreamingJsonImporter();
+            ElkNode elkGraph;
+            try {
+                elkGraph = importer.read(reader);
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+
+            if (streamingImporterMaybe != null) {
+                streamingImporterMaybe.set(importer);
+            }
+
+            return elkGraph;
+        }
     }
 
     /**
@@ -234,6 +293,36 @@ public final class ElkGraphJson {
             String json = gson.toJson(jsonGraph);
             return json;
         }
+
+        /**
+         * Perform the export using the specified configuration and write the result to the given writer. The json is
+         * written while traversing the graph, without creating an intermediate json object.
+         * 
+         * @param writer
+         *            the writer to write the json to. It is flushed, but not closed.
+         * @throws JsonIOException
+         *             if writing fails.
+         */
+        public void toJson(final Writer writer) {
+            JsonWriter jsonWriter = new JsonWriter(writer);
+            // no need to perform html escaping in our case, hence deactivate it:
+            jsonWriter.setHtmlSafe(false);
+            jsonWriter.setLenient(true);
+            jsonWriter.setSerializeNulls(false);
+            if (prettyPrint) {
+                jsonWriter.setIndent("  ");
+            }
+
+            StreamingJsonExporter exporter = new StreamingJsonExporter();
+            exporter.setOptions(omitZeroPosition, omitZeroDimension, omitLayoutInformation,
+                    shortLayoutOptionKeys, omitUnknownLayoutOptions);
+            try {
+                exporter.export(graph, jsonWriter);
+                jsonWriter.flush();
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        }
     }
 
 }
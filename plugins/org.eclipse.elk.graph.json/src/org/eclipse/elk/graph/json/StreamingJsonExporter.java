@@ -0,0 +1,478 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.data.LayoutOptionData;
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.math.KVectorChain;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.IndividualSpacings;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Exporter from elk graph to json that writes the json directly to a {@link JsonWriter} instead of building a
+ * {@link com.google.gson.JsonObject} first. The output is the same as the one of {@link JsonExporter}, including the
+ * generated ids and the order of members.
+ */
+public final class StreamingJsonExporter {
+
+    /** the ids assigned to nodes, ports, edges, and edge sections. */
+    private final Map<Object, String> idMap = new HashMap<>();
+    private final Set<String> nodeIds = new HashSet<>();
+    private final Set<String> portIds = new HashSet<>();
+    private final Set<String> edgeIds = new HashSet<>();
+    private final Set<String> edgeSectionIds = new HashSet<>();
+    /** short keys of the layout options encountered so far. */
+    private final Map<String, String> shortOptionKeys = new HashMap<>();
+
+    private int nodeIdCounter = 0;
+    private int portIdCounter = 0;
+    private int edgeIdCounter = 0;
+    private int edgeSectionIdCounter = 0;
+
+    // configuration
+    private boolean omitZeroPos = true;
+    private boolean omitZeroDim = true;
+    private boolean omitLayout = false;
+    private boolean shortLayoutOptionKeys = true;
+    private boolean omitUnknownLayoutOptions = true;
+
+    private final Random random = new Random();
+
+    /**
+     * Configures the exporter. See {@link ElkGraphJson.ExportBuilder} for the meaning of the options.
+     */
+    public void setOptions(final boolean omitZeroPosition, final boolean omitZeroDimension,
+            final boolean omitLayoutInformation, final boolean shortKeys, final boolean omitUnknownOptions) {
+
+        this.omitZeroPos = omitZeroPosition;
+        this.omitZeroDim = omitZeroDimension;
+        this.omitLayout = omitLayoutInformation;
+        this.shortLayoutOptionKeys = shortKeys;
+        this.omitUnknownLayoutOptions = omitUnknownOptions;
+    }
+
+    /**
+     * Writes the given graph to the given writer.
+     *
+     * @param root
+     *            the root node of the graph to export.
+     * @param out
+     *            the writer to write the json to.
+     * @throws IOException
+     *             if writing fails.
+     */
+    public void export(final ElkNode root, final JsonWriter out) throws IOException {
+        init();
+
+        // All ids need to be known before the first edge can be written
+        registerNodes(root);
+        registerEdges(root);
+
+        writeNode(root, out);
+    }
+
+    private void init() {
+        idMap.clear();
+        nodeIds.clear();
+        portIds.clear();
+        edgeIds.clear();
+        edgeSectionIds.clear();
+        nodeIdCounter = 0;
+        portIdCounter = 0;
+        edgeIdCounter = 0;
+        edgeSectionIdCounter = 0;
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Id Assignment
+
+    /**
+     * Assigns ids to the given node, its ports and its descendants in the order {@link JsonExporter} does.
+     */
+    private void registerNodes(final ElkNode node) {
+        String id = node.getIdentifier();
+        if (id == null) {
+            id = "n" + nodeIdCounter++;
+        }
+        register(node, id, nodeIds);
+
+        for (ElkPort port : node.getPorts()) {
+            String portId = port.getIdentifier();
+            if (portId == null) {
+                portId = "p" + portIdCounter++;
+            }
+            register(port, portId, portIds);
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            registerNodes(child);
+        }
+    }
+
+    /**
+     * Assigns ids to the edges contained in the given node and its descendants, and to their sections.
+     */
+    private void registerEdges(final ElkNode node) {
+        for (ElkEdge edge : node.getContainedEdges()) {
+            String id = edge.getIdentifier();
+            if (id == null) {
+                id = "e" + edgeIdCounter++;
+            }
+            register(edge, id, edgeIds);
+
+            if (!omitLayout) {
+                for (ElkEdgeSection section : edge.getSections()) {
+                    String sectionId = section.getIdentifier();
+                    if (sectionId == null) {
+                        sectionId = "s" + edgeSectionIdCounter++;
+                    }
+                    register(section, sectionId, edgeSectionIds);
+                }
+            }
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            registerEdges(child);
+        }
+    }
+
+    private void register(final Object element, final String id, final Set<String> usedIds) {
+        String uniqueId = id;
+        while (usedIds.contains(uniqueId)) {
+            uniqueId = id + "_g" + String.format("%06d", random.nextInt(1000000)); // SUPPRESS CHECKSTYLE MagicNumber
+        }
+        usedIds.add(uniqueId);
+        idMap.put(element, uniqueId);
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // ElkGraph --> JSON
+
+    private void writeNode(final ElkNode node, final JsonWriter out) throws IOException {
+        out.beginObject();
+        out.name("id").value(idMap.get(node));
+
+        if (!node.getLabels().isEmpty()) {
+            out.name("labels").beginArray();
+            for (ElkLabel label : node.getLabels()) {
+                writeLabel(label, out);
+            }
+            out.endArray();
+        }
+
+        if (!node.getPorts().isEmpty()) {
+            out.name("ports").beginArray();
+            for (ElkPort port : node.getPorts()) {
+                writePort(port, out);
+            }
+            out.endArray();
+        }
+
+        if (!node.getChildren().isEmpty()) {
+            out.name("children").beginArray();
+            for (ElkNode child : node.getChildren()) {
+                writeNode(child, out);
+            }
+            out.endArray();
+        }
+
+        writeProperties(node, out);
+        writeIndividualSpacings(node, out);
+        writeShapeLayout(node, out);
+
+        // JsonExporter adds the edges once all nodes have been transformed, so they come last
+        if (!node.getContainedEdges().isEmpty()) {
+            out.name("edges").beginArray();
+            for (ElkEdge edge : node.getContainedEdges()) {
+                writeEdge(edge, out);
+            }
+            out.endArray();
+        }
+
+        out.endObject();
+    }
+
+    private void writePort(final ElkPort port, final JsonWriter out) throws IOException {
+        out.beginObject();
+        out.name("id").value(idMap.get(port));
+
+        if (!port.getLabels().isEmpty()) {
+            out.name("labels").beginArray();
+            for (ElkLabel label : port.getLabels()) {
+                writeLabel(label, out);
+            }
+            out.endArray();
+        }
+
+        writeProperties(port, out);
+        writeShapeLayout(port, out);
+        out.endObject();
+    }
+
+    private void writeEdge(final ElkEdge edge, final JsonWriter out) throws IOException {
+        out.beginObject();
+        out.name("id").value(idMap.get(edge));
+
+        out.name("sources").beginArray();
+        for (ElkConnectableShape source : edge.getSources()) {
+            String id = idMap.get(source);
+            if (id == null) {
+                throw new JsonImportException("Unknown edge source: " + source);
+            }
+            out.value(id);
+        }
+        out.endArray();
+
+        out.name("targets").beginArray();
+        for (ElkConnectableShape target : edge.getTargets()) {
+            String id = idMap.get(target);
+            if (id == null) {
+                throw new JsonImportException("Unknown edge target: " + target);
+            }
+            out.value(id);
+        }
+        out.endArray();
+
+        if (!edge.getLabels().isEmpty()) {
+            out.name("labels").beginArray();
+            for (ElkLabel label : edge.getLabels()) {
+                writeLabel(label, out);
+            }
+            out.endArray();
+        }
+
+        if (!omitLayout && !edge.getSections().isEmpty()) {
+            out.name("sections").beginArray();
+            for (ElkEdgeSection section : edge.getSections()) {
+                writeSection(section, out);
+            }
+            out.endArray();
+        }
+
+        // make sure not to initialize an empty set of junction points by accident (#559)
+        if (!omitLayout && edge.hasProperty(CoreOptions.JUNCTION_POINTS)) {
+            KVectorChain junctionPoints = edge.getProperty(CoreOptions.JUNCTION_POINTS);
+            if (junctionPoints != null && !junctionPoints.isEmpty()) {
+                out.name("junctionPoints").beginArray();
+                for (KVector jp : junctionPoints) {
+                    writePoint(jp.x, jp.y, out);
+                }
+                out.endArray();
+            }
+        }
+
+        writeProperties(edge, out);
+        out.endObject();
+    }
+
+    private void writeSection(final ElkEdgeSection section, final JsonWriter out) throws IOException {
+        out.beginObject();
+        out.name("id").value(idMap.get(section));
+
+        out.name("startPoint");
+        writePoint(section.getStartX(), section.getStartY(), out);
+        out.name("endPoint");
+        writePoint(section.getEndX(), section.getEndY(), out);
+
+        if (!section.getBendPoints().isEmpty()) {
+            out.name("bendPoints").beginArray();
+            for (ElkBendPoint bendPoint : section.getBendPoints()) {
+                writePoint(bendPoint.getX(), bendPoint.getY(), out);
+            }
+            out.endArray();
+        }
+
+        if (section.getIncomingShape() != null) {
+            out.name("incomingShape").value(idMap.get(section.getIncomingShape()));
+        }
+        if (section.getOutgoingShape() != null) {
+            out.name("outgoingShape").value(idMap.get(section.getOutgoingShape()));
+        }
+
+        if (!section.getIncomingSections().isEmpty()) {
+            out.name("incomingSections");
+            writeSectionIds(section.getIncomingSections(), out);
+        }
+        if (!section.getOutgoingSections().isEmpty()) {
+            out.name("outgoingSections");
+            writeSectionIds(section.getOutgoingSections(), out);
+        }
+
+        writeProperties(section, out);
+        out.endObject();
+    }
+
+    private void writeSectionIds(final List<ElkEdgeSection> sections, final JsonWriter out) throws IOException {
+        out.beginArray();
+        for (ElkEdgeSection section : sections) {
+            out.value(idMap.get(section));
+        }
+        out.endArray();
+    }
+
+    private void writeLabel(final ElkLabel label, final JsonWriter out) throws IOException {
+        out.beginObject();
+        out.name("text").value(label.getText());
+        if (label.getIdentifier() != null && !label.getIdentifier().isEmpty()) {
+            out.name("id").value(label.getIdentifier());
+        }
+
+        writeProperties(label, out);
+        writeShapeLayout(label, out);
+        out.endObject();
+    }
+
+    private void writePoint(final double x, final double y, final JsonWriter out) throws IOException {
+        out.beginObject();
+        out.name("x").value(x);
+        out.name("y").value(y);
+        out.endObject();
+    }
+
+    private void writeProperties(final IPropertyHolder holder, final JsonWriter out) throws IOException {
+        Map<IProperty<?>, Object> properties = holder.getAllProperties();
+        if (properties == null || properties.isEmpty()) {
+            return;
+        }
+
+        // Different options may map to the same key, in which case the last one wins
+        Map<String, String> options = new LinkedHashMap<>();
+        for (Map.Entry<IProperty<?>, Object> entry : properties.entrySet()) {
+            IProperty<?> property = entry.getKey();
+            if (property != null && !property.equals(CoreOptions.SPACING_INDIVIDUAL)) {
+                putOption(property, entry.getValue(), options);
+            }
+        }
+
+        out.name("layoutOptions");
+        writeOptions(options, out);
+    }
+
+    private void writeIndividualSpacings(final IPropertyHolder holder, final JsonWriter out) throws IOException {
+        if (!holder.hasProperty(CoreOptions.SPACING_INDIVIDUAL)) {
+            return;
+        }
+        IndividualSpacings individualSpacings = holder.getProperty(CoreOptions.SPACING_INDIVIDUAL);
+        Map<IProperty<?>, Object> properties = individualSpacings.getAllProperties();
+        if (properties == null || properties.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> options = new LinkedHashMap<>();
+        for (Map.Entry<IProperty<?>, Object> entry : properties.entrySet()) {
+            if (entry.getKey() != null) {
+                putOption(entry.getKey(), entry.getValue(), options);
+            }
+        }
+
+        out.name("individualSpacings");
+        writeOptions(options, out);
+    }
+
+    private void putOption(final IProperty<?> property, final Object value, final Map<String, String> options) {
+        String id = property.getId();
+        if (!omitUnknownLayoutOptions || LayoutMetaDataService.getInstance().getOptionDataBySuffix(id) != null) {
+            String key = shortLayoutOptionKeys ? shortOptionKey(id) : id;
+            options.put(key, value.toString());
+        }
+    }
+
+    private void writeOptions(final Map<String, String> options, final JsonWriter out) throws IOException {
+        out.beginObject();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            out.name(option.getKey()).value(option.getValue());
+        }
+        out.endObject();
+    }
+
+    private void writeShapeLayout(final ElkShape shape, final JsonWriter out) throws IOException {
+        // position
+        if (!omitLayout) {
+            // non-equality with double is fine here
+            if (!omitZeroPos || shape.getX() != 0.0) {
+                out.name("x").value(shape.getX());
+            }
+            if (!omitZeroPos || shape.getY() != 0.0) {
+                out.name("y").value(shape.getY());
+            }
+        }
+        // dimension
+        if (!omitZeroDim || shape.getWidth() != 0.0) {
+            out.name("width").value(shape.getWidth());
+        }
+        if (!omitZeroDim || shape.getHeight() != 0.0) {
+            out.name("height").value(shape.getHeight());
+        }
+    }
+
+    /**
+     * Returns the shortest suffix of the given option id that still identifies the option unambiguously. The result
+     * is cached since the same options tend to be set on many elements.
+     */
+    private String shortOptionKey(final String fullId) {
+        String shortKey = shortOptionKeys.get(fullId);
+        if (shortKey == null) {
+            shortKey = computeShortOptionKey(fullId);
+            shortOptionKeys.put(fullId, shortKey);
+        }
+        return shortKey;
+    }
+
+    private static String computeShortOptionKey(final String fullId) {
+        LayoutMetaDataService service = LayoutMetaDataService.getInstance();
+        LayoutOptionData option = service.getOptionDataBySuffix(fullId);
+        if (option == null) {
+            // if the option is unknown, return the full id
+            return fullId;
+        }
+
+        List<String> idSplit = Splitter.on('.').splitToList(option.getId());
+        Joiner joiner = Joiner.on('.');
+        int i = idSplit.size() - 1;
+        if (i >= 1 && option.getGroup() != null && option.getGroup().equals(idSplit.get(i - 1))) {
+            i--;
+        }
+        while (i >= 0) {
+            String suffix = joiner.join(idSplit.subList(i, idSplit.size()));
+            if (service.getOptionDataBySuffix(suffix) != null) {
+                return suffix;
+            }
+            i--;
+        }
+        return option.getId();
+    }
+
+}
@@ -0,0 +1,1261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.data.LayoutOptionData;
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.math.KVectorChain;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.IndividualSpacings;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkGraphElement;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.EObject;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Importer from json to elk graph that reads the json with a pull parser instead of parsing it into a
+ * {@link com.google.gson.JsonObject} first. The graph is built in a single pass over the input. References of edges
+ * and edge sections to nodes, ports and other edge sections are remembered while reading and resolved once the whole
+ * input has been read, which allows them to refer to elements further down in the input.
+ *
+ * <p>
+ * The resulting graph is the same as the one built by {@link JsonImporter}. Since the importer doesn't keep the json
+ * in memory, {@link #transferLayout(ElkNode, JsonReader, JsonWriter)} reads the original json a second time and
+ * writes a copy of it that contains the layout, with the same changes {@link JsonImporter#transferLayout(ElkNode)}
+ * applies to the json object. Edge sections are always written from scratch, though, such that members of the
+ * original sections other than the ones written by ELK are dropped.
+ * </p>
+ */
+public final class StreamingJsonImporter {
+
+    /** Reads a json element as part of error messages. See {@link ElkGraphJson.ImportBuilder}. */
+    private static final TypeAdapter<JsonElement> ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    /* Id -> ElkGraph element maps, only used while importing.
+     * Id can be string or integer, thus Object is used. */
+    private final Map<Object, ElkNode> nodeIdMap = new HashMap<>();
+    private final Map<Object, ElkPort> portIdMap = new HashMap<>();
+    private final Map<Object, ElkEdgeSection> edgeSectionIdMap = new HashMap<>();
+    /** edges whose sources and targets still need to be resolved, by the node they were declared in. */
+    private final Map<ElkNode, List<PendingEdge>> pendingEdges = new HashMap<>();
+
+    /* Elements in the order in which they appear in the input, used to transfer the layout. */
+    private final List<ElkNode> nodes = new ArrayList<>();
+    private final List<ElkPort> ports = new ArrayList<>();
+    private final List<ElkEdge> edges = new ArrayList<>();
+    private final List<ElkLabel> labels = new ArrayList<>();
+    /** integer ids of the elements whose id in the input was a number rather than a string. */
+    private final Map<EObject, Integer> integerIds = new HashMap<>();
+    /** whether the input was read leniently. */
+    private boolean lenient = true;
+
+    /**
+     * Reads a graph from the given reader.
+     *
+     * @param in
+     *            the reader to read the graph from. Its lenience is kept when transferring the layout.
+     * @return the root node of the imported ELK Graph.
+     * @throws IOException
+     *             if reading fails.
+     * @throws JsonImportException
+     *             if the json doesn't describe a valid graph.
+     */
+    public ElkNode read(final JsonReader in) throws IOException {
+        clear();
+        lenient = in.isLenient();
+
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            throw formatError("Top-level element of the graph must be a json object.");
+        }
+
+        try {
+            ElkNode root = readNode(in, null);
+            resolveEdges(root);
+            return root;
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new JsonImportException(e.getMessage() + " at " + in.getPath(), e);
+        } finally {
+            nodeIdMap.clear();
+            portIdMap.clear();
+            edgeSectionIdMap.clear();
+            pendingEdges.clear();
+        }
+    }
+
+    private void clear() {
+        nodes.clear();
+        ports.clear();
+        edges.clear();
+        labels.clear();
+        integerIds.clear();
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // JSON --> ElkGraph
+
+    private ElkNode readNode(final JsonReader in, final ElkNode parent) throws IOException {
+        ElkNode node = ElkGraphUtil.createNode(parent);
+        nodes.add(node);
+        ElementOptions options = new ElementOptions();
+        boolean hasId = false;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            switch (name) {
+            case "id":
+                nodeIdMap.put(readId(in, node), node);
+                hasId = true;
+                break;
+            case "children":
+                in.beginArray();
+                while (in.hasNext()) {
+                    if (!skipNull(in)) {
+                        readNode(in, node);
+                    }
+                }
+                in.endArray();
+                break;
+            case "ports":
+                in.beginArray();
+                while (in.hasNext()) {
+                    if (!skipNull(in)) {
+                        readPort(in, node);
+                    }
+                }
+                in.endArray();
+                break;
+            case "edges":
+                in.beginArray();
+                while (in.hasNext()) {
+                    if (!skipNull(in)) {
+                        readEdge(in, node);
+                    }
+                }
+                in.endArray();
+                break;
+            case "labels":
+                readLabels(in, node);
+                break;
+            default:
+                if (!readShapeLayout(in, name, node) && !options.read(in, name)) {
+                    in.skipValue();
+                }
+            }
+        }
+        in.endObject();
+
+        if (!hasId) {
+            throw formatError("Every element must have an id.");
+        }
+        options.applyTo(node);
+        return node;
+    }
+
+    private void readPort(final JsonReader in, final ElkNode parent) throws IOException {
+        ElkPort port = ElkGraphUtil.createPort(parent);
+        ports.add(port);
+        ElementOptions options = new ElementOptions();
+        boolean hasId = false;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (name.equals("id")) {
+                portIdMap.put(readId(in, port), port);
+                hasId = true;
+            } else if (name.equals("labels")) {
+                readLabels(in, port);
+            } else if (!readShapeLayout(in, name, port) && !options.read(in, name)) {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (!hasId) {
+            throw formatError("Every element must have an id.");
+        }
+        options.applyTo(port);
+    }
+
+    private void readLabels(final JsonReader in, final ElkGraphElement parent) throws IOException {
+        in.beginArray();
+        while (in.hasNext()) {
+            if (skipNull(in)) {
+                continue;
+            }
+
+            ElkLabel label = ElkGraphUtil.createLabel(parent);
+            labels.add(label);
+            ElementOptions options = new ElementOptions();
+            String text = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (name.equals("text")) {
+                    text = readString(in);
+                } else if (name.equals("id")) {
+                    label.setIdentifier(readString(in));
+                } else if (!readShapeLayout(in, name, label) && !options.read(in, name)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+
+            label.setText(text);
+            options.applyTo(label);
+        }
+        in.endArray();
+    }
+
+    private void readEdge(final JsonReader in, final ElkNode parent) throws IOException {
+        // The edge is only added to its parent once its sources and targets are known
+        ElkEdge edge = ElkGraphUtil.createEdge(null);
+        edges.add(edge);
+        PendingEdge pending = new PendingEdge(edge);
+        ElementOptions options = new ElementOptions();
+        boolean hasId = false;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            switch (name) {
+            case "id":
+                readId(in, edge);
+                hasId = true;
+                break;
+            case "sources":
+                pending.sourceIds = readIds(in);
+                break;
+            case "targets":
+                pending.targetIds = readIds(in);
+                break;
+            case "source":
+                pending.source = readId(in);
+                break;
+            case "sourcePort":
+                pending.sourcePort = readId(in);
+                break;
+            case "target":
+                pending.target = readId(in);
+                break;
+            case "targetPort":
+                pending.targetPort = readId(in);
+                break;
+            case "sections":
+                in.beginArray();
+                while (in.hasNext()) {
+                    if (!skipNull(in)) {
+                        pending.sections.add(readEdgeSection(in));
+                    }
+                }
+                in.endArray();
+                break;
+            case "sourcePoint":
+                readPoint(in, pending.pointSection(), true);
+                break;
+            case "targetPoint":
+                readPoint(in, pending.pointSection(), false);
+                break;
+            case "bendPoints":
+                readBendPoints(in, pending.pointSection());
+                break;
+            case "labels":
+                readLabels(in, edge);
+                break;
+            default:
+                if (!options.read(in, name)) {
+                    in.skipValue();
+                }
+            }
+        }
+        in.endObject();
+
+        if (!hasId) {
+            throw formatError("Every element must have an id.");
+        }
+        options.applyTo(edge);
+
+        if (pending.isExtended()) {
+            // Only the sections of edges with sources and targets are imported
+            for (PendingSection section : pending.sections) {
+                edge.getSections().add(section.section);
+                edgeSectionIdMap.put(section.id, section.section);
+            }
+        } else if (pending.pointSection != null) {
+            edge.getSections().add(pending.pointSection);
+        }
+
+        pendingEdges.computeIfAbsent(parent, n -> new ArrayList<>()).add(pending);
+    }
+
+    private PendingSection readEdgeSection(final JsonReader in) throws IOException {
+        PendingSection pending = new PendingSection(ElkGraphUtil.createEdgeSection(null));
+        ElkEdgeSection section = pending.section;
+        boolean hasStartPoint = false;
+        boolean hasEndPoint = false;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            switch (name) {
+            case "id":
+                pending.id = readId(in, section);
+                break;
+            case "startPoint":
+                hasStartPoint = readPoint(in, section, true);
+                break;
+            case "endPoint":
+                hasEndPoint = readPoint(in, section, false);
+                break;
+            case "bendPoints":
+                readBendPoints(in, section);
+                break;
+            case "incomingShape":
+                pending.incomingShape = readId(in);
+                break;
+            case "outgoingShape":
+                pending.outgoingShape = readId(in);
+                break;
+            case "incomingSections":
+                pending.incomingSections = readIds(in);
+                break;
+            case "outgoingSections":
+                pending.outgoingSections = readIds(in);
+                break;
+            default:
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (pending.id == null) {
+            throw formatError("Every element must have an id.");
+        }
+        if (!hasStartPoint) {
+            throw formatError("All edge sections need a start point.");
+        }
+        if (!hasEndPoint) {
+            throw formatError("All edge sections need an end point.");
+        }
+        return pending;
+    }
+
+    /**
+     * Reads a point into the start or end coordinates of the given section.
+     *
+     * @return {@code true} if there was a point, {@code false} if the value was {@code null}.
+     */
+    private boolean readPoint(final JsonReader in, final ElkEdgeSection section, final boolean start)
+            throws IOException {
+
+        if (skipNull(in)) {
+            return false;
+        }
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (name.equals("x")) {
+                double x = readDouble(in);
+                if (start) {
+                    section.setStartX(x);
+                } else {
+                    section.setEndX(x);
+                }
+            } else if (name.equals("y")) {
+                double y = readDouble(in);
+                if (start) {
+                    section.setStartY(y);
+                } else {
+                    section.setEndY(y);
+                }
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return true;
+    }
+
+    private void readBendPoints(final JsonReader in, final ElkEdgeSection section) throws IOException {
+        if (skipNull(in)) {
+            return;
+        }
+
+        in.beginArray();
+        while (in.hasNext()) {
+            if (skipNull(in)) {
+                continue;
+            }
+
+            ElkBendPoint bendPoint = ElkGraphUtil.createBendPoint(section);
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (name.equals("x")) {
+                    bendPoint.setX(readDouble(in));
+                } else if (name.equals("y")) {
+                    bendPoint.setY(readDouble(in));
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+        in.endArray();
+    }
+
+    /**
+     * Reads the position or size member with the given name into the given shape.
+     *
+     * @return {@code true} if the member was a position or size member.
+     */
+    private boolean readShapeLayout(final JsonReader in, final String name, final ElkShape shape) throws IOException {
+        switch (name) {
+        case "x":
+            shape.setX(validDouble(readDouble(in)));
+            return true;
+        case "y":
+            shape.setY(validDouble(readDouble(in)));
+            return true;
+        case "width":
+            shape.setWidth(validDouble(readDouble(in)));
+            return true;
+        case "height":
+            shape.setHeight(validDouble(readDouble(in)));
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private double validDouble(final double d) {
+        if (Double.isInfinite(d) || Double.isNaN(d)) {
+            return 0.0;
+        } else {
+            return d;
+        }
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Edge Resolution
+
+    /**
+     * Resolves the sources and targets of the edges declared in the given node and its descendants. Edges are
+     * resolved in the same order as {@link JsonImporter} creates them, which results in the same order of contained
+     * edges after their containment has been updated.
+     */
+    private void resolveEdges(final ElkNode node) {
+        List<PendingEdge> declaredEdges = pendingEdges.remove(node);
+        if (declaredEdges != null) {
+            for (PendingEdge pending : declaredEdges) {
+                pending.edge.setContainingNode(node);
+                if (pending.isExtended()) {
+                    resolveEdge(pending);
+                } else {
+                    resolvePrimitiveEdge(pending);
+                }
+                ElkGraphUtil.updateContainment(pending.edge);
+            }
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            resolveEdges(child);
+        }
+    }
+
+    private void resolvePrimitiveEdge(final PendingEdge pending) {
+        ElkEdge edge = pending.edge;
+
+        ElkNode srcNode = pending.source == null ? null : nodeIdMap.get(pending.source);
+        ElkPort srcPort = pending.sourcePort == null ? null : portIdMap.get(pending.sourcePort);
+        if (srcNode == null) {
+            throw formatError("An edge must have a source node (edge id: '" + edge.getIdentifier() + "').");
+        }
+        if (srcPort != null && srcPort.getParent() != srcNode) {
+            throw formatError("The source port of an edge must be a port of the edge's source node (edge id: '"
+                    + edge.getIdentifier() + "').");
+        }
+        edge.getSources().add(srcPort != null ? srcPort : srcNode);
+
+        ElkNode tgtNode = pending.target == null ? null : nodeIdMap.get(pending.target);
+        ElkPort tgtPort = pending.targetPort == null ? null : portIdMap.get(pending.targetPort);
+        if (tgtNode == null) {
+            throw formatError("An edge must have a target node (edge id: '" + edge.getIdentifier() + "').");
+        }
+        if (tgtPort != null && tgtPort.getParent() != tgtNode) {
+            throw formatError("The target port of an edge must be a port of the edge's target node (edge id: '"
+                    + edge.getIdentifier() + "').");
+        }
+        edge.getTargets().add(tgtPort != null ? tgtPort : tgtNode);
+    }
+
+    private void resolveEdge(final PendingEdge pending) {
+        ElkEdge edge = pending.edge;
+
+        for (Object id : pending.sourceIds) {
+            edge.getSources().add(shapeById(id));
+        }
+        for (Object id : pending.targetIds) {
+            edge.getTargets().add(shapeById(id));
+        }
+        if (edge.getSources().isEmpty() || edge.getTargets().isEmpty()) {
+            throw formatError("An edge must have at least one source and one target (edge id: '"
+                    + edge.getIdentifier() + "').");
+        }
+
+        for (PendingSection pendingSection : pending.sections) {
+            ElkEdgeSection section = pendingSection.section;
+            if (pendingSection.incomingShape != null) {
+                section.setIncomingShape(shapeById(pendingSection.incomingShape));
+            }
+            if (pendingSection.outgoingShape != null) {
+                section.setOutgoingShape(shapeById(pendingSection.outgoingShape));
+            }
+            for (Object id : pendingSection.incomingSections) {
+                section.getIncomingSections().add(sectionById(id, edge));
+            }
+            for (Object id : pendingSection.outgoingSections) {
+                section.getOutgoingSections().add(sectionById(id, edge));
+            }
+        }
+
+        // Special case: if the edge has only a single source, a single target, and a single edge section which has
+        // no incoming and outgoing shapes, set the incoming and outgoing shape to the source and target of the edge,
+        // respectively
+        if (edge.isConnected() && !edge.isHyperedge() && edge.getSections().size() == 1) {
+            ElkEdgeSection section = edge.getSections().get(0);
+            if (section.getIncomingShape() == null && section.getOutgoingShape() == null) {
+                section.setIncomingShape(edge.getSources().get(0));
+                section.setOutgoingShape(edge.getTargets().get(0));
+            }
+        }
+    }
+
+    private ElkConnectableShape shapeById(final Object id) {
+        ElkNode node = nodeIdMap.get(id);
+        if (node != null) {
+            return node;
+        }
+        ElkPort port = portIdMap.get(id);
+        if (port != null) {
+            return port;
+        }
+        throw formatError("Referenced shape does not exist: " + id);
+    }
+
+    private ElkEdgeSection sectionById(final Object id, final ElkEdge edge) {
+        ElkEdgeSection section = edgeSectionIdMap.get(id);
+        if (section == null) {
+            throw formatError("Referenced edge section does not exist: " + id + " (edge id: '"
+                    + edge.getIdentifier() + "').");
+        }
+        return section;
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // ElkGraph Layout -> JSON
+
+    /**
+     * Transfers the layout of the given graph, which must have been imported by this importer, to the json it was
+     * imported from. The original json is read a second time and written to the given writer with the layout
+     * applied.
+     *
+     * @param graph
+     *            the imported graph.
+     * @param originalJson
+     *            reader for the json the graph was imported from.
+     * @param out
+     *            writer for the json with layout information.
+     * @throws JsonIOException
+     *             if reading or writing fails.
+     * @throws JsonImportException
+     *             if the graph contains elements that were not imported from the json.
+     */
+    public void transferLayout(final ElkNode graph, final Reader originalJson, final Writer out) {
+        JsonReader jsonReader = new JsonReader(originalJson);
+        jsonReader.setLenient(lenient);
+        JsonWriter jsonWriter = new JsonWriter(out);
+        jsonWriter.setHtmlSafe(false);
+        jsonWriter.setLenient(true);
+        jsonWriter.setSerializeNulls(false);
+        try {
+            transferLayout(graph, jsonReader, jsonWriter);
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Transfers the layout of the given graph, which must have been imported by this importer, to the json it was
+     * imported from. The original json is read from the given reader and written to the given writer with the layout
+     * applied.
+     *
+     * @param graph
+     *            the imported graph.
+     * @param in
+     *            reader for the json the graph was imported from.
+     * @param out
+     *            writer for the json with layout information.
+     * @throws IOException
+     *             if reading or writing fails.
+     * @throws JsonImportException
+     *             if the graph contains elements that were not imported from the json.
+     */
+    public void transferLayout(final ElkNode graph, final JsonReader in, final JsonWriter out) throws IOException {
+        checkImported(graph);
+
+        TransferState state = new TransferState();
+        copyNode(in, out, state);
+    }
+
+    /**
+     * Checks that all nodes, ports, and edges of the given graph were imported by this importer.
+     */
+    private void checkImported(final ElkNode graph) {
+        Set<EObject> imported = Collections.newSetFromMap(new IdentityHashMap<>());
+        imported.addAll(nodes);
+        imported.addAll(ports);
+        imported.addAll(edges);
+
+        Iterator<EObject> elements = ElkGraphUtil.propertiesSkippingIteratorFor(graph, true);
+        while (elements.hasNext()) {
+            EObject element = elements.next();
+            if (element instanceof ElkNode && !imported.contains(element)) {
+                throw formatError("Node did not exist in input.");
+            } else if (element instanceof ElkPort && !imported.contains(element)) {
+                throw formatError("Port did not exist in input.");
+            } else if (element instanceof ElkEdge && !imported.contains(element)) {
+                throw formatError("Edge did not exist in input.");
+            }
+        }
+    }
+
+    private void copyNode(final JsonReader in, final JsonWriter out, final TransferState state) throws IOException {
+        ElkNode node = nodes.get(state.nodeIndex++);
+        ShapeLayoutWriter layoutWriter = new ShapeLayoutWriter(node);
+
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            out.name(name);
+            switch (name) {
+            case "children":
+                copyArray(in, out, state, this::copyNode);
+                break;
+            case "ports":
+                copyArray(in, out, state, this::copyPort);
+                break;
+            case "edges":
+                copyArray(in, out, state, this::copyEdge);
+                break;
+            case "labels":
+                copyArray(in, out, state, this::copyLabel);
+                break;
+            default:
+                if (!layoutWriter.write(in, out, name)) {
+                    copyValue(in, out);
+                }
+            }
+        }
+        layoutWriter.writeRemaining(out);
+        in.endObject();
+        out.endObject();
+    }
+
+    private void copyPort(final JsonReader in, final JsonWriter out, final TransferState state) throws IOException {
+        ElkPort port = ports.get(state.portIndex++);
+        ShapeLayoutWriter layoutWriter = new ShapeLayoutWriter(port);
+
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            out.name(name);
+            if (name.equals("labels")) {
+                copyArray(in, out, state, this::copyLabel);
+            } else if (!layoutWriter.write(in, out, name)) {
+                copyValue(in, out);
+            }
+        }
+        layoutWriter.writeRemaining(out);
+        in.endObject();
+        out.endObject();
+    }
+
+    private void copyLabel(final JsonReader in, final JsonWriter out, final TransferState state) throws IOException {
+        ElkLabel label = labels.get(state.labelIndex++);
+        ShapeLayoutWriter layoutWriter = new ShapeLayoutWriter(label);
+
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            out.name(name);
+            if (!layoutWriter.write(in, out, name)) {
+                copyValue(in, out);
+            }
+        }
+        layoutWriter.writeRemaining(out);
+        in.endObject();
+        out.endObject();
+    }
+
+    private void copyEdge(final JsonReader in, final JsonWriter out, final TransferState state) throws IOException {
+        ElkEdge edge = edges.get(state.edgeIndex++);
+        boolean writeSections = !edge.getSections().isEmpty();
+        KVectorChain junctionPoints = edge.hasProperty(CoreOptions.JUNCTION_POINTS)
+                ? edge.getProperty(CoreOptions.JUNCTION_POINTS)
+                : null;
+        boolean writeJunctionPoints = junctionPoints != null && !junctionPoints.isEmpty();
+        boolean sectionsWritten = false;
+        boolean junctionPointsWritten = false;
+        boolean containerWritten = false;
+
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            out.name(name);
+            if (name.equals("labels")) {
+                copyArray(in, out, state, this::copyLabel);
+            } else if (name.equals("sections") && writeSections) {
+                in.skipValue();
+                writeSections(out, edge);
+                sectionsWritten = true;
+            } else if (name.equals("junctionPoints") && writeJunctionPoints) {
+                in.skipValue();
+                writePoints(out, junctionPoints);
+                junctionPointsWritten = true;
+            } else if (name.equals("container")) {
+                in.skipValue();
+                out.value(edge.getContainingNode().getIdentifier());
+                containerWritten = true;
+            } else {
+                copyValue(in, out);
+            }
+        }
+
+        if (writeSections && !sectionsWritten) {
+            out.name("sections");
+            writeSections(out, edge);
+        }
+        if (writeJunctionPoints && !junctionPointsWritten) {
+            out.name("junctionPoints");
+            writePoints(out, junctionPoints);
+        }
+        if (!containerWritten) {
+            out.name("container").value(edge.getContainingNode().getIdentifier());
+        }
+        in.endObject();
+        out.endObject();
+    }
+
+    private void writeSections(final JsonWriter out, final ElkEdge edge) throws IOException {
+        out.beginArray();
+        for (ElkEdgeSection section : edge.getSections()) {
+            out.beginObject();
+            out.name("id");
+            writeSectionId(out, section);
+
+            out.name("startPoint").beginObject();
+            out.name("x").value(section.getStartX());
+            out.name("y").value(section.getStartY());
+            out.endObject();
+
+            out.name("endPoint").beginObject();
+            out.name("x").value(section.getEndX());
+            out.name("y").value(section.getEndY());
+            out.endObject();
+
+            if (!section.getBendPoints().isEmpty()) {
+                out.name("bendPoints").beginArray();
+                for (ElkBendPoint bendPoint : section.getBendPoints()) {
+                    out.beginObject();
+                    out.name("x").value(bendPoint.getX());
+                    out.name("y").value(bendPoint.getY());
+                    out.endObject();
+                }
+                out.endArray();
+            }
+
+            if (section.getIncomingShape() != null) {
+                out.name("incomingShape");
+                writeId(out, section.getIncomingShape());
+            }
+            if (section.getOutgoingShape() != null) {
+                out.name("outgoingShape");
+                writeId(out, section.getOutgoingShape());
+            }
+
+            if (!section.getIncomingSections().isEmpty()) {
+                out.name("incomingSections").beginArray();
+                for (ElkEdgeSection incoming : section.getIncomingSections()) {
+                    writeSectionId(out, incoming);
+                }
+                out.endArray();
+            }
+            if (!section.getOutgoingSections().isEmpty()) {
+                out.name("outgoingSections").beginArray();
+                for (ElkEdgeSection outgoing : section.getOutgoingSections()) {
+                    writeSectionId(out, outgoing);
+                }
+                out.endArray();
+            }
+            out.endObject();
+        }
+        out.endArray();
+    }
+
+    private void writePoints(final JsonWriter out, final KVectorChain points) throws IOException {
+        out.beginArray();
+        for (KVector point : points) {
+            out.beginObject();
+            out.name("x").value(point.x);
+            out.name("y").value(point.y);
+            out.endObject();
+        }
+        out.endArray();
+    }
+
+    /**
+     * Writes the id of an edge section. Sections created by the layout algorithm are numbered per edge.
+     */
+    private void writeSectionId(final JsonWriter out, final ElkEdgeSection section) throws IOException {
+        if (section.getIdentifier() != null) {
+            writeId(out, section);
+        } else {
+            ElkEdge edge = section.getParent();
+            out.value(edge.getIdentifier() + "_s" + edge.getSections().indexOf(section));
+        }
+    }
+
+    /**
+     * Writes the id of the given element, which is a number if it was a number in the input.
+     */
+    private void writeId(final JsonWriter out, final EObject element) throws IOException {
+        Integer integerId = integerIds.get(element);
+        if (integerId != null) {
+            out.value(integerId);
+        } else if (element instanceof ElkEdgeSection) {
+            out.value(((ElkEdgeSection) element).getIdentifier());
+        } else {
+            out.value(((ElkGraphElement) element).getIdentifier());
+        }
+    }
+
+    /**
+     * Copies an array of elements, transferring the layout of each element.
+     */
+    private void copyArray(final JsonReader in, final JsonWriter out, final TransferState state,
+            final ElementCopier copier) throws IOException {
+
+        if (in.peek() != JsonToken.BEGIN_ARRAY) {
+            copyValue(in, out);
+            return;
+        }
+
+        in.beginArray();
+        out.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() == JsonToken.BEGIN_OBJECT) {
+                copier.copy(in, out, state);
+            } else {
+                copyValue(in, out);
+            }
+        }
+        in.endArray();
+        out.endArray();
+    }
+
+    /**
+     * Copies the next value from the given reader to the given writer.
+     *
+     * @param in
+     *            the reader to read the value from.
+     * @param out
+     *            the writer to write the value to.
+     * @throws IOException
+     *             if reading or writing fails.
+     */
+    public static void copyValue(final JsonReader in, final JsonWriter out) throws IOException {
+        switch (in.peek()) {
+        case BEGIN_ARRAY:
+            in.beginArray();
+            out.beginArray();
+            while (in.hasNext()) {
+                copyValue(in, out);
+            }
+            in.endArray();
+            out.endArray();
+            break;
+        case BEGIN_OBJECT:
+            in.beginObject();
+            out.beginObject();
+            while (in.hasNext()) {
+                out.name(in.nextName());
+                copyValue(in, out);
+            }
+            in.endObject();
+            out.endObject();
+            break;
+        case STRING:
+            out.value(in.nextString());
+            break;
+        case NUMBER:
+            out.jsonValue(in.nextString());
+            break;
+        case BOOLEAN:
+            out.value(in.nextBoolean());
+            break;
+        case NULL:
+            in.nextNull();
+            out.nullValue();
+            break;
+        default:
+            throw new IllegalStateException("Unexpected token " + in.peek() + " at " + in.getPath());
+        }
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Reading Values
+
+    /**
+     * Reads an id, which must be a string or an integer.
+     */
+    private Object readId(final JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.STRING) {
+            return in.nextString();
+        } else if (token == JsonToken.NUMBER) {
+            String literal = in.nextString();
+            double value = Double.parseDouble(literal);
+            if (value % 1 == 0) {
+                return (int) value;
+            }
+            throw formatError("Id must be a string or an integer: '" + literal + "'.");
+        } else {
+            throw formatError("Id must be a string or an integer: '" + ELEMENT_ADAPTER.read(in) + "'.");
+        }
+    }
+
+    /**
+     * Reads the id of the given graph element or edge section and sets the element's identifier.
+     */
+    private Object readId(final JsonReader in, final EObject element) throws IOException {
+        boolean isNumber = in.peek() == JsonToken.NUMBER;
+        if (isNumber) {
+            // Keep the literal as the identifier, just as JsonImporter does
+            String literal = in.nextString();
+            setIdentifier(element, literal);
+            double value = Double.parseDouble(literal);
+            if (value % 1 != 0) {
+                throw formatError("Id must be a string or an integer: '" + literal + "'.");
+            }
+            integerIds.put(element, (int) value);
+            return (int) value;
+        }
+
+        Object id = readId(in);
+        setIdentifier(element, (String) id);
+        return id;
+    }
+
+    private static void setIdentifier(final EObject element, final String identifier) {
+        if (element instanceof ElkEdgeSection) {
+            ((ElkEdgeSection) element).setIdentifier(identifier);
+        } else {
+            ((ElkGraphElement) element).setIdentifier(identifier);
+        }
+    }
+
+    private List<Object> readIds(final JsonReader in) throws IOException {
+        List<Object> ids = new ArrayList<>();
+        if (skipNull(in)) {
+            return ids;
+        }
+
+        in.beginArray();
+        while (in.hasNext()) {
+            ids.add(readId(in));
+        }
+        in.endArray();
+        return ids;
+    }
+
+    private double readDouble(final JsonReader in) throws IOException {
+        if (skipNull(in)) {
+            return 0.0;
+        }
+        // Parse the literal ourselves such that quoted values and special values are accepted as with JsonImporter
+        return Double.parseDouble(in.nextString());
+    }
+
+    /**
+     * Reads a primitive value as a string.
+     */
+    private String readString(final JsonReader in) throws IOException {
+        switch (in.peek()) {
+        case NULL:
+            in.nextNull();
+            return null;
+        case BOOLEAN:
+            return Boolean.toString(in.nextBoolean());
+        case STRING:
+        case NUMBER:
+            return in.nextString();
+        default:
+            throw formatError("Expected a string, a number or a boolean, but was " + in.peek() + " at "
+                    + in.getPath() + ".");
+        }
+    }
+
+    /**
+     * Skips the next value if it is {@code null}.
+     *
+     * @return whether the next value was {@code null}.
+     */
+    private static boolean skipNull(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    private static JsonImportException formatError(final String message) {
+        return new JsonImportException(message);
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Helper Classes
+
+    /**
+     * Layout options and individual spacings of an element. They are collected while reading the element and only
+     * applied once it has been read completely, since the legacy {@code properties} member is only considered if there
+     * is no {@code layoutOptions} member.
+     */
+    private final class ElementOptions {
+        /** alternating keys and values of the layout options. */
+        private List<String> layoutOptions;
+        /** alternating keys and values of the legacy properties. */
+        private List<String> properties;
+        /** alternating keys and values of the individual spacings. */
+        private List<String> individualSpacings;
+
+        /**
+         * Reads the member with the given name if it contains layout options.
+         *
+         * @return {@code true} if the member contained layout options.
+         */
+        boolean read(final JsonReader in, final String name) throws IOException {
+            switch (name) {
+            case "layoutOptions":
+                layoutOptions = readOptions(in);
+                return true;
+            case "properties":
+                properties = readOptions(in);
+                return true;
+            case "individualSpacings":
+                individualSpacings = readOptions(in);
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        private List<String> readOptions(final JsonReader in) throws IOException {
+            if (skipNull(in)) {
+                return null;
+            }
+
+            List<String> options = new ArrayList<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                options.add(in.nextName());
+                options.add(readString(in));
+            }
+            in.endObject();
+            return options;
+        }
+
+        void applyTo(final IPropertyHolder element) {
+            List<String> options = layoutOptions != null ? layoutOptions : properties;
+            if (options != null) {
+                setOptions(element, options);
+            }
+
+            if (individualSpacings != null) {
+                if (!element.hasProperty(CoreOptions.SPACING_INDIVIDUAL)) {
+                    element.setProperty(CoreOptions.SPACING_INDIVIDUAL, new IndividualSpacings());
+                }
+                setOptions(element.getProperty(CoreOptions.SPACING_INDIVIDUAL), individualSpacings);
+            }
+        }
+
+        private void setOptions(final IPropertyHolder holder, final List<String> options) {
+            for (int i = 0; i < options.size(); i += 2) {
+                LayoutOptionData optionData = LayoutMetaDataService.getInstance().getOptionDataBySuffix(options.get(i));
+                if (optionData != null) {
+                    Object parsed = optionData.parseValue(options.get(i + 1));
+                    if (parsed != null) {
+                        holder.setProperty(optionData, parsed);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * An edge whose references to its sources and targets have not been resolved yet.
+     */
+    private static final class PendingEdge {
+        private final ElkEdge edge;
+        private List<Object> sourceIds;
+        private List<Object> targetIds;
+        private Object source;
+        private Object sourcePort;
+        private Object target;
+        private Object targetPort;
+        private final List<PendingSection> sections = new ArrayList<>();
+        /** the section described by the source point, target point and bend points of a primitive edge. */
+        private ElkEdgeSection pointSection;
+
+        PendingEdge(final ElkEdge edge) {
+            this.edge = edge;
+        }
+
+        boolean isExtended() {
+            return sourceIds != null || targetIds != null;
+        }
+
+        ElkEdgeSection pointSection() {
+            if (pointSection == null) {
+                pointSection = ElkGraphUtil.createEdgeSection(null);
+            }
+            return pointSection;
+        }
+    }
+
+    /**
+     * An edge section whose references to shapes and other sections have not been resolved yet.
+     */
+    private static final class PendingSection {
+        private final ElkEdgeSection section;
+        private Object id;
+        private Object incomingShape;
+        private Object outgoingShape;
+        private List<Object> incomingSections = Collections.emptyList();
+        private List<Object> outgoingSections = Collections.emptyList();
+
+        PendingSection(final ElkEdgeSection section) {
+            this.section = section;
+        }
+    }
+
+    /**
+     * Writes the position and size of a shape, replacing any values present in the original json.
+     */
+    private static final class ShapeLayoutWriter {
+        private static final String[] MEMBERS = { "x", "y", "width", "height" };
+
+        private final double[] values;
+        private final boolean[] written = new boolean[MEMBERS.length];
+
+        ShapeLayoutWriter(final ElkShape shape) {
+            values = new double[] { shape.getX(), shape.getY(), shape.getWidth(), shape.getHeight() };
+        }
+
+        /**
+         * Writes the new value of the member with the given name, if it is a position or size member.
+         *
+         * @return {@code true} if the value has been written.
+         */
+        boolean write(final JsonReader in, final JsonWriter out, final String name) throws IOException {
+            for (int i = 0; i < MEMBERS.length; i++) {
+                if (MEMBERS[i].equals(name)) {
+                    in.skipValue();
+                    out.value(values[i]);
+                    written[i] = true;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Writes the members that weren't present in the original json.
+         */
+        void writeRemaining(final JsonWriter out) throws IOException {
+            for (int i = 0; i < MEMBERS.length; i++) {
+                if (!written[i]) {
+                    out.name(MEMBERS[i]).value(values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Position in the lists of imported elements while transferring the layout.
+     */
+    private static final class TransferState {
+        private int nodeIndex = 0;
+        private int portIndex = 0;
+        private int edgeIndex = 0;
+        private int labelIndex = 0;
+    }
+
+    /**
+     * Copies an element while transferring its layout.
+     */
+    @FunctionalInterface
+    private interface ElementCopier {
+        void copy(JsonReader in, JsonWriter out, TransferState state) throws IOException;
+    }
+
+}
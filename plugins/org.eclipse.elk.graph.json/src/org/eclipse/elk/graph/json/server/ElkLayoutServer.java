@@ -0,0 +1,590 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json.server;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.elk.core.IGraphLayoutEngine;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.core.util.IElkCancelIndicator;
+import org.eclipse.elk.core.util.Maybe;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.json.ElkGraphJson;
+import org.eclipse.elk.graph.json.StreamingJsonImporter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+
+/**
+ * A headless server that lays out graphs in the ELK JSON format. The server keeps running such that algorithms stay
+ * loaded and compiled, and lays out the graphs of several requests concurrently on a bounded pool of worker threads.
+ * It talks to its clients either through the standard streams of its process or through local socket connections.
+ * Call {@link #main(String[])} to run it as a standalone process, or embed it by calling
+ * {@link #serve(InputStream, OutputStream)} or {@link #listen(int)}.
+ *
+ * <h3>Protocol</h3>
+ * <p>
+ * Clients send a sequence of json objects and receive a sequence of json objects, each followed by a line break.
+ * A layout request carries an {@code id} of the client's choice, which may be a string or a number, the
+ * {@code graph} to lay out, and optionally a {@code timeout} in milliseconds after which the layout is canceled:
+ * </p>
+ * <pre>
+ * {"id": 1, "graph": {"id": "root", "children": [...], "edges": [...]}, "timeout": 5000}
+ * </pre>
+ * <p>
+ * Once the layout is done, the server responds with the graph, to which the layout has been applied. Responses are
+ * sent as soon as their layout is done, hence not necessarily in the order of the requests:
+ * </p>
+ * <pre>
+ * {"id": 1, "graph": {"id": "root", "x": 0, "y": 0, "width": 100, ...}}
+ * </pre>
+ * <p>
+ * A pending layout can be canceled by sending {@code {"id": 1, "cancel": true}}. Canceled layouts, as well as
+ * layouts that failed, are answered with {@code {"id": 1, "canceled": true}} or {@code {"id": 1, "error": "..."}},
+ * respectively. Requests are accepted as long as fewer than {@link #withQueueCapacity(int) a configurable number}
+ * of layouts are pending in addition to the ones being computed. Beyond that, the server stops reading requests
+ * until a layout is done, which makes fast clients wait instead of exhausting the server's memory.
+ * </p>
+ */
+public final class ElkLayoutServer {
+
+    /** Name of the member holding the id of requests and responses. */
+    public static final String ID = "id";
+    /** Name of the member holding the graph of requests and responses. */
+    public static final String GRAPH = "graph";
+    /** Name of the member holding the layout timeout in milliseconds. */
+    public static final String TIMEOUT = "timeout";
+    /** Name of the member requesting the cancellation of a layout. */
+    public static final String CANCEL = "cancel";
+    /** Name of the member indicating that a layout was canceled. */
+    public static final String CANCELED = "canceled";
+    /** Name of the member holding the error message of a failed layout. */
+    public static final String ERROR = "error";
+
+    /** Adapter reading and writing ids and other small json values. */
+    private static final TypeAdapter<JsonElement> ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    /** The number of worker threads. */
+    private int threads = Runtime.getRuntime().availableProcessors();
+    /** The number of requests that may wait for a worker. */
+    private int queueCapacity = 2 * Runtime.getRuntime().availableProcessors();
+    /** Creates the engine computing a layout. */
+    private Supplier<? extends IGraphLayoutEngine> layoutEngine = RecursiveGraphLayoutEngine::new;
+
+    /** The workers executing the layouts, created when the server starts. */
+    private ExecutorService workers;
+    /** Permits to submit a layout to the workers. */
+    private Semaphore capacity;
+    /** The socket accepting connections, if any. */
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Sets the number of worker threads. Defaults to the number of available processors.
+     *
+     * @param workerThreads the number of threads computing layouts.
+     * @return this server.
+     */
+    public ElkLayoutServer withThreads(final int workerThreads) {
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("At least one worker thread is required.");
+        }
+        checkNotStarted();
+        this.threads = workerThreads;
+        return this;
+    }
+
+    /**
+     * Sets the number of requests that may wait for a worker before the server stops reading requests. Defaults to
+     * twice the number of available processors.
+     *
+     * @param capacity the number of requests that may be pending in addition to the ones being computed.
+     * @return this server.
+     */
+    public ElkLayoutServer withQueueCapacity(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The queue capacity must not be negative.");
+        }
+        checkNotStarted();
+        this.queueCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * Sets how the engine computing a layout is created. Defaults to creating a new
+     * {@link RecursiveGraphLayoutEngine} for each layout.
+     *
+     * @param engineFactory creates the engine for a layout; called concurrently by the worker threads.
+     * @return this server.
+     */
+    public ElkLayoutServer withLayoutEngine(final Supplier<? extends IGraphLayoutEngine> engineFactory) {
+        if (engineFactory == null) {
+            throw new IllegalArgumentException("The layout engine factory must not be null.");
+        }
+        checkNotStarted();
+        this.layoutEngine = engineFactory;
+        return this;
+    }
+
+    private void checkNotStarted() {
+        if (workers != null) {
+            throw new IllegalStateException("The server has been started already.");
+        }
+    }
+
+    /**
+     * Creates the worker threads and registers the layout algorithms with the {@link LayoutMetaDataService}, unless
+     * that happened before, such that the first request does not have to wait for the registration.
+     */
+    private synchronized void start() {
+        if (workers != null) {
+            return;
+        }
+        LayoutMetaDataService.getInstance();
+        workers = Executors.newFixedThreadPool(threads, new NamedThreadFactory("elk-layout-worker-"));
+        capacity = new Semaphore(threads + queueCapacity);
+    }
+
+    /**
+     * Stops accepting socket connections and stops the workers once the pending layouts are done.
+     */
+    public synchronized void shutdown() {
+        ServerSocket socket = serverSocket;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // the socket is not going to be used anymore
+            }
+        }
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////
+    // Sessions
+
+    /**
+     * Serves the requests read from the given input stream and writes the responses to the given output stream.
+     * Returns once the input stream is exhausted and all responses are written. The streams are not closed.
+     *
+     * @param in the stream to read requests from.
+     * @param out the stream to write responses to.
+     * @throws IOException if reading or writing fails.
+     */
+    public void serve(final InputStream in, final OutputStream out) throws IOException {
+        start();
+        new Session(in, out).run();
+    }
+
+    /**
+     * Accepts connections on the given port of the loopback address and serves each of them as with
+     * {@link #serve(InputStream, OutputStream)}. Returns once {@link #shutdown()} is called.
+     *
+     * @param port the port to listen on, or {@code 0} to choose a free one.
+     * @throws IOException if the socket cannot be opened.
+     */
+    public void listen(final int port) throws IOException {
+        listen(new ServerSocket(port, 0, InetAddress.getLoopbackAddress()));
+    }
+
+    /**
+     * Accepts connections on the given socket and serves each of them as with
+     * {@link #serve(InputStream, OutputStream)}. Returns once {@link #shutdown()} is called.
+     *
+     * @param socket a bound server socket, which is closed when the server shuts down.
+     * @throws IOException if accepting connections fails.
+     */
+    public void listen(final ServerSocket socket) throws IOException {
+        start();
+        serverSocket = socket;
+        ThreadFactory sessionThreads = new NamedThreadFactory("elk-layout-session-");
+        while (!socket.isClosed()) {
+            Socket connection;
+            try {
+                connection = socket.accept();
+            } catch (IOException e) {
+                if (socket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            sessionThreads.newThread(() -> {
+                try (Socket c = connection) {
+                    serve(c.getInputStream(), c.getOutputStream());
+                } catch (IOException e) {
+                    // the client went away, its pending layouts have been done nonetheless
+                }
+            }).start();
+        }
+    }
+
+    /**
+     * The requests and responses of a single client.
+     */
+    private final class Session {
+
+        private final JsonReader reader;
+        private final Writer writer;
+        /** The pending requests by their id. */
+        private final Map<JsonElement, Request> pending = new ConcurrentHashMap<>();
+        /** Used to wait for the pending requests at the end of the session. */
+        private final Phaser running = new Phaser(1);
+        /** Whether writing a response failed, in which case no further responses are written. */
+        private volatile boolean broken = false;
+
+        Session(final InputStream in, final OutputStream out) {
+            reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            // leniency allows several top-level values in a stream
+            reader.setLenient(true);
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        void run() throws IOException {
+            try {
+                while (reader.peek() != JsonToken.END_DOCUMENT) {
+                    Message message;
+                    try {
+                        message = readMessage();
+                    } catch (MalformedJsonException | JsonParseException | IllegalStateException e) {
+                        // the stream cannot be resynchronized after a syntax error
+                        respond(JsonNull.INSTANCE, ERROR, "Malformed request: " + e.getMessage());
+                        return;
+                    }
+                    handle(message);
+                }
+            } catch (MalformedJsonException e) {
+                respond(JsonNull.INSTANCE, ERROR, "Malformed request: " + e.getMessage());
+            } finally {
+                running.arriveAndAwaitAdvance();
+            }
+        }
+
+        /**
+         * Reads the next message. The graph is copied to a string without building a tree of json elements, to be
+         * imported by the worker that lays it out.
+         */
+        private Message readMessage() throws IOException {
+            Message message = new Message();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                case ID:
+                    message.id = ELEMENT_ADAPTER.read(reader);
+                    break;
+                case GRAPH:
+                    StringWriter graph = new StringWriter();
+                    StreamingJsonImporter.copyValue(reader, new JsonWriter(graph));
+                    message.graph = graph.toString();
+                    break;
+                case TIMEOUT:
+                    message.timeout = ELEMENT_ADAPTER.read(reader);
+                    break;
+                case CANCEL:
+                    message.cancel = ELEMENT_ADAPTER.read(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return message;
+        }
+
+        private void handle(final Message message) {
+            JsonElement id = message.id;
+            if (id == null || !id.isJsonPrimitive()) {
+                respond(JsonNull.INSTANCE, ERROR, "Requests must have a string or number id.");
+                return;
+            }
+
+            if (message.cancel != null) {
+                Request request = pending.get(id);
+                if (request != null) {
+                    request.canceled = true;
+                }
+                return;
+            }
+
+            if (message.graph == null) {
+                respond(id, ERROR, "The request has no graph.");
+                return;
+            }
+            long deadline = Long.MAX_VALUE;
+            if (message.timeout != null) {
+                if (!message.timeout.isJsonPrimitive() || !message.timeout.getAsJsonPrimitive().isNumber()) {
+                    respond(id, ERROR, "The timeout must be a number of milliseconds.");
+                    return;
+                }
+                deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(message.timeout.getAsLong());
+            }
+            Request request = new Request(id, message.graph, deadline);
+            if (pending.putIfAbsent(id, request) != null) {
+                respond(id, ERROR, "A request with this id is pending already.");
+                return;
+            }
+
+            // this is where back-pressure happens: no further requests are read until a permit is available
+            capacity.acquireUninterruptibly();
+            running.register();
+            try {
+                workers.execute(() -> layout(request));
+            } catch (RuntimeException e) {
+                // the server is shutting down
+                pending.remove(id);
+                respond(id, ERROR, "The server is shutting down.");
+                capacity.release();
+                running.arriveAndDeregister();
+            }
+        }
+
+        private void layout(final Request request) {
+            String response = null;
+            String error = null;
+            try {
+                if (!request.isCanceled()) {
+                    Maybe<StreamingJsonImporter> importer = new Maybe<>();
+                    ElkNode graph = ElkGraphJson.forGraph(new StringReader(request.graph))
+                            .rememberStreamingImporter(importer)
+                            .toElk();
+                    layoutEngine.get().layout(graph, new RequestMonitor(request));
+
+                    if (!request.isCanceled()) {
+                        StringWriter graphWithLayout = new StringWriter();
+                        importer.get().transferLayout(graph, new StringReader(request.graph), graphWithLayout);
+                        response = graphWithLayout.toString();
+                    }
+                }
+            } catch (Throwable e) {
+                // errors such as a StackOverflowError on a deep graph only fail this request
+                error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            } finally {
+                // the permit and the session must be released whatever happened, or the server starves
+                try {
+                    // the id may be reused as soon as the client receives the response
+                    pending.remove(request.id);
+                    if (error != null) {
+                        respond(request.id, ERROR, error);
+                    } else if (response == null) {
+                        respond(request.id, CANCELED, null);
+                    } else {
+                        respond(request.id, GRAPH, response);
+                    }
+                } finally {
+                    capacity.release();
+                    running.arriveAndDeregister();
+                }
+            }
+        }
+
+        /**
+         * Writes a response with the given id and member. The value of {@link #GRAPH} is the graph's json, the one
+         * of {@link #ERROR} is a message, and {@link #CANCELED} needs no value.
+         */
+        private void respond(final JsonElement id, final String member, final String value) {
+            StringWriter response = new StringWriter();
+            JsonWriter out = new JsonWriter(response);
+            out.setHtmlSafe(false);
+            try {
+                out.beginObject();
+                out.name(ID);
+                ELEMENT_ADAPTER.write(out, id);
+                out.name(member);
+                if (GRAPH.equals(member)) {
+                    out.jsonValue(value);
+                } else if (ERROR.equals(member)) {
+                    out.value(value);
+                } else {
+                    out.value(true);
+                }
+                out.endObject();
+            } catch (IOException e) {
+                // writing to a string does not fail
+                throw new IllegalStateException(e);
+            }
+
+            synchronized (writer) {
+                if (broken) {
+                    return;
+                }
+                try {
+                    writer.write(response.toString());
+                    writer.write('\n');
+                    writer.flush();
+                } catch (IOException e) {
+                    broken = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * The members of a message relevant to the server.
+     */
+    private static final class Message {
+        private JsonElement id;
+        private String graph;
+        private JsonElement timeout;
+        private JsonElement cancel;
+    }
+
+    /**
+     * A layout request and its cancellation state.
+     */
+    private static final class Request implements IElkCancelIndicator {
+        private final JsonElement id;
+        private final String graph;
+        private final long deadline;
+        private volatile boolean canceled = false;
+
+        Request(final JsonElement id, final String graph, final long deadline) {
+            this.id = id;
+            this.graph = graph;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled || (deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0);
+        }
+    }
+
+    /**
+     * A progress monitor whose sub-monitors report the cancellation of a request as well, since layout algorithms
+     * usually query the monitor they are handed by the layout engine.
+     */
+    private static final class RequestMonitor extends BasicProgressMonitor {
+        private final IElkCancelIndicator cancelIndicator;
+
+        RequestMonitor(final IElkCancelIndicator cancelIndicator) {
+            this.cancelIndicator = cancelIndicator;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return cancelIndicator.isCanceled();
+        }
+
+        @Override
+        protected BasicProgressMonitor doSubTask(final float work, final int maxHierarchyLevels) {
+            return new RequestMonitor(cancelIndicator);
+        }
+    }
+
+    /**
+     * Creates daemon threads with numbered names.
+     */
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(final String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////
+    // Standalone Process
+
+    /**
+     * Runs the server. Without arguments, requests are read from the standard input and responses are written to the
+     * standard output. To keep the responses intact, {@link System#setOut(PrintStream)} then redirects the standard
+     * output of the whole process to the standard error, such that anything printed by layout algorithms ends up there.
+     * Embedding applications that do not want this should call {@link #serve(InputStream, OutputStream)} instead.
+     * The following arguments are supported:
+     * <dl>
+     *   <dt>{@code --port <port>}</dt><dd>accept connections on the given port of the loopback address instead</dd>
+     *   <dt>{@code --threads <n>}</dt><dd>the number of worker threads</dd>
+     *   <dt>{@code --queue <n>}</dt><dd>the number of requests that may wait for a worker</dd>
+     * </dl>
+     * Layout algorithms are registered through the {@link java.util.ServiceLoader service loader}, which finds the
+     * algorithms of all ELK bundles on the class path.
+     *
+     * @param args the command line arguments.
+     * @throws IOException if the streams or the socket fail.
+     */
+    public static void main(final String[] args) throws IOException {
+        ElkLayoutServer server = new ElkLayoutServer();
+        int port = -1;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            try {
+                switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    server.withThreads(Integer.parseInt(value));
+                    break;
+                case "--queue":
+                    server.withQueueCapacity(Integer.parseInt(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                }
+                i++;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Argument " + args[i] + " requires a number.", e);
+            }
+        }
+
+        if (port >= 0) {
+            server.listen(port);
+        } else {
+            // responses get the original standard output to themselves, everything else printed goes to standard error
+            PrintStream out = System.out;
+            System.setOut(System.err);
+            server.serve(System.in, out);
+            server.shutdown();
+        }
+    }
+
+}
@@ -1,6 +1,6 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 Kiel University and others.
- * 
+ * Copyright (c) 2009, 2026 Kiel University and others.
+ *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -9,107 +9,483 @@
  *******************************************************************************/
 package org.eclipse.elk.graph.properties;
 
+// elkjs-exclude-start
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+// elkjs-exclude-end
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-
-import com.google.common.collect.Maps;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
- * An implementation of {@link IPropertyHolder} based on a {@link HashMap}.
+ * An implementation of {@link IPropertyHolder} that stores property values in compact arrays. Each property is
+ * identified by a dense index assigned on first use, which is cheaper to look up than hashing the property and
+ * doesn't need a hash map per property holder. Holders with few properties find them by scanning their indices, holders
+ * with more properties build a small hash table of their indices. Property values are kept in the order in which they
+ * were first set.
  *
  * @author msp
  */
 public class MapPropertyHolder implements IPropertyHolder, Serializable {
 
     /** the serial version UID. */
-    private static final long serialVersionUID = 4507851447415709893L;
-    
-    /** map of property identifiers to their values. */
-    private HashMap<IProperty<?>, Object> propertyMap;
-    
+    private static final long serialVersionUID = -3216745873104462377L;
+    /** initial capacity of the property arrays. */
+    private static final int INITIAL_CAPACITY = 4;
+    /** the number of properties up to which they are found by scanning their indices instead of a hash table. */
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    /** indices of the properties set on this holder, or {@code null} if no property has been set yet. */
+    private transient int[] propertyIndices;
+    /** the properties set on this holder, as they were passed when first set, in the same order. */
+    private transient IProperty<?>[] propertyKeys;
+    /** values of the properties set on this holder, in the same order as {@link #propertyIndices}. */
+    private transient Object[] propertyValues;
+    /** number of properties set on this holder. */
+    private transient int propertyCount;
+    /**
+     * hash table of the slots plus one by property index with linear probing, or {@code null} if there are only few
+     * properties. It is maintained by the modifying methods such that reading properties doesn't modify the holder.
+     */
+    private transient int[] slotTable;
+
     @Override
     public <T> MapPropertyHolder setProperty(final IProperty<? super T> property, final T value) {
         if (value == null) {
-            getProperties().remove(property);
+            remove(PropertyIndex.indexOf(property));
         } else {
-            getProperties().put(property, value);
+            put(PropertyIndex.indexOf(property), property, value);
         }
-        
+
         return this;
     }
-    
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getProperty(final IProperty<T> property) {
-        Object value = getProperties().get(property);
-        if (value instanceof IPropertyValueProxy) {
-            value = ((IPropertyValueProxy) value).resolveValue(property);
-            if (value != null) {
-                getProperties().put(property, value);
+        int index = PropertyIndex.indexOf(property);
+        int slot = slotOf(index);
+        if (slot >= 0) {
+            Object value = propertyValues[slot];
+            if (value instanceof IPropertyValueProxy) {
+                value = ((IPropertyValueProxy) value).resolveValue(property);
+                if (value != null) {
+                    propertyValues[slot] = value;
+                    return (T) value;
+                }
+            } else {
                 return (T) value;
             }
-        } else if (value != null) {
-            return (T) value;
         }
 
-        // the reason for the side effect below is that if a default value has been returned 
-        // and the object is altered by the user, the user expects the altered object to be 
+        // the reason for the side effect below is that if a default value has been returned
+        // and the object is altered by the user, the user expects the altered object to be
         // the value of the property in case he asks for the property again
-        
+
         // Retrieve the default value and memorize it for our property
         T defaultValue = property.getDefault();
         if (defaultValue instanceof Cloneable) {
             // We are now dealing with a clone of the default value which me may safely store away
             // for further modification
-            setProperty(property, defaultValue);
+            put(index, property, defaultValue);
         }
         return defaultValue;
     }
-    
+
     @Override
     public boolean hasProperty(final IProperty<?> property) {
-        return propertyMap != null && propertyMap.containsKey(property);
+        return propertyCount > 0 && slotOf(PropertyIndex.indexOf(property)) >= 0;
     }
-    
+
     @Override
     public MapPropertyHolder copyProperties(final IPropertyHolder other) {
         if (other == null) {
             return this;
         }
 
-        final Map<IProperty<?>, Object> otherMap = other.getAllProperties();
-        if (!otherMap.isEmpty()) {
-            if (this.propertyMap == null) {
-                propertyMap = new HashMap<IProperty<?>, Object>(otherMap);
+        if (other instanceof MapPropertyHolder) {
+            MapPropertyHolder otherHolder = (MapPropertyHolder) other;
+            if (propertyCount == 0 && otherHolder.propertyCount > 0) {
+                // Fast path: simply copy the other holder's arrays
+                propertyIndices = Arrays.copyOf(otherHolder.propertyIndices, otherHolder.propertyCount);
+                propertyKeys = Arrays.copyOf(otherHolder.propertyKeys, otherHolder.propertyCount);
+                propertyValues = Arrays.copyOf(otherHolder.propertyValues, otherHolder.propertyCount);
+                propertyCount = otherHolder.propertyCount;
+                updateSlotTable();
             } else {
-                this.propertyMap.putAll(otherMap);
+                for (int i = 0; i < otherHolder.propertyCount; i++) {
+                    put(otherHolder.propertyIndices[i], otherHolder.propertyKeys[i], otherHolder.propertyValues[i]);
+                }
+            }
+
+        } else {
+            for (Map.Entry<IProperty<?>, Object> entry : other.getAllProperties().entrySet()) {
+                put(PropertyIndex.indexOf(entry.getKey()), entry.getKey(), entry.getValue());
             }
         }
 
         return this;
     }
-    
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned map is a live view of the properties of this holder. Changes to the map are reflected in the
+     * property holder and vice versa.</p>
+     */
     @Override
     public Map<IProperty<?>, Object> getAllProperties() {
-        if (propertyMap == null) {
-            return Collections.emptyMap();
+        return new PropertyMap();
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Array Management
+
+    /**
+     * Returns the slot in which the value of the property with the given index is stored.
+     *
+     * @return the slot, or {@code -1} if the property is not set.
+     */
+    private int slotOf(final int index) {
+        final int[] indices = propertyIndices;
+        final int[] table = slotTable;
+        if (table != null) {
+            int mask = table.length - 1;
+            for (int i = index & mask;; i = (i + 1) & mask) {
+                int slot = table[i] - 1;
+                if (slot < 0 || indices[slot] == index) {
+                    return slot;
+                }
+            }
+        }
+
+        for (int slot = 0; slot < propertyCount; slot++) {
+            if (indices[slot] == index) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builds the hash table of the slots, which is at most half full, if there are too many properties to scan them.
+     * Otherwise, the table is dropped.
+     */
+    private void updateSlotTable() {
+        if (propertyCount > LINEAR_SCAN_LIMIT) {
+            int[] table = new int[Integer.highestOneBit(propertyCount) << 2];
+            for (int slot = 0; slot < propertyCount; slot++) {
+                insertSlot(table, slot);
+            }
+            slotTable = table;
         } else {
-            return propertyMap;
+            slotTable = null;
+        }
+    }
+
+    /**
+     * Inserts the given slot into the given hash table of the slots.
+     */
+    private void insertSlot(final int[] table, final int slot) {
+        int mask = table.length - 1;
+        int i = propertyIndices[slot] & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot + 1;
+    }
+
+    /**
+     * Sets the value of the property with the given index. If the property is not set yet, the given key is what the
+     * map view reports as the property.
+     *
+     * @return the previous value, or {@code null} if the property wasn't set.
+     */
+    private Object put(final int index, final IProperty<?> key, final Object value) {
+        int slot = slotOf(index);
+        if (slot >= 0) {
+            Object oldValue = propertyValues[slot];
+            propertyValues[slot] = value;
+            return oldValue;
+        }
+
+        if (propertyIndices == null) {
+            propertyIndices = new int[INITIAL_CAPACITY];
+            propertyKeys = new IProperty<?>[INITIAL_CAPACITY];
+            propertyValues = new Object[INITIAL_CAPACITY];
+        } else if (propertyCount == propertyIndices.length) {
+            int capacity = propertyCount + (propertyCount >> 1) + 1;
+            propertyIndices = Arrays.copyOf(propertyIndices, capacity);
+            propertyKeys = Arrays.copyOf(propertyKeys, capacity);
+            propertyValues = Arrays.copyOf(propertyValues, capacity);
+        }
+
+        propertyIndices[propertyCount] = index;
+        propertyKeys[propertyCount] = key;
+        propertyValues[propertyCount] = value;
+        propertyCount++;
+
+        if (slotTable != null && 2 * propertyCount <= slotTable.length) {
+            insertSlot(slotTable, propertyCount - 1);
+        } else if (propertyCount > LINEAR_SCAN_LIMIT) {
+            updateSlotTable();
+        }
+        return null;
+    }
+
+    /**
+     * Removes the value of the property with the given index.
+     *
+     * @return the previous value, or {@code null} if the property wasn't set.
+     */
+    private Object remove(final int index) {
+        int slot = slotOf(index);
+        return slot >= 0 ? removeSlot(slot) : null;
+    }
+
+    /**
+     * Removes the value in the given slot, keeping the order of the remaining values.
+     *
+     * @return the removed value.
+     */
+    private Object removeSlot(final int slot) {
+        Object oldValue = propertyValues[slot];
+        int following = propertyCount - slot - 1;
+        if (following > 0) {
+            System.arraycopy(propertyIndices, slot + 1, propertyIndices, slot, following);
+            System.arraycopy(propertyKeys, slot + 1, propertyKeys, slot, following);
+            System.arraycopy(propertyValues, slot + 1, propertyValues, slot, following);
+        }
+        propertyCount--;
+        propertyKeys[propertyCount] = null;
+        propertyValues[propertyCount] = null;
+        if (slotTable != null) {
+            // The following slots have moved
+            updateSlotTable();
+        }
+        return oldValue;
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Map View
+
+    /**
+     * A map view of the properties of the enclosing holder.
+     */
+    private final class PropertyMap extends AbstractMap<IProperty<?>, Object> {
+
+        @Override
+        public int size() {
+            return propertyCount;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof IProperty<?> && hasProperty((IProperty<?>) key);
+        }
+
+        @Override
+        public Object get(final Object key) {
+            if (key instanceof IProperty<?> && propertyCount > 0) {
+                int slot = slotOf(PropertyIndex.indexOf((IProperty<?>) key));
+                return slot >= 0 ? propertyValues[slot] : null;
+            }
+            return null;
+        }
+
+        @Override
+        public Object put(final IProperty<?> key, final Object value) {
+            if (value == null) {
+                throw new NullPointerException("Property values must not be null.");
+            }
+            return MapPropertyHolder.this.put(PropertyIndex.indexOf(key), key, value);
+        }
+
+        @Override
+        public Object remove(final Object key) {
+            if (key instanceof IProperty<?> && propertyCount > 0) {
+                return MapPropertyHolder.this.remove(PropertyIndex.indexOf((IProperty<?>) key));
+            }
+            return null;
+        }
+
+        @Override
+        public void clear() {
+            if (propertyCount > 0) {
+                Arrays.fill(propertyKeys, 0, propertyCount, null);
+                Arrays.fill(propertyValues, 0, propertyCount, null);
+                propertyCount = 0;
+                slotTable = null;
+            }
+        }
+
+        @Override
+        public Set<Map.Entry<IProperty<?>, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<IProperty<?>, Object>>() {
+                @Override
+                public int size() {
+                    return propertyCount;
+                }
+
+                @Override
+                public void clear() {
+                    PropertyMap.this.clear();
+                }
+
+                @Override
+                public Iterator<Map.Entry<IProperty<?>, Object>> iterator() {
+                    return new EntryIterator();
+                }
+            };
+        }
+    }
+
+    /**
+     * Iterates over the properties of the enclosing holder in the order in which they were first set.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<IProperty<?>, Object>> {
+
+        /** the slot of the next entry. */
+        private int nextSlot = 0;
+        /** the slot of the entry last returned, or {@code -1} if it was removed or none was returned yet. */
+        private int lastSlot = -1;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < propertyCount;
+        }
+
+        @Override
+        public Map.Entry<IProperty<?>, Object> next() {
+            if (nextSlot >= propertyCount) {
+                throw new NoSuchElementException();
+            }
+            lastSlot = nextSlot++;
+            return new Entry(lastSlot);
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot < 0) {
+                throw new IllegalStateException();
+            }
+            removeSlot(lastSlot);
+            nextSlot = lastSlot;
+            lastSlot = -1;
+        }
+    }
+
+    /**
+     * An entry of the map view whose value can be changed.
+     */
+    private final class Entry implements Map.Entry<IProperty<?>, Object> {
+
+        /** index of the entry's property. */
+        private final int index;
+        /** the entry's property. */
+        private final IProperty<?> key;
+        /** the slot the entry's value was stored in when the entry was created. */
+        private int slot;
+
+        Entry(final int slot) {
+            this.slot = slot;
+            this.index = propertyIndices[slot];
+            this.key = propertyKeys[slot];
+        }
+
+        @Override
+        public IProperty<?> getKey() {
+            return key;
         }
+
+        @Override
+        public Object getValue() {
+            return propertyValues[currentSlot()];
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            if (value == null) {
+                throw new NullPointerException("Property values must not be null.");
+            }
+            int s = currentSlot();
+            Object oldValue = propertyValues[s];
+            propertyValues[s] = value;
+            return oldValue;
+        }
+
+        /**
+         * Returns the entry's slot, looking it up again if values have been removed since the entry was created.
+         */
+        private int currentSlot() {
+            if (slot >= propertyCount || propertyIndices[slot] != index) {
+                slot = slotOf(index);
+                if (slot < 0) {
+                    throw new IllegalStateException("The property has been removed.");
+                }
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj instanceof Map.Entry<?, ?>) {
+                Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+                return getKey().equals(other.getKey()) && getValue().equals(other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // Serialization
+
+    // elkjs-exclude-start
+    /**
+     * Property indices are only valid within the running virtual machine and properties are not serializable, which
+     * is why properties are serialized as a map from property identifiers to values. The values must be serializable.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int slot = 0; slot < propertyCount; slot++) {
+            values.put(propertyKeys[slot].getId(), propertyValues[slot]);
+        }
+        out.writeObject(values);
     }
-    
+
     /**
-     * Returns the property map, creating a new map if there hasn't been one so far.
-     * 
-     * @return the property map.
+     * Reads properties serialized by {@link #writeObject(ObjectOutputStream)}. Since properties are equal if their
+     * identifiers are, the values can be retrieved with the original properties.
      */
-    private Map<IProperty<?>, Object> getProperties() {
-        if (propertyMap == null) {
-            propertyMap = Maps.newHashMap();
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        for (Map.Entry<String, Object> entry : ((Map<String, Object>) in.readObject()).entrySet()) {
+            IProperty<Object> property = new Property<>(entry.getKey());
+            put(PropertyIndex.indexOf(property), property, entry.getValue());
         }
-        return propertyMap;
     }
-    
+    // elkjs-exclude-end
+
 }
@@ -30,6 +30,8 @@ public class Property<T> implements IProperty<T>, Comparable<IProperty<?>> {
     private Comparable<? super T> lowerBound = NEGATIVE_INFINITY;
     /** the upper bound of this property. */
     private Comparable<? super T> upperBound = POSITIVE_INFINITY;
+    /** index assigned by {@link PropertyIndex}, or {@code -1} if none has been assigned yet. */
+    int index = -1;
     
     /**
      * Creates a property with given identifier and {@code null} as default value.
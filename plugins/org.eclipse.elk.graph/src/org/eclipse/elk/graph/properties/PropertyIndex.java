@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.properties;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns a dense integer index to each property identifier the first time a property with that identifier is used
+ * with a {@link MapPropertyHolder}. Since properties are equal if their identifiers are equal, all property instances
+ * with the same identifier share an index. {@link Property} instances remember their index, so looking it up is only
+ * expensive the first time.
+ *
+ * <p>Only the identifiers are kept, not the property instances, such that their default values and the class loaders
+ * of these don't stay reachable. Indices are never reused since property holders may still refer to them, so the
+ * index grows with the number of distinct identifiers, which are usually the constants of the layout options.</p>
+ */
+final class PropertyIndex {
+
+    /** indices of all registered property identifiers. */
+    private static final ConcurrentMap<String, Integer> INDICES = new ConcurrentHashMap<>();
+    /** the index assigned to the next registered identifier. */
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private PropertyIndex() {
+    }
+
+    /**
+     * Returns the index of the given property, registering it if it hasn't been registered yet.
+     *
+     * @param property
+     *            the property.
+     * @return the property's index.
+     */
+    static int indexOf(final IProperty<?> property) {
+        if (property instanceof Property<?>) {
+            Property<?> prop = (Property<?>) property;
+            // Racing threads compute the same index, so the field needs no synchronization
+            int index = prop.index;
+            if (index < 0) {
+                index = register(property.getId());
+                prop.index = index;
+            }
+            return index;
+        }
+        return register(property.getId());
+    }
+
+    private static int register(final String id) {
+        // Looking up registered identifiers doesn't lock, only registering new ones may
+        Integer index = INDICES.get(id);
+        if (index == null) {
+            index = INDICES.computeIfAbsent(id, key -> NEXT_INDEX.getAndIncrement());
+        }
+        return index;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.alg.common.networksimplex.NEdge;
+import org.eclipse.elk.alg.common.networksimplex.NGraph;
+import org.eclipse.elk.alg.common.networksimplex.NNode;
+import org.eclipse.elk.alg.common.networksimplex.NetworkSimplex;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link NetworkSimplex} on random connected acyclic graphs with twice as many edges as nodes. The search
+ * size {@code 0} takes the first tree edge with a negative cut value as leaving edge, Gansner et al. propose a search
+ * size of {@code 30}. Since the network simplex assigns the layers to the graph it is run on, the graph is rebuilt
+ * before each invocation.
+ *
+ * <p>Edges only connect nodes whose indices differ by at most {@link #SPAN}, as in diagrams where most edges are
+ * short. On graphs whose edges connect arbitrary nodes, the number of exchanges grows far faster than the number of
+ * nodes.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NetworkSimplexBenchmark {
+
+    /** The maximum difference of the indices of connected nodes. */
+    private static final int SPAN = 20;
+
+    /** Number of nodes. */
+    @Param({ "50000", "100000" })
+    private int nodes;
+
+    /** Number of candidates considered for the leaving edge. */
+    @Param({ "0", "30" })
+    private int searchSize;
+
+    /** Seed used to generate the graph. */
+    @Param({ "42" })
+    private long seed;
+
+    /** The graph to layer. */
+    private NGraph graph;
+
+    /**
+     * Generates the graph. Each node but the first is connected to one of its preceding nodes, which keeps the graph
+     * connected, and as many further edges connect random nodes to one of their succeeding nodes.
+     */
+    @Setup(Level.Invocation)
+    public void generateGraph() {
+        Random random = new Random(seed);
+        graph = new NGraph();
+        for (int i = 0; i < nodes; i++) {
+            NNode.of().id(i).create(graph);
+        }
+        for (int i = 1; i < nodes; i++) {
+            createEdge(random, Math.max(0, i - 1 - random.nextInt(SPAN)), i);
+        }
+        for (int i = 1; i < nodes; i++) {
+            int source = random.nextInt(nodes - 1);
+            createEdge(random, source, Math.min(nodes - 1, source + 1 + random.nextInt(SPAN)));
+        }
+    }
+
+    private void createEdge(final Random random, final int source, final int target) {
+        NEdge.of()
+            .delta(1 + random.nextInt(3))
+            .weight(1 + random.nextInt(10))
+            .source(graph.nodes.get(source))
+            .target(graph.nodes.get(target))
+            .create();
+    }
+
+    /**
+     * Layers the graph.
+     */
+    @Benchmark
+    public NGraph networkSimplex() {
+        NetworkSimplex.forGraph(graph).withSearchSize(searchSize).execute(new BasicProgressMonitor());
+        return graph;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.alg.common.compaction.options.PolyominoOptions;
+import org.eclipse.elk.alg.common.compaction.options.TraversalStrategy;
+import org.eclipse.elk.alg.common.polyomino.PolyominoCompactor;
+import org.eclipse.elk.alg.common.polyomino.structures.Direction;
+import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
+import org.eclipse.elk.alg.common.polyomino.structures.Polyominoes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link PolyominoCompactor} on random polyominoes. Each polyomino is a rectangle whose cells are blocked
+ * with some holes, some of them get an extension to the east, as components with edges to external ports do. Since
+ * packing fills the grid, the polyominoes are recreated before each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PolyominoBenchmark {
+
+    /** The maximum width and height of a polyomino in cells. */
+    private static final int MAX_SIZE = 12;
+
+    /** Number of polyominoes. */
+    @Param({ "200", "500" })
+    private int polyominoes;
+
+    /** Order in which candidate positions are tried. */
+    @Param({ "QUADRANTS_JITTER", "SPIRAL" })
+    private TraversalStrategy traversal;
+
+    /** Seed used to generate the polyominoes. */
+    @Param({ "42" })
+    private long seed;
+
+    /** The polyominoes and the grid to place them on. */
+    private Polyominoes<Polyomino> polys;
+
+    /**
+     * Generates the polyominoes.
+     */
+    @Setup(Level.Invocation)
+    public void generatePolyominoes() {
+        Random random = new Random(seed);
+        List<Polyomino> list = new ArrayList<>(polyominoes);
+        for (int i = 0; i < polyominoes; i++) {
+            int width = 1 + random.nextInt(MAX_SIZE);
+            int height = 1 + random.nextInt(MAX_SIZE);
+            Polyomino poly = new Polyomino(width, height);
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    if (random.nextInt(5) != 0) {
+                        poly.setBlocked(x, y);
+                    }
+                }
+            }
+            if (random.nextInt(10) == 0) {
+                int y = random.nextInt(height);
+                poly.addExtension(Direction.EAST, y, y);
+            }
+            list.add(poly);
+        }
+        polys = new Polyominoes<>(list, 1.0);
+        polys.setProperty(PolyominoOptions.POLYOMINO_TRAVERSAL_STRATEGY, traversal);
+    }
+
+    /**
+     * Packs the polyominoes.
+     */
+    @Benchmark
+    public Polyominoes<Polyomino> packPolyominoes() {
+        new PolyominoCompactor().packPolyominoes(polys);
+        return polys;
+    }
+
+}
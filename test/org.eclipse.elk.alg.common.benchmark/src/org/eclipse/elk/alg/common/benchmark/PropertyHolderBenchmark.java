@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.IPropertyValueProxy;
+import org.eclipse.elk.graph.properties.MapPropertyHolder;
+import org.eclipse.elk.graph.properties.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link MapPropertyHolder}, which stores values in arrays indexed by property, with a property holder
+ * backed by a {@link HashMap}, as {@link MapPropertyHolder} used to be. Layout algorithms mostly read properties of
+ * nodes, ports and edges with a few dozen properties each, and create such holders for every dummy node.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PropertyHolderBenchmark {
+
+    /** Number of properties set on each holder. */
+    @Param({ "4", "16", "48" })
+    private int properties;
+
+    /** The properties, of which only the first ones are set. */
+    private IProperty<Integer>[] keys;
+    /** Holder storing the properties in arrays. */
+    private MapPropertyHolder arrayHolder;
+    /** Holder storing the properties in a hash map. */
+    private HashMapPropertyHolder hashMapHolder;
+
+    /**
+     * Creates the holders with the properties set.
+     */
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void createHolders() {
+        // Twice as many properties as are set, to look up missing ones as well
+        keys = new IProperty[2 * properties];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Property<>("org.eclipse.elk.benchmark.property" + i, -1);
+        }
+        arrayHolder = new MapPropertyHolder();
+        hashMapHolder = new HashMapPropertyHolder();
+        for (int i = 0; i < properties; i++) {
+            arrayHolder.setProperty(keys[i], i);
+            hashMapHolder.setProperty(keys[i], i);
+        }
+    }
+
+    /**
+     * Reads each property, half of which are not set.
+     */
+    @Benchmark
+    public void getArray(final Blackhole blackhole) {
+        for (IProperty<Integer> key : keys) {
+            blackhole.consume(arrayHolder.getProperty(key));
+        }
+    }
+
+    /**
+     * Reads each property, half of which are not set.
+     */
+    @Benchmark
+    public void getHashMap(final Blackhole blackhole) {
+        for (IProperty<Integer> key : keys) {
+            blackhole.consume(hashMapHolder.getProperty(key));
+        }
+    }
+
+    /**
+     * Creates a holder and sets the properties.
+     */
+    @Benchmark
+    public MapPropertyHolder createArray() {
+        MapPropertyHolder holder = new MapPropertyHolder();
+        for (int i = 0; i < properties; i++) {
+            holder.setProperty(keys[i], i);
+        }
+        return holder;
+    }
+
+    /**
+     * Creates a holder and sets the properties.
+     */
+    @Benchmark
+    public HashMapPropertyHolder createHashMap() {
+        HashMapPropertyHolder holder = new HashMapPropertyHolder();
+        for (int i = 0; i < properties; i++) {
+            holder.setProperty(keys[i], i);
+        }
+        return holder;
+    }
+
+    /**
+     * A property holder that stores values in a lazily created hash map, as {@link MapPropertyHolder} used to.
+     */
+    public static final class HashMapPropertyHolder {
+
+        /** the property values, or {@code null} if no property has been set yet. */
+        private Map<IProperty<?>, Object> propertyMap;
+
+        /**
+         * Sets a property, or removes it if the value is {@code null}.
+         */
+        public <T> void setProperty(final IProperty<? super T> property, final T value) {
+            if (propertyMap == null) {
+                propertyMap = new HashMap<>();
+            }
+            if (value == null) {
+                propertyMap.remove(property);
+            } else {
+                propertyMap.put(property, value);
+            }
+        }
+
+        /**
+         * Returns a property, or its default value if it is not set.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T getProperty(final IProperty<T> property) {
+            if (propertyMap == null) {
+                propertyMap = new HashMap<>();
+            }
+            Object value = propertyMap.get(property);
+            if (value instanceof IPropertyValueProxy) {
+                value = ((IPropertyValueProxy) value).resolveValue(property);
+                if (value != null) {
+                    propertyMap.put(property, value);
+                    return (T) value;
+                }
+            } else if (value != null) {
+                return (T) value;
+            }
+
+            T defaultValue = property.getDefault();
+            if (defaultValue instanceof Cloneable) {
+                setProperty(property, defaultValue);
+            }
+            return defaultValue;
+        }
+    }
+
+}
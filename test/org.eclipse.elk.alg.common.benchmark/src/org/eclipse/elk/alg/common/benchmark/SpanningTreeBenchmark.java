@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.alg.common.DivideAndConquerTriangulation;
+import org.eclipse.elk.alg.common.ICostFunction;
+import org.eclipse.elk.alg.common.KruskalMinST;
+import org.eclipse.elk.alg.common.NaiveMinST;
+import org.eclipse.elk.alg.common.PrimMinST;
+import org.eclipse.elk.alg.common.TEdge;
+import org.eclipse.elk.alg.common.Tree;
+import org.eclipse.elk.core.math.KVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Compares the spanning tree implementations on Delaunay triangulations of random points, which is the input SPOrE
+ * computes spanning trees for. The naive implementation takes minutes for 100k points; restrict the parameters with
+ * {@code -p algorithm=PRIM,KRUSKAL} to leave it out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpanningTreeBenchmark {
+
+    /** The spanning tree implementations. */
+    public enum Algorithm {
+        /** {@link NaiveMinST}. */
+        NAIVE,
+        /** {@link PrimMinST}. */
+        PRIM,
+        /** {@link KruskalMinST}. */
+        KRUSKAL
+    }
+
+    /** Number of triangulated points. */
+    @Param({ "10000", "30000", "100000" })
+    private int points;
+
+    /** The implementation to run. */
+    @Param({ "NAIVE", "PRIM", "KRUSKAL" })
+    private Algorithm algorithm;
+
+    /** Seed used to generate the points. */
+    @Param({ "42" })
+    private long seed;
+
+    /** The edges of the triangulation. */
+    private Set<TEdge> tEdges;
+    /** The root of the spanning tree. */
+    private KVector root;
+    /** The cost of an edge is its length, as for SPOrE's default cost function. */
+    private final ICostFunction costFunction = e -> e.u.distance(e.v);
+
+    /**
+     * Triangulates random points.
+     */
+    @Setup(Level.Trial)
+    public void triangulate() {
+        Random random = new Random(seed);
+        Set<KVector> vertices = Sets.newLinkedHashSet();
+        while (vertices.size() < points) {
+            vertices.add(new KVector(random.nextInt(10 * points), random.nextInt(10 * points)));
+        }
+        List<KVector> vertexList = Lists.newArrayList(vertices);
+        tEdges = DivideAndConquerTriangulation.triangulate(vertexList);
+        root = vertexList.get(0);
+    }
+
+    /**
+     * Computes the spanning tree.
+     */
+    @Benchmark
+    public Tree<KVector> spanningTree() {
+        switch (algorithm) {
+        case NAIVE:
+            return NaiveMinST.createSpanningTree(tEdges, root, costFunction);
+        case PRIM:
+            return PrimMinST.createSpanningTree(tEdges, root, costFunction);
+        default:
+            return KruskalMinST.createSpanningTree(tEdges, root, costFunction);
+        }
+    }
+
+}
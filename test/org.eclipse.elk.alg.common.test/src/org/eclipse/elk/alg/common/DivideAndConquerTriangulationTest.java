@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.elk.core.math.KVector;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Tests the {@link DivideAndConquerTriangulation} against the {@link BowyerWatsonTriangulation} and the Delaunay
+ * property.
+ */
+public class DivideAndConquerTriangulationTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /**
+     * On random points, every edge found by the Bowyer Watson algorithm has to be found as well. The divide and
+     * conquer algorithm additionally finds the convex hull edges the Bowyer Watson algorithm may miss due to its
+     * finite super-triangle.
+     */
+    @Test
+    public void testRandomPointsAgainstBowyerWatson() {
+        Random random = new Random(0);
+        for (int run = 0; run < 20; run++) {
+            List<KVector> points = randomPoints(random, 10 + random.nextInt(300));
+            Set<TEdge> divideAndConquer = DivideAndConquerTriangulation.triangulate(points);
+            Set<TEdge> bowyerWatson = BowyerWatsonTriangulation.triangulate(points);
+
+            assertTrue(divideAndConquer.containsAll(bowyerWatson));
+            assertConnected(points, divideAndConquer);
+            assertDelaunay(points, divideAndConquer);
+        }
+    }
+
+    /**
+     * Points on a grid have many cocircular points, which must still result in a valid triangulation.
+     */
+    @Test
+    public void testGrid() {
+        List<KVector> points = Lists.newArrayList();
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 15; y++) {
+                points.add(new KVector(x * 30, y * 20));
+            }
+        }
+        Set<TEdge> tEdges = DivideAndConquerTriangulation.triangulate(points);
+
+        // a triangulation of a grid with n points, h of which are on the hull, has 3n - 3 - h edges, and all
+        // of them connect neighbors along the rows, columns, or diagonals
+        int n = points.size();
+        int h = 2 * (20 + 15) - 4;
+        assertEquals(3 * n - 3 - h, tEdges.size());
+        for (TEdge tEdge : tEdges) {
+            assertTrue(Math.abs(tEdge.u.x - tEdge.v.x) <= 30 && Math.abs(tEdge.u.y - tEdge.v.y) <= 20);
+        }
+        assertConnected(points, tEdges);
+    }
+
+    /**
+     * Degenerate inputs.
+     */
+    @Test
+    public void testDegenerate() {
+        assertTrue(DivideAndConquerTriangulation.triangulate(Lists.newArrayList()).isEmpty());
+        assertTrue(DivideAndConquerTriangulation.triangulate(Lists.newArrayList(new KVector(1, 2))).isEmpty());
+
+        KVector a = new KVector(0, 0);
+        KVector b = new KVector(3, 4);
+        assertEquals(Sets.newHashSet(new TEdge(a, b)),
+                DivideAndConquerTriangulation.triangulate(Lists.newArrayList(a, b)));
+
+        // collinear points are connected along their line
+        List<KVector> line = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            line.add(new KVector(((i * 7) % 10) * 2, ((i * 7) % 10) * 3));
+        }
+        Set<TEdge> tEdges = DivideAndConquerTriangulation.triangulate(line);
+        assertEquals(9, tEdges.size());
+        for (TEdge tEdge : tEdges) {
+            assertEquals(2, Math.abs(tEdge.u.x - tEdge.v.x), 0);
+        }
+
+        KVector c = new KVector(0, 5);
+        assertEquals(Sets.newHashSet(new TEdge(a, b), new TEdge(b, c), new TEdge(c, a)),
+                DivideAndConquerTriangulation.triangulate(Lists.newArrayList(a, b, c)));
+    }
+
+    /**
+     * Large inputs have to be triangulated quickly.
+     */
+    @Test(timeout = 10000)
+    public void testLarge() {
+        List<KVector> points = randomPoints(new Random(1), 100000);
+        Set<TEdge> tEdges = DivideAndConquerTriangulation.triangulate(points);
+        assertTrue(tEdges.size() >= 2 * points.size());
+        assertConnected(points, tEdges);
+    }
+
+    private static List<KVector> randomPoints(final Random random, final int n) {
+        Set<KVector> points = Sets.newLinkedHashSet();
+        while (points.size() < n) {
+            points.add(new KVector(random.nextInt(10 * n), random.nextInt(10 * n)));
+        }
+        return Lists.newArrayList(points);
+    }
+
+    private static void assertConnected(final List<KVector> points, final Set<TEdge> tEdges) {
+        Map<KVector, List<KVector>> adjacency = Maps.newHashMap();
+        for (TEdge tEdge : tEdges) {
+            adjacency.computeIfAbsent(tEdge.u, v -> Lists.newArrayList()).add(tEdge.v);
+            adjacency.computeIfAbsent(tEdge.v, v -> Lists.newArrayList()).add(tEdge.u);
+        }
+        Set<KVector> visited = Sets.newHashSet(points.get(0));
+        Deque<KVector> queue = new ArrayDeque<>(visited);
+        while (!queue.isEmpty()) {
+            for (KVector w : adjacency.getOrDefault(queue.poll(), Lists.newArrayList())) {
+                if (visited.add(w)) {
+                    queue.add(w);
+                }
+            }
+        }
+        assertEquals(points.size(), visited.size());
+    }
+
+    /**
+     * Checks that no point lies inside the circumcircle of any triangle formed by the edges.
+     */
+    private static void assertDelaunay(final List<KVector> points, final Set<TEdge> tEdges) {
+        Map<KVector, Set<KVector>> adjacency = Maps.newHashMap();
+        for (TEdge tEdge : tEdges) {
+            adjacency.computeIfAbsent(tEdge.u, v -> Sets.newHashSet()).add(tEdge.v);
+            adjacency.computeIfAbsent(tEdge.v, v -> Sets.newHashSet()).add(tEdge.u);
+        }
+        for (TEdge tEdge : tEdges) {
+            for (KVector w : Sets.intersection(adjacency.get(tEdge.u), adjacency.get(tEdge.v))) {
+                TTriangle triangle = new TTriangle(tEdge.u, tEdge.v, w);
+                KVector center = triangle.getCircumcenter();
+                double radius = center.distance(tEdge.u);
+                // triangles of three mutually adjacent points are either faces or contain other points entirely
+                boolean face = true;
+                for (KVector p : points) {
+                    if (!triangle.contains(p) && inTriangle(p, tEdge.u, tEdge.v, w)) {
+                        face = false;
+                        break;
+                    }
+                }
+                if (face) {
+                    for (KVector p : points) {
+                        assertTrue(triangle.contains(p) || center.distance(p) >= radius * (1 - 1e-9));
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean inTriangle(final KVector p, final KVector a, final KVector b, final KVector c) {
+        double d1 = cross(p, a, b);
+        double d2 = cross(p, b, c);
+        double d3 = cross(p, c, a);
+        return (d1 > 0 && d2 > 0 && d3 > 0) || (d1 < 0 && d2 < 0 && d3 < 0);
+    }
+
+    private static double cross(final KVector p, final KVector a, final KVector b) {
+        return (a.x - p.x) * (b.y - p.y) - (a.y - p.y) * (b.x - p.x);
+    }
+
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.elk.core.math.KVector;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Tests that {@link PrimMinST} and {@link KruskalMinST} return the same trees as {@link NaiveMinST}.
+ */
+public class SpanningTreeTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /** Cost function of SPOrE's default cost function. */
+    private static final ICostFunction LENGTH = e -> e.u.distance(e.v);
+    /** Cost function with many ties. */
+    private static final ICostFunction ROUNDED_LENGTH = e -> Math.round(e.u.distance(e.v) / 50);
+
+    /**
+     * Triangulations of random points.
+     */
+    @Test
+    public void testRandomTriangulations() {
+        Random random = new Random(0);
+        for (int run = 0; run < 10; run++) {
+            List<KVector> points = Lists.newArrayList();
+            Set<KVector> unique = Sets.newHashSet();
+            int n = 10 + random.nextInt(1000);
+            while (points.size() < n) {
+                KVector p = new KVector(random.nextInt(10 * n), random.nextInt(10 * n));
+                if (unique.add(p)) {
+                    points.add(p);
+                }
+            }
+            Set<TEdge> tEdges = DivideAndConquerTriangulation.triangulate(points);
+            KVector root = points.get(random.nextInt(n));
+
+            assertAllEqual(tEdges, root, LENGTH, n);
+            assertAllEqual(tEdges, root, ROUNDED_LENGTH, n);
+            assertAllEqual(tEdges, root, e -> -LENGTH.cost(e), n);
+        }
+    }
+
+    /**
+     * Grids have many edges of equal length.
+     */
+    @Test
+    public void testGrid() {
+        List<KVector> points = Lists.newArrayList();
+        for (int x = 0; x < 30; x++) {
+            for (int y = 0; y < 30; y++) {
+                points.add(new KVector(x * 10, y * 10));
+            }
+        }
+        Set<TEdge> tEdges = DivideAndConquerTriangulation.triangulate(points);
+        assertAllEqual(tEdges, points.get(0), LENGTH, points.size());
+        assertAllEqual(tEdges, points.get(455), e -> 1, points.size());
+    }
+
+    /**
+     * Only the component of the root is spanned; a root without edges yields a single node.
+     */
+    @Test
+    public void testDisconnected() {
+        KVector a = new KVector(0, 0);
+        KVector b = new KVector(1, 0);
+        KVector c = new KVector(0, 1);
+        KVector d = new KVector(5, 5);
+        KVector e = new KVector(6, 5);
+        Set<TEdge> tEdges = Sets.newLinkedHashSet(Lists.newArrayList(
+                new TEdge(a, b), new TEdge(b, c), new TEdge(c, a), new TEdge(d, e)));
+
+        assertAllEqual(tEdges, a, LENGTH, 3);
+        assertAllEqual(tEdges, e, LENGTH, 2);
+        assertAllEqual(tEdges, new KVector(9, 9), LENGTH, 1);
+    }
+
+    private static void assertAllEqual(final Set<TEdge> tEdges, final KVector root, final ICostFunction costFunction,
+            final int size) {
+
+        Tree<KVector> naive = NaiveMinST.createSpanningTree(tEdges, root, costFunction);
+        Tree<KVector> prim = PrimMinST.createSpanningTree(tEdges, root, costFunction);
+        Tree<KVector> kruskal = KruskalMinST.createSpanningTree(tEdges, root, costFunction);
+
+        assertEquals(size, count(naive));
+        assertTreeEquals(naive, prim);
+        assertTreeEquals(naive, kruskal);
+    }
+
+    private static void assertTreeEquals(final Tree<KVector> expected, final Tree<KVector> actual) {
+        assertSame(expected.node, actual.node);
+        assertEquals(expected.children.size(), actual.children.size());
+        for (int i = 0; i < expected.children.size(); i++) {
+            assertTreeEquals(expected.children.get(i), actual.children.get(i));
+        }
+    }
+
+    private static int count(final Tree<KVector> tree) {
+        int count = 1;
+        for (Tree<KVector> child : tree.children) {
+            count += count(child);
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.compaction.oned;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.core.math.ElkRectangle;
+import org.eclipse.elk.core.options.Direction;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Differential tests of the {@link SweepLineConstraintCalculation} against the
+ * {@link QuadraticConstraintCalculation}.
+ */
+public class SweepLineConstraintCalculationTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    private static final double EPSILON = 0.0001d;
+
+    /**
+     * The sweep line may only leave out constraints, and compacting with either set of constraints must yield the
+     * same positions.
+     */
+    @Test
+    public void testRandomGraphs() {
+        for (int seed = 0; seed < 200; seed++) {
+            for (ISpacingsHandler spacings : Lists.newArrayList(ISpacingsHandler.DEFAULT_SPACING_HANDLER,
+                    OneDimensionalCompactorTest.TEST_SPACING_HANDLER)) {
+
+                boolean groups = seed % 2 == 0;
+                CGraph quadratic = randomGraph(seed, groups);
+                CGraph sweepLine = randomGraph(seed, groups);
+                OneDimensionalCompactor quadraticCompactor = new OneDimensionalCompactor(quadratic)
+                        .setConstraintAlgorithm(OneDimensionalCompactor.QUADRATIC_CONSTRAINTS)
+                        .setSpacingsHandler(spacings);
+                OneDimensionalCompactor sweepLineCompactor = new OneDimensionalCompactor(sweepLine)
+                        .setConstraintAlgorithm(OneDimensionalCompactor.SWEEP_LINE_CONSTRAINTS)
+                        .setSpacingsHandler(spacings);
+
+                List<Direction> directions = groups
+                        ? Lists.newArrayList(Direction.LEFT, Direction.RIGHT, Direction.LEFT)
+                        : Lists.newArrayList(Direction.LEFT, Direction.UP, Direction.RIGHT, Direction.DOWN,
+                                Direction.LEFT);
+                for (Direction direction : directions) {
+                    quadraticCompactor.changeDirection(direction);
+                    sweepLineCompactor.changeDirection(direction);
+                    assertConstraintsSubset(quadratic, sweepLine);
+
+                    quadraticCompactor.compact();
+                    sweepLineCompactor.compact();
+                    assertSamePositions(quadratic, sweepLine);
+                }
+            }
+        }
+    }
+
+    /**
+     * On large graphs, the sweep line yields the same positions with fewer constraints.
+     */
+    @Test
+    public void testLargeGraphs() {
+        CGraph quadratic = randomGraph(1, 1000, true);
+        CGraph sweepLine = randomGraph(1, 1000, true);
+
+        new OneDimensionalCompactor(quadratic)
+                .setConstraintAlgorithm(OneDimensionalCompactor.QUADRATIC_CONSTRAINTS)
+                .compact();
+        new OneDimensionalCompactor(sweepLine)
+                .setConstraintAlgorithm(OneDimensionalCompactor.SWEEP_LINE_CONSTRAINTS)
+                .compact();
+        assertSamePositions(quadratic, sweepLine);
+
+        int quadraticConstraints = quadratic.cNodes.stream().mapToInt(n -> n.constraints.size()).sum();
+        int sweepLineConstraints = sweepLine.cNodes.stream().mapToInt(n -> n.constraints.size()).sum();
+        assertTrue(sweepLineConstraints < quadraticConstraints);
+    }
+
+    private static CGraph randomGraph(final int seed, final boolean groups) {
+        return randomGraph(seed, 5 + new Random(seed).nextInt(60), groups);
+    }
+
+    /**
+     * Creates nodes on a coarse grid such that there are many overlaps and equal coordinates. Grouped nodes are
+     * stacked vertically, hence such graphs may only be compacted horizontally.
+     */
+    private static CGraph randomGraph(final int seed, final int nodeCount, final boolean groups) {
+        Random random = new Random(seed);
+        CGraph graph = new CGraph(EnumSet.allOf(Direction.class));
+        int range = (int) Math.sqrt(nodeCount) * 4;
+        List<CNode> nodes = Lists.newArrayList();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(CNode.of()
+                    .hitbox(new ElkRectangle(random.nextInt(range) * 5, random.nextInt(range) * 5,
+                            5 + random.nextInt(4) * 5, 5 + random.nextInt(4) * 5))
+                    .create(graph));
+        }
+        for (int i = 0; i + 1 < nodeCount; i += 2) {
+            if (groups && random.nextInt(5) == 0) {
+                // stacked nodes of equal x coordinates and widths don't cause cyclic constraints between groups
+                nodes.get(i + 1).hitbox.x = nodes.get(i).hitbox.x;
+                nodes.get(i + 1).hitbox.width = nodes.get(i).hitbox.width;
+                CGroup.of().nodes(nodes.get(i), nodes.get(i + 1)).create(graph);
+            }
+        }
+        return graph;
+    }
+
+    private static void assertConstraintsSubset(final CGraph quadratic, final CGraph sweepLine) {
+        for (int i = 0; i < quadratic.cNodes.size(); i++) {
+            for (CNode constrained : sweepLine.cNodes.get(i).constraints) {
+                CNode expected = quadratic.cNodes.get(sweepLine.cNodes.indexOf(constrained));
+                assertTrue(quadratic.cNodes.get(i).constraints.contains(expected));
+            }
+        }
+    }
+
+    private static void assertSamePositions(final CGraph quadratic, final CGraph sweepLine) {
+        for (int i = 0; i < quadratic.cNodes.size(); i++) {
+            assertFalse(Double.isNaN(quadratic.cNodes.get(i).hitbox.x));
+            assertEquals(quadratic.cNodes.get(i).hitbox.x, sweepLine.cNodes.get(i).hitbox.x, EPSILON);
+            assertEquals(quadratic.cNodes.get(i).hitbox.y, sweepLine.cNodes.get(i).hitbox.y, EPSILON);
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2020 Kiel University and others.
+ * Copyright (c) 2015, 2026 Kiel University and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -45,6 +45,59 @@ public class NetworkSimplexTest {
         }
     }
     
+    @Test
+    public void testSearchSize() {
+        for (int i = 0; i < 5; ++i) {
+            long seed = random.nextLong();
+            random.setSeed(seed);
+            NGraph firstNegative = generateRandomGraph();
+            random.setSeed(seed);
+            NGraph searched = generateRandomGraph();
+
+            NetworkSimplex.forGraph(firstNegative).execute(new BasicProgressMonitor());
+            NetworkSimplex.forGraph(searched).withSearchSize(30).execute(new BasicProgressMonitor());
+
+            for (NNode node : searched.nodes) {
+                for (NEdge e : node.getOutgoingEdges()) {
+                    Assert.assertTrue("Valid delta",
+                            e.getTarget().layer - e.getSource().layer >= e.delta);
+                }
+            }
+            // both pivot rules must arrive at an optimal layering, though not necessarily the same one
+            Assert.assertEquals(weightedLength(firstNegative), weightedLength(searched), 1e-6);
+        }
+    }
+
+    @Test
+    public void testLongChain() {
+        // deep spanning trees must not exhaust the stack
+        NGraph graph = new NGraph();
+        final int n = 100000;
+        for (int i = 0; i < n; ++i) {
+            NNode.of().id(i).create(graph);
+        }
+        for (int i = 0; i < n - 1; ++i) {
+            NEdge.of().delta(1).weight(1).source(graph.nodes.get(i)).target(graph.nodes.get(i + 1)).create();
+        }
+        NEdge.of().delta(1).weight(1).source(graph.nodes.get(0)).target(graph.nodes.get(n - 1)).create();
+
+        NetworkSimplex.forGraph(graph).execute(new BasicProgressMonitor());
+
+        for (int i = 0; i < n; ++i) {
+            Assert.assertEquals(i, graph.nodes.get(i).layer);
+        }
+    }
+
+    private static double weightedLength(final NGraph graph) {
+        double length = 0;
+        for (NNode node : graph.nodes) {
+            for (NEdge e : node.getOutgoingEdges()) {
+                length += e.weight * (e.getTarget().layer - e.getSource().layer);
+            }
+        }
+        return length;
+    }
+
     private NGraph generateRandomGraph() {
         NGraph graph = new NGraph();
 
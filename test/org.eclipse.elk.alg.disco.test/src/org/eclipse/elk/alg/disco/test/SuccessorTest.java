@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.disco.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.elk.alg.common.polyomino.ISuccessor;
+import org.eclipse.elk.alg.common.polyomino.SuccessorJitter;
+import org.eclipse.elk.alg.common.polyomino.SuccessorLineByLine;
+import org.eclipse.elk.alg.common.polyomino.SuccessorManhattan;
+import org.eclipse.elk.alg.common.polyomino.SuccessorMaxNormWindingInMathPosSense;
+import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
+import org.junit.Test;
+
+/**
+ * Tests the traversal orders of the successor functions, as documented in their classes.
+ */
+public class SuccessorTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /**
+     * Positions keep negative and large coordinates.
+     */
+    @Test
+    public void testPositions() {
+        int[] coordinates = { 0, 1, -1, 1000, -1000, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        for (int x : coordinates) {
+            for (int y : coordinates) {
+                long position = ISuccessor.position(x, y);
+                assertEquals(x, ISuccessor.x(position));
+                assertEquals(y, ISuccessor.y(position));
+            }
+        }
+    }
+
+    @Test
+    public void testMaxNormWinding() {
+        assertOrder(new SuccessorMaxNormWindingInMathPosSense(),
+                0, 0, -1, 0, -1, -1, 0, -1, 1, -1, 1, 0, 1, 1, 0, 1, -1, 1);
+    }
+
+    @Test
+    public void testLineByLine() {
+        assertOrder(new SuccessorLineByLine(),
+                0, 0, -1, -1, 0, -1, 1, -1, -1, 0, 1, 0, -1, 1, 0, 1, 1, 1);
+    }
+
+    @Test
+    public void testJitter() {
+        assertOrder(new SuccessorJitter(),
+                0, 0, 0, -1, 1, 0, 0, 1, -1, 0, 1, -1, 1, 1, -1, 1, -1, -1);
+    }
+
+    @Test
+    public void testManhattan() {
+        assertOrder(new SuccessorManhattan(),
+                0, 0, 0, -1, 1, 0, 0, 1, -1, 0);
+    }
+
+    /**
+     * Checks that the given successor function enumerates the given coordinates, starting with the first pair.
+     */
+    private static void assertOrder(final ISuccessor successor, final int... coordinates) {
+        Polyomino poly = new Polyomino(1, 1);
+        long position = ISuccessor.position(coordinates[0], coordinates[1]);
+        for (int i = 2; i < coordinates.length; i += 2) {
+            position = successor.next(position, poly);
+            assertEquals(coordinates[i], ISuccessor.x(position));
+            assertEquals(coordinates[i + 1], ISuccessor.y(position));
+        }
+    }
+
+}
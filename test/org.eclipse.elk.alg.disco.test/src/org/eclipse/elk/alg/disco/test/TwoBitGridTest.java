@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Kiel University and others.
+ * Copyright (c) 2017, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,7 +13,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Random;
+
+import org.eclipse.elk.alg.common.polyomino.structures.PlanarGrid;
 import org.eclipse.elk.alg.common.polyomino.structures.TwoBitGrid;
+import org.eclipse.elk.core.util.Quadruple;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -22,6 +26,13 @@ import org.junit.Test;
  * Unit test for TwoBitGrid.
  */
 public class TwoBitGridTest {
+    /** Number of random grids to compare the word based methods of {@link PlanarGrid} with cell based ones on. */
+    private static final int RANDOM_GRIDS = 500;
+    /** Maximum width and height of the random grids, which is no multiple of 32 to test partial words. */
+    private static final int MAX_SIZE = 75;
+    /** Number of random queries per random grid. */
+    private static final int QUERIES = 20;
+
     private TwoBitGrid testGrid;
 
     /**
@@ -161,4 +172,101 @@ public class TwoBitGridTest {
         }
     }
 
+    /**
+     * Compares the word based methods of {@link PlanarGrid} with cell by cell versions on random grids, including
+     * offsets that move a grid partly outside of the other one.
+     */
+    @Test
+    public void planarGridRandomTest() {
+        Random random = new Random(0);
+        for (int i = 0; i < RANDOM_GRIDS; i++) {
+            PlanarGrid grid = randomGrid(random);
+            assertEquals(cellBasedFilledBounds(grid), grid.getFilledBounds());
+
+            for (int j = 0; j < QUERIES; j++) {
+                PlanarGrid other = randomGrid(random);
+                int xRange = grid.getWidth() + other.getWidth();
+                int yRange = grid.getHeight() + other.getHeight();
+                int xOffset = random.nextInt(xRange) - xRange / 2;
+                int yOffset = random.nextInt(yRange) - yRange / 2;
+                assertEquals(cellBasedIntersects(grid, other, xOffset, yOffset),
+                        grid.intersectsWithCenterBased(other, xOffset, yOffset));
+
+                // Areas inside of the grid, which may be empty
+                int xUpperLeft = random.nextInt(grid.getWidth());
+                int yUpperLeft = random.nextInt(grid.getHeight());
+                int xBottomRight = xUpperLeft - 1 + random.nextInt(grid.getWidth() - xUpperLeft + 1);
+                int yBottomRight = yUpperLeft - 1 + random.nextInt(grid.getHeight() - yUpperLeft + 1);
+                assertEquals(cellBasedWeaklyIntersects(grid, xUpperLeft, yUpperLeft, xBottomRight, yBottomRight),
+                        grid.weaklyIntersectsArea(xUpperLeft, yUpperLeft, xBottomRight, yBottomRight));
+            }
+        }
+    }
+
+    /**
+     * Creates a grid of random size whose cells are randomly blocked, weakly blocked or empty, with a random density.
+     */
+    private PlanarGrid randomGrid(final Random random) {
+        PlanarGrid grid = new PlanarGrid(1 + random.nextInt(MAX_SIZE), 1 + random.nextInt(MAX_SIZE));
+        double blocked = random.nextDouble() * random.nextDouble();
+        double weaklyBlocked = random.nextDouble() * random.nextDouble();
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                double value = random.nextDouble();
+                if (value < blocked) {
+                    grid.setBlocked(x, y);
+                } else if (value < blocked + weaklyBlocked) {
+                    grid.setWeaklyBlocked(x, y);
+                }
+            }
+        }
+        return grid;
+    }
+
+    private boolean cellBasedIntersects(final PlanarGrid grid, final PlanarGrid other, final int xOffset,
+            final int yOffset) {
+        for (int x = 0; x < other.getWidth(); x++) {
+            int xTranslated = x - other.getCenterX() + xOffset;
+            for (int y = 0; y < other.getHeight(); y++) {
+                int yTranslated = y - other.getCenterY() + yOffset;
+                if (grid.inBoundsCenterBased(xTranslated, yTranslated)
+                        && (!other.isEmpty(x, y) && grid.isBlockedCenterBased(xTranslated, yTranslated)
+                                || other.isBlocked(x, y) && !grid.isEmptyCenterBased(xTranslated, yTranslated))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean cellBasedWeaklyIntersects(final PlanarGrid grid, final int xUpperLeft, final int yUpperLeft,
+            final int xBottomRight, final int yBottomRight) {
+        for (int y = yUpperLeft; y <= yBottomRight; y++) {
+            for (int x = xUpperLeft; x <= xBottomRight; x++) {
+                if (grid.isBlocked(x, y)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Quadruple<Integer, Integer, Integer, Integer> cellBasedFilledBounds(final PlanarGrid grid) {
+        int minX = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                if (grid.isBlocked(x, y)) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        return new Quadruple<>(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
 }
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.alg.force.ElkGraphImporter;
+import org.eclipse.elk.alg.force.graph.FGraph;
+import org.eclipse.elk.alg.force.model.AbstractForceModel;
+import org.eclipse.elk.alg.force.model.EadesModel;
+import org.eclipse.elk.alg.force.model.FruchtermanReingoldModel;
+import org.eclipse.elk.alg.force.options.ForceMetaDataProvider;
+import org.eclipse.elk.alg.force.options.ForceModelStrategy;
+import org.eclipse.elk.alg.force.options.ForceOptions;
+import org.eclipse.elk.alg.force.options.InternalProperties;
+import org.eclipse.elk.alg.force.options.RepulsionApproximation;
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions.RandVal;
+import org.eclipse.elk.core.debug.grandom.generators.RandomGraphGenerator;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the exact computation of repulsive forces with the Barnes-Hut approximation for both force models. Each
+ * invocation runs a fixed number of iterations of the force model on a freshly imported random graph. Comparing the
+ * two approximation settings for increasing numbers of nodes shows from which graph size on the approximation pays off.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RepulsionBenchmark {
+
+    /** Number of iterations run by the force models. */
+    private static final int ITERATIONS = 20;
+
+    /** Number of nodes of the generated graph. */
+    @Param({ "100", "250", "500", "1000", "2000", "4000", "8000" })
+    private int nodes;
+
+    /** The force model to run. */
+    @Param({ "EADES", "FRUCHTERMAN_REINGOLD" })
+    private ForceModelStrategy model;
+
+    /** How repulsive forces are computed. */
+    @Param({ "EXACT", "BARNES_HUT" })
+    private RepulsionApproximation approximation;
+
+    /** Seed used to generate the graph. */
+    @Param({ "42" })
+    private long seed;
+
+    /** The generated graph, which is the same for all invocations. */
+    private ElkNode graph;
+    /** The imported graph of the current invocation. */
+    private FGraph fgraph;
+
+    /**
+     * Generates the graph to be laid out.
+     */
+    @Setup(Level.Trial)
+    public void generateGraph() {
+        LayoutMetaDataService.getInstance().registerLayoutMetaDataProviders(new ForceMetaDataProvider());
+
+        GeneratorOptions options = new GeneratorOptions();
+        options.setProperty(GeneratorOptions.NUMBER_OF_NODES, RandVal.exact(nodes));
+        options.setProperty(GeneratorOptions.EDGES_ABSOLUTE, RandVal.exact(nodes * 3 / 2));
+        options.setProperty(GeneratorOptions.TIME_BASED_RANDOMIZATION, false);
+        options.setProperty(GeneratorOptions.RANDOMIZATION_SEED, (int) seed);
+
+        graph = new RandomGraphGenerator(new Random(seed)).generate(options);
+        graph.setProperty(ForceOptions.ITERATIONS, ITERATIONS);
+        graph.setProperty(ForceOptions.REPULSION_APPROXIMATION, approximation);
+    }
+
+    /**
+     * Imports a fresh copy of the graph.
+     */
+    @Setup(Level.Invocation)
+    public void importGraph() {
+        fgraph = new ElkGraphImporter().importGraph(graph);
+        fgraph.setProperty(InternalProperties.RANDOM, new Random(seed));
+    }
+
+    /**
+     * Runs the force model.
+     */
+    @Benchmark
+    public FGraph runForceModel() {
+        AbstractForceModel forceModel = model == ForceModelStrategy.EADES
+                ? new EadesModel()
+                : new FruchtermanReingoldModel();
+        forceModel.layout(fgraph, new BasicProgressMonitor());
+        return fgraph;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.force.ForceLayoutProvider;
+import org.eclipse.elk.alg.force.options.ForceModelStrategy;
+import org.eclipse.elk.alg.force.options.ForceOptions;
+import org.eclipse.elk.alg.force.options.RepulsionApproximation;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the Barnes-Hut approximation of repulsive forces.
+ */
+public class BarnesHutTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /**
+     * Tolerance relative to the coordinates, since the tree sums up the forces in a different order than the exact
+     * computation. The differences observed are in the order of 1e-13.
+     */
+    private static final double RELATIVE_TOLERANCE = 1e-9;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * With a theta of zero, no cells are approximated and the result must match the exact computation up to rounding
+     * errors.
+     */
+    @Test
+    public void testZeroThetaIsExact() {
+        for (ForceModelStrategy model : ForceModelStrategy.values()) {
+            ElkNode exact = createGraph(60, model);
+            layout(exact);
+
+            ElkNode approximated = createGraph(60, model);
+            approximated.setProperty(ForceOptions.REPULSION_APPROXIMATION, RepulsionApproximation.BARNES_HUT);
+            approximated.setProperty(ForceOptions.BARNES_HUT_THETA, 0.0);
+            layout(approximated);
+
+            for (int i = 0; i < exact.getChildren().size(); i++) {
+                ElkNode expected = exact.getChildren().get(i);
+                ElkNode actual = approximated.getChildren().get(i);
+                assertEqualsRelative(model.toString(), expected.getX(), actual.getX());
+                assertEqualsRelative(model.toString(), expected.getY(), actual.getY());
+            }
+        }
+    }
+
+    /**
+     * The approximation must yield a proper layout on larger graphs as well.
+     */
+    @Test
+    public void testApproximation() {
+        for (ForceModelStrategy model : ForceModelStrategy.values()) {
+            ElkNode graph = createGraph(500, model);
+            graph.setProperty(ForceOptions.REPULSION_APPROXIMATION, RepulsionApproximation.BARNES_HUT);
+            layout(graph);
+
+            for (ElkNode node : graph.getChildren()) {
+                assertTrue(Double.isFinite(node.getX()) && Double.isFinite(node.getY()));
+            }
+            assertTrue(graph.getWidth() > 0 && graph.getHeight() > 0);
+        }
+    }
+
+    private static void assertEqualsRelative(final String message, final double expected, final double actual) {
+        assertEquals(message, expected, actual, RELATIVE_TOLERANCE * Math.max(Math.abs(expected), 1));
+    }
+
+    private static void layout(final ElkNode graph) {
+        new ForceLayoutProvider().layout(graph, new BasicProgressMonitor());
+    }
+
+    /**
+     * Creates a connected random graph with the given number of nodes.
+     */
+    private static ElkNode createGraph(final int nodeCount, final ForceModelStrategy model) {
+        Random random = new Random(nodeCount);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(ForceOptions.MODEL, model);
+        graph.setProperty(ForceOptions.ITERATIONS, 20);
+
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            if (i > 0) {
+                ElkNode other = graph.getChildren().get(random.nextInt(i));
+                ElkEdge edge = ElkGraphUtil.createSimpleEdge(other, node);
+                if (i % 10 == 0) {
+                    // some edges are repulsive themselves
+                    edge.setProperty(ForceOptions.REPULSIVE_POWER, 2);
+                }
+            }
+        }
+        return graph;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.elk.alg.force.graph.FEdge;
+import org.eclipse.elk.alg.force.graph.FGraph;
+import org.eclipse.elk.alg.force.graph.FNode;
+import org.eclipse.elk.alg.force.options.ForceOptions;
+import org.junit.Test;
+
+/**
+ * Tests the connections between the nodes of a force graph.
+ */
+public class FGraphTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /**
+     * The connection of two nodes sums up the priorities of the edges between them in either direction.
+     */
+    @Test
+    public void testConnections() {
+        FGraph graph = new FGraph();
+        FNode[] nodes = new FNode[4];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new FNode();
+            nodes[i].id = i;
+            graph.getNodes().add(nodes[i]);
+        }
+        addEdge(graph, nodes[0], nodes[1], 1);
+        addEdge(graph, nodes[1], nodes[0], 2);
+        addEdge(graph, nodes[0], nodes[1], 4);
+        addEdge(graph, nodes[3], nodes[1], 8);
+        addEdge(graph, nodes[2], nodes[2], 16);
+        graph.calcAdjacency();
+
+        assertEquals(7, graph.getConnection(nodes[0], nodes[1]));
+        assertEquals(7, graph.getConnection(nodes[1], nodes[0]));
+        assertEquals(8, graph.getConnection(nodes[1], nodes[3]));
+        assertEquals(8, graph.getConnection(nodes[3], nodes[1]));
+        assertEquals(0, graph.getConnection(nodes[0], nodes[3]));
+        assertEquals(0, graph.getConnection(nodes[0], nodes[2]));
+        // a self loop connects its node in both directions
+        assertEquals(32, graph.getConnection(nodes[2], nodes[2]));
+    }
+
+    private static void addEdge(final FGraph graph, final FNode source, final FNode target, final int priority) {
+        FEdge edge = new FEdge();
+        edge.setSource(source);
+        edge.setTarget(target);
+        edge.setProperty(ForceOptions.PRIORITY, priority);
+        graph.getEdges().add(edge);
+    }
+
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressLayoutProvider;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the sparse stress model.
+ */
+public class SparseStressTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Edges should roughly have their desired length.
+     */
+    @Test
+    public void testEdgeLengths() {
+        ElkNode graph = createGraph(1000);
+        layout(graph);
+
+        double sum = 0;
+        for (ElkEdge edge : graph.getContainedEdges()) {
+            sum += distance(ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0)),
+                    ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0)));
+        }
+        double average = sum / graph.getContainedEdges().size();
+        assertTrue("average edge length " + average, average > 50 && average < 200);
+    }
+
+    /**
+     * The result must not depend on the number of threads.
+     */
+    @Test
+    public void testDeterminism() throws Exception {
+        ElkNode singleThreaded = createGraph(600);
+        ElkNode multiThreaded = createGraph(600);
+
+        ForkJoinPool singlePool = new ForkJoinPool(1);
+        ForkJoinPool multiPool = new ForkJoinPool(4);
+        try {
+            singlePool.submit(() -> layout(singleThreaded)).get();
+            multiPool.submit(() -> layout(multiThreaded)).get();
+        } finally {
+            singlePool.shutdown();
+            multiPool.shutdown();
+        }
+
+        for (int i = 0; i < singleThreaded.getChildren().size(); i++) {
+            ElkNode expected = singleThreaded.getChildren().get(i);
+            ElkNode actual = multiThreaded.getChildren().get(i);
+            assertEquals(expected.getX(), actual.getX(), 0);
+            assertEquals(expected.getY(), actual.getY(), 0);
+        }
+    }
+
+    /**
+     * Fixed nodes must keep their positions relative to each other.
+     */
+    @Test
+    public void testFixedNodes() {
+        ElkNode graph = createGraph(300);
+        graph.setProperty(StressOptions.INTERACTIVE, true);
+        Random random = new Random(0);
+        for (ElkNode node : graph.getChildren()) {
+            node.setLocation(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        ElkNode first = graph.getChildren().get(0);
+        ElkNode second = graph.getChildren().get(1);
+        first.setProperty(StressOptions.FIXED, true);
+        second.setProperty(StressOptions.FIXED, true);
+        double dx = second.getX() - first.getX();
+        double dy = second.getY() - first.getY();
+
+        layout(graph);
+
+        assertEquals(dx, second.getX() - first.getX(), 1e-6);
+        assertEquals(dy, second.getY() - first.getY(), 1e-6);
+    }
+
+    private static void layout(final ElkNode graph) {
+        new StressLayoutProvider().layout(graph, new BasicProgressMonitor());
+    }
+
+    private static double distance(final ElkNode n1, final ElkNode n2) {
+        double dx = n1.getX() + n1.getWidth() / 2 - n2.getX() - n2.getWidth() / 2;
+        double dy = n1.getY() + n1.getHeight() / 2 - n2.getY() - n2.getHeight() / 2;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Creates a connected random graph with the given number of nodes and some cycles.
+     */
+    private static ElkNode createGraph(final int nodeCount) {
+        Random random = new Random(nodeCount);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(StressOptions.SPARSE, true);
+        graph.setProperty(StressOptions.PIVOTS, 30);
+
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            if (i > 0) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(i)), node);
+            }
+            if (i > 10 && i % 5 == 0) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(i - 1 - random.nextInt(10)), node);
+            }
+        }
+        return graph;
+    }
+
+}
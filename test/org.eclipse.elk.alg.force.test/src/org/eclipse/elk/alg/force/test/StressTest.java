@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressLayoutProvider;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the dense stress model on graphs large enough for the positions to be computed in parallel if all nodes are
+ * moved at once.
+ */
+public class StressTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * By default, nodes are moved one after another, as they were before simultaneous moves were introduced. The
+     * expected positions have been recorded with that earlier implementation.
+     */
+    @Test
+    public void testDefaultIsSequential() {
+        ElkNode graph = createGraph(300);
+        layout(graph);
+
+        assertPosition(771.5410543670205, 859.3777948589723, graph.getChildren().get(0));
+        assertPosition(856.8015398910593, 817.3332779060875, graph.getChildren().get(1));
+        assertPosition(1116.4240845327622, 658.7931374233322, graph.getChildren().get(150));
+        assertPosition(1133.3210888718395, 351.0404996724883, graph.getChildren().get(299));
+    }
+
+    /**
+     * Edges should roughly have their desired length.
+     */
+    @Test
+    public void testEdgeLengths() {
+        ElkNode graph = createGraph(300);
+        graph.setProperty(StressOptions.SIMULTANEOUS_UPDATE, true);
+        layout(graph);
+
+        double sum = 0;
+        for (ElkEdge edge : graph.getContainedEdges()) {
+            ElkNode source = ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0));
+            ElkNode target = ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0));
+            sum += Math.hypot(source.getX() - target.getX(), source.getY() - target.getY());
+        }
+        double average = sum / graph.getContainedEdges().size();
+        assertTrue("average edge length " + average, average > 50 && average < 200);
+    }
+
+    /**
+     * The result must not depend on the number of threads.
+     */
+    @Test
+    public void testDeterminism() throws Exception {
+        ElkNode singleThreaded = createGraph(300);
+        singleThreaded.setProperty(StressOptions.SIMULTANEOUS_UPDATE, true);
+        ElkNode multiThreaded = createGraph(300);
+        multiThreaded.setProperty(StressOptions.SIMULTANEOUS_UPDATE, true);
+
+        ForkJoinPool singlePool = new ForkJoinPool(1);
+        ForkJoinPool multiPool = new ForkJoinPool(4);
+        try {
+            singlePool.submit(() -> layout(singleThreaded)).get();
+            multiPool.submit(() -> layout(multiThreaded)).get();
+        } finally {
+            singlePool.shutdown();
+            multiPool.shutdown();
+        }
+
+        for (int i = 0; i < singleThreaded.getChildren().size(); i++) {
+            ElkNode expected = singleThreaded.getChildren().get(i);
+            ElkNode actual = multiThreaded.getChildren().get(i);
+            assertEquals(expected.getX(), actual.getX(), 0);
+            assertEquals(expected.getY(), actual.getY(), 0);
+        }
+    }
+
+    private static void assertPosition(final double x, final double y, final ElkNode node) {
+        assertEquals(x, node.getX(), 1e-9);
+        assertEquals(y, node.getY(), 1e-9);
+    }
+
+    private static void layout(final ElkNode graph) {
+        new StressLayoutProvider().layout(graph, new BasicProgressMonitor());
+    }
+
+    /**
+     * Creates a connected random graph with the given number of nodes and some cycles.
+     */
+    private static ElkNode createGraph(final int nodeCount) {
+        Random random = new Random(nodeCount);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(StressOptions.SPARSE, false);
+
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            if (i > 0) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(i)), node);
+            }
+            if (i > 10 && i % 5 == 0) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(i - 1 - random.nextInt(10)), node);
+            }
+        }
+        return graph;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.alg.layered.ElkLayered;
+import org.eclipse.elk.alg.layered.ElkLayered.TestExecutionState;
+import org.eclipse.elk.alg.layered.LayeredPhases;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.transform.ElkGraphTransformer;
+import org.eclipse.elk.alg.layered.options.LayeredMetaDataProvider;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.alg.ILayoutPhaseFactory;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions.RandVal;
+import org.eclipse.elk.core.debug.grandom.generators.RandomGraphGenerator;
+import org.eclipse.elk.graph.ElkNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class for benchmarks that time a single layout processor of ELK Layered. Before each invocation, a random graph
+ * is imported and the algorithm is run up to the processor under test, which is then the only thing being measured.
+ *
+ * <p>
+ * Graphs are generated with the GRandom {@link RandomGraphGenerator} using a fixed seed, so every run benchmarks the
+ * same graphs. Each graph has one and a half times as many edges as it has nodes.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public abstract class AbstractPhaseBenchmark {
+
+    /** Number of nodes of the generated graph. */
+    @Param({ "100", "1000", "10000", "100000" })
+    private int nodes;
+
+    /** Seed used to generate the graph. */
+    @Param({ "42" })
+    private long seed;
+
+    /** The generated graph, which is the same for all invocations. */
+    private ElkNode graph;
+    /** The layout algorithm, which holds the state of the current invocation. */
+    private ElkLayered elkLayered;
+    /** The state of the current invocation. */
+    private TestExecutionState state;
+
+    /**
+     * Generates the graph to be laid out.
+     */
+    @Setup(Level.Trial)
+    public void generateGraph() {
+        LayoutMetaDataService.getInstance().registerLayoutMetaDataProviders(new LayeredMetaDataProvider());
+
+        GeneratorOptions options = new GeneratorOptions();
+        options.setProperty(GeneratorOptions.NUMBER_OF_NODES, RandVal.exact(nodes));
+        options.setProperty(GeneratorOptions.EDGES_ABSOLUTE, RandVal.exact(nodes * 3 / 2));
+        options.setProperty(GeneratorOptions.TIME_BASED_RANDOMIZATION, false);
+        options.setProperty(GeneratorOptions.RANDOMIZATION_SEED, (int) seed);
+
+        graph = new RandomGraphGenerator(new Random(seed)).generate(options);
+        graph.setProperty(LayeredOptions.SEPARATE_CONNECTED_COMPONENTS, false);
+        configure(graph);
+    }
+
+    /**
+     * Runs the layout algorithm up to the processor under test on a fresh copy of the graph.
+     */
+    @Setup(Level.Invocation)
+    public void runUpToProcessor() {
+        LGraph lgraph = new ElkGraphTransformer().importGraph(graph);
+        elkLayered = new ElkLayered();
+        state = elkLayered.prepareLayoutTest(lgraph);
+        elkLayered.runLayoutTestUntil(processorUnderTest(), false, state);
+    }
+
+    /**
+     * Runs the processor under test.
+     */
+    @Benchmark
+    public void runProcessor() {
+        elkLayered.runLayoutTestStep(state);
+    }
+
+    /**
+     * Configures the layout options of the generated graph such that the processor under test is used.
+     * 
+     * @param elkGraph
+     *            the generated graph
+     */
+    protected abstract void configure(ElkNode elkGraph);
+
+    /**
+     * Returns the class of the processor to be benchmarked.
+     * 
+     * @return the processor under test
+     */
+    protected abstract Class<? extends ILayoutProcessor<LGraph>> processorUnderTest();
+
+    /**
+     * Returns the class of the processor created by the given factory.
+     * 
+     * @param factory
+     *            a layout phase factory, usually a strategy enumeration
+     * @return the class of the processor the factory creates
+     */
+    @SuppressWarnings("unchecked")
+    protected static Class<? extends ILayoutProcessor<LGraph>> processorClassOf(
+            final ILayoutPhaseFactory<LayeredPhases, LGraph> factory) {
+
+        return (Class<? extends ILayoutProcessor<LGraph>>) factory.create().getClass();
+    }
+
+}
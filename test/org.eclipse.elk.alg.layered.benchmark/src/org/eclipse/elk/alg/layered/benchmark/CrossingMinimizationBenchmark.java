@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.CrossingMinimizationStrategy;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.p3order.LayerSweepCrossingMinimizer;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.graph.ElkNode;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the {@link LayerSweepCrossingMinimizer}.
+ */
+public class CrossingMinimizationBenchmark extends AbstractPhaseBenchmark {
+
+    /** The number of randomized restarts. */
+    @Param({ "7", "30" })
+    private int thoroughness;
+
+    @Override
+    protected void configure(final ElkNode elkGraph) {
+        elkGraph.setProperty(LayeredOptions.CROSSING_MINIMIZATION_STRATEGY, CrossingMinimizationStrategy.LAYER_SWEEP);
+        elkGraph.setProperty(LayeredOptions.THOROUGHNESS, thoroughness);
+    }
+
+    @Override
+    protected Class<? extends ILayoutProcessor<LGraph>> processorUnderTest() {
+        return LayerSweepCrossingMinimizer.class;
+    }
+
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.CycleBreakingStrategy;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.graph.ElkNode;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the cycle breakers.
+ */
+public class CycleBreakingBenchmark extends AbstractPhaseBenchmark {
+
+    /** The strategy to benchmark. */
+    @Param({ "GREEDY", "DEPTH_FIRST", "MODEL_ORDER", "GREEDY_MODEL_ORDER" })
+    private CycleBreakingStrategy strategy;
+
+    @Override
+    protected void configure(final ElkNode elkGraph) {
+        elkGraph.setProperty(LayeredOptions.CYCLE_BREAKING_STRATEGY, strategy);
+    }
+
+    @Override
+    protected Class<? extends ILayoutProcessor<LGraph>> processorUnderTest() {
+        return processorClassOf(strategy);
+    }
+
+}
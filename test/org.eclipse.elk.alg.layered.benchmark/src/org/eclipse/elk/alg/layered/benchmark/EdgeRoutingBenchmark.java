@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.p5edges.OrthogonalEdgeRouter;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.options.EdgeRouting;
+import org.eclipse.elk.graph.ElkNode;
+
+/**
+ * Benchmarks the {@link OrthogonalEdgeRouter}.
+ */
+public class EdgeRoutingBenchmark extends AbstractPhaseBenchmark {
+
+    @Override
+    protected void configure(final ElkNode elkGraph) {
+        elkGraph.setProperty(LayeredOptions.EDGE_ROUTING, EdgeRouting.ORTHOGONAL);
+    }
+
+    @Override
+    protected Class<? extends ILayoutProcessor<LGraph>> processorUnderTest() {
+        return OrthogonalEdgeRouter.class;
+    }
+
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.CrossingMinimizationStrategy;
+import org.eclipse.elk.alg.layered.options.GreedySwitchType;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.p3order.LayerSweepCrossingMinimizer;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.graph.ElkNode;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the greedy switch heuristic, which runs as a {@link LayerSweepCrossingMinimizer} after the node ordering
+ * phase. The node ordering phase itself is disabled such that the heuristic starts from the order of the input graph.
+ */
+public class GreedySwitchBenchmark extends AbstractPhaseBenchmark {
+
+    /** The variant of the heuristic. */
+    @Param({ "ONE_SIDED", "TWO_SIDED" })
+    private GreedySwitchType type;
+
+    @Override
+    protected void configure(final ElkNode elkGraph) {
+        elkGraph.setProperty(LayeredOptions.CROSSING_MINIMIZATION_STRATEGY, CrossingMinimizationStrategy.NONE);
+        elkGraph.setProperty(LayeredOptions.CROSSING_MINIMIZATION_GREEDY_SWITCH_TYPE, type);
+        elkGraph.setProperty(LayeredOptions.CROSSING_MINIMIZATION_GREEDY_SWITCH_ACTIVATION_THRESHOLD, 0);
+    }
+
+    @Override
+    protected Class<? extends ILayoutProcessor<LGraph>> processorUnderTest() {
+        return LayerSweepCrossingMinimizer.class;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the layered benchmarks with the GC profiler enabled, which reports allocation rates next to the timings.
+ * Accepts the usual JMH command line arguments, for example a regular expression to select benchmarks.
+ */
+public final class LayeredBenchmarks {
+
+    private LayeredBenchmarks() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     * 
+     * @param args
+     *            JMH command line arguments
+     * @throws RunnerException
+     *             if running the benchmarks fails
+     * @throws CommandLineOptionException
+     *             if the command line arguments are invalid
+     */
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(LayeredBenchmarks.class.getPackage().getName() + ".*");
+        }
+        Options options = builder.addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+
+}
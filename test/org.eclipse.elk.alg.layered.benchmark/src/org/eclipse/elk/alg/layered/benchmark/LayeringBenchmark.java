@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.LayeringStrategy;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.graph.ElkNode;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the layerers.
+ */
+public class LayeringBenchmark extends AbstractPhaseBenchmark {
+
+    /** The strategy to benchmark. */
+    @Param({ "NETWORK_SIMPLEX", "LONGEST_PATH", "LONGEST_PATH_SOURCE", "COFFMAN_GRAHAM", "STRETCH_WIDTH", "MIN_WIDTH",
+            "BF_MODEL_ORDER", "DF_MODEL_ORDER" })
+    private LayeringStrategy strategy;
+
+    @Override
+    protected void configure(final ElkNode elkGraph) {
+        elkGraph.setProperty(LayeredOptions.LAYERING_STRATEGY, strategy);
+    }
+
+    @Override
+    protected Class<? extends ILayoutProcessor<LGraph>> processorUnderTest() {
+        return processorClassOf(strategy);
+    }
+
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.NodePlacementStrategy;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.graph.ElkNode;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the {@link org.eclipse.elk.alg.layered.p4nodes.bk.BKNodePlacer} and the
+ * {@link org.eclipse.elk.alg.layered.p4nodes.NetworkSimplexPlacer}.
+ */
+public class NodePlacementBenchmark extends AbstractPhaseBenchmark {
+
+    /** The strategy to benchmark. */
+    @Param({ "BRANDES_KOEPF", "NETWORK_SIMPLEX" })
+    private NodePlacementStrategy strategy;
+    
+    /** Whether the BK node placer computes its alignments in parallel. */
+    @Param({ "false", "true" })
+    private boolean parallelAlignments;
+
+    @Override
+    protected void configure(final ElkNode elkGraph) {
+        elkGraph.setProperty(LayeredOptions.NODE_PLACEMENT_STRATEGY, strategy);
+        elkGraph.setProperty(LayeredOptions.NODE_PLACEMENT_BK_PARALLEL_ALIGNMENTS, parallelAlignments);
+    }
+
+    @Override
+    protected Class<? extends ILayoutProcessor<LGraph>> processorUnderTest() {
+        return processorClassOf(strategy);
+    }
+
+}
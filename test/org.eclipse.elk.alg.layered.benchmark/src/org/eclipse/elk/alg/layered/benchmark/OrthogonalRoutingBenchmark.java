@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LPort;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.p5edges.orthogonal.OrthogonalRoutingGenerator;
+import org.eclipse.elk.alg.layered.p5edges.orthogonal.direction.RoutingDirection;
+import org.eclipse.elk.core.options.PortSide;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link OrthogonalRoutingGenerator} on the gap between two wide layers, as found in bus-like diagrams
+ * where many long edges run in parallel. Each node of the left layer is connected to one node of the right layer. The
+ * order of the right layer's nodes is that of the left layer's nodes with each node moved up or down by a random number
+ * of positions, so every edge needs a hyperedge segment of its own.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OrthogonalRoutingBenchmark {
+
+    /** Vertical distance between the nodes of a layer. */
+    private static final double NODE_DISTANCE = 20;
+    /** Spacing between edges. */
+    private static final double EDGE_SPACING = 10;
+
+    /** Number of edges, and thus of hyperedge segments, between the two layers. */
+    @Param({ "1000", "5000" })
+    private int segments;
+
+    /** Maximum number of positions an edge's target is moved up or down relative to its source. */
+    @Param({ "10", "1000" })
+    private int span;
+
+    /** Seed used to generate the graph. */
+    @Param({ "42" })
+    private long seed;
+
+    /** The graph, which is rebuilt before each invocation since routing adds bend points to its edges. */
+    private LGraph graph;
+
+    /**
+     * Creates the two layers and the edges between them.
+     */
+    @Setup(Level.Invocation)
+    public void createGraph() {
+        Random random = new Random(seed);
+        graph = new LGraph();
+        graph.setProperty(InternalProperties.RANDOM, random);
+        Layer leftLayer = new Layer(graph);
+        Layer rightLayer = new Layer(graph);
+        graph.getLayers().add(leftLayer);
+        graph.getLayers().add(rightLayer);
+
+        // move each target by a random offset and number the targets in the resulting order
+        Integer[] targetOrder = new Integer[segments];
+        double[] targetKey = new double[segments];
+        for (int i = 0; i < segments; i++) {
+            targetOrder[i] = i;
+            targetKey[i] = i + random.nextInt(2 * span + 1) - span + random.nextDouble();
+        }
+        Arrays.sort(targetOrder, (i1, i2) -> Double.compare(targetKey[i1], targetKey[i2]));
+        int[] targetPosition = new int[segments];
+        for (int position = 0; position < segments; position++) {
+            targetPosition[targetOrder[position]] = position;
+        }
+
+        for (int i = 0; i < segments; i++) {
+            LPort source = createNodeWithPort(leftLayer, i * NODE_DISTANCE, PortSide.EAST);
+            LPort target = createNodeWithPort(rightLayer, targetPosition[i] * NODE_DISTANCE, PortSide.WEST);
+
+            LEdge edge = new LEdge();
+            edge.setSource(source);
+            edge.setTarget(target);
+        }
+    }
+
+    private LPort createNodeWithPort(final Layer layer, final double y, final PortSide side) {
+        LNode node = new LNode(graph);
+        node.getSize().x = NODE_DISTANCE / 2;
+        node.getSize().y = NODE_DISTANCE / 2;
+        node.getPosition().y = y;
+        node.setLayer(layer);
+
+        LPort port = new LPort();
+        port.setSide(side);
+        port.getPosition().y = NODE_DISTANCE / 4;
+        port.setNode(node);
+        return port;
+    }
+
+    /**
+     * Routes the edges between the two layers.
+     */
+    @Benchmark
+    public int routeEdges() {
+        OrthogonalRoutingGenerator routingGenerator =
+                new OrthogonalRoutingGenerator(RoutingDirection.WEST_TO_EAST, EDGE_SPACING, null);
+        return routingGenerator.routeEdges(new BasicProgressMonitor(), graph, graph.getLayers().get(0), 0,
+                graph.getLayers().get(1), 0);
+    }
+
+}
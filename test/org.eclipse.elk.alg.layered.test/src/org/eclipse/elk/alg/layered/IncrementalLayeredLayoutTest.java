@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.p2layers.IncrementalLayerer;
+import org.eclipse.elk.alg.layered.p3order.LayerSweepCrossingMinimizer;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that incremental layouts follow the previous layout.
+ */
+public class IncrementalLayeredLayoutTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Laying out an unchanged graph again must not change layers and orders, and must skip the layer sweeps.
+     */
+    @Test
+    public void testUnchangedGraph() {
+        ElkNode graph = createGraph(200);
+        IncrementalLayeredLayout incremental = new IncrementalLayeredLayout();
+        List<Class<?>> processors = new ArrayList<>();
+        graph.setProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER,
+                (processorClass, lgraph, nodeCount, wallTime, cpuTime, allocated) -> processors.add(processorClass));
+
+        assertFalse(incremental.hasCachedLayout(graph));
+        incremental.layout(graph, new BasicProgressMonitor());
+        assertTrue(incremental.hasCachedLayout(graph));
+        assertTrue(processors.contains(LayerSweepCrossingMinimizer.class));
+        Map<ElkNode, List<Integer>> previous = layersAndPositions(graph);
+
+        processors.clear();
+        incremental.layout(graph, new BasicProgressMonitor());
+        assertTrue(processors.contains(IncrementalLayerer.class));
+        assertFalse(processors.contains(LayerSweepCrossingMinimizer.class));
+        assertEquals(previous, layersAndPositions(graph));
+
+        // without the cache, layout starts from scratch again
+        incremental.invalidate(graph);
+        processors.clear();
+        incremental.layout(graph, new BasicProgressMonitor());
+        assertTrue(processors.contains(LayerSweepCrossingMinimizer.class));
+    }
+
+    /**
+     * Added nodes are placed next to their neighbors while all other nodes keep their layers and order.
+     */
+    @Test
+    public void testAddedNode() {
+        ElkNode graph = createGraph(200);
+        IncrementalLayeredLayout incremental = new IncrementalLayeredLayout();
+        incremental.layout(graph, new BasicProgressMonitor());
+        Map<ElkNode, List<Integer>> previous = layersAndPositions(graph);
+
+        ElkNode source = graph.getChildren().get(42);
+        ElkNode node = ElkGraphUtil.createNode(graph);
+        node.setDimensions(20, 20);
+        ElkEdge edge = ElkGraphUtil.createSimpleEdge(source, node);
+        incremental.layout(graph, new LayoutChangeSet().nodeAdded(node).edgeAdded(edge), new BasicProgressMonitor());
+
+        assertEquals(source.getProperty(LayeredOptions.LAYERING_LAYER_ID) + 1,
+                (int) node.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+        for (ElkNode n : previous.keySet()) {
+            assertEquals(previous.get(n).get(0), n.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+        }
+        assertRelativeOrderKept(previous, source);
+    }
+
+    /**
+     * Edges closing a cycle are reversed instead of changing the direction of existing edges.
+     */
+    @Test
+    public void testAddedCycle() {
+        ElkNode graph = createGraph(200);
+        IncrementalLayeredLayout incremental = new IncrementalLayeredLayout();
+        incremental.layout(graph, new BasicProgressMonitor());
+        Map<ElkNode, List<Integer>> previous = layersAndPositions(graph);
+
+        // connect a node of the last layer to a node of the first one
+        ElkNode first = null;
+        ElkNode last = null;
+        for (ElkNode n : graph.getChildren()) {
+            if (first == null || previous.get(n).get(0) < previous.get(first).get(0)) {
+                first = n;
+            }
+            if (last == null || previous.get(n).get(0) > previous.get(last).get(0)) {
+                last = n;
+            }
+        }
+        ElkEdge edge = ElkGraphUtil.createSimpleEdge(last, first);
+        incremental.layout(graph, new LayoutChangeSet().edgeAdded(edge), new BasicProgressMonitor());
+
+        for (ElkNode n : previous.keySet()) {
+            assertEquals(previous.get(n).get(0), n.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+        }
+        assertTrue(first.getX() < last.getX());
+    }
+
+    /**
+     * The layers and positions of the previous layout are not stored on the nodes unless requested.
+     */
+    @Test
+    public void testNoIdsOnInputGraph() {
+        ElkNode graph = createGraph(20);
+        graph.setProperty(LayeredOptions.GENERATE_POSITION_AND_LAYER_IDS, false);
+        IncrementalLayeredLayout incremental = new IncrementalLayeredLayout();
+        incremental.layout(graph, new BasicProgressMonitor());
+        incremental.layout(graph, new BasicProgressMonitor());
+
+        assertTrue(incremental.hasCachedLayout(graph));
+        for (ElkNode n : graph.getChildren()) {
+            assertEquals(-1, (int) n.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+            assertEquals(-1, (int) n.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID));
+        }
+    }
+
+    /**
+     * Asserts that the nodes of each layer are still ordered as before, except for the given node.
+     */
+    private static void assertRelativeOrderKept(final Map<ElkNode, List<Integer>> previous, final ElkNode except) {
+        for (ElkNode n1 : previous.keySet()) {
+            for (ElkNode n2 : previous.keySet()) {
+                if (n1 != except && n2 != except && previous.get(n1).get(0).equals(previous.get(n2).get(0))
+                        && previous.get(n1).get(1) < previous.get(n2).get(1)) {
+                    assertTrue(n1.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID)
+                            < n2.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID));
+                }
+            }
+        }
+    }
+
+    private static Map<ElkNode, List<Integer>> layersAndPositions(final ElkNode graph) {
+        Map<ElkNode, List<Integer>> result = new HashMap<>();
+        for (ElkNode node : graph.getChildren()) {
+            List<Integer> ids = new ArrayList<>();
+            ids.add(node.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+            ids.add(node.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID));
+            result.put(node, ids);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a connected random graph with the given number of nodes and a few cycles. Layers and positions are
+     * requested to be stored on the nodes.
+     */
+    private static ElkNode createGraph(final int nodeCount) {
+        Random random = new Random(nodeCount);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(LayeredOptions.GENERATE_POSITION_AND_LAYER_IDS, true);
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            if (i > 0) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(i)), node);
+            }
+            if (i > 10 && i % 10 == 0) {
+                ElkGraphUtil.createSimpleEdge(node, graph.getChildren().get(random.nextInt(i)));
+            }
+        }
+        return graph;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.p3order.LayerSweepCrossingMinimizer;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that processor execution listeners are notified of every layout processor execution.
+ */
+public class ProcessorExecutionListenerTest {
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testListenerSeesEveryProcessor() {
+        List<Class<?>> measuredProcessors = new ArrayList<>();
+        List<Integer> nodeCounts = new ArrayList<>();
+        IProcessorExecutionListener listener = (processorClass, graph, nodeCount, wallTime, cpuTime, allocated) -> {
+            measuredProcessors.add(processorClass);
+            nodeCounts.add(nodeCount);
+            assertTrue(wallTime >= 0);
+            assertTrue(cpuTime >= -1);
+            assertTrue(allocated >= -1);
+        };
+        ElkNode graph = createGraph(ElkGraphUtil.createGraph());
+        graph.setProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER, listener);
+        new RecursiveGraphLayoutEngine().layout(graph, new BasicProgressMonitor());
+
+        assertTrue(measuredProcessors.contains(LayerSweepCrossingMinimizer.class));
+        assertTrue(nodeCounts.stream().allMatch(count -> count >= 10));
+
+        // Without a listener, nothing is reported anymore
+        int executions = measuredProcessors.size();
+        graph.setProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER, null);
+        new RecursiveGraphLayoutEngine().layout(graph, new BasicProgressMonitor());
+        assertEquals(executions, measuredProcessors.size());
+    }
+
+    @Test
+    public void testListenerOfRootAppliesToChildren() {
+        List<LGraph> measuredGraphs = new ArrayList<>();
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER,
+                (processorClass, lgraph, nodeCount, wallTime, cpuTime, allocated) -> measuredGraphs.add(lgraph));
+        ElkNode child = createGraph(ElkGraphUtil.createNode(graph));
+        createGraph(graph);
+
+        new RecursiveGraphLayoutEngine().layout(graph, new BasicProgressMonitor());
+
+        // The child is laid out separately, and its layered graph originates from it
+        assertTrue(measuredGraphs.stream().anyMatch(lgraph -> lgraph.getProperty(InternalProperties.ORIGIN) == child));
+    }
+
+    /**
+     * Adds a chain of ten nodes to the given parent, which is laid out with ELK Layered.
+     */
+    private ElkNode createGraph(final ElkNode parent) {
+        parent.setProperty(CoreOptions.ALGORITHM, LayeredOptions.ALGORITHM_ID);
+        ElkNode previous = null;
+        for (int i = 0; i < 10; i++) {
+            ElkNode node = ElkGraphUtil.createNode(parent);
+            node.setDimensions(20, 20);
+            if (previous != null) {
+                ElkGraphUtil.createSimpleEdge(previous, node);
+            }
+            previous = node;
+        }
+        return parent;
+    }
+
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.components;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.elk.alg.layered.LayeredLayoutProvider;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.p3order.LayerSweepCrossingMinimizer;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests that laying out connected components in parallel is deterministic, regardless of the executor used, and
+ * configures the components just as laying them out sequentially does.
+ */
+public class ParallelComponentLayoutTest {
+
+    private static final int COMPONENTS = 40;
+    private static final int NODES_PER_COMPONENT = 12;
+    private static final int GREEDY_SWITCH_THRESHOLD = 40;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testCommonPoolIsDeterministic() {
+        ElkNode first = createGraph();
+        ElkNode second = createGraph();
+
+        layout(first, null);
+        layout(second, null);
+
+        assertSameLayout(first, second);
+    }
+
+    @Test
+    public void testProcessorsEqualSequentialLayout() {
+        // Greedy switch depends on the size of the whole graph, not on the size of the components, which are all
+        // below the threshold. With two components the graph is below the threshold as well, with four it is not.
+        for (int components : new int[] { 2, 4 }) {
+            Set<List<Class<?>>> sequential = executedProcessors(components, false);
+            Set<List<Class<?>>> parallel = executedProcessors(components, true);
+            assertEquals(sequential, parallel);
+
+            // Greedy switch runs as a second layer sweep
+            int expectedLayerSweeps = components * NODES_PER_COMPONENT < GREEDY_SWITCH_THRESHOLD ? 2 : 1;
+            for (List<Class<?>> processors : parallel) {
+                assertEquals(expectedLayerSweeps, Collections.frequency(processors, LayerSweepCrossingMinimizer.class));
+            }
+        }
+    }
+
+    @Test
+    public void testResultIsIndependentOfThreadCount() {
+        ElkNode singleThreaded = createGraph();
+        ElkNode multiThreaded = createGraph();
+
+        ExecutorService singleExecutor = Executors.newSingleThreadExecutor();
+        ExecutorService multiExecutor = Executors.newFixedThreadPool(4);
+        try {
+            layout(singleThreaded, singleExecutor);
+            layout(multiThreaded, multiExecutor);
+        } finally {
+            singleExecutor.shutdown();
+            multiExecutor.shutdown();
+        }
+
+        assertSameLayout(singleThreaded, multiThreaded);
+    }
+
+    /**
+     * Lays out a graph with the given number of components and returns the distinct lists of processors executed on
+     * the components.
+     */
+    private Set<List<Class<?>>> executedProcessors(final int components, final boolean parallel) {
+        Map<LGraph, List<Class<?>>> processors = Collections.synchronizedMap(new HashMap<>());
+        ElkNode graph = createGraph(components);
+        graph.setProperty(LayeredOptions.PARALLEL_COMPONENT_LAYOUT, parallel);
+        graph.setProperty(LayeredOptions.PROCESSOR_EXECUTION_LISTENER,
+                (processorClass, lgraph, nodeCount, wallTime, cpuTime, allocated) ->
+                        processors.computeIfAbsent(lgraph, g -> Lists.newArrayList()).add(processorClass));
+        layout(graph, null);
+
+        assertEquals(components, processors.size());
+        return new HashSet<>(processors.values());
+    }
+
+    private void layout(final ElkNode graph, final ExecutorService executor) {
+        LayeredLayoutProvider provider = new LayeredLayoutProvider();
+        provider.getLayoutAlgorithm().setComponentExecutor(executor);
+        provider.layout(graph, new BasicProgressMonitor());
+    }
+
+    private void assertSameLayout(final ElkNode expected, final ElkNode actual) {
+        assertEquals(expected.getWidth(), actual.getWidth(), 0);
+        assertEquals(expected.getHeight(), actual.getHeight(), 0);
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            ElkNode expectedChild = expected.getChildren().get(i);
+            ElkNode actualChild = actual.getChildren().get(i);
+            assertEquals(expectedChild.getX(), actualChild.getX(), 0);
+            assertEquals(expectedChild.getY(), actualChild.getY(), 0);
+        }
+    }
+
+    /**
+     * Creates a graph with several connected components, each of which is a random graph of its own. The same
+     * graph is created on every call.
+     */
+    private ElkNode createGraph() {
+        return createGraph(COMPONENTS);
+    }
+
+    /**
+     * Creates a graph with the given number of connected components, each of which is a random graph of its own.
+     */
+    private ElkNode createGraph(final int components) {
+        Random random = new Random(42);
+
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(CoreOptions.ALGORITHM, LayeredOptions.ALGORITHM_ID);
+        graph.setProperty(LayeredOptions.PARALLEL_COMPONENT_LAYOUT, true);
+        graph.setProperty(LayeredOptions.RANDOM_SEED, 1);
+
+        for (int c = 0; c < components; c++) {
+            ElkNode[] nodes = new ElkNode[NODES_PER_COMPONENT];
+            for (int n = 0; n < NODES_PER_COMPONENT; n++) {
+                nodes[n] = ElkGraphUtil.createNode(graph);
+                nodes[n].setDimensions(20 + random.nextInt(30), 20 + random.nextInt(30));
+
+                // Connect each node to a random predecessor to keep the component connected
+                if (n > 0) {
+                    ElkGraphUtil.createSimpleEdge(nodes[random.nextInt(n)], nodes[n]);
+                }
+            }
+
+            // Some additional edges, possibly introducing cycles
+            for (int e = 0; e < NODES_PER_COMPONENT / 2; e++) {
+                ElkGraphUtil.createSimpleEdge(nodes[random.nextInt(NODES_PER_COMPONENT)],
+                        nodes[random.nextInt(NODES_PER_COMPONENT)]);
+            }
+        }
+
+        return graph;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p3order;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.elk.alg.layered.LayeredLayoutProvider;
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LPort;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the randomized restarts of the layer sweep crossing minimization that run in parallel on copies of the graph.
+ */
+public class ParallelRestartsTest {
+
+    private static final int NODES = 60;
+    private static final int EDGES = 90;
+    private static final int THOROUGHNESS = 30;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testResultIsIndependentOfThreadCount() throws InterruptedException, ExecutionException {
+        ElkNode singleThreaded = createGraph();
+        ElkNode multiThreaded = createGraph();
+
+        // Parallel streams use the pool they are started from
+        ForkJoinPool singlePool = new ForkJoinPool(1);
+        ForkJoinPool multiPool = new ForkJoinPool(4);
+        try {
+            singlePool.submit(() -> new LayeredLayoutProvider().layout(singleThreaded, new BasicProgressMonitor()))
+                    .get();
+            multiPool.submit(() -> new LayeredLayoutProvider().layout(multiThreaded, new BasicProgressMonitor()))
+                    .get();
+        } finally {
+            singlePool.shutdown();
+            multiPool.shutdown();
+        }
+
+        for (int i = 0; i < NODES; i++) {
+            ElkNode expected = singleThreaded.getChildren().get(i);
+            ElkNode actual = multiThreaded.getChildren().get(i);
+            assertEquals(expected.getX(), actual.getX(), 0);
+            assertEquals(expected.getY(), actual.getY(), 0);
+        }
+    }
+
+    @Test
+    public void testCopiesDontShareMutableProperties() {
+        LGraph original = new LGraph();
+        LNode first = createNode(original, new Layer(original));
+        LNode second = createNode(original, new Layer(original));
+        original.getLayers().add(first.getLayer());
+        original.getLayers().add(second.getLayer());
+        LEdge edge = new LEdge();
+        edge.setSource(first.getPorts().get(0));
+        edge.setTarget(second.getPorts().get(0));
+
+        List<LNode> associates = Lists.newArrayList(second);
+        first.setProperty(InternalProperties.BARYCENTER_ASSOCIATES, associates);
+        KVector offset = new KVector(1, 2);
+        edge.setProperty(InternalProperties.TARGET_OFFSET, offset);
+
+        RandomRestartCopy copy = new RandomRestartCopy(original, 0);
+        RandomRestartCopy otherCopy = new RandomRestartCopy(original, 1);
+        LNode copiedFirst = copy.graph().getLayers().get(0).getNodes().get(0);
+        LNode copiedSecond = copy.graph().getLayers().get(1).getNodes().get(0);
+        LEdge copiedEdge = copiedFirst.getPorts().get(0).getOutgoingEdges().get(0);
+
+        // Lists refer to the copied nodes
+        List<LNode> copiedAssociates = copiedFirst.getProperty(InternalProperties.BARYCENTER_ASSOCIATES);
+        assertNotSame(associates, copiedAssociates);
+        assertSame(copiedSecond, copiedAssociates.get(0));
+        copiedAssociates.clear();
+        assertEquals(1, associates.size());
+
+        // Vectors are cloned for each copy
+        KVector copiedOffset = copiedEdge.getProperty(InternalProperties.TARGET_OFFSET);
+        KVector otherOffset = otherCopy.graph().getLayers().get(0).getNodes().get(0).getPorts().get(0)
+                .getOutgoingEdges().get(0).getProperty(InternalProperties.TARGET_OFFSET);
+        assertNotSame(offset, copiedOffset);
+        assertNotSame(copiedOffset, otherOffset);
+        copiedOffset.add(1, 1);
+        assertEquals(1, offset.x, 0);
+        assertEquals(1, otherOffset.x, 0);
+    }
+
+    private LNode createNode(final LGraph graph, final Layer layer) {
+        LNode node = new LNode(graph);
+        node.setLayer(layer);
+        LPort port = new LPort();
+        port.setNode(node);
+        return node;
+    }
+
+    /**
+     * Creates a random graph. The same graph is created on every call.
+     */
+    private ElkNode createGraph() {
+        Random random = new Random(7);
+
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(CoreOptions.ALGORITHM, LayeredOptions.ALGORITHM_ID);
+        graph.setProperty(LayeredOptions.CROSSING_MINIMIZATION_PARALLEL_RESTARTS, true);
+        graph.setProperty(LayeredOptions.THOROUGHNESS, THOROUGHNESS);
+        graph.setProperty(LayeredOptions.RANDOM_SEED, 1);
+
+        ElkNode[] nodes = new ElkNode[NODES];
+        for (int n = 0; n < NODES; n++) {
+            nodes[n] = ElkGraphUtil.createNode(graph);
+            nodes[n].setDimensions(20, 20);
+        }
+        for (int e = 0; e < EDGES; e++) {
+            ElkGraphUtil.createSimpleEdge(nodes[random.nextInt(NODES)], nodes[random.nextInt(NODES)]);
+        }
+
+        return graph;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Kiel University and others.
+ * Copyright (c) 2016, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -58,4 +58,24 @@ public class BinaryIndexedTreeTest {
         assertThat(ft.size(), is(2));
         assertThat(ft.rank(2), is(1));
     }
+
+    @Test
+    public void reset() throws Exception {
+        BinaryIndexedTree ft = new BinaryIndexedTree(5);
+        ft.add(4);
+        ft.add(1);
+
+        ft.reset(3);
+        assertThat(ft.size(), is(0));
+        assertThat(ft.rank(3), is(0));
+        ft.add(2);
+        assertThat(ft.rank(3), is(1));
+
+        ft.reset(8);
+        assertThat(ft.rank(8), is(0));
+        ft.add(7);
+        ft.add(0);
+        assertThat(ft.rank(7), is(1));
+        assertThat(ft.rank(8), is(2));
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Kiel University and others.
+ * Copyright (c) 2016, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -318,6 +318,42 @@ public class CrossingsCounterTest extends InLayerEdgeTestGraphCreator {
                 is(2));
     }
 
+    /**
+     * <pre>
+     * *   *
+     *  \//
+     *  //\
+     * *   *
+     * </pre>
+     */
+    @Test
+    public void countCrossingsBetweenPorts_repeatedCountsGiveSameResults() {
+        Layer leftLayer = makeLayer();
+        Layer rightLayer = makeLayer();
+        
+        LNode topLeft = addNodeToLayer(leftLayer);
+        LNode bottomLeft = addNodeToLayer(leftLayer);
+        LNode topRight = addNodeToLayer(rightLayer);
+        LNode bottomRight = addNodeToLayer(rightLayer);
+        
+        eastWestEdgeFromTo(topLeft, bottomRight);
+        LPort bottomLeftPort = addPortOnSide(bottomLeft, PortSide.EAST);
+        LPort topRightPort = addPortOnSide(topRight, PortSide.WEST);
+        
+        addEdgeBetweenPorts(bottomLeftPort, topRightPort);
+        addEdgeBetweenPorts(bottomLeftPort, topRightPort);
+        setUpIds();
+        
+        counter = new CrossingsCounter(new int[getNumPorts(order())]);
+        counter.initForCountingBetween(order()[0], order()[1]);
+        
+        for (int i = 0; i < 3; i++) {
+            counter.countCrossingsBetweenPorts(bottomLeftPort, topLeft.getPorts().get(0));
+            assertThat(counter.getUpperLowerCrossings(), is(2));
+            assertThat(counter.getLowerUpperCrossings(), is(0));
+        }
+    }
+
     @Ignore
     // @Test
     public void benchmark() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2020 Kiel University and others.
+ * Copyright (c) 2013, 2026 Kiel University and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -9,10 +9,12 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.p4nodes;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.graph.LNode;
@@ -33,7 +35,12 @@ import org.eclipse.elk.alg.test.framework.io.AbstractResourcePath;
 import org.eclipse.elk.alg.test.framework.io.FileExtensionFilter;
 import org.eclipse.elk.alg.test.framework.io.ModelResourcePath;
 import org.eclipse.elk.core.LayoutConfigurator;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import com.google.common.collect.Lists;
@@ -45,6 +52,8 @@ public class BasicNodePlacementTest extends TestGraphCreator {
 
     private static final int INTERACTIVE_RANDOM_SEED = 0;
     private static final int INTERACTIVE_MAX_POS = 10_000;
+    private static final int RANDOM_GRAPH_SEED = 42;
+    private static final int RANDOM_GRAPH_NODES = 50;
     
     
     //////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -167,6 +176,16 @@ public class BasicNodePlacementTest extends TestGraphCreator {
                 FixedAlignment.BALANCED);
     }
     
+    @ConfiguratorProvider
+    public LayoutConfigurator bkImproveStraightnessParallelConfigurator() {
+        LayoutConfigurator config = configuratorFor(
+                NodePlacementStrategy.BRANDES_KOEPF,
+                EdgeStraighteningStrategy.IMPROVE_STRAIGHTNESS,
+                FixedAlignment.NONE);
+        config.configure(ElkNode.class).setProperty(LayeredOptions.NODE_PLACEMENT_BK_PARALLEL_ALIGNMENTS, true);
+        return config;
+    }
+    
     private LayoutConfigurator configuratorFor(final NodePlacementStrategy strategy,
             final EdgeStraighteningStrategy bkStraighteningStrategy, final FixedAlignment bkFixedAlignment) {
         
@@ -203,4 +222,48 @@ public class BasicNodePlacementTest extends TestGraphCreator {
         }
     }
     
+    @Test
+    public void testParallelAlignmentsYieldSameCoordinates() {
+        for (FixedAlignment alignment : FixedAlignment.values()) {
+            for (EdgeStraighteningStrategy straightening : EdgeStraighteningStrategy.values()) {
+                ElkNode sequential = createRandomGraph(alignment, straightening, false);
+                ElkNode parallel = createRandomGraph(alignment, straightening, true);
+                new RecursiveGraphLayoutEngine().layout(sequential, new BasicProgressMonitor());
+                new RecursiveGraphLayoutEngine().layout(parallel, new BasicProgressMonitor());
+                
+                for (int i = 0; i < sequential.getChildren().size(); i++) {
+                    ElkNode sequentialNode = sequential.getChildren().get(i);
+                    ElkNode parallelNode = parallel.getChildren().get(i);
+                    assertEquals(sequentialNode.getX(), parallelNode.getX(), 0);
+                    assertEquals(sequentialNode.getY(), parallelNode.getY(), 0);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Creates a random graph to be laid out with the given BK configuration. The same graph is created on every call.
+     */
+    private ElkNode createRandomGraph(final FixedAlignment alignment, final EdgeStraighteningStrategy straightening,
+            final boolean parallelAlignments) {
+        
+        Random random = new Random(RANDOM_GRAPH_SEED);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(CoreOptions.ALGORITHM, LayeredOptions.ALGORITHM_ID);
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_STRATEGY, NodePlacementStrategy.BRANDES_KOEPF);
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_BK_FIXED_ALIGNMENT, alignment);
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_BK_EDGE_STRAIGHTENING, straightening);
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_BK_PARALLEL_ALIGNMENTS, parallelAlignments);
+        
+        ElkNode[] nodes = new ElkNode[RANDOM_GRAPH_NODES];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = ElkGraphUtil.createNode(graph);
+            nodes[i].setDimensions(10 + random.nextInt(30), 10 + random.nextInt(30));
+        }
+        for (int i = 0; i < 2 * nodes.length; i++) {
+            ElkGraphUtil.createSimpleEdge(nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]);
+        }
+        return graph;
+    }
+    
 }
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p4nodes.bk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.TestGraphCreator;
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.junit.Test;
+
+/**
+ * Tests the {@link NeighborhoodInformation}, which is built on the array-based view of the graph used by the
+ * {@link BKNodePlacer}.
+ */
+public class NeighborhoodInformationTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @Test
+    public void testNumbering() {
+        LGraph graph = new TestGraphCreator().getCrossWithManySelfLoopsGraph();
+        NeighborhoodInformation ni = NeighborhoodInformation.buildFor(graph);
+
+        assertEquals(4, ni.nodeCount);
+        List<LNode> nodes = nodesById(graph);
+        for (int n = 0; n < ni.nodeCount; n++) {
+            LNode node = nodes.get(n);
+            assertEquals(n, node.id);
+            assertEquals(node.getLayer().getNodes().indexOf(node), ni.nodeIndex[n]);
+        }
+    }
+
+    @Test
+    public void testNeighborsIgnoreSelfLoops() {
+        LGraph graph = new TestGraphCreator().getCrossWithManySelfLoopsGraph();
+        NeighborhoodInformation ni = NeighborhoodInformation.buildFor(graph);
+        List<LNode> nodes = nodesById(graph);
+
+        int leftNeighbors = 0;
+        for (int n = 0; n < ni.nodeCount; n++) {
+            for (int i = ni.leftNeighborStart[n]; i < ni.leftNeighborStart[n + 1]; i++) {
+                LEdge edge = edgeById(nodes.get(n).getIncomingEdges(), ni.leftNeighborEdges[i]);
+                assertNotSame(edge.getSource().getNode(), edge.getTarget().getNode());
+                assertSame(nodes.get(ni.leftNeighborNodes[i]), edge.getSource().getNode());
+                leftNeighbors++;
+            }
+        }
+        // the two edges of the cross, every other edge is a self loop
+        assertEquals(2, leftNeighbors);
+        assertEquals(leftNeighbors, ni.rightNeighborStart[ni.nodeCount]);
+    }
+
+    @Test
+    public void testNeighborsIgnoreInLayerEdges() {
+        LGraph graph = new TestGraphCreator().getInLayerEdgesGraph();
+        NeighborhoodInformation ni = NeighborhoodInformation.buildFor(graph);
+        List<LNode> nodes = nodesById(graph);
+
+        for (int n = 0; n < ni.nodeCount; n++) {
+            for (int i = ni.rightNeighborStart[n]; i < ni.rightNeighborStart[n + 1]; i++) {
+                LNode neighbor = nodes.get(ni.rightNeighborNodes[i]);
+                assertTrue(neighbor.getLayer().id > nodes.get(n).getLayer().id);
+            }
+        }
+    }
+
+    @Test
+    public void testNeighborsAreOrderedByIndex() {
+        LGraph graph = new TestGraphCreator().getMultipleEdgesBetweenSameNodesGraph();
+        NeighborhoodInformation ni = NeighborhoodInformation.buildFor(graph);
+
+        for (int n = 0; n < ni.nodeCount; n++) {
+            for (int i = ni.leftNeighborStart[n] + 1; i < ni.leftNeighborStart[n + 1]; i++) {
+                assertTrue(ni.nodeIndex[ni.leftNeighborNodes[i - 1]] <= ni.nodeIndex[ni.leftNeighborNodes[i]]);
+            }
+            for (int i = ni.rightNeighborStart[n] + 1; i < ni.rightNeighborStart[n + 1]; i++) {
+                assertTrue(ni.nodeIndex[ni.rightNeighborNodes[i - 1]] <= ni.nodeIndex[ni.rightNeighborNodes[i]]);
+            }
+        }
+    }
+
+    /**
+     * Returns the nodes of the graph ordered by their ids, which are assigned layer by layer.
+     */
+    private static List<LNode> nodesById(final LGraph graph) {
+        List<LNode> nodes = new ArrayList<>();
+        for (Layer layer : graph) {
+            nodes.addAll(layer.getNodes());
+        }
+        return nodes;
+    }
+
+    private static LEdge edgeById(final Iterable<LEdge> edges, final int id) {
+        for (LEdge edge : edges) {
+            if (edge.id == id) {
+                return edge;
+            }
+        }
+        throw new AssertionError("no edge with id " + id);
+    }
+
+}
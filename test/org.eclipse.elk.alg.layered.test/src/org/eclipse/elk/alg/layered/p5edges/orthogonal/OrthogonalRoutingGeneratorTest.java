@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p5edges.orthogonal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LPort;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.options.PortType;
+import org.eclipse.elk.alg.layered.p5edges.orthogonal.direction.BaseRoutingDirectionStrategy;
+import org.eclipse.elk.alg.layered.p5edges.orthogonal.direction.RoutingDirection;
+import org.eclipse.elk.core.options.PortSide;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Tests the {@link OrthogonalRoutingGenerator}.
+ */
+public class OrthogonalRoutingGeneratorTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /**
+     * The dependencies found with the help of the segments' order are the ones a comparison of all pairs of segments
+     * creates, in the same order, and thus lead to the same routing slots.
+     */
+    @Test
+    public void testDependenciesEqualPairwiseComparison() {
+        int dependencies = 0;
+        for (int seed = 0; seed < 100; seed++) {
+            LGraph graph = randomGraph(seed);
+            OrthogonalRoutingGenerator generator =
+                    new OrthogonalRoutingGenerator(RoutingDirection.WEST_TO_EAST, 10, null);
+
+            List<HyperEdgeSegment> sweep = createSegments(graph);
+            generator.createDependencies(sweep);
+
+            List<HyperEdgeSegment> pairwise = createSegments(graph);
+            for (int i = 0; i < pairwise.size(); i++) {
+                for (int j = i + 1; j < pairwise.size(); j++) {
+                    generator.createDependencyIfNecessary(pairwise.get(i), pairwise.get(j));
+                }
+            }
+
+            assertEquals(pairwise.size(), sweep.size());
+            for (int i = 0; i < sweep.size(); i++) {
+                List<HyperEdgeSegmentDependency> expected = pairwise.get(i).getOutgoingSegmentDependencies();
+                List<HyperEdgeSegmentDependency> actual = sweep.get(i).getOutgoingSegmentDependencies();
+                assertEquals(expected.size(), actual.size());
+                for (int d = 0; d < expected.size(); d++) {
+                    assertEquals(pairwise.indexOf(expected.get(d).getTarget()),
+                            sweep.indexOf(actual.get(d).getTarget()));
+                    assertEquals(expected.get(d).getWeight(), actual.get(d).getWeight());
+                    assertEquals(expected.get(d).getType(), actual.get(d).getType());
+                }
+                dependencies += actual.size();
+            }
+
+            OrthogonalRoutingGenerator.breakNonCriticalCycles(pairwise, new Random(seed));
+            OrthogonalRoutingGenerator.topologicalNumbering(pairwise);
+            OrthogonalRoutingGenerator.breakNonCriticalCycles(sweep, new Random(seed));
+            OrthogonalRoutingGenerator.topologicalNumbering(sweep);
+            for (int i = 0; i < sweep.size(); i++) {
+                assertEquals(pairwise.get(i).getRoutingSlot(), sweep.get(i).getRoutingSlot());
+            }
+        }
+        assertTrue(dependencies > 0);
+    }
+
+    /**
+     * Creates the hyperedge segments between the two layers of the given graph as the generator does.
+     */
+    private static List<HyperEdgeSegment> createSegments(final LGraph graph) {
+        BaseRoutingDirectionStrategy strategy =
+                BaseRoutingDirectionStrategy.forRoutingDirection(RoutingDirection.WEST_TO_EAST);
+        Map<LPort, HyperEdgeSegment> portToSegment = Maps.newHashMap();
+        List<HyperEdgeSegment> segments = Lists.newArrayList();
+        for (int l = 0; l < 2; l++) {
+            PortSide side = l == 0 ? PortSide.EAST : PortSide.WEST;
+            for (LNode node : graph.getLayers().get(l)) {
+                for (LPort port : node.getPorts(PortType.OUTPUT, side)) {
+                    if (!portToSegment.containsKey(port)) {
+                        HyperEdgeSegment segment = new HyperEdgeSegment(strategy);
+                        segments.add(segment);
+                        segment.addPortPositions(port, portToSegment);
+                    }
+                }
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Creates two layers of nodes whose ports lie on a coarse grid, such that there are many segments with equal
+     * coordinates, and edges between them in both directions. Some ports have several edges, forming hyperedges.
+     */
+    private static LGraph randomGraph(final int seed) {
+        Random random = new Random(seed);
+        LGraph graph = new LGraph();
+        List<LPort> left = Lists.newArrayList();
+        List<LPort> right = Lists.newArrayList();
+        for (int l = 0; l < 2; l++) {
+            Layer layer = new Layer(graph);
+            graph.getLayers().add(layer);
+            List<LPort> ports = l == 0 ? left : right;
+            int nodeCount = 1 + random.nextInt(8);
+            for (int n = 0; n < nodeCount; n++) {
+                LNode node = new LNode(graph);
+                node.setLayer(layer);
+                node.getPosition().y = n * 50;
+                int portCount = 1 + random.nextInt(5);
+                for (int p = 0; p < portCount; p++) {
+                    LPort port = new LPort();
+                    port.setSide(l == 0 ? PortSide.EAST : PortSide.WEST);
+                    port.getPosition().y = random.nextInt(10) * 5;
+                    port.setNode(node);
+                    ports.add(port);
+                }
+            }
+        }
+
+        int edgeCount = 1 + random.nextInt(3 * (left.size() + right.size()));
+        for (int e = 0; e < edgeCount; e++) {
+            LEdge edge = new LEdge();
+            LPort leftPort = left.get(random.nextInt(left.size()));
+            LPort rightPort = right.get(random.nextInt(right.size()));
+            if (random.nextInt(4) == 0) {
+                edge.setSource(rightPort);
+                edge.setTarget(leftPort);
+            } else {
+                edge.setSource(leftPort);
+                edge.setTarget(rightPort);
+            }
+        }
+        return graph;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.elk.alg.radial.intermediate.optimization.AngularSegmentSweep;
+import org.junit.Test;
+
+/**
+ * Tests that the angular segment sweep reports all segments that may cross, and none whose directions do not overlap.
+ */
+public class AngularSegmentSweepTest {
+
+    private static final int SEGMENTS = 1000;
+    private static final double OUTER_RADIUS = 1000;
+    private static final double INNER_RADIUS = 10;
+    private static final double ANGLE = 2 * Math.PI / SEGMENTS;
+
+    /**
+     * Segments leading from a ring straight towards its center, which do not meet, are never candidates.
+     */
+    @Test
+    public void testConvergingSegments() {
+        assertEquals(0, candidatePairs(converging(0)).size());
+    }
+
+    /**
+     * Segments leading from a ring towards its center that are bent such that each one overlaps the next in direction
+     * are candidates with their neighbors only.
+     */
+    @Test
+    public void testSkewedConvergingSegments() {
+        Set<Long> candidates = candidatePairs(converging(1.5 * ANGLE));
+        assertEquals(SEGMENTS, candidates.size());
+        for (int i = 0; i < SEGMENTS; i++) {
+            int next = (i + 1) % SEGMENTS;
+            assertTrue(candidates.contains(pair(Math.max(i, next), Math.min(i, next))));
+        }
+    }
+
+    /**
+     * Segments meeting in the center all have to be reported.
+     */
+    @Test
+    public void testMeetingSegments() {
+        double[][] segments = new double[SEGMENTS][];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new double[] { OUTER_RADIUS * Math.cos(i * ANGLE), OUTER_RADIUS * Math.sin(i * ANGLE), 0, 0 };
+        }
+
+        assertEquals(SEGMENTS * (SEGMENTS - 1) / 2, candidatePairs(segments).size());
+    }
+
+    /**
+     * Every crossing pair of random segments has to be reported.
+     */
+    @Test
+    public void testRandomSegments() {
+        Random random = new Random(SEGMENTS);
+        double[][] segments = new double[SEGMENTS][];
+        for (int i = 0; i < SEGMENTS; i++) {
+            // Mostly short segments, some long ones, some of which pass through the center
+            double length = random.nextInt(10) == 0 ? OUTER_RADIUS : INNER_RADIUS;
+            double x = (random.nextDouble() - 0.5) * OUTER_RADIUS;
+            double y = (random.nextDouble() - 0.5) * OUTER_RADIUS;
+            if (i % 100 == 0) {
+                segments[i] = new double[] { x, y, -x, -y };
+            } else {
+                segments[i] = new double[] { x, y, x + (random.nextDouble() - 0.5) * length,
+                        y + (random.nextDouble() - 0.5) * length };
+            }
+        }
+
+        Set<Long> candidates = candidatePairs(segments);
+        int crossings = 0;
+        for (int i = 0; i < SEGMENTS; i++) {
+            for (int j = 0; j < i; j++) {
+                if (isCrossing(segments[i], segments[j])) {
+                    crossings++;
+                    assertTrue(candidates.contains(pair(i, j)));
+                }
+            }
+        }
+        assertTrue(crossings > 0);
+    }
+
+    /**
+     * Creates segments from a ring towards its center, turning the inner end points by the given angle.
+     */
+    private static double[][] converging(final double skew) {
+        double[][] segments = new double[SEGMENTS][];
+        for (int i = 0; i < SEGMENTS; i++) {
+            double angle = i * ANGLE;
+            segments[i] = new double[] { OUTER_RADIUS * Math.cos(angle), OUTER_RADIUS * Math.sin(angle),
+                    INNER_RADIUS * Math.cos(angle + skew), INNER_RADIUS * Math.sin(angle + skew) };
+        }
+        return segments;
+    }
+
+    /**
+     * Sweeps the given segments around the origin and returns the reported pairs, each encoded by {@link #pair(int,
+     * int)} with the larger index first, checking that no pair is reported twice.
+     */
+    private static Set<Long> candidatePairs(final double[][] segments) {
+        AngularSegmentSweep sweep = new AngularSegmentSweep(0, 0, segments.length);
+        for (int i = 0; i < segments.length; i++) {
+            double[] s = segments[i];
+            sweep.add(i, s[0], s[1], s[2], s[3]);
+        }
+
+        Set<Long> pairs = new HashSet<>();
+        sweep.sweep((segment, other) -> {
+            assertTrue(pairs.add(pair(Math.max(segment, other), Math.min(segment, other))));
+        });
+        return pairs;
+    }
+
+    private static long pair(final int segment, final int other) {
+        return (long) segment * SEGMENTS + other;
+    }
+
+    /**
+     * Whether the two segments intersect, including touching end points.
+     */
+    private static boolean isCrossing(final double[] s, final double[] t) {
+        double d1 = orientation(t, s[0], s[1]);
+        double d2 = orientation(t, s[2], s[3]);
+        double d3 = orientation(s, t[0], t[1]);
+        double d4 = orientation(s, t[2], t[3]);
+        return d1 * d2 <= 0 && d3 * d4 <= 0
+                && Math.max(s[0], s[2]) >= Math.min(t[0], t[2]) && Math.max(t[0], t[2]) >= Math.min(s[0], s[2])
+                && Math.max(s[1], s[3]) >= Math.min(t[1], t[3]) && Math.max(t[1], t[3]) >= Math.min(s[1], s[3]);
+    }
+
+    private static double orientation(final double[] s, final double x, final double y) {
+        return (s[2] - s[0]) * (y - s[1]) - (s[3] - s[1]) * (x - s[0]);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.elk.alg.radial.intermediate.optimization.CrossingMinimizationPosition;
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.Test;
+
+/**
+ * Test for counting the crossings of the edges between the root and the first radius.
+ *
+ */
+public class CrossingMinimizationPositionTest {
+    
+    private static final int NODES = 51;
+    private static final double RADIUS = 100;
+    
+    /**
+     * Edges pointing away from the root do not cross.
+     */
+    @Test
+    public void testNoCrossings() {
+        ElkNode root = createRing(2 * RADIUS);
+        assertEquals(0, new CrossingMinimizationPosition().evaluate(root), 0);
+    }
+    
+    /**
+     * Edges pointing to the opposite side of the ring all cross in the center.
+     */
+    @Test
+    public void testAllCrossings() {
+        ElkNode root = createRing(-RADIUS);
+        assertEquals(NODES * (NODES - 1) / 2, new CrossingMinimizationPosition().evaluate(root), 0);
+    }
+    
+    /**
+     * Places nodes on a ring around a root centered at the origin, each with a position in the direction of the node.
+     */
+    private ElkNode createRing(final double positionDistance) {
+        ElkNode parent = ElkGraphUtil.createGraph();
+        ElkNode root = ElkGraphUtil.createNode(parent);
+        root.setDimensions(30, 30);
+        root.setLocation(-15, -15);
+        for (int i = 0; i < NODES; i++) {
+            double angle = i * 2 * Math.PI / NODES + 0.1;
+            ElkNode node = ElkGraphUtil.createNode(parent);
+            node.setDimensions(10, 10);
+            node.setLocation(RADIUS * Math.cos(angle) - 5, RADIUS * Math.sin(angle) - 5);
+            node.setProperty(CoreOptions.POSITION,
+                    new KVector(positionDistance * Math.cos(angle), positionDistance * Math.sin(angle)));
+            ElkGraphUtil.createSimpleEdge(root, node);
+        }
+        return root;
+    }
+    
+}
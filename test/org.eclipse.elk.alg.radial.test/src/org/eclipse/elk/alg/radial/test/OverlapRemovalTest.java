@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.radial.RadialLayoutProvider;
+import org.eclipse.elk.alg.radial.options.OverlapRemovalStrategy;
+import org.eclipse.elk.alg.radial.options.RadialOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test for the overlap removal strategies.
+ *
+ */
+public class OverlapRemovalTest {
+    
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+    
+    /**
+     * The children of the root of a star are placed on a single radius. Computing the extension of that radius must
+     * remove all overlaps between them.
+     */
+    @Test
+    public void testAnalyticRadiiRemovesOverlaps() {
+        for (int seed = 0; seed < 10; seed++) {
+            ElkNode parent = createStar(seed, OverlapRemovalStrategy.ANALYTIC_RADII);
+            new RadialLayoutProvider().layout(parent, new BasicProgressMonitor());
+            
+            for (ElkNode n1 : parent.getChildren()) {
+                for (ElkNode n2 : parent.getChildren()) {
+                    if (n1 != n2) {
+                        assertFalse(n1.getX() < n2.getX() + n2.getWidth() && n2.getX() < n1.getX() + n1.getWidth()
+                                && n1.getY() < n2.getY() + n2.getHeight() && n2.getY() < n1.getY() + n1.getHeight());
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Extending the radius step by step overshoots the smallest extension by less than one step.
+     */
+    @Test
+    public void testAnalyticRadiiComparableToExtentRadii() {
+        for (int seed = 0; seed < 10; seed++) {
+            ElkNode extended = createStar(seed, OverlapRemovalStrategy.EXTENT_RADII);
+            ElkNode computed = createStar(seed, OverlapRemovalStrategy.ANALYTIC_RADII);
+            new RadialLayoutProvider().layout(extended, new BasicProgressMonitor());
+            new RadialLayoutProvider().layout(computed, new BasicProgressMonitor());
+            
+            assertEquals(radius(extended), radius(computed), 1);
+        }
+    }
+    
+    private ElkNode createStar(final int seed, final OverlapRemovalStrategy strategy) {
+        Random random = new Random(seed);
+        ElkNode parent = ElkGraphUtil.createGraph();
+        parent.setProperty(CoreOptions.ALGORITHM, RadialOptions.ALGORITHM_ID);
+        parent.setProperty(RadialOptions.OVERLAP_REMOVAL, strategy);
+        parent.setProperty(RadialOptions.RADIUS, 20.0);
+        ElkNode root = ElkGraphUtil.createNode(parent);
+        root.setDimensions(30, 30);
+        int children = 10 + random.nextInt(100);
+        for (int i = 0; i < children; i++) {
+            ElkNode child = ElkGraphUtil.createNode(parent);
+            child.setDimensions(20 + random.nextInt(40), 20 + random.nextInt(20));
+            ElkGraphUtil.createSimpleEdge(root, child);
+        }
+        return parent;
+    }
+    
+    /**
+     * The distance of the first child's center to the root's center.
+     */
+    private double radius(final ElkNode parent) {
+        ElkNode root = parent.getChildren().get(0);
+        ElkNode child = parent.getChildren().get(1);
+        double x = child.getX() + child.getWidth() / 2 - root.getX() - root.getWidth() / 2;
+        double y = child.getY() + child.getHeight() / 2 - root.getY() - root.getHeight() / 2;
+        return Math.sqrt(x * x + y * y);
+    }
+    
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.rectpacking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.rectpacking.options.RectPackingOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the compaction iterations whose target widths are chosen up front and compacted in parallel.
+ */
+public class ParallelCandidatesTest {
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * With two iterations there is only one candidate, which is the one a sequential second iteration tries.
+     */
+    @Test
+    public void testTwoIterationsAsSequential() {
+        for (int seed = 0; seed < 10; seed++) {
+            ElkNode sequential = createGraph(seed, 2, false);
+            ElkNode parallel = createGraph(seed, 2, true);
+            new RectPackingLayoutProvider().layout(sequential, new BasicProgressMonitor());
+            new RectPackingLayoutProvider().layout(parallel, new BasicProgressMonitor());
+
+            assertEquals(sequential.getWidth(), parallel.getWidth(), 0);
+            assertEquals(sequential.getHeight(), parallel.getHeight(), 0);
+            for (int i = 0; i < sequential.getChildren().size(); i++) {
+                ElkNode expected = sequential.getChildren().get(i);
+                ElkNode actual = parallel.getChildren().get(i);
+                assertEquals(expected.getX(), actual.getX(), 0);
+                assertEquals(expected.getY(), actual.getY(), 0);
+                assertEquals(expected.getWidth(), actual.getWidth(), 0);
+                assertEquals(expected.getHeight(), actual.getHeight(), 0);
+            }
+        }
+    }
+
+    /**
+     * The best of several candidates must still be a valid packing.
+     */
+    @Test
+    public void testSeveralCandidates() {
+        for (int seed = 0; seed < 10; seed++) {
+            ElkNode parent = createGraph(seed, 6, true);
+            new RectPackingLayoutProvider().layout(parent, new BasicProgressMonitor());
+
+            for (ElkNode n1 : parent.getChildren()) {
+                assertTrue(n1.getX() >= 0 && n1.getX() + n1.getWidth() <= parent.getWidth());
+                assertTrue(n1.getY() >= 0 && n1.getY() + n1.getHeight() <= parent.getHeight());
+                for (ElkNode n2 : parent.getChildren()) {
+                    if (n1 != n2) {
+                        assertFalse(n1.getX() < n2.getX() + n2.getWidth() && n2.getX() < n1.getX() + n1.getWidth()
+                                && n1.getY() < n2.getY() + n2.getHeight() && n2.getY() < n1.getY() + n1.getHeight());
+                    }
+                }
+            }
+        }
+    }
+
+    private ElkNode createGraph(final int seed, final int iterations, final boolean parallelCandidates) {
+        Random random = new Random(seed);
+        ElkNode parent = ElkGraphUtil.createGraph();
+        parent.setProperty(CoreOptions.ALGORITHM, RectPackingOptions.ALGORITHM_ID);
+        parent.setProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS, iterations);
+        parent.setProperty(RectPackingOptions.PACKING_COMPACTION_PARALLEL_CANDIDATES, parallelCandidates);
+        int nodes = 5 + random.nextInt(40);
+        for (int i = 0; i < nodes; i++) {
+            ElkGraphUtil.createNode(parent).setDimensions(10 + random.nextInt(60), 10 + random.nextInt(60));
+        }
+        return parent;
+    }
+
+}
@@ -11,6 +11,9 @@ package org.eclipse.elk.core;
 
 import static org.junit.Assert.*;
 
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
 import org.eclipse.elk.alg.test.PlainJavaInitialization;
 import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
 import org.eclipse.elk.core.UnsupportedConfigurationException;
@@ -18,6 +21,8 @@ import org.eclipse.elk.core.data.LayoutAlgorithmData;
 import org.eclipse.elk.core.data.LayoutMetaDataService;
 import org.eclipse.elk.core.options.CoreOptions;
 import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
 import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.elk.graph.util.ElkGraphUtil;
 import org.junit.BeforeClass;
@@ -73,6 +78,117 @@ public class RecursiveGraphLayoutEngineTest {
         assertEquals("org.eclipse.elk.layered", graph.root.getProperty(CoreOptions.RESOLVED_ALGORITHM).getId());
     }
     
+    @Test
+    public void testConcurrentLayoutMatchesSequentialLayout() {
+        ElkNode sequential = createHierarchicalGraph();
+        ElkNode concurrent = createHierarchicalGraph();
+        
+        new RecursiveGraphLayoutEngine().layout(sequential, new BasicProgressMonitor());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new RecursiveGraphLayoutEngine(pool).layout(concurrent, new BasicProgressMonitor());
+        } finally {
+            pool.shutdown();
+        }
+        
+        assertSameLayout(sequential, concurrent);
+    }
+    
+    @Test
+    public void testConcurrentLayoutReportsProgressInProportion() {
+        ElkNode root = ElkGraphUtil.createGraph();
+        root.setProperty(CoreOptions.ALGORITHM, "org.eclipse.elk.layered");
+        ElkGraphUtil.createNode(root).setDimensions(10, 10);
+        // The compound nodes grow, so each of them has to report to a share of its own
+        for (int i = 1; i <= 4; i++) {
+            ElkNode compound = ElkGraphUtil.createNode(root);
+            compound.setProperty(CoreOptions.ALGORITHM, "org.eclipse.elk.box");
+            for (int j = 0; j < 5 * i; j++) {
+                ElkGraphUtil.createNode(compound).setDimensions(10, 10);
+            }
+        }
+        ElkGraphUtil.createNode(root).setDimensions(10, 10);
+        
+        ProgressRecorder monitor = new ProgressRecorder();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new RecursiveGraphLayoutEngine(pool).layout(root, monitor);
+        } finally {
+            pool.shutdown();
+        }
+        
+        assertEquals(6 + 5 + 10 + 15 + 20, monitor.totalWork, 0);
+        assertEquals(monitor.totalWork, monitor.maxCompletedWork, 1e-3);
+    }
+    
+    /**
+     * Records the highest progress reported to a top-level monitor.
+     */
+    private static class ProgressRecorder extends BasicProgressMonitor {
+        private float totalWork;
+        private float maxCompletedWork;
+        
+        @Override
+        protected synchronized void doWorked(final float completedWork, final float work, final boolean topInstance) {
+            totalWork = work;
+            maxCompletedWork = Math.max(maxCompletedWork, completedWork);
+        }
+    }
+    
+    /**
+     * Creates a graph with two levels of compound nodes whose content is laid out separately.
+     */
+    private ElkNode createHierarchicalGraph() {
+        ElkNode root = ElkGraphUtil.createGraph();
+        root.setProperty(CoreOptions.ALGORITHM, "org.eclipse.elk.layered");
+        
+        ElkNode previous = null;
+        for (int i = 0; i < 8; i++) {
+            ElkNode compound = ElkGraphUtil.createNode(root);
+            compound.setProperty(CoreOptions.ALGORITHM, i % 2 == 0 ? "org.eclipse.elk.layered" : "org.eclipse.elk.box");
+            for (int j = 0; j < 4; j++) {
+                ElkNode inner = ElkGraphUtil.createNode(compound);
+                inner.setProperty(CoreOptions.ALGORITHM, "org.eclipse.elk.layered");
+                ElkNode innerPrevious = null;
+                for (int k = 0; k < 5; k++) {
+                    ElkNode leaf = ElkGraphUtil.createNode(inner);
+                    leaf.setDimensions(10 + k, 10 + j);
+                    if (innerPrevious != null) {
+                        ElkGraphUtil.createSimpleEdge(innerPrevious, leaf);
+                    }
+                    innerPrevious = leaf;
+                }
+            }
+            if (previous != null) {
+                ElkGraphUtil.createSimpleEdge(previous, compound);
+            }
+            previous = compound;
+        }
+        
+        return root;
+    }
+    
+    private void assertSameLayout(final ElkNode expected, final ElkNode actual) {
+        assertEquals(expected.getX(), actual.getX(), 0);
+        assertEquals(expected.getY(), actual.getY(), 0);
+        assertEquals(expected.getWidth(), actual.getWidth(), 0);
+        assertEquals(expected.getHeight(), actual.getHeight(), 0);
+        
+        Iterator<ElkEdge> actualEdges = actual.getContainedEdges().iterator();
+        for (ElkEdge expectedEdge : expected.getContainedEdges()) {
+            ElkEdgeSection expectedSection = expectedEdge.getSections().get(0);
+            ElkEdgeSection actualSection = actualEdges.next().getSections().get(0);
+            assertEquals(expectedSection.getStartX(), actualSection.getStartX(), 0);
+            assertEquals(expectedSection.getStartY(), actualSection.getStartY(), 0);
+            assertEquals(expectedSection.getEndX(), actualSection.getEndX(), 0);
+            assertEquals(expectedSection.getEndY(), actualSection.getEndY(), 0);
+        }
+        
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            assertSameLayout(expected.getChildren().get(i), actual.getChildren().get(i));
+        }
+    }
+    
     private class Graph {
         ElkNode root;
         private ElkNode n1;
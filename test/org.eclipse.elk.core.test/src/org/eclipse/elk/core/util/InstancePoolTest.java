@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the {@link InstancePool}.
+ */
+public class InstancePoolTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /**
+     * Factory counting the instances it creates and destroys.
+     */
+    private static final class CountingFactory implements IFactory<Object> {
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public Object create() {
+            created.incrementAndGet();
+            return new Object();
+        }
+
+        @Override
+        public void destroy(final Object obj) {
+            destroyed.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        CountingFactory factory = new CountingFactory();
+        InstancePool<Object> pool = new InstancePool<>(factory);
+
+        Object first = pool.fetch();
+        assertEquals(1, pool.getMissCount());
+        pool.release(first);
+        assertSame(first, pool.fetch());
+        assertEquals(1, pool.getHitCount());
+
+        Object second = pool.fetch();
+        assertNotSame(first, second);
+        pool.release(first);
+        pool.release(second);
+        assertEquals(2, pool.getSize());
+        assertEquals(2, pool.getMissCount());
+        assertEquals(2, factory.created.get());
+    }
+
+    @Test
+    public void testLimit() {
+        CountingFactory factory = new CountingFactory();
+        InstancePool<Object> pool = new InstancePool<>(factory, 2);
+
+        List<Object> instances = Lists.newArrayList(pool.fetch(), pool.fetch(), pool.fetch());
+        instances.forEach(pool::release);
+        assertEquals(2, pool.getSize());
+        assertEquals(1, factory.destroyed.get());
+
+        pool.setSizes(0, 1);
+        assertEquals(1, pool.getSize());
+        assertEquals(2, factory.destroyed.get());
+
+        pool.clear();
+        assertEquals(0, pool.getSize());
+        assertEquals(3, factory.destroyed.get());
+    }
+
+    @Test
+    public void testWarmUp() {
+        CountingFactory factory = new CountingFactory();
+        InstancePool<Object> pool = new InstancePool<>(factory, 3, 5);
+        assertEquals(0, factory.created.get());
+
+        pool.warmUp();
+        assertEquals(3, pool.getSize());
+        assertEquals(3, factory.created.get());
+
+        // warming up again does not create instances since the pool is full already
+        pool.warmUp();
+        for (int i = 0; i < 3; i++) {
+            pool.fetch();
+        }
+        assertEquals(3, pool.getHitCount());
+        assertEquals(0, pool.getMissCount());
+        assertEquals(3, factory.created.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSizes() {
+        new InstancePool<>(new CountingFactory(), 3, 2);
+    }
+
+    /**
+     * Threads fetching and releasing instances concurrently never share an instance, and the pool never creates
+     * more instances than there are threads.
+     */
+    @Test
+    public void testConcurrentUse() throws InterruptedException {
+        CountingFactory factory = new CountingFactory();
+        InstancePool<Object> pool = new InstancePool<>(factory);
+        Set<Object> inUse = ConcurrentHashMap.newKeySet();
+        AtomicInteger failures = new AtomicInteger();
+
+        int threadCount = 8;
+        List<Thread> threads = Lists.newArrayList();
+        for (int t = 0; t < threadCount; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    Object obj = pool.fetch();
+                    if (!inUse.add(obj)) {
+                        failures.incrementAndGet();
+                    }
+                    inUse.remove(obj);
+                    pool.release(obj);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+        assertTrue(factory.created.get() <= threadCount);
+        assertEquals(factory.created.get(), pool.getSize());
+        assertEquals(threadCount * 20000, pool.getHitCount() + pool.getMissCount());
+    }
+
+}
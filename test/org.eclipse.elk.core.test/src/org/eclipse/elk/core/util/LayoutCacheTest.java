@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.Direction;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link LayoutCache} and its use by the {@link RecursiveGraphLayoutEngine}.
+ */
+public class LayoutCacheTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Graphs that differ only in identifiers and label texts are laid out once.
+     */
+    @Test
+    public void testEqualGraphs() {
+        LayoutCache cache = new LayoutCache(10);
+        ElkNode first = chain("a", 5);
+        ElkNode second = chain("b", 5);
+        ElkNode expected = chain("c", 5);
+
+        layout(first, cache);
+        assertEquals(0, cache.getHitCount());
+        layout(second, cache);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getSize());
+
+        layout(expected, null);
+        assertSameLayout(expected, second);
+    }
+
+    /**
+     * Options and sizes are part of the key.
+     */
+    @Test
+    public void testDifferentGraphs() {
+        ElkNode graph = chain("a", 5);
+        LayoutCache.Key key = LayoutCache.keyOf(graph);
+        assertEquals(key, LayoutCache.keyOf(chain("b", 5)));
+        assertNotEquals(key, LayoutCache.keyOf(chain("a", 6)));
+
+        graph.getChildren().get(2).setWidth(31);
+        assertNotEquals(key, LayoutCache.keyOf(graph));
+        graph.getChildren().get(2).setWidth(30);
+        assertEquals(key, LayoutCache.keyOf(graph));
+
+        graph.setProperty(CoreOptions.DIRECTION, Direction.DOWN);
+        assertNotEquals(key, LayoutCache.keyOf(graph));
+
+        ElkNode reversed = chain("a", 5);
+        ElkEdge edge = reversed.getContainedEdges().get(0);
+        edge.getSources().set(0, reversed.getChildren().get(1));
+        edge.getTargets().set(0, reversed.getChildren().get(0));
+        assertNotEquals(key, LayoutCache.keyOf(reversed));
+    }
+
+    /**
+     * Subgraphs with edges leading out of them are not cached.
+     */
+    @Test
+    public void testUncacheableGraph() {
+        ElkNode graph = chain("a", 3);
+        ElkNode compound = graph.getChildren().get(0);
+        ElkNode inner = ElkGraphUtil.createNode(compound);
+        ElkGraphUtil.createSimpleEdge(inner, graph.getChildren().get(1)).setContainingNode(compound);
+        assertNull(LayoutCache.keyOf(compound));
+    }
+
+    /**
+     * Repeated compound nodes of one graph are laid out once, with the same result as without a cache.
+     */
+    @Test
+    public void testRepeatedSubgraphs() {
+        LayoutCache cache = new LayoutCache(10);
+        ElkNode cached = nested();
+        ElkNode expected = nested();
+
+        layout(cached, cache);
+        layout(expected, null);
+        assertSameLayout(expected, cached);
+
+        // the root and the first compound node miss, the other two compound nodes hit
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+        List<ElkNode> compounds = cached.getChildren();
+        assertEquals(compounds.get(1).getWidth(), compounds.get(3).getWidth(), 0);
+        assertNotEquals(compounds.get(1).getY(), compounds.get(3).getY(), 0);
+
+        // a structurally equal graph is served from the cache entirely
+        ElkNode again = nested();
+        layout(again, cache);
+        assertEquals(3, cache.getHitCount());
+        assertSameLayout(expected, again);
+    }
+
+    @Test
+    public void testEviction() {
+        LayoutCache cache = new LayoutCache(2);
+        for (int i = 2; i < 5; i++) {
+            layout(chain("a", i), cache);
+        }
+        assertEquals(2, cache.getSize());
+
+        // the least recently used graph has been evicted
+        layout(chain("a", 2), cache);
+        assertEquals(0, cache.getHitCount());
+        layout(chain("a", 4), cache);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testSpillDirectory() throws IOException {
+        LayoutCache cache = new LayoutCache(1).withSpillDirectory(folder.getRoot(), 10);
+        layout(chain("a", 3), cache);
+        layout(chain("a", 4), cache);
+        assertEquals(1, folder.getRoot().list().length);
+
+        ElkNode spilled = chain("b", 3);
+        layout(spilled, cache);
+        assertEquals(1, cache.getHitCount());
+        ElkNode expected = chain("c", 3);
+        layout(expected, null);
+        assertSameLayout(expected, spilled);
+
+        // another cache can use the spilled layouts
+        LayoutCache other = new LayoutCache(1).withSpillDirectory(folder.getRoot(), 10);
+        layout(chain("d", 3), other);
+        assertEquals(1, other.getHitCount());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertFalse(folder.getRoot().list().length > 1);
+    }
+
+    private static void layout(final ElkNode graph, final LayoutCache cache) {
+        RecursiveGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
+        engine.setLayoutCache(cache);
+        engine.layout(graph, new BasicProgressMonitor());
+    }
+
+    /**
+     * Creates a chain of nodes with labels.
+     */
+    private static ElkNode chain(final String prefix, final int nodes) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setIdentifier(prefix);
+        fillChain(graph, prefix, nodes);
+        return graph;
+    }
+
+    private static void fillChain(final ElkNode parent, final String prefix, final int nodes) {
+        ElkNode previous = null;
+        for (int i = 0; i < nodes; i++) {
+            ElkNode node = ElkGraphUtil.createNode(parent);
+            node.setIdentifier(prefix + i);
+            node.setDimensions(30, 30);
+            ElkGraphUtil.createLabel(prefix + " node " + i, node).setDimensions(20, 10);
+            if (previous != null) {
+                ElkEdge edge = ElkGraphUtil.createSimpleEdge(previous, node);
+                ElkGraphUtil.createLabel(prefix + " edge " + i, edge).setDimensions(20, 10);
+            }
+            previous = node;
+        }
+    }
+
+    /**
+     * Creates a node connected to three equal compound nodes.
+     */
+    private static ElkNode nested() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        ElkNode hub = ElkGraphUtil.createNode(graph);
+        hub.setDimensions(30, 30);
+        for (int i = 0; i < 3; i++) {
+            ElkNode compound = ElkGraphUtil.createNode(graph);
+            fillChain(compound, "c" + i, 4);
+            ElkGraphUtil.createSimpleEdge(hub, compound);
+        }
+        return graph;
+    }
+
+    private static void assertSameLayout(final ElkNode expected, final ElkNode actual) {
+        assertTrue(expected.getWidth() > 0);
+        CachedLayout.Elements expectedElements = new CachedLayout.Elements(expected);
+        CachedLayout.Elements actualElements = new CachedLayout.Elements(actual);
+        assertEquals(expectedElements.shapes.size(), actualElements.shapes.size());
+        for (int i = 0; i < expectedElements.shapes.size(); i++) {
+            assertEquals(expectedElements.shapes.get(i).getX(), actualElements.shapes.get(i).getX(), 0);
+            assertEquals(expectedElements.shapes.get(i).getY(), actualElements.shapes.get(i).getY(), 0);
+            assertEquals(expectedElements.shapes.get(i).getWidth(), actualElements.shapes.get(i).getWidth(), 0);
+            assertEquals(expectedElements.shapes.get(i).getHeight(), actualElements.shapes.get(i).getHeight(), 0);
+        }
+        for (int i = 0; i < expectedElements.edges.size(); i++) {
+            ElkEdgeSection expectedSection = expectedElements.edges.get(i).getSections().get(0);
+            ElkEdgeSection actualSection = actualElements.edges.get(i).getSections().get(0);
+            assertEquals(expectedSection.getStartX(), actualSection.getStartX(), 0);
+            assertEquals(expectedSection.getEndY(), actualSection.getEndY(), 0);
+            assertEquals(expectedSection.getBendPoints().size(), actualSection.getBendPoints().size());
+            assertEquals(expectedElements.indexOf(expectedSection.getIncomingShape()),
+                    actualElements.indexOf(actualSection.getIncomingShape()));
+        }
+    }
+
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.IGraphLayoutEngine;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.graph.json.server.ElkLayoutServer;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Maps;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests the {@link ElkLayoutServer}.
+ */
+public class ElkLayoutServerTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /** Id of graphs whose layout fails with an error instead of an exception. */
+    private static final String FAILING_GRAPH = "failing";
+
+    /**
+     * A layout engine that fails on graphs with the id {@link #FAILING_GRAPH} as an algorithm overflowing its stack
+     * would, and lays out other graphs as usual.
+     */
+    private static final IGraphLayoutEngine FAILING_ENGINE = (layoutGraph, progressMonitor) -> {
+        if (FAILING_GRAPH.equals(layoutGraph.getIdentifier())) {
+            throw new StackOverflowError();
+        }
+        new RecursiveGraphLayoutEngine().layout(layoutGraph, progressMonitor);
+    };
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testLayouts() throws IOException {
+        StringBuilder requests = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            requests.append("{\"id\": " + i + ", \"graph\": " + graph(i + 2, "custom: " + i) + "}\n");
+        }
+        // a graph without id is answered with an error, and the session continues
+        requests.append("{\"id\": \"invalid\", \"graph\": {children: []}}\n");
+        requests.append("{\"id\": \"last\", \"graph\": " + graph(3, "") + "}");
+
+        Map<String, JsonObject> responses = serve(new ElkLayoutServer().withThreads(3).withQueueCapacity(1),
+                requests.toString());
+        assertEquals(22, responses.size());
+
+        for (int i = 0; i < 20; i++) {
+            JsonObject graph = responses.get(Integer.toString(i)).getAsJsonObject("graph");
+            // members unknown to ELK are kept
+            assertEquals(i, graph.get("custom").getAsInt());
+            assertLaidOut(graph);
+        }
+        assertLaidOut(responses.get("last").getAsJsonObject("graph"));
+        assertTrue(responses.get("invalid").has("error"));
+    }
+
+    @Test
+    public void testCancellation() throws IOException {
+        String requests = "{\"id\": 1, \"graph\": " + graph(50, "") + ", \"timeout\": 0}\n"
+                // canceling an unknown request has no effect
+                + "{\"id\": 2, \"cancel\": true}\n"
+                + "{\"id\": 3, \"graph\": " + graph(5, "") + ", \"timeout\": \"soon\"}\n";
+
+        Map<String, JsonObject> responses = serve(new ElkLayoutServer().withThreads(1), requests);
+        assertEquals(2, responses.size());
+        assertTrue(responses.get("1").get("canceled").getAsBoolean());
+        assertTrue(responses.get("3").has("error"));
+    }
+
+    @Test(timeout = 20000)
+    public void testErrors() throws IOException {
+        // with a single permit, the session would wait forever if a failed layout did not release it
+        StringBuilder requests = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            requests.append("{\"id\": " + i + ", \"graph\": {id: '" + FAILING_GRAPH + "', children: []}}\n");
+        }
+        requests.append("{\"id\": \"last\", \"graph\": " + graph(3, "") + "}");
+
+        Map<String, JsonObject> responses = serve(
+                new ElkLayoutServer().withThreads(1).withQueueCapacity(0).withLayoutEngine(() -> FAILING_ENGINE),
+                requests.toString());
+        assertEquals(6, responses.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(StackOverflowError.class.getName(),
+                    responses.get(Integer.toString(i)).get("error").getAsString());
+        }
+        assertLaidOut(responses.get("last").getAsJsonObject("graph"));
+    }
+
+    @Test
+    public void testMalformedStream() throws IOException {
+        String requests = "{\"id\": 1, \"graph\": " + graph(5, "") + "}\n{\"id\": 2, \"graph\": {]";
+
+        Map<String, JsonObject> responses = serve(new ElkLayoutServer(), requests);
+        assertEquals(2, responses.size());
+        assertLaidOut(responses.get("1").getAsJsonObject("graph"));
+        assertTrue(responses.get("null").has("error"));
+    }
+
+    @Test(timeout = 20000)
+    public void testSocket() throws Exception {
+        ElkLayoutServer server = new ElkLayoutServer().withThreads(2);
+        ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        Thread listener = new Thread(() -> {
+            try {
+                server.listen(serverSocket);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        listener.start();
+
+        for (int client = 0; client < 2; client++) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+                Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                for (int i = 0; i < 3; i++) {
+                    out.write("{\"id\": \"r" + i + "\", \"graph\": " + graph(4, "") + "}\n");
+                    out.flush();
+                    JsonObject response = new JsonParser().parse(in.readLine()).getAsJsonObject();
+                    assertEquals("r" + i, response.get("id").getAsString());
+                    assertLaidOut(response.getAsJsonObject("graph"));
+                }
+            }
+        }
+
+        server.shutdown();
+        listener.join();
+    }
+
+    /**
+     * Serves the given requests and returns the responses by their id.
+     */
+    private static Map<String, JsonObject> serve(final ElkLayoutServer server, final String requests)
+            throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        server.serve(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)), out);
+        server.shutdown();
+
+        Map<String, JsonObject> responses = Maps.newHashMap();
+        for (String line : new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+            JsonObject response = new JsonParser().parse(line).getAsJsonObject();
+            JsonElement id = response.get("id");
+            responses.put(id.isJsonNull() ? "null" : id.getAsString(), response);
+        }
+        return responses;
+    }
+
+    /**
+     * Returns a chain of nodes as json.
+     */
+    private static String graph(final int nodes, final String extraMembers) {
+        StringBuilder json = new StringBuilder("{id: 'root', " + extraMembers + (extraMembers.isEmpty() ? "" : ",")
+                + "children: [");
+        for (int i = 0; i < nodes; i++) {
+            json.append((i > 0 ? ", " : "") + "{id: 'n" + i + "', width: 30, height: 30}");
+        }
+        json.append("], edges: [");
+        for (int i = 1; i < nodes; i++) {
+            json.append((i > 1 ? ", " : "") + "{id: 'e" + i + "', sources: ['n" + (i - 1) + "'], targets: ['n" + i
+                    + "']}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void assertLaidOut(final JsonObject graph) {
+        assertTrue(graph.get("width").getAsDouble() > 0);
+        JsonObject first = graph.getAsJsonArray("children").get(0).getAsJsonObject();
+        JsonObject second = graph.getAsJsonArray("children").get(1).getAsJsonObject();
+        assertNotEquals(first.get("x").getAsDouble(), second.get("x").getAsDouble(), 1e-9);
+    }
+
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json.test;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.Direction;
+import org.eclipse.elk.core.util.Maybe;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.json.ElkGraphJson;
+import org.eclipse.elk.graph.json.JsonImportException;
+import org.eclipse.elk.graph.json.StreamingJsonImporter;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for importing and exporting graphs through readers and writers.
+ */
+public class StreamingJsonTest {
+
+    private static final String GRAPH = "{"
+            + "  id: 'root',"
+            + "  layoutOptions: { 'elk.direction': 'DOWN' },"
+            // edges refer to nodes and ports that are only declared further down
+            + "  edges: ["
+            + "    { id: 'e1', sources: ['p1'], targets: [3], custom: [1, 2] },"
+            + "    { id: 'e2', source: 'n1', target: 3, targetPort: 'p2', labels: [{ text: 'label' }] }"
+            + "  ],"
+            + "  children: ["
+            + "    { id: 'n1', width: 20, height: 30, ports: [{ id: 'p1', x: 20, y: 10 }] },"
+            + "    { id: 'parent', children: ["
+            + "      { id: 3, width: 40, height: 40, ports: [{ id: 'p2' }] }"
+            + "    ] }"
+            + "  ]"
+            + "}";
+
+    @SuppressWarnings("deprecation")
+    private static final JsonParser PARSER = new JsonParser();
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testImport() {
+        ElkNode root = ElkGraphJson.forGraph(new StringReader(GRAPH)).toElk();
+        assertEquals("root", root.getIdentifier());
+        assertEquals(Direction.DOWN, root.getProperty(CoreOptions.DIRECTION));
+        assertEquals(2, root.getChildren().size());
+
+        ElkNode n1 = root.getChildren().get(0);
+        assertEquals(20, n1.getWidth(), 0);
+        assertEquals(30, n1.getHeight(), 0);
+        ElkPort p1 = n1.getPorts().get(0);
+        assertEquals(20, p1.getX(), 0);
+
+        ElkNode n3 = root.getChildren().get(1).getChildren().get(0);
+        assertEquals("3", n3.getIdentifier());
+        ElkPort p2 = n3.getPorts().get(0);
+
+        assertEquals(2, root.getContainedEdges().size());
+        ElkEdge e1 = root.getContainedEdges().get(0);
+        assertEquals("e1", e1.getIdentifier());
+        assertSame(p1, e1.getSources().get(0));
+        assertSame(n3, e1.getTargets().get(0));
+
+        ElkEdge e2 = root.getContainedEdges().get(1);
+        assertSame(n1, e2.getSources().get(0));
+        assertSame(p2, e2.getTargets().get(0));
+        assertEquals("label", e2.getLabels().get(0).getText());
+    }
+
+    @Test
+    public void testImportSections() {
+        String graph = "{ id: 'root', children: [{ id: 'a' }, { id: 'b' }],"
+                + "  edges: [{ id: 'e', sources: ['a'], targets: ['b'], sections: ["
+                + "    { id: 's1', startPoint: { x: 1, y: 2 }, endPoint: { x: 5, y: 6 },"
+                + "      bendPoints: [{ x: 3, y: 4 }], outgoingSections: ['s2'] },"
+                + "    { id: 's2', startPoint: { x: 5, y: 6 }, endPoint: { x: 7, y: 8 } }"
+                + "  ] }] }";
+        ElkNode root = ElkGraphJson.forGraph(new StringReader(graph)).toElk();
+
+        ElkEdge edge = root.getContainedEdges().get(0);
+        assertEquals(2, edge.getSections().size());
+        ElkEdgeSection s1 = edge.getSections().get(0);
+        ElkEdgeSection s2 = edge.getSections().get(1);
+        assertEquals(2, s1.getStartY(), 0);
+        assertEquals(3, s1.getBendPoints().get(0).getX(), 0);
+        assertSame(s2, s1.getOutgoingSections().get(0));
+        assertSame(s1, s2.getIncomingSections().get(0));
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testNoId() {
+        ElkGraphJson.forGraph(new StringReader("{ children: [{ id: 'n' }] }")).toElk();
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testWrongIdType() {
+        ElkGraphJson.forGraph(new StringReader("{ id: 1.2 }")).toElk();
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testUnknownEdgeTarget() {
+        ElkGraphJson.forGraph(new StringReader("{ id: 'root', children: [{ id: 'a' }],"
+                + " edges: [{ id: 'e', sources: ['a'], targets: ['b'] }] }")).toElk();
+    }
+
+    @Test
+    public void testTransferLayout() {
+        Maybe<StreamingJsonImporter> importer = new Maybe<>();
+        ElkNode root = ElkGraphJson.forGraph(new StringReader(GRAPH)).rememberStreamingImporter(importer).toElk();
+
+        ElkNode n1 = root.getChildren().get(0);
+        n1.setLocation(10, 15);
+        ElkNode n3 = root.getChildren().get(1).getChildren().get(0);
+        n3.setLocation(50, 60);
+        ElkEdge e1 = root.getContainedEdges().get(0);
+        ElkEdgeSection section = ElkGraphUtil.createEdgeSection(e1);
+        section.setStartLocation(40, 25);
+        section.setEndLocation(50, 80);
+        ElkGraphUtil.createBendPoint(section, 45, 50);
+        section.setOutgoingShape(n3);
+
+        StringWriter out = new StringWriter();
+        importer.get().transferLayout(root, new StringReader(GRAPH), out);
+        JsonObject json = PARSER.parse(out.toString()).getAsJsonObject();
+
+        JsonObject jsonN1 = json.getAsJsonArray("children").get(0).getAsJsonObject();
+        assertEquals(10, jsonN1.get("x").getAsDouble(), 0);
+        assertEquals(15, jsonN1.get("y").getAsDouble(), 0);
+        assertEquals(20, jsonN1.get("width").getAsDouble(), 0);
+
+        JsonObject jsonN3 = json.getAsJsonArray("children").get(1).getAsJsonObject()
+                .getAsJsonArray("children").get(0).getAsJsonObject();
+        assertEquals(3, jsonN3.get("id").getAsInt());
+        assertEquals(50, jsonN3.get("x").getAsDouble(), 0);
+
+        JsonObject jsonE1 = json.getAsJsonArray("edges").get(0).getAsJsonObject();
+        assertEquals("root", jsonE1.get("container").getAsString());
+        assertEquals(2, jsonE1.getAsJsonArray("custom").size());
+        JsonArray sections = jsonE1.getAsJsonArray("sections");
+        assertEquals(1, sections.size());
+        JsonObject jsonSection = sections.get(0).getAsJsonObject();
+        assertEquals("e1_s0", jsonSection.get("id").getAsString());
+        assertEquals(80, jsonSection.getAsJsonObject("endPoint").get("y").getAsDouble(), 0);
+        assertEquals(45, jsonSection.getAsJsonArray("bendPoints").get(0).getAsJsonObject().get("x").getAsDouble(), 0);
+        assertEquals(3, jsonSection.get("outgoingShape").getAsInt());
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testTransferLayoutUnknownNode() {
+        Maybe<StreamingJsonImporter> importer = new Maybe<>();
+        ElkNode root = ElkGraphJson.forGraph(new StringReader(GRAPH)).rememberStreamingImporter(importer).toElk();
+        ElkGraphUtil.createNode(root);
+
+        importer.get().transferLayout(root, new StringReader(GRAPH), new StringWriter());
+    }
+
+    @Test
+    public void testExportRoundTrip() {
+        ElkNode root = ElkGraphJson.forGraph(GRAPH).toElk();
+        root.getChildren().get(0).setLocation(10, 15);
+
+        StringWriter out = new StringWriter();
+        ElkGraphJson.forGraph(root).toJson(out);
+
+        ElkNode copy = ElkGraphJson.forGraph(new StringReader(out.toString())).toElk();
+        assertEquals(Direction.DOWN, copy.getProperty(CoreOptions.DIRECTION));
+        assertEquals(10, copy.getChildren().get(0).getX(), 0);
+        assertEquals(2, copy.getContainedEdges().size());
+        assertEquals("p1", copy.getContainedEdges().get(0).getSources().get(0).getIdentifier());
+        assertEquals("label", copy.getContainedEdges().get(1).getLabels().get(0).getText());
+    }
+
+    @Test
+    public void testExportMatchesTreeExport() {
+        ElkNode root = ElkGraphJson.forGraph(GRAPH).toElk();
+        ElkGraphUtil.createLabel("node label", root.getChildren().get(0));
+        ElkGraphUtil.createEdgeSection(root.getContainedEdges().get(0)).setEndLocation(3, 4);
+
+        StringWriter out = new StringWriter();
+        ElkGraphJson.forGraph(root).toJson(out);
+
+        JsonObject expected = PARSER.parse(ElkGraphJson.forGraph(root).toJson()).getAsJsonObject();
+        JsonObject actual = PARSER.parse(out.toString()).getAsJsonObject();
+        assertEquals(expected, actual);
+    }
+
+}
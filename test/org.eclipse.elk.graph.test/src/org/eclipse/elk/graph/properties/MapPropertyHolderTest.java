@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.properties;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.graph.util.ElkReflect;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MapPropertyHolder} class.
+ */
+public class MapPropertyHolderTest {
+
+    private static final IProperty<Integer> INT_PROPERTY = new Property<>("test.int", 0);
+    private static final IProperty<String> STRING_PROPERTY = new Property<>("test.string");
+    private static final IProperty<ArrayList<String>> LIST_PROPERTY =
+            new Property<>("test.list", new ArrayList<String>());
+
+    @BeforeClass
+    public static void registerClone() {
+        ElkReflect.registerClone(ArrayList.class, list -> ((ArrayList<?>) list).clone());
+    }
+
+    @Test
+    public void testSetAndGet() {
+        MapPropertyHolder holder = new MapPropertyHolder();
+        assertEquals(Integer.valueOf(0), holder.getProperty(INT_PROPERTY));
+        assertFalse(holder.hasProperty(INT_PROPERTY));
+
+        holder.setProperty(INT_PROPERTY, 42);
+        holder.setProperty(STRING_PROPERTY, "value");
+        assertEquals(Integer.valueOf(42), holder.getProperty(INT_PROPERTY));
+        assertEquals("value", holder.getProperty(STRING_PROPERTY));
+
+        holder.setProperty(INT_PROPERTY, null);
+        assertFalse(holder.hasProperty(INT_PROPERTY));
+        assertEquals("value", holder.getProperty(STRING_PROPERTY));
+    }
+
+    @Test
+    public void testPropertiesWithEqualIdentifiersAreEqual() {
+        MapPropertyHolder holder = new MapPropertyHolder();
+        holder.setProperty(INT_PROPERTY, 42);
+
+        IProperty<Integer> sameProperty = new Property<>("test.int", 1);
+        assertTrue(holder.hasProperty(sameProperty));
+        assertEquals(Integer.valueOf(42), holder.getProperty(sameProperty));
+    }
+
+    @Test
+    public void testCloneableDefaultIsRemembered() {
+        MapPropertyHolder holder = new MapPropertyHolder();
+        holder.getProperty(LIST_PROPERTY).add("item");
+        assertTrue(holder.hasProperty(LIST_PROPERTY));
+        assertEquals(1, holder.getProperty(LIST_PROPERTY).size());
+    }
+
+    @Test
+    public void testManyProperties() {
+        MapPropertyHolder holder = new MapPropertyHolder();
+        List<IProperty<Integer>> properties = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            IProperty<Integer> property = new Property<>("test.many." + i);
+            properties.add(property);
+            holder.setProperty(property, i);
+        }
+
+        // Remove every other property
+        for (int i = 0; i < 100; i += 2) {
+            holder.setProperty(properties.get(i), null);
+        }
+
+        assertEquals(50, holder.getAllProperties().size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, holder.hasProperty(properties.get(i)));
+        }
+    }
+
+    @Test
+    public void testCopyProperties() {
+        MapPropertyHolder original = new MapPropertyHolder();
+        original.setProperty(INT_PROPERTY, 42);
+        original.setProperty(STRING_PROPERTY, "value");
+
+        MapPropertyHolder copy = new MapPropertyHolder().copyProperties(original);
+        copy.setProperty(INT_PROPERTY, 7);
+        assertEquals(Integer.valueOf(42), original.getProperty(INT_PROPERTY));
+        assertEquals(Integer.valueOf(7), copy.getProperty(INT_PROPERTY));
+        assertEquals("value", copy.getProperty(STRING_PROPERTY));
+    }
+
+    @Test
+    public void testMapViewIsLive() {
+        MapPropertyHolder holder = new MapPropertyHolder();
+        Map<IProperty<?>, Object> map = holder.getAllProperties();
+        assertTrue(map.isEmpty());
+
+        map.put(INT_PROPERTY, 42);
+        map.put(STRING_PROPERTY, "value");
+        assertEquals(Integer.valueOf(42), holder.getProperty(INT_PROPERTY));
+        assertTrue(map.containsKey(STRING_PROPERTY));
+
+        // Entries keep the order in which properties were set and allow to change values
+        Iterator<Map.Entry<IProperty<?>, Object>> iterator = map.entrySet().iterator();
+        Map.Entry<IProperty<?>, Object> first = iterator.next();
+        assertEquals(INT_PROPERTY, first.getKey());
+        first.setValue(43);
+        assertEquals(Integer.valueOf(43), holder.getProperty(INT_PROPERTY));
+
+        iterator.remove();
+        assertFalse(holder.hasProperty(INT_PROPERTY));
+        assertEquals(STRING_PROPERTY, iterator.next().getKey());
+        assertFalse(iterator.hasNext());
+
+        map.clear();
+        assertFalse(holder.hasProperty(STRING_PROPERTY));
+    }
+
+    @Test
+    public void testEntriesReportPropertiesAsSet() {
+        MapPropertyHolder holder = new MapPropertyHolder();
+        IProperty<Integer> sameProperty = new Property<>("test.int", 1);
+        holder.setProperty(sameProperty, 42);
+        holder.setProperty(INT_PROPERTY, 43);
+
+        // As with a hash map, the key is the instance the property was first set with
+        assertSame(sameProperty, holder.getAllProperties().keySet().iterator().next());
+        assertEquals(Integer.valueOf(43), holder.getProperty(sameProperty));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        assertTrue(serializedCopy(new MapPropertyHolder()).getAllProperties().isEmpty());
+
+        MapPropertyHolder holder = new MapPropertyHolder();
+        holder.setProperty(INT_PROPERTY, 42);
+        holder.setProperty(STRING_PROPERTY, "value");
+        ArrayList<String> list = new ArrayList<>();
+        list.add("item");
+        holder.setProperty(LIST_PROPERTY, list);
+        for (int i = 0; i < 20; i++) {
+            holder.setProperty(new Property<Integer>("test.serialized." + i), i);
+        }
+
+        MapPropertyHolder copy = serializedCopy(holder);
+        assertEquals(23, copy.getAllProperties().size());
+        assertEquals(Integer.valueOf(42), copy.getProperty(INT_PROPERTY));
+        assertEquals("value", copy.getProperty(STRING_PROPERTY));
+        assertEquals(list, copy.getProperty(LIST_PROPERTY));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), copy.getProperty(new Property<Integer>("test.serialized." + i)));
+        }
+    }
+
+    private static MapPropertyHolder serializedCopy(final MapPropertyHolder holder) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(holder);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (MapPropertyHolder) in.readObject();
+        }
+    }
+
+}